@@ -0,0 +1,28 @@
+package com.aimanecouissi.animerestapi.configuration;
+
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfiguration {
+
+    @Bean
+    public CacheManager cacheManager(@Value("${app.cache.studio-catalog.spec}") String studioCatalogSpec) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCaffeineSpec(CaffeineSpec.parse(studioCatalogSpec));
+        caffeineCacheManager.setCacheNames(List.of(ApplicationConstants.STUDIO_CATALOG_CACHE));
+        caffeineCacheManager.setAllowNullValues(false);
+        // Evictions wait for the commit so a concurrent read cannot cache the rows the transaction is replacing
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
@@ -0,0 +1,17 @@
+package com.aimanecouissi.animerestapi.configuration;
+
+import com.aimanecouissi.animerestapi.security.InMemoryRateLimitStore;
+import com.aimanecouissi.animerestapi.security.RateLimitStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+// Neither scanned nor nested in a configuration class, so only RateLimitConfiguration imports it, and last
+class DefaultRateLimitStoreConfiguration {
+
+    // Per node, declare another RateLimitStore bean to apply the limits across nodes
+    @Bean
+    @ConditionalOnMissingBean(RateLimitStore.class)
+    public RateLimitStore rateLimitStore() {
+        return new InMemoryRateLimitStore();
+    }
+}
@@ -0,0 +1,19 @@
+package com.aimanecouissi.animerestapi.configuration;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@Profile("testing")
+public class FlywayConfiguration {
+    @Bean
+    public FlywayMigrationStrategy cleanMigrationStrategy() {
+        // Every start of the testing profile gets an empty schema, as ddl-auto=create used to give it
+        return flyway -> {
+            flyway.clean();
+            flyway.migrate();
+        };
+    }
+}
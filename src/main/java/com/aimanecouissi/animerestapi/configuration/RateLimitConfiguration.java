@@ -0,0 +1,22 @@
+package com.aimanecouissi.animerestapi.configuration;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DeferredImportSelector;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.type.AnnotationMetadata;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+@Import(RateLimitConfiguration.DefaultRateLimitStoreSelector.class)
+public class RateLimitConfiguration {
+
+    // Deferred like an auto-configuration, so the condition sees a store declared by any other configuration class
+    // whatever order the classes are scanned in
+    static class DefaultRateLimitStoreSelector implements DeferredImportSelector {
+        @Override
+        public String[] selectImports(AnnotationMetadata importingClassMetadata) {
+            return new String[]{DefaultRateLimitStoreConfiguration.class.getName()};
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.aimanecouissi.animerestapi.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Route groups of the rate limiter. A request counts against the group whose pattern matches it most specifically,
+ * once per client IP and once per authenticated user, each limit being optional.
+ */
+@ConfigurationProperties(prefix = "app.rate-limit")
+public record RateLimitProperties(boolean enabled, Map<String, Group> groups) {
+
+    public RateLimitProperties {
+        groups = groups == null ? Map.of() : groups;
+    }
+
+    public record Group(List<String> patterns, Limit ip, Limit user) {
+        public Group {
+            patterns = patterns == null ? List.of() : patterns;
+        }
+    }
+
+    // Up to capacity requests at once, refilled evenly over the period
+    public record Limit(long capacity, Duration period) {
+    }
+}
@@ -1,9 +1,18 @@
 package com.aimanecouissi.animerestapi.configuration;
 
+import com.aimanecouissi.animerestapi.enums.RateLimitKey;
+import com.aimanecouissi.animerestapi.security.BoundedPasswordEncoder;
+import com.aimanecouissi.animerestapi.security.CalibratedBCryptPasswordEncoder;
 import com.aimanecouissi.animerestapi.security.JwtAuthenticationEntryPoint;
 import com.aimanecouissi.animerestapi.security.JwtAuthenticationFilter;
+import com.aimanecouissi.animerestapi.security.RateLimitFilter;
+import com.aimanecouissi.animerestapi.security.RateLimitStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.swagger.v3.oas.annotations.enums.SecuritySchemeType;
 import io.swagger.v3.oas.annotations.security.SecurityScheme;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -13,10 +22,13 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+
+@Slf4j
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
@@ -42,11 +54,19 @@ public class SecurityConfiguration {
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            RateLimitProperties rateLimitProperties,
+            RateLimitStore rateLimitStore,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) throws Exception {
         http.csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(request -> request
                         .requestMatchers(
                                 "api/v1/auth/**",
+                                "actuator/health",
+                                "actuator/prometheus",
                                 "swagger-ui/**",
                                 "v3/api-docs/**"
                         ).permitAll()
@@ -56,11 +76,28 @@ public class SecurityConfiguration {
                 ).sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 ).addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        if (rateLimitProperties.enabled()) {
+            // Not beans, so the servlet container does not register them a second time outside the security chain
+            http.addFilterBefore(new RateLimitFilter(RateLimitKey.IP, rateLimitProperties, rateLimitStore, objectMapper, meterRegistry), JwtAuthenticationFilter.class)
+                    .addFilterAfter(new RateLimitFilter(RateLimitKey.USER, rateLimitProperties, rateLimitStore, objectMapper, meterRegistry), JwtAuthenticationFilter.class);
+        }
         return http.build();
     }
 
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${app.password-hashing.threads}") int threads,
+            @Value("${app.password-hashing.queue-capacity}") int queueCapacity,
+            @Value("${app.password-hashing.cost}") int cost,
+            @Value("${app.password-hashing.target-time}") Duration targetTime,
+            MeterRegistry meterRegistry
+    ) {
+        // Half the processors by default, so hashing never holds every core
+        int hashingThreads = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        CalibratedBCryptPasswordEncoder bCryptPasswordEncoder = cost > 0
+                ? new CalibratedBCryptPasswordEncoder(cost)
+                : CalibratedBCryptPasswordEncoder.calibrate(targetTime);
+        log.info("Hashing passwords with BCrypt cost {}", bCryptPasswordEncoder.getCost());
+        return new BoundedPasswordEncoder(bCryptPasswordEncoder, hashingThreads, queueCapacity, meterRegistry);
     }
 }
@@ -0,0 +1,37 @@
+package com.aimanecouissi.animerestapi.configuration;
+
+import com.aimanecouissi.animerestapi.utility.BulkheadDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Active when spring.threads.virtual.enabled is set. Requests then run on virtual threads, which are cheap enough that
+ * a burst no longer queues at the Tomcat pool, so the database gets a bulkhead of its own.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfiguration {
+
+    @Bean
+    public static BeanPostProcessor bulkheadDataSourcePostProcessor(
+            @Value("${app.datasource.bulkhead.max-concurrent-connections}") int maxConcurrentConnections,
+            @Value("${app.datasource.bulkhead.acquire-timeout}") Duration acquireTimeout
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof BulkheadDataSource)) {
+                    return new BulkheadDataSource(dataSource, maxConcurrentConnections, acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+}
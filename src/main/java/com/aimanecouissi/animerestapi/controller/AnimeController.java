@@ -2,21 +2,33 @@ package com.aimanecouissi.animerestapi.controller;
 
 import com.aimanecouissi.animerestapi.enums.AnimeStatus;
 import com.aimanecouissi.animerestapi.enums.AnimeType;
+import com.aimanecouissi.animerestapi.payload.dto.AnimeBatchDTO;
 import com.aimanecouissi.animerestapi.payload.dto.AnimeDTO;
+import com.aimanecouissi.animerestapi.payload.dto.BatchDeleteDTO;
+import com.aimanecouissi.animerestapi.payload.response.AnimeBatchResponse;
+import com.aimanecouissi.animerestapi.payload.response.AnimeCursorPaginatedResponse;
 import com.aimanecouissi.animerestapi.payload.response.AnimePaginatedResponse;
 import com.aimanecouissi.animerestapi.service.AnimeService;
 import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
+import com.aimanecouissi.animerestapi.utility.NdjsonWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("api/v1/anime")
@@ -24,9 +36,11 @@ import java.util.List;
 @Tag(name = "Anime API", description = "Endpoints to manage anime resources.")
 public class AnimeController {
     private final AnimeService animeService;
+    private final ObjectMapper objectMapper;
 
-    public AnimeController(AnimeService animeService) {
+    public AnimeController(AnimeService animeService, ObjectMapper objectMapper) {
         this.animeService = animeService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -44,15 +58,41 @@ public class AnimeController {
             @RequestParam(value = "pageNo", defaultValue = ApplicationConstants.DEFAULT_PAGE_NUMBER, required = false) int pageNo,
             @RequestParam(value = "pageSize", defaultValue = ApplicationConstants.DEFAULT_PAGE_SIZE, required = false) int pageSize,
             @RequestParam(value = "sortBy", defaultValue = ApplicationConstants.DEFAULT_SORT_BY, required = false) String sortBy,
-            @RequestParam(value = "sortDir", defaultValue = ApplicationConstants.DEFAULT_SORT_DIRECTION, required = false) String sortDir
+            @RequestParam(value = "sortDir", defaultValue = ApplicationConstants.DEFAULT_SORT_DIRECTION, required = false) String sortDir,
+            WebRequest webRequest
     ) {
+        if (webRequest.checkNotModified(animeService.getAnimeLibraryETag())) {
+            return null;
+        }
         return animeService.getAllAnime(pageNo, pageSize, sortBy, sortDir);
     }
 
+    @GetMapping(params = "cursor")
+    @Operation(summary = "Get all anime by cursor", description = "Endpoint to retrieve a list of all anime entries using keyset pagination. Pass an empty cursor for the first page, then the returned nextCursor. The cursor keeps the sort of the first page and no total count is computed.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "List of anime retrieved successfully."),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or unsupported sort field.")
+    })
+    public AnimeCursorPaginatedResponse getAllAnimeByCursor(
+            @RequestParam(value = "cursor") String cursor,
+            @RequestParam(value = "pageSize", defaultValue = ApplicationConstants.DEFAULT_PAGE_SIZE, required = false) int pageSize,
+            @RequestParam(value = "sortBy", defaultValue = ApplicationConstants.DEFAULT_SORT_BY, required = false) String sortBy,
+            @RequestParam(value = "sortDir", defaultValue = ApplicationConstants.DEFAULT_SORT_DIRECTION, required = false) String sortDir,
+            WebRequest webRequest
+    ) {
+        if (webRequest.checkNotModified(animeService.getAnimeLibraryETag())) {
+            return null;
+        }
+        return animeService.getAllAnimeByCursor(cursor, pageSize, sortBy, sortDir);
+    }
+
     @GetMapping("studio/{studio-id}")
     @Operation(summary = "Get anime by studio ID", description = "Endpoint to retrieve a list of anime by a specific studio ID.")
     @ApiResponse(responseCode = "200", description = "List of anime retrieved successfully.")
-    public ResponseEntity<List<AnimeDTO>> getAnimeByStudioId(@PathVariable("studio-id") long studioId) {
+    public ResponseEntity<List<AnimeDTO>> getAnimeByStudioId(@PathVariable("studio-id") long studioId, WebRequest webRequest) {
+        if (webRequest.checkNotModified(animeService.getAnimeLibraryETag())) {
+            return null;
+        }
         List<AnimeDTO> animeList = animeService.getAnimeByStudioId(studioId);
         return ResponseEntity.ok(animeList);
     }
@@ -61,9 +101,15 @@ public class AnimeController {
     @Operation(summary = "Get anime by ID", description = "Endpoint to retrieve details of an anime by its unique ID.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Anime details retrieved successfully."),
+            @ApiResponse(responseCode = "304", description = "Anime unchanged since the ETag sent in If-None-Match."),
             @ApiResponse(responseCode = "404", description = "Anime not found.")
     })
-    public ResponseEntity<AnimeDTO> getAnimeById(@PathVariable("id") long id) {
+    public ResponseEntity<AnimeDTO> getAnimeById(@PathVariable("id") long id, WebRequest webRequest) {
+        // The tag is read from the update timestamp alone, so a client holding the current version skips loading and mapping
+        Optional<String> eTag = animeService.getAnimeETag(id);
+        if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+            return null;
+        }
         AnimeDTO anime = animeService.getAnimeById(id);
         return new ResponseEntity<>(anime, HttpStatus.OK);
     }
@@ -90,18 +136,78 @@ public class AnimeController {
         return new ResponseEntity<>("The anime has been successfully deleted.", HttpStatus.OK);
     }
 
+    @PostMapping("batch")
+    @Operation(summary = "Create anime in batch", description = "Endpoint to create up to " + ApplicationConstants.MAX_BATCH_SIZE + " anime entries in one request. Each entry is reported with the status it would have received on its own, failed entries do not prevent the others from being created.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed, see the status of each entry."),
+            @ApiResponse(responseCode = "400", description = "Invalid batch, no entry was created.")
+    })
+    public ResponseEntity<AnimeBatchResponse> createAnimeBatch(@Valid @RequestBody AnimeBatchDTO animeBatchDTO) {
+        AnimeBatchResponse animeBatchResponse = animeService.createAnimeBatch(animeBatchDTO.getItems());
+        return ResponseEntity.ok(animeBatchResponse);
+    }
+
+    @PutMapping("batch")
+    @Operation(summary = "Update anime in batch", description = "Endpoint to update up to " + ApplicationConstants.MAX_BATCH_SIZE + " existing anime entries, identified by the ID of each entry, in one request. Each entry is reported with the status it would have received on its own.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed, see the status of each entry."),
+            @ApiResponse(responseCode = "400", description = "Invalid batch, no entry was updated.")
+    })
+    public ResponseEntity<AnimeBatchResponse> updateAnimeBatch(@Valid @RequestBody AnimeBatchDTO animeBatchDTO) {
+        AnimeBatchResponse animeBatchResponse = animeService.updateAnimeBatch(animeBatchDTO.getItems());
+        return ResponseEntity.ok(animeBatchResponse);
+    }
+
+    @DeleteMapping("batch")
+    @Operation(summary = "Delete anime in batch", description = "Endpoint to delete up to " + ApplicationConstants.MAX_BATCH_SIZE + " anime entries by their IDs in one request. Each entry is reported with the status it would have received on its own.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed, see the status of each entry."),
+            @ApiResponse(responseCode = "400", description = "Invalid batch, no entry was deleted.")
+    })
+    public ResponseEntity<AnimeBatchResponse> deleteAnimeBatch(@Valid @RequestBody BatchDeleteDTO batchDeleteDTO) {
+        AnimeBatchResponse animeBatchResponse = animeService.deleteAnimeBatch(batchDeleteDTO.getIds());
+        return ResponseEntity.ok(animeBatchResponse);
+    }
+
     @GetMapping("search")
-    @Operation(summary = "Search anime by various attributes", description = "Endpoint to search for anime by various attributes.")
+    @Operation(summary = "Search anime by various attributes", description = "Endpoint to search for anime by various attributes, one page at a time.")
     @ApiResponse(responseCode = "200", description = "Anime list retrieved successfully.")
-    public ResponseEntity<List<AnimeDTO>> searchAnime(
+    public AnimePaginatedResponse searchAnime(
             @RequestParam(value = "title", required = false) String title,
             @RequestParam(value = "type", required = false) AnimeType type,
             @RequestParam(value = "status", required = false) AnimeStatus status,
             @RequestParam(value = "rating", required = false) Integer rating,
             @RequestParam(value = "isFavorite", required = false) Boolean isFavorite,
-            @RequestParam(value = "isComplete", required = false) Boolean isComplete
+            @RequestParam(value = "isComplete", required = false) Boolean isComplete,
+            @RequestParam(value = "pageNo", defaultValue = ApplicationConstants.DEFAULT_PAGE_NUMBER, required = false) int pageNo,
+            @RequestParam(value = "pageSize", defaultValue = ApplicationConstants.DEFAULT_PAGE_SIZE, required = false) int pageSize,
+            @RequestParam(value = "sortBy", defaultValue = ApplicationConstants.DEFAULT_SORT_BY, required = false) String sortBy,
+            @RequestParam(value = "sortDir", defaultValue = ApplicationConstants.DEFAULT_SORT_DIRECTION, required = false) String sortDir,
+            WebRequest webRequest
     ) {
-        return ResponseEntity.ok(animeService.searchAnime(title, type, status, rating, isFavorite, isComplete));
+        if (webRequest.checkNotModified(animeService.getAnimeLibraryETag())) {
+            return null;
+        }
+        return animeService.searchAnime(title, type, status, rating, isFavorite, isComplete, pageNo, pageSize, sortBy, sortDir);
+    }
+
+    @GetMapping(value = "search/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream anime search results", description = "Endpoint to stream every anime matching the search attributes as newline-delimited JSON, one entry per line as it is read from the database.")
+    @ApiResponse(responseCode = "200", description = "Anime list streamed successfully.")
+    public void streamAnime(
+            @RequestParam(value = "title", required = false) String title,
+            @RequestParam(value = "type", required = false) AnimeType type,
+            @RequestParam(value = "status", required = false) AnimeStatus status,
+            @RequestParam(value = "rating", required = false) Integer rating,
+            @RequestParam(value = "isFavorite", required = false) Boolean isFavorite,
+            @RequestParam(value = "isComplete", required = false) Boolean isComplete,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        try (NdjsonWriter ndjsonWriter = new NdjsonWriter(objectMapper, response.getOutputStream())) {
+            animeService.streamAnime(title, type, status, rating, isFavorite, isComplete, ndjsonWriter::write);
+        }
     }
 
     @GetMapping("/mean-rating")
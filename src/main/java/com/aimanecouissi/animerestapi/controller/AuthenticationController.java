@@ -7,6 +7,7 @@ import com.aimanecouissi.animerestapi.service.AuthenticationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -28,8 +29,8 @@ public class AuthenticationController {
     @PostMapping("login")
     @Operation(summary = "Authenticate user", description = "Endpoint to authenticate user and generate JWT token.")
     @ApiResponse(responseCode = "200", description = "Authentication successful.")
-    public ResponseEntity<AuthenticationResponse> login(@Valid @RequestBody LoginDTO loginDTO) {
-        String token = authenticationService.login(loginDTO);
+    public ResponseEntity<AuthenticationResponse> login(@Valid @RequestBody LoginDTO loginDTO, HttpServletRequest request) {
+        String token = authenticationService.login(loginDTO, request.getRemoteAddr());
         AuthenticationResponse response = AuthenticationResponse.builder()
                 .accessToken(token)
                 .tokenType("Bearer")
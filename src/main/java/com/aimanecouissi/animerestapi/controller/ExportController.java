@@ -0,0 +1,67 @@
+package com.aimanecouissi.animerestapi.controller;
+
+import com.aimanecouissi.animerestapi.enums.FileFormat;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import com.aimanecouissi.animerestapi.payload.dto.LibraryEntryDTO;
+import com.aimanecouissi.animerestapi.service.ExportService;
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
+import com.aimanecouissi.animerestapi.utility.CsvWriter;
+import com.aimanecouissi.animerestapi.utility.NdjsonWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("api/v1/export")
+@SecurityRequirement(name = "Bearer Authentication")
+@Tag(name = "Export API", description = "Endpoints to export the library of the current user.")
+public class ExportController {
+    private final ExportService exportService;
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper = new CsvMapper();
+
+    public ExportController(ExportService exportService, ObjectMapper objectMapper) {
+        this.exportService = exportService;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, ApplicationConstants.TEXT_CSV_VALUE})
+    @Operation(summary = "Export the library", description = "Endpoint to download every anime and manga of the current user as newline-delimited JSON or as CSV with a header row. Entries are written as they are read from the database, anime first, each library in ID order. Filter on one library to get a file the import endpoint of that library accepts.")
+    @ApiResponse(responseCode = "200", description = "Library streamed successfully.")
+    public void exportLibrary(
+            @RequestParam(value = "format", defaultValue = "NDJSON", required = false) FileFormat format,
+            @RequestParam(value = "library", required = false) LibraryType library,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(format.getMediaType().toString());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        String filename = "library." + format.name().toLowerCase();
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString());
+        switch (format) {
+            case CSV -> {
+                try (CsvWriter csvWriter = new CsvWriter(csvMapper, LibraryEntryDTO.class, response.getOutputStream())) {
+                    exportService.exportLibrary(library, csvWriter::write);
+                }
+            }
+            case NDJSON -> {
+                try (NdjsonWriter ndjsonWriter = new NdjsonWriter(objectMapper, response.getOutputStream())) {
+                    exportService.exportLibrary(library, ndjsonWriter::write);
+                }
+            }
+        }
+    }
+}
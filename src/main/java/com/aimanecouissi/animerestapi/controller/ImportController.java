@@ -0,0 +1,81 @@
+package com.aimanecouissi.animerestapi.controller;
+
+import com.aimanecouissi.animerestapi.enums.FileFormat;
+import com.aimanecouissi.animerestapi.payload.response.ImportJobResponse;
+import com.aimanecouissi.animerestapi.service.ImportService;
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+
+@RestController
+@RequestMapping("api/v1/imports")
+@SecurityRequirement(name = "Bearer Authentication")
+@Tag(name = "Import API", description = "Endpoints to import anime and manga exported from other trackers.")
+public class ImportController {
+    private final ImportService importService;
+
+    public ImportController(ImportService importService) {
+        this.importService = importService;
+    }
+
+    @PostMapping(value = "anime", consumes = {ApplicationConstants.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Import anime", description = "Endpoint to import anime from a CSV file with a header row or from newline-delimited JSON, sent as the raw request body. The import runs in the background once the file is received, its rows are committed in chunks and rows failing the anime validation rules are rejected and reported.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Import started, follow its progress at the job location."),
+            @ApiResponse(responseCode = "415", description = "Unsupported import format."),
+            @ApiResponse(responseCode = "503", description = "Too many imports are running, retry later.")
+    })
+    public ResponseEntity<ImportJobResponse> importAnime(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType, InputStream inputStream) {
+        ImportJobResponse importJob = importService.importAnime(FileFormat.fromMediaType(contentType), inputStream);
+        return accepted(importJob);
+    }
+
+    @PostMapping(value = "manga", consumes = {ApplicationConstants.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Import manga", description = "Endpoint to import manga from a CSV file with a header row or from newline-delimited JSON, sent as the raw request body. The import runs in the background once the file is received, its rows are committed in chunks and rows failing the manga validation rules are rejected and reported.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Import started, follow its progress at the job location."),
+            @ApiResponse(responseCode = "415", description = "Unsupported import format."),
+            @ApiResponse(responseCode = "503", description = "Too many imports are running, retry later.")
+    })
+    public ResponseEntity<ImportJobResponse> importManga(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType, InputStream inputStream) {
+        ImportJobResponse importJob = importService.importManga(FileFormat.fromMediaType(contentType), inputStream);
+        return accepted(importJob);
+    }
+
+    @GetMapping
+    @Operation(summary = "Get import jobs", description = "Endpoint to retrieve the running and recently finished import jobs of the current user, most recent first. Poll it to follow the progress of an import.")
+    @ApiResponse(responseCode = "200", description = "List of import jobs retrieved successfully.")
+    public ResponseEntity<List<ImportJobResponse>> getImportJobs() {
+        return ResponseEntity.ok(importService.getImportJobs());
+    }
+
+    @GetMapping("{id}")
+    @Operation(summary = "Get import job by ID", description = "Endpoint to retrieve the progress of an import job by its unique ID.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import job retrieved successfully."),
+            @ApiResponse(responseCode = "404", description = "Import job not found.")
+    })
+    public ResponseEntity<ImportJobResponse> getImportJob(@PathVariable("id") String id) {
+        return ResponseEntity.ok(importService.getImportJob(id));
+    }
+
+    private static ResponseEntity<ImportJobResponse> accepted(ImportJobResponse importJob) {
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/v1/imports/{id}")
+                .buildAndExpand(importJob.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(importJob);
+    }
+}
@@ -0,0 +1,41 @@
+package com.aimanecouissi.animerestapi.controller;
+
+import com.aimanecouissi.animerestapi.payload.response.LibraryVersionResponse;
+import com.aimanecouissi.animerestapi.service.LibraryVersionService;
+import com.aimanecouissi.animerestapi.utility.ETags;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("api/v1/library")
+@SecurityRequirement(name = "Bearer Authentication")
+@Tag(name = "Library API", description = "Endpoints to follow changes to the library of the current user.")
+public class LibraryController {
+    private final LibraryVersionService libraryVersionService;
+
+    public LibraryController(LibraryVersionService libraryVersionService) {
+        this.libraryVersionService = libraryVersionService;
+    }
+
+    @GetMapping("version")
+    @Operation(summary = "Get the library version", description = "Endpoint to retrieve the version of the anime and manga libraries of the current user. Each version grows with every write to its library, so a client refetches a library only when its version moved. HEAD returns the same ETag without a body.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Library version retrieved successfully."),
+            @ApiResponse(responseCode = "304", description = "Library unchanged since the ETag sent in If-None-Match.")
+    })
+    public ResponseEntity<LibraryVersionResponse> getLibraryVersion() {
+        LibraryVersionResponse libraryVersion = libraryVersionService.getLibraryVersion();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(ETags.of(libraryVersion.getAnime(), libraryVersion.getManga()))
+                .body(libraryVersion);
+    }
+}
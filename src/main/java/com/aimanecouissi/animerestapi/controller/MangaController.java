@@ -1,21 +1,32 @@
 package com.aimanecouissi.animerestapi.controller;
 
 import com.aimanecouissi.animerestapi.enums.MangaStatus;
+import com.aimanecouissi.animerestapi.payload.dto.BatchDeleteDTO;
+import com.aimanecouissi.animerestapi.payload.dto.MangaBatchDTO;
 import com.aimanecouissi.animerestapi.payload.dto.MangaDTO;
+import com.aimanecouissi.animerestapi.payload.response.MangaBatchResponse;
+import com.aimanecouissi.animerestapi.payload.response.MangaCursorPaginatedResponse;
 import com.aimanecouissi.animerestapi.payload.response.MangaPaginatedResponse;
 import com.aimanecouissi.animerestapi.service.MangaService;
 import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
+import com.aimanecouissi.animerestapi.utility.NdjsonWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("api/v1/manga")
@@ -23,9 +34,11 @@ import java.util.List;
 @Tag(name = "Manga API", description = "Endpoints to manage manga resources.")
 public class MangaController {
     private final MangaService mangaService;
+    private final ObjectMapper objectMapper;
 
-    public MangaController(MangaService mangaService) {
+    public MangaController(MangaService mangaService, ObjectMapper objectMapper) {
         this.mangaService = mangaService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -43,18 +56,46 @@ public class MangaController {
             @RequestParam(value = "pageNo", defaultValue = ApplicationConstants.DEFAULT_PAGE_NUMBER, required = false) int pageNo,
             @RequestParam(value = "pageSize", defaultValue = ApplicationConstants.DEFAULT_PAGE_SIZE, required = false) int pageSize,
             @RequestParam(value = "sortBy", defaultValue = ApplicationConstants.DEFAULT_SORT_BY, required = false) String sortBy,
-            @RequestParam(value = "sortDir", defaultValue = ApplicationConstants.DEFAULT_SORT_DIRECTION, required = false) String sortDir
+            @RequestParam(value = "sortDir", defaultValue = ApplicationConstants.DEFAULT_SORT_DIRECTION, required = false) String sortDir,
+            WebRequest webRequest
     ) {
+        if (webRequest.checkNotModified(mangaService.getMangaLibraryETag())) {
+            return null;
+        }
         return mangaService.getAllManga(pageNo, pageSize, sortBy, sortDir);
     }
 
+    @GetMapping(params = "cursor")
+    @Operation(summary = "Get all manga by cursor", description = "Endpoint to retrieve a list of all manga entries using keyset pagination. Pass an empty cursor for the first page, then the returned nextCursor. The cursor keeps the sort of the first page and no total count is computed.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "List of manga retrieved successfully."),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or unsupported sort field.")
+    })
+    public MangaCursorPaginatedResponse getAllMangaByCursor(
+            @RequestParam(value = "cursor") String cursor,
+            @RequestParam(value = "pageSize", defaultValue = ApplicationConstants.DEFAULT_PAGE_SIZE, required = false) int pageSize,
+            @RequestParam(value = "sortBy", defaultValue = ApplicationConstants.DEFAULT_SORT_BY, required = false) String sortBy,
+            @RequestParam(value = "sortDir", defaultValue = ApplicationConstants.DEFAULT_SORT_DIRECTION, required = false) String sortDir,
+            WebRequest webRequest
+    ) {
+        if (webRequest.checkNotModified(mangaService.getMangaLibraryETag())) {
+            return null;
+        }
+        return mangaService.getAllMangaByCursor(cursor, pageSize, sortBy, sortDir);
+    }
+
     @GetMapping("{id}")
     @Operation(summary = "Get manga by ID", description = "Endpoint to retrieve details of a manga by its unique ID.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Manga details retrieved successfully."),
+            @ApiResponse(responseCode = "304", description = "Manga unchanged since the ETag sent in If-None-Match."),
             @ApiResponse(responseCode = "404", description = "Manga not found.")
     })
-    public ResponseEntity<MangaDTO> getMangaById(@PathVariable("id") long id) {
+    public ResponseEntity<MangaDTO> getMangaById(@PathVariable("id") long id, WebRequest webRequest) {
+        Optional<String> eTag = mangaService.getMangaETag(id);
+        if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+            return null;
+        }
         MangaDTO manga = mangaService.getMangaById(id);
         return new ResponseEntity<>(manga, HttpStatus.OK);
     }
@@ -81,16 +122,74 @@ public class MangaController {
         return new ResponseEntity<>("The manga has been successfully deleted.", HttpStatus.OK);
     }
 
+    @PostMapping("batch")
+    @Operation(summary = "Create manga in batch", description = "Endpoint to create up to " + ApplicationConstants.MAX_BATCH_SIZE + " manga entries in one request. Each entry is reported with the status it would have received on its own, failed entries do not prevent the others from being created.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed, see the status of each entry."),
+            @ApiResponse(responseCode = "400", description = "Invalid batch, no entry was created.")
+    })
+    public ResponseEntity<MangaBatchResponse> createMangaBatch(@Valid @RequestBody MangaBatchDTO mangaBatchDTO) {
+        MangaBatchResponse mangaBatchResponse = mangaService.createMangaBatch(mangaBatchDTO.getItems());
+        return ResponseEntity.ok(mangaBatchResponse);
+    }
+
+    @PutMapping("batch")
+    @Operation(summary = "Update manga in batch", description = "Endpoint to update up to " + ApplicationConstants.MAX_BATCH_SIZE + " existing manga entries, identified by the ID of each entry, in one request. Each entry is reported with the status it would have received on its own.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed, see the status of each entry."),
+            @ApiResponse(responseCode = "400", description = "Invalid batch, no entry was updated.")
+    })
+    public ResponseEntity<MangaBatchResponse> updateMangaBatch(@Valid @RequestBody MangaBatchDTO mangaBatchDTO) {
+        MangaBatchResponse mangaBatchResponse = mangaService.updateMangaBatch(mangaBatchDTO.getItems());
+        return ResponseEntity.ok(mangaBatchResponse);
+    }
+
+    @DeleteMapping("batch")
+    @Operation(summary = "Delete manga in batch", description = "Endpoint to delete up to " + ApplicationConstants.MAX_BATCH_SIZE + " manga entries by their IDs in one request. Each entry is reported with the status it would have received on its own.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed, see the status of each entry."),
+            @ApiResponse(responseCode = "400", description = "Invalid batch, no entry was deleted.")
+    })
+    public ResponseEntity<MangaBatchResponse> deleteMangaBatch(@Valid @RequestBody BatchDeleteDTO batchDeleteDTO) {
+        MangaBatchResponse mangaBatchResponse = mangaService.deleteMangaBatch(batchDeleteDTO.getIds());
+        return ResponseEntity.ok(mangaBatchResponse);
+    }
+
     @GetMapping("search")
-    @Operation(summary = "Search manga by various attributes", description = "Endpoint to search for manga by various attributes.")
+    @Operation(summary = "Search manga by various attributes", description = "Endpoint to search for manga by various attributes, one page at a time.")
     @ApiResponse(responseCode = "200", description = "Manga list retrieved successfully.")
-    public ResponseEntity<List<MangaDTO>> searchManga(
+    public MangaPaginatedResponse searchManga(
             @RequestParam(value = "title", required = false) String title,
             @RequestParam(value = "status", required = false) MangaStatus status,
             @RequestParam(value = "rating", required = false) Integer rating,
-            @RequestParam(value = "isFavorite", required = false) Boolean isFavorite
+            @RequestParam(value = "isFavorite", required = false) Boolean isFavorite,
+            @RequestParam(value = "pageNo", defaultValue = ApplicationConstants.DEFAULT_PAGE_NUMBER, required = false) int pageNo,
+            @RequestParam(value = "pageSize", defaultValue = ApplicationConstants.DEFAULT_PAGE_SIZE, required = false) int pageSize,
+            @RequestParam(value = "sortBy", defaultValue = ApplicationConstants.DEFAULT_SORT_BY, required = false) String sortBy,
+            @RequestParam(value = "sortDir", defaultValue = ApplicationConstants.DEFAULT_SORT_DIRECTION, required = false) String sortDir,
+            WebRequest webRequest
     ) {
-        return ResponseEntity.ok(mangaService.searchManga(title, status, rating, isFavorite));
+        if (webRequest.checkNotModified(mangaService.getMangaLibraryETag())) {
+            return null;
+        }
+        return mangaService.searchManga(title, status, rating, isFavorite, pageNo, pageSize, sortBy, sortDir);
+    }
+
+    @GetMapping(value = "search/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream manga search results", description = "Endpoint to stream every manga matching the search attributes as newline-delimited JSON, one entry per line as it is read from the database.")
+    @ApiResponse(responseCode = "200", description = "Manga list streamed successfully.")
+    public void streamManga(
+            @RequestParam(value = "title", required = false) String title,
+            @RequestParam(value = "status", required = false) MangaStatus status,
+            @RequestParam(value = "rating", required = false) Integer rating,
+            @RequestParam(value = "isFavorite", required = false) Boolean isFavorite,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        try (NdjsonWriter ndjsonWriter = new NdjsonWriter(objectMapper, response.getOutputStream())) {
+            mangaService.streamManga(title, status, rating, isFavorite, ndjsonWriter::write);
+        }
     }
 
     @GetMapping("/mean-rating")
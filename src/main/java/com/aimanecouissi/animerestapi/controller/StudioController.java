@@ -12,8 +12,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("api/v1/studios")
@@ -38,7 +40,11 @@ public class StudioController {
     @GetMapping
     @Operation(summary = "Get all studios", description = "Endpoint to retrieve a list of all studios.")
     @ApiResponse(responseCode = "200", description = "List of studios retrieved successfully.")
-    public ResponseEntity<List<StudioDTO>> getAllStudios() {
+    public ResponseEntity<List<StudioDTO>> getAllStudios(WebRequest webRequest) {
+        // Both tags come from the cached catalog, a revalidation costs no query
+        if (webRequest.checkNotModified(studioService.getAllStudiosETag())) {
+            return null;
+        }
         List<StudioDTO> studios = studioService.getAllStudios();
         return ResponseEntity.ok(studios);
     }
@@ -47,9 +53,14 @@ public class StudioController {
     @Operation(summary = "Get studio by ID", description = "Endpoint to retrieve details of a studio by its unique ID.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Studio details retrieved successfully."),
+            @ApiResponse(responseCode = "304", description = "Studio unchanged since the ETag sent in If-None-Match."),
             @ApiResponse(responseCode = "404", description = "Studio not found.")
     })
-    public ResponseEntity<StudioDTO> getStudioById(@PathVariable("id") long id) {
+    public ResponseEntity<StudioDTO> getStudioById(@PathVariable("id") long id, WebRequest webRequest) {
+        Optional<String> eTag = studioService.getStudioETag(id);
+        if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+            return null;
+        }
         StudioDTO studio = studioService.getStudioById(id);
         return new ResponseEntity<>(studio, HttpStatus.OK);
     }
@@ -0,0 +1,39 @@
+package com.aimanecouissi.animerestapi.controller;
+
+import com.aimanecouissi.animerestapi.payload.response.SyncResponse;
+import com.aimanecouissi.animerestapi.service.SyncService;
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("api/v1/sync")
+@SecurityRequirement(name = "Bearer Authentication")
+@Tag(name = "Sync API", description = "Endpoints to keep an offline copy of the library up to date.")
+public class SyncController {
+    private final SyncService syncService;
+
+    public SyncController(SyncService syncService) {
+        this.syncService = syncService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Get library changes", description = "Endpoint to retrieve the anime and manga created, updated or deleted since a sync token. Omit since for a full sync, then pass the returned nextSince, either right away while isLast is false or at the next sync. An ISO date-time is accepted as since as well. Changes of the last few seconds are held back until their transactions have surely committed.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Library changes retrieved successfully."),
+            @ApiResponse(responseCode = "400", description = "Invalid sync token.")
+    })
+    public SyncResponse getChanges(
+            @RequestParam(value = "since", required = false) String since,
+            @RequestParam(value = "pageSize", defaultValue = ApplicationConstants.DEFAULT_SYNC_PAGE_SIZE, required = false) int pageSize
+    ) {
+        return syncService.getChanges(since, pageSize);
+    }
+}
@@ -2,6 +2,7 @@ package com.aimanecouissi.animerestapi.entity;
 
 import com.aimanecouissi.animerestapi.enums.AnimeStatus;
 import com.aimanecouissi.animerestapi.enums.AnimeType;
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -15,10 +16,20 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Builder
 @Entity
-@Table(name = "anime")
+@Table(
+        name = "anime",
+        uniqueConstraints = @UniqueConstraint(name = ApplicationConstants.ANIME_TITLE_CONSTRAINT, columnNames = {"user_id", "title"}),
+        indexes = {
+                @Index(name = "idx_anime_user_id_status", columnList = "user_id, status"),
+                @Index(name = "idx_anime_user_id_studio_id", columnList = "user_id, studio_id"),
+                @Index(name = "idx_anime_user_id_created_at", columnList = "user_id, created_at"),
+                @Index(name = "idx_anime_user_id_updated_at", columnList = "user_id, updated_at")
+        }
+)
 public class Anime {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "anime_seq")
+    @SequenceGenerator(name = "anime_seq", sequenceName = "anime_seq", allocationSize = ApplicationConstants.ID_ALLOCATION_SIZE)
     private long id;
 
     @Column(name = "title", nullable = false, length = 100)
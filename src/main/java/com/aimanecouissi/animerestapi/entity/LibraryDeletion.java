@@ -0,0 +1,43 @@
+package com.aimanecouissi.animerestapi.entity;
+
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Tombstone of a deleted anime or manga, kept so a syncing client learns about entries that no longer have a row.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "library_deletions",
+        indexes = @Index(name = "idx_library_deletions_user_id_deleted_at", columnList = "user_id, deleted_at")
+)
+public class LibraryDeletion {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "library_deletions_seq")
+    @SequenceGenerator(name = "library_deletions_seq", sequenceName = "library_deletions_seq", allocationSize = ApplicationConstants.ID_ALLOCATION_SIZE)
+    private long id;
+
+    @Column(name = "user_id", nullable = false)
+    private long userId;
+
+    @Column(name = "library_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private LibraryType libraryType;
+
+    @Column(name = "entry_id", nullable = false)
+    private long entryId;
+
+    @Column(name = "deleted_at", nullable = false, updatable = false)
+    @CreationTimestamp
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,43 @@
+package com.aimanecouissi.animerestapi.entity;
+
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * Counter of one user's library, incremented by every write to it so a change is detected by reading a single row
+ * instead of the library itself.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "library_versions")
+@IdClass(LibraryVersion.LibraryVersionId.class)
+public class LibraryVersion {
+    @Id
+    @Column(name = "user_id")
+    private long userId;
+
+    @Id
+    @Column(name = "library_type")
+    @Enumerated(EnumType.STRING)
+    private LibraryType libraryType;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class LibraryVersionId implements Serializable {
+        private long userId;
+        private LibraryType libraryType;
+    }
+}
@@ -1,6 +1,7 @@
 package com.aimanecouissi.animerestapi.entity;
 
 import com.aimanecouissi.animerestapi.enums.MangaStatus;
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -14,10 +15,19 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Builder
 @Entity
-@Table(name = "manga")
+@Table(
+        name = "manga",
+        uniqueConstraints = @UniqueConstraint(name = ApplicationConstants.MANGA_TITLE_CONSTRAINT, columnNames = {"user_id", "title"}),
+        indexes = {
+                @Index(name = "idx_manga_user_id_status", columnList = "user_id, status"),
+                @Index(name = "idx_manga_user_id_created_at", columnList = "user_id, created_at"),
+                @Index(name = "idx_manga_user_id_updated_at", columnList = "user_id, updated_at")
+        }
+)
 public class Manga {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "manga_seq")
+    @SequenceGenerator(name = "manga_seq", sequenceName = "manga_seq", allocationSize = ApplicationConstants.ID_ALLOCATION_SIZE)
     private long id;
 
     @Column(name = "title", nullable = false, length = 100)
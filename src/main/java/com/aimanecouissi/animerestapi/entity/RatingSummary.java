@@ -0,0 +1,80 @@
+package com.aimanecouissi.animerestapi.entity;
+
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Running rating aggregates of one user's library, kept in step with every write so the mean
+ * rating is read from a single row instead of averaging the whole library.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "rating_summaries",
+        uniqueConstraints = @UniqueConstraint(name = ApplicationConstants.RATING_SUMMARY_CONSTRAINT, columnNames = {"user_id", "library_type"})
+)
+public class RatingSummary {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rating_summaries_seq")
+    @SequenceGenerator(name = "rating_summaries_seq", sequenceName = "rating_summaries_seq", allocationSize = ApplicationConstants.ID_ALLOCATION_SIZE)
+    private long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "library_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private LibraryType libraryType;
+
+    @Column(name = "rating_count", nullable = false)
+    private long ratingCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @ElementCollection
+    @CollectionTable(name = "rating_summary_histogram", joinColumns = @JoinColumn(name = "rating_summary_id"))
+    @MapKeyColumn(name = "rating")
+    @Column(name = "entry_count", nullable = false)
+    @Builder.Default
+    private Map<Integer, Long> histogram = new HashMap<>();
+
+    @Column(name = "updated_at")
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    public void addRating(Integer rating) {
+        if (rating == null) {
+            return;
+        }
+        ratingCount++;
+        ratingSum += rating;
+        histogram.merge(rating, 1L, Long::sum);
+    }
+
+    public void removeRating(Integer rating) {
+        if (rating == null) {
+            return;
+        }
+        ratingCount--;
+        ratingSum -= rating;
+        histogram.computeIfPresent(rating, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    public double getMeanRating() {
+        // Unrated entries are left out, matching what AVG(rating) did
+        return ratingCount == 0 ? 0.0 : (double) ratingSum / ratingCount;
+    }
+}
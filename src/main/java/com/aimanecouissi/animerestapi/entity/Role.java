@@ -1,5 +1,6 @@
 package com.aimanecouissi.animerestapi.entity;
 
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -14,7 +15,8 @@ import java.util.Set;
 @Table(name = "roles")
 public class Role {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "roles_seq")
+    @SequenceGenerator(name = "roles_seq", sequenceName = "roles_seq", allocationSize = ApplicationConstants.ID_ALLOCATION_SIZE)
     private long id;
 
     @Column(name = "name", nullable = false)
@@ -1,5 +1,6 @@
 package com.aimanecouissi.animerestapi.entity;
 
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -17,7 +18,8 @@ import java.util.List;
 @Table(name = "studios")
 public class Studio {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "studios_seq")
+    @SequenceGenerator(name = "studios_seq", sequenceName = "studios_seq", allocationSize = ApplicationConstants.ID_ALLOCATION_SIZE)
     private long id;
 
     @Column(name = "name", nullable = false, length = 50, unique = true)
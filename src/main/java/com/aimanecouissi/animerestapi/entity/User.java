@@ -1,5 +1,6 @@
 package com.aimanecouissi.animerestapi.entity;
 
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -14,7 +15,8 @@ import java.util.Set;
 @Table(name = "users")
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = ApplicationConstants.ID_ALLOCATION_SIZE)
     private long id;
 
     @Column(name = "first_name", nullable = false, length = 30)
@@ -38,4 +40,7 @@ public class User {
 
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private Set<Manga> manga;
+
+    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
+    private Set<RatingSummary> ratingSummaries;
 }
@@ -0,0 +1,28 @@
+package com.aimanecouissi.animerestapi.enums;
+
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+
+public enum FileFormat {
+    CSV(MediaType.parseMediaType(ApplicationConstants.TEXT_CSV_VALUE)),
+    NDJSON(MediaType.APPLICATION_NDJSON);
+
+    private final MediaType mediaType;
+
+    FileFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public static FileFormat fromMediaType(MediaType mediaType) {
+        return Arrays.stream(values())
+                .filter(format -> format.mediaType.isCompatibleWith(mediaType))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(String.format("Unsupported file format '%s'.", mediaType)));
+    }
+}
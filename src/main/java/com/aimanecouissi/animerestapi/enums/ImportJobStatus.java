@@ -0,0 +1,7 @@
+package com.aimanecouissi.animerestapi.enums;
+
+public enum ImportJobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
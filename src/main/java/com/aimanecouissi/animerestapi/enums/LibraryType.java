@@ -0,0 +1,6 @@
+package com.aimanecouissi.animerestapi.enums;
+
+public enum LibraryType {
+    ANIME,
+    MANGA
+}
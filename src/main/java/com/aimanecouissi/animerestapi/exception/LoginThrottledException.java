@@ -0,0 +1,18 @@
+package com.aimanecouissi.animerestapi.exception;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@Getter
+@Setter
+@ResponseStatus(value = HttpStatus.TOO_MANY_REQUESTS)
+public class LoginThrottledException extends RuntimeException {
+    private long retryAfterSeconds;
+
+    public LoginThrottledException(long retryAfterSeconds) {
+        super(String.format("Too many failed logins, please retry in %d seconds.", retryAfterSeconds));
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -1,14 +1,18 @@
 package com.aimanecouissi.animerestapi.exception.handler;
 
 import com.aimanecouissi.animerestapi.exception.JwtAuthenticationException;
+import com.aimanecouissi.animerestapi.exception.LoginThrottledException;
 import com.aimanecouissi.animerestapi.exception.ResourceNotFoundException;
+import com.aimanecouissi.animerestapi.exception.ServiceBusyException;
 import com.aimanecouissi.animerestapi.exception.UnauthorizedOperationException;
 import com.aimanecouissi.animerestapi.exception.UniqueFieldException;
 import com.aimanecouissi.animerestapi.payload.response.MultipleErrorResponse;
 import com.aimanecouissi.animerestapi.payload.response.SingleErrorResponse;
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import jakarta.annotation.Nonnull;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -16,6 +20,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -79,6 +84,28 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return buildSingleErrorResponse(HttpStatus.CONFLICT, ex.getMessage());
     }
 
+    // Violations the services do not translate themselves, e.g. a batch racing another request at commit
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<Object> handleDataIntegrityViolationException(DataIntegrityViolationException ex) {
+        return buildSingleErrorResponse(HttpStatus.CONFLICT, "The request conflicts with data that already exists.");
+    }
+
+    // No connection could be had in time, e.g. the database bulkhead stayed full, so the client is asked to come back
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<Object> handleCannotCreateTransactionException(CannotCreateTransactionException ex) {
+        return buildSingleErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, "The service is busy, please retry shortly.", ApplicationConstants.RETRY_AFTER_SECONDS);
+    }
+
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<Object> handleServiceBusyException(ServiceBusyException ex) {
+        return buildSingleErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), ApplicationConstants.RETRY_AFTER_SECONDS);
+    }
+
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<Object> handleLoginThrottledException(LoginThrottledException ex) {
+        return buildSingleErrorResponse(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage(), ex.getRetryAfterSeconds());
+    }
+
     @ExceptionHandler(JwtAuthenticationException.class)
     public ResponseEntity<Object> handleJwtAuthenticationException(JwtAuthenticationException ex) {
         return buildSingleErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
@@ -143,4 +170,11 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                 .build();
         return new ResponseEntity<>(errorResponse, status);
     }
+
+    private ResponseEntity<Object> buildSingleErrorResponse(HttpStatus status, String errorMessage, long retryAfterSeconds) {
+        ResponseEntity<Object> response = buildSingleErrorResponse(status, errorMessage);
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(response.getBody());
+    }
 }
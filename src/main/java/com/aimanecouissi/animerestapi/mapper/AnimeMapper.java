@@ -0,0 +1,53 @@
+package com.aimanecouissi.animerestapi.mapper;
+
+import com.aimanecouissi.animerestapi.entity.Anime;
+import com.aimanecouissi.animerestapi.entity.Studio;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import com.aimanecouissi.animerestapi.payload.dto.AnimeDTO;
+import com.aimanecouissi.animerestapi.payload.dto.LibraryEntryDTO;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AnimeMapper {
+
+    public AnimeDTO toAnimeDTO(Anime anime) {
+        Studio studio = anime.getStudio();
+        return AnimeDTO.builder()
+                .id(anime.getId())
+                .title(anime.getTitle())
+                .type(anime.getType())
+                .studioId(studio != null ? studio.getId() : null)
+                .status(anime.getStatus())
+                .rating(anime.getRating())
+                .isFavorite(anime.isFavorite())
+                .isComplete(anime.isComplete())
+                .build();
+    }
+
+    public Anime toAnime(AnimeDTO animeDTO) {
+        // ID, studio and user are resolved by the service, never taken from the request
+        return Anime.builder()
+                .title(animeDTO.getTitle())
+                .type(animeDTO.getType())
+                .status(animeDTO.getStatus())
+                .rating(animeDTO.getRating())
+                .isFavorite(animeDTO.isFavorite())
+                .isComplete(animeDTO.isComplete())
+                .build();
+    }
+
+    public LibraryEntryDTO toLibraryEntryDTO(Anime anime) {
+        Studio studio = anime.getStudio();
+        return LibraryEntryDTO.builder()
+                .library(LibraryType.ANIME)
+                .id(anime.getId())
+                .title(anime.getTitle())
+                .type(anime.getType())
+                .studioId(studio != null ? studio.getId() : null)
+                .status(anime.getStatus() != null ? anime.getStatus().name() : null)
+                .rating(anime.getRating())
+                .favorite(anime.isFavorite())
+                .complete(anime.isComplete())
+                .build();
+    }
+}
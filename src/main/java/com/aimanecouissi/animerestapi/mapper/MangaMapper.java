@@ -0,0 +1,42 @@
+package com.aimanecouissi.animerestapi.mapper;
+
+import com.aimanecouissi.animerestapi.entity.Manga;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import com.aimanecouissi.animerestapi.payload.dto.LibraryEntryDTO;
+import com.aimanecouissi.animerestapi.payload.dto.MangaDTO;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MangaMapper {
+
+    public MangaDTO toMangaDTO(Manga manga) {
+        return MangaDTO.builder()
+                .id(manga.getId())
+                .title(manga.getTitle())
+                .status(manga.getStatus())
+                .rating(manga.getRating())
+                .isFavorite(manga.isFavorite())
+                .build();
+    }
+
+    public Manga toManga(MangaDTO mangaDTO) {
+        // ID and user are resolved by the service, never taken from the request
+        return Manga.builder()
+                .title(mangaDTO.getTitle())
+                .status(mangaDTO.getStatus())
+                .rating(mangaDTO.getRating())
+                .isFavorite(mangaDTO.isFavorite())
+                .build();
+    }
+
+    public LibraryEntryDTO toLibraryEntryDTO(Manga manga) {
+        return LibraryEntryDTO.builder()
+                .library(LibraryType.MANGA)
+                .id(manga.getId())
+                .title(manga.getTitle())
+                .status(manga.getStatus() != null ? manga.getStatus().name() : null)
+                .rating(manga.getRating())
+                .favorite(manga.isFavorite())
+                .build();
+    }
+}
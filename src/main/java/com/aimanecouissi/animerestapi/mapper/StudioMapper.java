@@ -0,0 +1,22 @@
+package com.aimanecouissi.animerestapi.mapper;
+
+import com.aimanecouissi.animerestapi.entity.Studio;
+import com.aimanecouissi.animerestapi.payload.dto.StudioDTO;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StudioMapper {
+
+    public StudioDTO toStudioDTO(Studio studio) {
+        return StudioDTO.builder()
+                .id(studio.getId())
+                .name(studio.getName())
+                .build();
+    }
+
+    public Studio toStudio(StudioDTO studioDTO) {
+        return Studio.builder()
+                .name(studioDTO.getName())
+                .build();
+    }
+}
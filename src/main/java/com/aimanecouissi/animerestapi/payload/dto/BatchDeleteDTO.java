@@ -0,0 +1,23 @@
+package com.aimanecouissi.animerestapi.payload.dto;
+
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Schema(description = "DTO representing the IDs of a batch of entries to delete")
+public class BatchDeleteDTO {
+    @NotEmpty(message = "IDs are required")
+    @Size(max = ApplicationConstants.MAX_BATCH_SIZE, message = "IDs must contain at most " + ApplicationConstants.MAX_BATCH_SIZE + " entries")
+    @Schema(description = "IDs of the entries to delete", example = "[1, 2, 3]")
+    private List<@NotNull(message = "ID is required") Long> ids;
+}
@@ -0,0 +1,45 @@
+package com.aimanecouissi.animerestapi.payload.dto;
+
+import com.aimanecouissi.animerestapi.enums.AnimeType;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"library", "id", "title", "type", "studioId", "status", "rating", "favorite", "complete"})
+@Schema(description = "DTO representing one anime or manga of an exported library, with the same attribute names as the import")
+public class LibraryEntryDTO {
+    @Schema(description = "Library the entry belongs to")
+    private LibraryType library;
+
+    @Schema(description = "Unique identifier of the entry", example = "1")
+    private Long id;
+
+    @Schema(description = "Title of the entry", example = "Attack on Titan")
+    private String title;
+
+    @Schema(description = "Type of the anime, absent for manga")
+    private AnimeType type;
+
+    @Schema(description = "ID of the studio of the anime, absent for manga", example = "1")
+    private Long studioId;
+
+    @Schema(description = "Status of the entry, an anime or a manga status depending on the library", example = "COMPLETED")
+    private String status;
+
+    @Schema(description = "Rating of the entry (1-10)")
+    private Integer rating;
+
+    @Schema(description = "Indicates whether the entry is marked as favorite")
+    private Boolean favorite;
+
+    @Schema(description = "Indicates whether the anime is marked as complete, absent for manga")
+    private Boolean complete;
+}
@@ -0,0 +1,24 @@
+package com.aimanecouissi.animerestapi.payload.dto;
+
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Schema(description = "DTO representing a batch of manga to create or update")
+public class MangaBatchDTO {
+    @NotEmpty(message = "Items are required")
+    @Size(max = ApplicationConstants.MAX_BATCH_SIZE, message = "Items must contain at most " + ApplicationConstants.MAX_BATCH_SIZE + " entries")
+    @Schema(description = "Manga entries of the batch, the ID is required when updating")
+    private List<@NotNull(message = "Item is required") @Valid MangaDTO> items;
+}
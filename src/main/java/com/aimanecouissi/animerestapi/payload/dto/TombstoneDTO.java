@@ -0,0 +1,24 @@
+package com.aimanecouissi.animerestapi.payload.dto;
+
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Schema(description = "DTO representing an anime or manga deleted from the library")
+public class TombstoneDTO {
+    @Schema(description = "Library the deleted entry belonged to")
+    private LibraryType library;
+
+    @Schema(description = "Unique identifier of the deleted entry", example = "1")
+    private long id;
+
+    @Schema(description = "Time at which the entry was deleted", example = "2024-06-01T12:00:00")
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,10 @@
+package com.aimanecouissi.animerestapi.payload.response;
+
+import com.aimanecouissi.animerestapi.payload.dto.AnimeDTO;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@Schema(description = "Response object containing a list of anime along with the cursor of the next page")
+public class AnimeCursorPaginatedResponse extends CursorPaginatedResponse<AnimeDTO> {
+}
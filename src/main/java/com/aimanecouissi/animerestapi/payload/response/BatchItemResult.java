@@ -0,0 +1,49 @@
+package com.aimanecouissi.animerestapi.payload.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Outcome of one entry of a batch request")
+public class BatchItemResult<T> {
+    @Schema(description = "Position of the entry in the request", example = "0")
+    private int index;
+
+    @Schema(description = "HTTP status the entry would have received as a single request", example = "201")
+    private int status;
+
+    @Schema(description = "Resulting entry, present when the entry succeeded")
+    private T item;
+
+    @Schema(description = "Reason the entry failed, present when the entry failed", example = "'Title' with value 'Naruto' already exists.")
+    private String error;
+
+    public static <T> BatchItemResult<T> success(int index, HttpStatus status, T item) {
+        return BatchItemResult.<T>builder()
+                .index(index)
+                .status(status.value())
+                .item(item)
+                .build();
+    }
+
+    public static <T> BatchItemResult<T> failure(int index, HttpStatus status, String error) {
+        return BatchItemResult.<T>builder()
+                .index(index)
+                .status(status.value())
+                .error(error)
+                .build();
+    }
+
+    @JsonIgnore
+    public boolean isSuccessful() {
+        return error == null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.aimanecouissi.animerestapi.payload.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@SuperBuilder
+@Schema(description = "Generic response object containing the outcome of every entry of a batch request")
+public class BatchResponse<T> {
+    @Schema(description = "Outcome of each entry, in request order")
+    private List<BatchItemResult<T>> results;
+
+    @Schema(description = "Number of entries that succeeded", example = "9")
+    private int succeeded;
+
+    @Schema(description = "Number of entries that failed", example = "1")
+    private int failed;
+}
@@ -0,0 +1,30 @@
+package com.aimanecouissi.animerestapi.payload.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@SuperBuilder
+@Schema(description = "Generic response object containing a list of items along with the cursor of the next page")
+public class CursorPaginatedResponse<T> {
+    @Schema(description = "List of items")
+    private List<T> items;
+
+    @Schema(description = "Size of each page", example = "10")
+    private int pageSize;
+
+    @Schema(description = "Opaque cursor to pass as the cursor parameter to fetch the next page, null on the last page", example = "QVNDfHRpdGxlfDQyfE5hcnV0bw")
+    private String nextCursor;
+
+    @Schema(description = "Flag indicating if this is the last page of results", example = "false")
+    private boolean isLast;
+}
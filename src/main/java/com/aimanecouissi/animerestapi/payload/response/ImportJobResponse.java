@@ -0,0 +1,48 @@
+package com.aimanecouissi.animerestapi.payload.response;
+
+import com.aimanecouissi.animerestapi.enums.FileFormat;
+import com.aimanecouissi.animerestapi.enums.ImportJobStatus;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Schema(description = "Response object containing the progress of an import job")
+public class ImportJobResponse {
+    @Schema(description = "Unique identifier of the import job", example = "5f0c6a8e-3b4d-4c3e-9a57-2f1d9e0b7c41")
+    private String id;
+
+    @Schema(description = "Library the rows are imported into")
+    private LibraryType libraryType;
+
+    @Schema(description = "Format of the imported file")
+    private FileFormat format;
+
+    @Schema(description = "Status of the import job")
+    private ImportJobStatus status;
+
+    @Schema(description = "Number of rows read so far", example = "1500")
+    private long processed;
+
+    @Schema(description = "Number of rows imported so far", example = "1480")
+    private long imported;
+
+    @Schema(description = "Number of rows rejected so far", example = "20")
+    private long rejected;
+
+    @Schema(description = "Reasons of the first rejected rows, and of the failure when the job failed", example = "[\"Row 12: Title is required\"]")
+    private List<String> errors;
+
+    @Schema(description = "Date and time the import job started")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "Date and time the import job finished, absent while it is running")
+    private LocalDateTime finishedAt;
+}
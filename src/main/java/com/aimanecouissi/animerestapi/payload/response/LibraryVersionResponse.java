@@ -0,0 +1,18 @@
+package com.aimanecouissi.animerestapi.payload.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Schema(description = "Response object containing the current version of each library of the user")
+public class LibraryVersionResponse {
+    @Schema(description = "Version of the anime library, incremented by every write to it", example = "42")
+    private long anime;
+
+    @Schema(description = "Version of the manga library, incremented by every write to it", example = "7")
+    private long manga;
+}
@@ -0,0 +1,10 @@
+package com.aimanecouissi.animerestapi.payload.response;
+
+import com.aimanecouissi.animerestapi.payload.dto.MangaDTO;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@Schema(description = "Response object containing the outcome of every manga of a batch request")
+public class MangaBatchResponse extends BatchResponse<MangaDTO> {
+}
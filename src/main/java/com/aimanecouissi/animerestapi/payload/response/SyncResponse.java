@@ -0,0 +1,35 @@
+package com.aimanecouissi.animerestapi.payload.response;
+
+import com.aimanecouissi.animerestapi.payload.dto.AnimeDTO;
+import com.aimanecouissi.animerestapi.payload.dto.MangaDTO;
+import com.aimanecouissi.animerestapi.payload.dto.TombstoneDTO;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Schema(description = "Response object containing the anime and manga changed and deleted since a sync token")
+public class SyncResponse {
+    @Schema(description = "Anime created or updated since the token, in update order")
+    private List<AnimeDTO> anime;
+
+    @Schema(description = "Manga created or updated since the token, in update order")
+    private List<MangaDTO> manga;
+
+    @Schema(description = "Anime and manga deleted since the token, in deletion order")
+    private List<TombstoneDTO> deleted;
+
+    @Schema(description = "Maximum number of anime, manga and deletions returned each", example = "100")
+    private int pageSize;
+
+    @Schema(description = "Token to pass as the since parameter of the next sync, also returned on the last page", example = "MjAyNC0wNi0wMVQxMjowMHw0Mnx8fHw")
+    private String nextSince;
+
+    @Schema(description = "Flag indicating if every change up to now has been returned", example = "true")
+    private boolean isLast;
+}
@@ -3,35 +3,82 @@ package com.aimanecouissi.animerestapi.repository;
 import com.aimanecouissi.animerestapi.entity.Anime;
 import com.aimanecouissi.animerestapi.enums.AnimeStatus;
 import com.aimanecouissi.animerestapi.enums.AnimeType;
+import com.aimanecouissi.animerestapi.repository.projection.AnimeOwner;
+import com.aimanecouissi.animerestapi.repository.projection.RatingCount;
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface AnimeRepository extends JpaRepository<Anime, Long> {
     Optional<Anime> findByTitle(String title);
 
     boolean existsByTitleAndUserId(String title, long userId);
 
+    List<Anime> findAllByUserIdAndTitleIn(long userId, Collection<String> titles);
+
     List<Anime> findByStudioIdAndUserId(long studioId, long userId);
 
     Page<Anime> findAllByUserId(long userId, Pageable pageable);
 
+    Window<Anime> findAllByUserId(long userId, ScrollPosition scrollPosition, Sort sort, Limit limit);
+
+    Window<Anime> findAllByUserIdAndUpdatedAtBefore(long userId, LocalDateTime updatedAt, ScrollPosition scrollPosition, Sort sort, Limit limit);
+
+    @Query("SELECT a.updatedAt FROM Anime a WHERE a.id = :id AND a.user.id = :userId")
+    Optional<LocalDateTime> findUpdatedAtByIdAndUserId(@Param("id") long id, @Param("userId") long userId);
+
     @Query("SELECT AVG(a.rating) FROM Anime a WHERE a.user.id = :userId")
     Optional<Double> findAverageRatingByUserId(@Param("userId") long userId);
 
-    @Query("SELECT a FROM Anime a WHERE a.user.id = :userId " +
+    @Query("SELECT a.rating AS rating, COUNT(a) AS entryCount FROM Anime a WHERE a.user.id = :userId AND a.rating IS NOT NULL GROUP BY a.rating")
+    List<RatingCount> countRatingsByUserId(@Param("userId") long userId);
+
+    @Query("SELECT a.user.id AS userId, a.id AS animeId FROM Anime a WHERE a.studio.id = :studioId")
+    List<AnimeOwner> findOwnersByStudioId(@Param("studioId") long studioId);
+
+    String FILTERS_QUERY = "SELECT a FROM Anime a WHERE a.user.id = :userId " +
             "AND (:title IS NULL OR LOWER(a.title) LIKE LOWER(CONCAT('%', :title, '%'))) " +
             "AND (:type IS NULL OR a.type = :type) " +
             "AND (:status IS NULL OR a.status = :status) " +
             "AND (:rating IS NULL OR a.rating = :rating) " +
             "AND (:isFavorite IS NULL OR a.isFavorite = :isFavorite) " +
-            "AND (:isComplete IS NULL OR a.isComplete = :isComplete)")
-    List<Anime> findAllByUserIdAndFilters(
+            "AND (:isComplete IS NULL OR a.isComplete = :isComplete)";
+
+    @Query(FILTERS_QUERY)
+    Page<Anime> findAllByUserIdAndFilters(
+            @Param("userId") long userId,
+            @Param("title") String title,
+            @Param("type") AnimeType type,
+            @Param("status") AnimeStatus status,
+            @Param("rating") Integer rating,
+            @Param("isFavorite") Boolean isFavorite,
+            @Param("isComplete") Boolean isComplete,
+            Pageable pageable
+    );
+
+    @Query(FILTERS_QUERY)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ApplicationConstants.STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Anime> streamAllByUserIdAndFilters(
             @Param("userId") long userId,
             @Param("title") String title,
             @Param("type") AnimeType type,
@@ -40,4 +87,11 @@ public interface AnimeRepository extends JpaRepository<Anime, Long> {
             @Param("isFavorite") Boolean isFavorite,
             @Param("isComplete") Boolean isComplete
     );
+
+    // Ordered by ID so the scan follows the user index, which already holds its rows in primary key order
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ApplicationConstants.STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Anime> streamAllByUserIdOrderById(long userId);
 }
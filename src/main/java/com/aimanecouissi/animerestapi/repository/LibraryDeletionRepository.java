@@ -0,0 +1,14 @@
+package com.aimanecouissi.animerestapi.repository;
+
+import com.aimanecouissi.animerestapi.entity.LibraryDeletion;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+
+public interface LibraryDeletionRepository extends JpaRepository<LibraryDeletion, Long> {
+    Window<LibraryDeletion> findAllByUserIdAndDeletedAtBefore(long userId, LocalDateTime deletedAt, ScrollPosition scrollPosition, Sort sort, Limit limit);
+}
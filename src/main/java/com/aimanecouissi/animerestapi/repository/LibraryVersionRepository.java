@@ -0,0 +1,23 @@
+package com.aimanecouissi.animerestapi.repository;
+
+import com.aimanecouissi.animerestapi.entity.LibraryVersion;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface LibraryVersionRepository extends JpaRepository<LibraryVersion, LibraryVersion.LibraryVersionId> {
+    List<LibraryVersion> findAllByUserId(long userId);
+
+    @Query("SELECT v.version FROM LibraryVersion v WHERE v.userId = :userId AND v.libraryType = :libraryType")
+    Optional<Long> findVersionByUserIdAndLibraryType(@Param("userId") long userId, @Param("libraryType") LibraryType libraryType);
+
+    // Incremented in the database, so concurrent writes to the same library queue on the row instead of losing a bump
+    @Modifying
+    @Query("UPDATE LibraryVersion v SET v.version = v.version + 1 WHERE v.userId = :userId AND v.libraryType = :libraryType")
+    int incrementVersion(@Param("userId") long userId, @Param("libraryType") LibraryType libraryType);
+}
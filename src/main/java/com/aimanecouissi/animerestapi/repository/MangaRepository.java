@@ -2,35 +2,83 @@ package com.aimanecouissi.animerestapi.repository;
 
 import com.aimanecouissi.animerestapi.entity.Manga;
 import com.aimanecouissi.animerestapi.enums.MangaStatus;
+import com.aimanecouissi.animerestapi.repository.projection.RatingCount;
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface MangaRepository extends JpaRepository<Manga, Long> {
     Optional<Manga> findByTitle(String title);
 
     boolean existsByTitleAndUserId(String title, long userId);
 
+    List<Manga> findAllByUserIdAndTitleIn(long userId, Collection<String> titles);
+
     Page<Manga> findAllByUserId(long userId, Pageable pageable);
 
+    Window<Manga> findAllByUserId(long userId, ScrollPosition scrollPosition, Sort sort, Limit limit);
+
+    Window<Manga> findAllByUserIdAndUpdatedAtBefore(long userId, LocalDateTime updatedAt, ScrollPosition scrollPosition, Sort sort, Limit limit);
+
+    @Query("SELECT m.updatedAt FROM Manga m WHERE m.id = :id AND m.user.id = :userId")
+    Optional<LocalDateTime> findUpdatedAtByIdAndUserId(@Param("id") long id, @Param("userId") long userId);
+
     @Query("SELECT AVG(m.rating) FROM Manga m WHERE m.user.id = :userId")
     Optional<Double> findAverageRatingByUserId(@Param("userId") long userId);
 
-    @Query("SELECT m FROM Manga m WHERE m.user.id = :userId " +
+    @Query("SELECT m.rating AS rating, COUNT(m) AS entryCount FROM Manga m WHERE m.user.id = :userId AND m.rating IS NOT NULL GROUP BY m.rating")
+    List<RatingCount> countRatingsByUserId(@Param("userId") long userId);
+
+    String FILTERS_QUERY = "SELECT m FROM Manga m WHERE m.user.id = :userId " +
             "AND (:title IS NULL OR LOWER(m.title) LIKE LOWER(CONCAT('%', :title, '%'))) " +
             "AND (:status IS NULL OR m.status = :status) " +
             "AND (:rating IS NULL OR m.rating = :rating) " +
-            "AND (:isFavorite IS NULL OR m.isFavorite = :isFavorite) ")
-    List<Manga> findAllByUserIdAndFilters(
+            "AND (:isFavorite IS NULL OR m.isFavorite = :isFavorite)";
+
+    @Query(FILTERS_QUERY)
+    Page<Manga> findAllByUserIdAndFilters(
+            @Param("userId") long userId,
+            @Param("title") String title,
+            @Param("status") MangaStatus status,
+            @Param("rating") Integer rating,
+            @Param("isFavorite") Boolean isFavorite,
+            Pageable pageable
+    );
+
+    @Query(FILTERS_QUERY)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ApplicationConstants.STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Manga> streamAllByUserIdAndFilters(
             @Param("userId") long userId,
             @Param("title") String title,
             @Param("status") MangaStatus status,
             @Param("rating") Integer rating,
             @Param("isFavorite") Boolean isFavorite
     );
+
+    // Ordered by ID so the scan follows the user index, which already holds its rows in primary key order
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ApplicationConstants.STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Manga> streamAllByUserIdOrderById(long userId);
 }
@@ -0,0 +1,25 @@
+package com.aimanecouissi.animerestapi.repository;
+
+import com.aimanecouissi.animerestapi.entity.RatingSummary;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface RatingSummaryRepository extends JpaRepository<RatingSummary, Long> {
+    Optional<RatingSummary> findByUserIdAndLibraryType(long userId, LibraryType libraryType);
+
+    boolean existsByUserIdAndLibraryType(long userId, LibraryType libraryType);
+
+    // Concurrent writes to the same library queue on the summary row instead of losing updates
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<RatingSummary> findForUpdateByUserIdAndLibraryType(long userId, LibraryType libraryType);
+
+    @Query("SELECT u.id FROM User u WHERE NOT EXISTS (SELECT s FROM RatingSummary s WHERE s.user = u AND s.libraryType = :libraryType)")
+    List<Long> findUserIdsWithoutSummary(@Param("libraryType") LibraryType libraryType);
+}
@@ -0,0 +1,7 @@
+package com.aimanecouissi.animerestapi.repository.projection;
+
+public interface RatingCount {
+    Integer getRating();
+
+    long getEntryCount();
+}
@@ -0,0 +1,26 @@
+package com.aimanecouissi.animerestapi.scheduler;
+
+import com.aimanecouissi.animerestapi.security.RateLimitStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops the buckets of clients that have been idle long enough to refill, so one-off IPs do not pile up in memory.
+ */
+@Slf4j
+@Component
+public class RateLimitEvictionJob {
+    private final RateLimitStore rateLimitStore;
+
+    public RateLimitEvictionJob(RateLimitStore rateLimitStore) {
+        this.rateLimitStore = rateLimitStore;
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval}")
+    public int evictIdleBuckets() {
+        int evictedBuckets = rateLimitStore.evictIdle();
+        log.debug("Rate limit buckets evicted: {}", evictedBuckets);
+        return evictedBuckets;
+    }
+}
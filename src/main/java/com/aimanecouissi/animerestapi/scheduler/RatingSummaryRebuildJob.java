@@ -0,0 +1,39 @@
+package com.aimanecouissi.animerestapi.scheduler;
+
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import com.aimanecouissi.animerestapi.repository.UserRepository;
+import com.aimanecouissi.animerestapi.service.RatingSummaryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recomputes every rating summary from the library rows and reports the ones that had drifted.
+ * Each summary is rebuilt in its own transaction so the job never holds more than one lock at a time.
+ */
+@Slf4j
+@Component
+public class RatingSummaryRebuildJob {
+    private final UserRepository userRepository;
+    private final RatingSummaryService ratingSummaryService;
+
+    public RatingSummaryRebuildJob(UserRepository userRepository, RatingSummaryService ratingSummaryService) {
+        this.userRepository = userRepository;
+        this.ratingSummaryService = ratingSummaryService;
+    }
+
+    @Scheduled(cron = "${app.rating-summary.rebuild-cron}")
+    public int rebuildAll() {
+        int driftedSummaries = 0;
+        for (long userId : userRepository.findAllIds()) {
+            for (LibraryType libraryType : LibraryType.values()) {
+                if (ratingSummaryService.rebuildSummary(userId, libraryType)) {
+                    log.warn("Rating summary of user {} for {} had drifted and was rebuilt", userId, libraryType);
+                    driftedSummaries++;
+                }
+            }
+        }
+        log.info("Rating summaries rebuilt, {} had drifted", driftedSummaries);
+        return driftedSummaries;
+    }
+}
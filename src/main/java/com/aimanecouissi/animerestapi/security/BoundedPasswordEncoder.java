@@ -0,0 +1,114 @@
+package com.aimanecouissi.animerestapi.security;
+
+import com.aimanecouissi.animerestapi.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Runs the hashing of a delegate encoder on a small pool of its own with a bounded queue, so a burst of logins
+ * competes for those threads only instead of every CPU of the API. Once the queue is full callers are turned away at
+ * once rather than left to wait behind it.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+    public static final String QUEUE_WAIT = "app.security.password.queue-wait";
+    public static final String HASH_TIME = "app.security.password.hash";
+    public static final String QUEUE_DEPTH = "app.security.password.queue-depth";
+    public static final String REJECTED = "app.security.password.rejected";
+    private static final String BUSY_MESSAGE = "Too many passwords are being checked right now, please retry shortly.";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.meterRegistry = meterRegistry;
+        this.rejected = Counter.builder(REJECTED)
+                .description("Password hashes refused because the hashing queue was full")
+                .register(meterRegistry);
+        Gauge.builder(QUEUE_DEPTH, executor, pool -> pool.getQueue().size())
+                .description("Password hashes waiting for a hashing thread")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return hash("encode", () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return hash("matches", () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // Only reads the cost from the stored hash, nothing to offload. Rehashing is left to a later login while others
+        // are queued, an upgrade must not cost a waiting caller its turn
+        return executor.getQueue().isEmpty() && delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> T hash(String operation, Supplier<T> hashing) {
+        long submittedAt = monotonicTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = monotonicTime();
+                timer(QUEUE_WAIT, "Time a password hash waited for a hashing thread", operation).record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return hashing.get();
+                } finally {
+                    timer(HASH_TIME, "Time spent hashing a password", operation).record(monotonicTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw new ServiceBusyException(BUSY_MESSAGE);
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException(BUSY_MESSAGE);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private Timer timer(String name, String description, String operation) {
+        return Timer.builder(name)
+                .description(description)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private long monotonicTime() {
+        return meterRegistry.config().clock().monotonicTime();
+    }
+}
@@ -0,0 +1,71 @@
+package com.aimanecouissi.animerestapi.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt encoder whose cost is measured on the running machine instead of fixed in code. A stored hash below the
+ * calibrated cost asks to be upgraded, so existing passwords get stronger on their next login. A hash above it is kept,
+ * a slower node calibrating lower must not weaken the passwords hashed by a faster one.
+ */
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+    // Spring's default strength, hashes never get cheaper than this whatever the hardware
+    public static final int MIN_COST = 10;
+    // Each step doubles the hashing time, this bounds how long calibration can take on a very fast machine
+    public static final int MAX_COST = 16;
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}$");
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    private final int cost;
+
+    public CalibratedBCryptPasswordEncoder(int cost) {
+        super(cost);
+        this.cost = cost;
+    }
+
+    public static CalibratedBCryptPasswordEncoder calibrate(Duration targetTime) {
+        return new CalibratedBCryptPasswordEncoder(calibrateCost(targetTime));
+    }
+
+    /**
+     * Returns the highest cost whose hash still fits in the target time, never below {@link #MIN_COST}.
+     * The next cost is only measured when twice the current time fits, so calibration stays within about twice the
+     * target.
+     */
+    public static int calibrateCost(Duration targetTime) {
+        long targetNanos = targetTime.toNanos();
+        // Warms up the JIT, the first hash is much slower than the following ones
+        hashTime(MIN_COST);
+        int cost = MIN_COST;
+        long elapsed = hashTime(cost);
+        while (cost < MAX_COST && elapsed * 2 <= targetNanos) {
+            cost++;
+            elapsed = hashTime(cost);
+        }
+        return elapsed > targetNanos && cost > MIN_COST ? cost - 1 : cost;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    // Unlike the parent, a hash that is not BCrypt is left alone instead of failing the login
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        return matcher.matches() && Integer.parseInt(matcher.group(1)) < cost;
+    }
+
+    private static long hashTime(int cost) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        long startedAt = System.nanoTime();
+        encoder.encode(CALIBRATION_PASSWORD);
+        return System.nanoTime() - startedAt;
+    }
+}
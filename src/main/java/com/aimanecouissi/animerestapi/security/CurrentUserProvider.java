@@ -0,0 +1,39 @@
+package com.aimanecouissi.animerestapi.security;
+
+import com.aimanecouissi.animerestapi.entity.User;
+import com.aimanecouissi.animerestapi.exception.ResourceNotFoundException;
+import com.aimanecouissi.animerestapi.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CurrentUserProvider {
+    private final EntityManager entityManager;
+    private final UserRepository userRepository;
+
+    public CurrentUserProvider(EntityManager entityManager, UserRepository userRepository) {
+        this.entityManager = entityManager;
+        this.userRepository = userRepository;
+    }
+
+    public long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            throw new AuthenticationCredentialsNotFoundException("No authenticated user found in the security context.");
+        }
+        if (authentication.getPrincipal() instanceof UserPrincipal userPrincipal) {
+            return userPrincipal.getId();
+        }
+        // Authentications that did not come from a JWT (e.g. mock users) carry no ID
+        String username = authentication.getName();
+        return userRepository.findIdByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
+    }
+
+    public User getCurrentUserReference() {
+        return entityManager.getReference(User.class, getCurrentUserId());
+    }
+}
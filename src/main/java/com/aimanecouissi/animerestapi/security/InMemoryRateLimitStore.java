@@ -0,0 +1,61 @@
+package com.aimanecouissi.animerestapi.security;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token buckets, each kept as the single long of the generic cell rate algorithm: the time at which the
+ * bucket will be full again. Taking a token is one compare-and-set on that long, and the map only locks a bin when a
+ * new key is added, so clients on different keys never wait for each other.
+ */
+public class InMemoryRateLimitStore implements RateLimitStore {
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final LongSupplier nanoTime;
+
+    public InMemoryRateLimitStore() {
+        this(System::nanoTime);
+    }
+
+    InMemoryRateLimitStore(LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+    }
+
+    @Override
+    public long tryConsume(String key, long capacity, long periodNanos) {
+        long interval = Math.max(1, periodNanos / capacity);
+        long burstTolerance = periodNanos - interval;
+        AtomicLong fullAt = buckets.computeIfAbsent(key, k -> new AtomicLong(nanoTime.getAsLong()));
+        while (true) {
+            long now = nanoTime.getAsLong();
+            long current = fullAt.get();
+            // Compared through differences, nanoTime may overflow
+            long start = current - now > 0 ? current : now;
+            long backlog = start - now;
+            if (backlog > burstTolerance) {
+                return backlog - burstTolerance;
+            }
+            if (fullAt.compareAndSet(current, start + interval)) {
+                return 0;
+            }
+        }
+    }
+
+    @Override
+    public int evictIdle() {
+        // A token taken while its bucket is being dropped is forgotten, at worst one request more gets through
+        long now = nanoTime.getAsLong();
+        int evicted = 0;
+        for (Map.Entry<String, AtomicLong> bucket : buckets.entrySet()) {
+            if (bucket.getValue().get() - now <= 0 && buckets.remove(bucket.getKey(), bucket.getValue())) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    int size() {
+        return buckets.size();
+    }
+}
@@ -1,56 +1,73 @@
 package com.aimanecouissi.animerestapi.security;
 
 import com.aimanecouissi.animerestapi.exception.JwtAuthenticationException;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
-import java.security.Key;
 import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Component
 public class JwtTokenProvider {
+    private static final String ID_CLAIM = "id";
+    private static final String ROLES_CLAIM = "roles";
 
-    @Value("${app.jwt.secret}")
-    private String jwtSecret;
+    private final SecretKey secretKey;
+    private final JwtParser jwtParser;
+    private final long jwtExpiration;
+    private final long jwtFreshnessWindow;
 
-    @Value("${app.jwt.expiration}")
-    private long jwtExpiration;
+    public JwtTokenProvider(
+            @Value("${app.jwt.secret}") String jwtSecret,
+            @Value("${app.jwt.expiration}") long jwtExpiration,
+            @Value("${app.jwt.freshness-window:0}") long jwtFreshnessWindow
+    ) {
+        this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.jwtExpiration = jwtExpiration;
+        this.jwtFreshnessWindow = jwtFreshnessWindow;
+    }
 
     public String generateToken(Authentication authentication) {
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        List<String> roles = userPrincipal.getAuthorities()
+                .stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
         return Jwts.builder()
-                .subject(authentication.getName())
+                .subject(userPrincipal.getUsername())
+                .claim(ID_CLAIM, userPrincipal.getId())
+                .claim(ROLES_CLAIM, roles)
                 .issuedAt(new Date())
                 .expiration(new Date(new Date().getTime() + jwtExpiration))
-                .signWith(key())
+                .signWith(secretKey)
                 .compact();
     }
 
-    public String getUsername(String token) {
-        return Jwts.parser()
-                .verifyWith((SecretKey) key())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
-    }
-
-    public boolean validateToken(String token) {
+    public Claims parseAndValidate(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith((SecretKey) key())
-                    .build()
-                    .parse(token);
-            return true;
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (MalformedJwtException malformedJwtException) {
             throw new JwtAuthenticationException("Invalid JWT token");
+        } catch (SecurityException securityException) {
+            throw new JwtAuthenticationException("Invalid JWT signature");
         } catch (ExpiredJwtException expiredJwtException) {
             throw new JwtAuthenticationException("Expired JWT token");
         } catch (UnsupportedJwtException unsupportedJwtException) {
@@ -60,7 +77,22 @@ public class JwtTokenProvider {
         }
     }
 
-    private Key key() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+    public UserPrincipal getUserPrincipal(Claims claims) {
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+        if (claims.get(ID_CLAIM) == null || roles == null) {
+            throw new JwtAuthenticationException("JWT token is missing required claims");
+        }
+        Set<GrantedAuthority> grantedAuthorities = roles.stream()
+                .map(role -> new SimpleGrantedAuthority(role.toString()))
+                .collect(Collectors.toSet());
+        return new UserPrincipal(claims.get(ID_CLAIM, Long.class), claims.getSubject(), null, grantedAuthorities);
+    }
+
+    public boolean isFresh(Claims claims) {
+        if (jwtFreshnessWindow <= 0) {
+            return true;
+        }
+        Date issuedAt = claims.getIssuedAt();
+        return issuedAt != null && new Date().getTime() - issuedAt.getTime() <= jwtFreshnessWindow;
     }
 }
@@ -0,0 +1,139 @@
+package com.aimanecouissi.animerestapi.security;
+
+import com.aimanecouissi.animerestapi.configuration.RateLimitProperties;
+import com.aimanecouissi.animerestapi.enums.RateLimitKey;
+import com.aimanecouissi.animerestapi.payload.response.SingleErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Answers 429 to a client that has used up its tokens for the route group of the request. The filter is registered
+ * twice: keyed by IP ahead of the JWT filter, so floods are turned away before any token is verified, and keyed by
+ * user right after it, the user being known only once the token is.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+    public static final String RATE_LIMIT_REJECTED = "app.security.rate-limit.rejected";
+
+    private final RateLimitKey rateLimitKey;
+    private final List<Route> routes;
+    private final RateLimitStore rateLimitStore;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitFilter(RateLimitKey rateLimitKey, RateLimitProperties rateLimitProperties, RateLimitStore rateLimitStore, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.rateLimitKey = rateLimitKey;
+        this.routes = routes(rateLimitKey, rateLimitProperties);
+        this.rateLimitStore = rateLimitStore;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @Nonnull HttpServletRequest request,
+            @Nonnull HttpServletResponse response,
+            @Nonnull FilterChain filterChain
+    ) throws ServletException, IOException {
+        // A group without a limit for this key still claims its routes, they do not fall back to a broader group
+        Route route = findRoute(request);
+        String client = route == null || route.limit() == null ? null : getClient(request);
+        if (client != null) {
+            String key = route.group() + ":" + rateLimitKey + ":" + client;
+            long waitNanos = rateLimitStore.tryConsume(key, route.limit().capacity(), route.limit().period().toNanos());
+            if (waitNanos > 0) {
+                reject(response, route.group(), waitNanos);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    // Both registrations share the class, each needs its own marker or the second one would skip every request
+    @Override
+    protected String getAlreadyFilteredAttributeName() {
+        return super.getAlreadyFilteredAttributeName() + "." + rateLimitKey;
+    }
+
+    private Route findRoute(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (Route route : routes) {
+            if (route.pattern().matches(path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private String getClient(HttpServletRequest request) {
+        if (rateLimitKey == RateLimitKey.IP) {
+            return request.getRemoteAddr();
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal userPrincipal) {
+            return String.valueOf(userPrincipal.getId());
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response, String group, long waitNanos) throws IOException {
+        Counter.builder(RATE_LIMIT_REJECTED)
+                .description("Requests refused because the client had used up its rate limit")
+                .tag("group", group)
+                .tag("key", rateLimitKey.name())
+                .register(meterRegistry)
+                .increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        SingleErrorResponse errorResponse = SingleErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase())
+                .message("Too many requests, please retry in " + retryAfterSeconds + " seconds.")
+                .build();
+        PrintWriter writer = response.getWriter();
+        writer.write(objectMapper.writeValueAsString(errorResponse));
+        writer.flush();
+    }
+
+    // Most specific pattern first, so /api/v1/anime/search is not swallowed by /api/**
+    private static List<Route> routes(RateLimitKey rateLimitKey, RateLimitProperties rateLimitProperties) {
+        List<Route> routes = new ArrayList<>();
+        for (Map.Entry<String, RateLimitProperties.Group> group : rateLimitProperties.groups().entrySet()) {
+            RateLimitProperties.Limit limit = rateLimitKey == RateLimitKey.IP ? group.getValue().ip() : group.getValue().user();
+            for (String pattern : group.getValue().patterns()) {
+                routes.add(new Route(PathPatternParser.defaultInstance.parse(pattern), group.getKey(), limit));
+            }
+        }
+        routes.sort(Comparator.comparing(Route::pattern, PathPattern.SPECIFICITY_COMPARATOR));
+        return List.copyOf(routes);
+    }
+
+    private record Route(PathPattern pattern, String group, RateLimitProperties.Limit limit) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.aimanecouissi.animerestapi.security;
+
+/**
+ * Token buckets of the rate limiter. The in-memory store limits each node on its own; a store shared between nodes,
+ * e.g. backed by Redis, can be declared as a bean in its place to enforce the limits cluster-wide.
+ */
+public interface RateLimitStore {
+    /**
+     * Takes a token from the bucket of the key, a bucket holding up to {@code capacity} tokens and refilled evenly over
+     * {@code periodNanos}.
+     *
+     * @return 0 when a token was taken, otherwise the nanoseconds until one will be available
+     */
+    long tryConsume(String key, long capacity, long periodNanos);
+
+    /**
+     * Drops the buckets that have refilled completely, which hold nothing a fresh bucket would not.
+     *
+     * @return the number of buckets dropped
+     */
+    int evictIdle();
+}
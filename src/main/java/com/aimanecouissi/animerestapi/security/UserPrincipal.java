@@ -0,0 +1,23 @@
+package com.aimanecouissi.animerestapi.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+
+@Getter
+@AllArgsConstructor
+public class UserPrincipal implements UserDetails, CredentialsContainer {
+    private final long id;
+    private final String username;
+    private String password;
+    private final Collection<? extends GrantedAuthority> authorities;
+
+    @Override
+    public void eraseCredentials() {
+        this.password = null;
+    }
+}
@@ -3,14 +3,16 @@ package com.aimanecouissi.animerestapi.seeder;
 import com.aimanecouissi.animerestapi.entity.*;
 import com.aimanecouissi.animerestapi.enums.AnimeStatus;
 import com.aimanecouissi.animerestapi.enums.AnimeType;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
 import com.aimanecouissi.animerestapi.enums.MangaStatus;
 import com.aimanecouissi.animerestapi.exception.ResourceNotFoundException;
 import com.aimanecouissi.animerestapi.repository.*;
-import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
+import com.aimanecouissi.animerestapi.service.RatingSummaryService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -19,10 +21,12 @@ import java.util.Set;
 public class DatabaseSeeder implements CommandLineRunner {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordEncoder passwordEncoder;
     private final StudioRepository studioRepository;
     private final AnimeRepository animeRepository;
     private final MangaRepository mangaRepository;
+    private final RatingSummaryRepository ratingSummaryRepository;
+    private final RatingSummaryService ratingSummaryService;
 
     @Value("${app.admin.first-name}")
     private String ADMIN_FIRST_NAME;
@@ -39,10 +43,12 @@ public class DatabaseSeeder implements CommandLineRunner {
     public DatabaseSeeder(
             UserRepository userRepository,
             RoleRepository roleRepository,
-            BCryptPasswordEncoder passwordEncoder,
+            PasswordEncoder passwordEncoder,
             StudioRepository studioRepository,
             AnimeRepository animeRepository,
-            MangaRepository mangaRepository
+            MangaRepository mangaRepository,
+            RatingSummaryRepository ratingSummaryRepository,
+            RatingSummaryService ratingSummaryService
     ) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
@@ -50,12 +56,16 @@ public class DatabaseSeeder implements CommandLineRunner {
         this.studioRepository = studioRepository;
         this.animeRepository = animeRepository;
         this.mangaRepository = mangaRepository;
+        this.ratingSummaryRepository = ratingSummaryRepository;
+        this.ratingSummaryService = ratingSummaryService;
     }
 
     @Override
+    @Transactional
     public void run(String... args) {
         seedRoles();
         seedUsers();
+        seedRatingSummaries();
     }
 
     private void seedRoles() {
@@ -90,6 +100,14 @@ public class DatabaseSeeder implements CommandLineRunner {
         }
     }
 
+    private void seedRatingSummaries() {
+        // Users registered before rating summaries existed get theirs computed from their current library
+        for (LibraryType libraryType : LibraryType.values()) {
+            ratingSummaryRepository.findUserIdsWithoutSummary(libraryType)
+                    .forEach(userId -> ratingSummaryService.rebuildSummary(userId, libraryType));
+        }
+    }
+
     private void seedStudios() {
         saveStudioIfNotExist("Studio Ghibli");
         saveStudioIfNotExist("Madhouse");
@@ -125,7 +143,7 @@ public class DatabaseSeeder implements CommandLineRunner {
     }
 
     private void saveAnimeIfNotExist(String title, AnimeType type, AnimeStatus status, int rating, boolean favorite, boolean complete, Studio studio, User user) {
-        if (animeRepository.findByTitle(title).isEmpty()) {
+        if (!animeRepository.existsByTitleAndUserId(title, user.getId())) {
             Anime anime = Anime.builder()
                     .title(title)
                     .type(type)
@@ -150,7 +168,7 @@ public class DatabaseSeeder implements CommandLineRunner {
     }
 
     private void saveMangaIfNotExist(String title, MangaStatus status, int rating, boolean favorite, User user) {
-        if (mangaRepository.findByTitle(title).isEmpty()) {
+        if (!mangaRepository.existsByTitleAndUserId(title, user.getId())) {
             Manga manga = Manga.builder()
                     .title(title)
                     .status(status)
@@ -3,24 +3,42 @@ package com.aimanecouissi.animerestapi.service;
 import com.aimanecouissi.animerestapi.enums.AnimeStatus;
 import com.aimanecouissi.animerestapi.enums.AnimeType;
 import com.aimanecouissi.animerestapi.payload.dto.AnimeDTO;
+import com.aimanecouissi.animerestapi.payload.response.AnimeBatchResponse;
+import com.aimanecouissi.animerestapi.payload.response.AnimeCursorPaginatedResponse;
 import com.aimanecouissi.animerestapi.payload.response.AnimePaginatedResponse;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface AnimeService {
     AnimeDTO createAnime(AnimeDTO animeDTO);
 
     AnimePaginatedResponse getAllAnime(int pageNo, int pageSize, String sortBy, String sortDir);
 
+    AnimeCursorPaginatedResponse getAllAnimeByCursor(String cursor, int pageSize, String sortBy, String sortDir);
+
     AnimeDTO getAnimeById(long id);
 
+    Optional<String> getAnimeETag(long id);
+
+    String getAnimeLibraryETag();
+
     AnimeDTO updateAnime(long id, AnimeDTO animeDTO);
 
     void deleteAnime(long id);
 
+    AnimeBatchResponse createAnimeBatch(List<AnimeDTO> animeDTOs);
+
+    AnimeBatchResponse updateAnimeBatch(List<AnimeDTO> animeDTOs);
+
+    AnimeBatchResponse deleteAnimeBatch(List<Long> ids);
+
     List<AnimeDTO> getAnimeByStudioId(long studioId);
 
-    List<AnimeDTO> searchAnime(String title, AnimeType type, AnimeStatus status, Integer rating, Boolean isFavorite, Boolean isComplete);
+    AnimePaginatedResponse searchAnime(String title, AnimeType type, AnimeStatus status, Integer rating, Boolean isFavorite, Boolean isComplete, int pageNo, int pageSize, String sortBy, String sortDir);
+
+    void streamAnime(String title, AnimeType type, AnimeStatus status, Integer rating, Boolean isFavorite, Boolean isComplete, Consumer<AnimeDTO> consumer);
 
     Double getMeanRating();
 }
@@ -4,7 +4,7 @@ import com.aimanecouissi.animerestapi.payload.dto.LoginDTO;
 import com.aimanecouissi.animerestapi.payload.dto.RegisterDTO;
 
 public interface AuthenticationService {
-    String login(LoginDTO loginDTO);
+    String login(LoginDTO loginDTO, String clientIp);
 
     LoginDTO register(RegisterDTO registerDTO);
 }
@@ -0,0 +1,10 @@
+package com.aimanecouissi.animerestapi.service;
+
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import com.aimanecouissi.animerestapi.payload.dto.LibraryEntryDTO;
+
+import java.util.function.Consumer;
+
+public interface ExportService {
+    void exportLibrary(LibraryType libraryType, Consumer<LibraryEntryDTO> consumer);
+}
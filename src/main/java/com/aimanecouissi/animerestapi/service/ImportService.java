@@ -0,0 +1,17 @@
+package com.aimanecouissi.animerestapi.service;
+
+import com.aimanecouissi.animerestapi.enums.FileFormat;
+import com.aimanecouissi.animerestapi.payload.response.ImportJobResponse;
+
+import java.io.InputStream;
+import java.util.List;
+
+public interface ImportService {
+    ImportJobResponse importAnime(FileFormat format, InputStream inputStream);
+
+    ImportJobResponse importManga(FileFormat format, InputStream inputStream);
+
+    ImportJobResponse getImportJob(String id);
+
+    List<ImportJobResponse> getImportJobs();
+}
@@ -0,0 +1,15 @@
+package com.aimanecouissi.animerestapi.service;
+
+import com.aimanecouissi.animerestapi.entity.User;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import com.aimanecouissi.animerestapi.payload.response.LibraryVersionResponse;
+
+public interface LibraryVersionService {
+    void createVersions(User user);
+
+    void incrementVersion(long userId, LibraryType libraryType);
+
+    long getVersion(long userId, LibraryType libraryType);
+
+    LibraryVersionResponse getLibraryVersion();
+}
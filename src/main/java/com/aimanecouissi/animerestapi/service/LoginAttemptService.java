@@ -0,0 +1,9 @@
+package com.aimanecouissi.animerestapi.service;
+
+public interface LoginAttemptService {
+    void checkAllowed(String username, String clientIp);
+
+    void recordFailure(String username, String clientIp);
+
+    void recordSuccess(String username);
+}
@@ -2,22 +2,40 @@ package com.aimanecouissi.animerestapi.service;
 
 import com.aimanecouissi.animerestapi.enums.MangaStatus;
 import com.aimanecouissi.animerestapi.payload.dto.MangaDTO;
+import com.aimanecouissi.animerestapi.payload.response.MangaBatchResponse;
+import com.aimanecouissi.animerestapi.payload.response.MangaCursorPaginatedResponse;
 import com.aimanecouissi.animerestapi.payload.response.MangaPaginatedResponse;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface MangaService {
     MangaDTO createManga(MangaDTO mangaDTO);
 
     MangaPaginatedResponse getAllManga(int pageNo, int pageSize, String sortBy, String sortDir);
 
+    MangaCursorPaginatedResponse getAllMangaByCursor(String cursor, int pageSize, String sortBy, String sortDir);
+
     MangaDTO getMangaById(long id);
 
+    Optional<String> getMangaETag(long id);
+
+    String getMangaLibraryETag();
+
     MangaDTO updateManga(long id, MangaDTO mangaDTO);
 
     void deleteManga(long id);
 
-    List<MangaDTO> searchManga(String title, MangaStatus status, Integer rating, Boolean isFavorite);
+    MangaBatchResponse createMangaBatch(List<MangaDTO> mangaDTOs);
+
+    MangaBatchResponse updateMangaBatch(List<MangaDTO> mangaDTOs);
+
+    MangaBatchResponse deleteMangaBatch(List<Long> ids);
+
+    MangaPaginatedResponse searchManga(String title, MangaStatus status, Integer rating, Boolean isFavorite, int pageNo, int pageSize, String sortBy, String sortDir);
+
+    void streamManga(String title, MangaStatus status, Integer rating, Boolean isFavorite, Consumer<MangaDTO> consumer);
 
     Double getMeanRating();
 }
@@ -0,0 +1,18 @@
+package com.aimanecouissi.animerestapi.service;
+
+import com.aimanecouissi.animerestapi.entity.User;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+
+import java.util.List;
+
+public interface RatingSummaryService {
+    void createSummaries(User user);
+
+    void recordRatingChange(long userId, LibraryType libraryType, Integer previousRating, Integer newRating);
+
+    void recordRatingChanges(long userId, LibraryType libraryType, List<Integer> previousRatings, List<Integer> newRatings);
+
+    double getMeanRating(long userId, LibraryType libraryType);
+
+    boolean rebuildSummary(long userId, LibraryType libraryType);
+}
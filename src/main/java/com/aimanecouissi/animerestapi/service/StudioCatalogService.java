@@ -0,0 +1,7 @@
+package com.aimanecouissi.animerestapi.service;
+
+import com.aimanecouissi.animerestapi.utility.StudioCatalog;
+
+public interface StudioCatalogService {
+    StudioCatalog getCatalog();
+}
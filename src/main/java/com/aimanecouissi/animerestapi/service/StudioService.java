@@ -3,14 +3,19 @@ package com.aimanecouissi.animerestapi.service;
 import com.aimanecouissi.animerestapi.payload.dto.StudioDTO;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface StudioService {
     StudioDTO createStudio(StudioDTO studioDTO);
 
     List<StudioDTO> getAllStudios();
 
+    String getAllStudiosETag();
+
     StudioDTO getStudioById(long id);
 
+    Optional<String> getStudioETag(long id);
+
     StudioDTO updateStudio(long id, StudioDTO studioDTO);
 
     void deleteStudio(long id);
@@ -0,0 +1,12 @@
+package com.aimanecouissi.animerestapi.service;
+
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import com.aimanecouissi.animerestapi.payload.response.SyncResponse;
+
+import java.util.Collection;
+
+public interface SyncService {
+    SyncResponse getChanges(String since, int pageSize);
+
+    void recordDeletions(long userId, LibraryType libraryType, Collection<Long> entryIds);
+}
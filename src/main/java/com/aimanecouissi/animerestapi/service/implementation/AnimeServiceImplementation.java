@@ -5,154 +5,410 @@ import com.aimanecouissi.animerestapi.entity.Studio;
 import com.aimanecouissi.animerestapi.entity.User;
 import com.aimanecouissi.animerestapi.enums.AnimeStatus;
 import com.aimanecouissi.animerestapi.enums.AnimeType;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
 import com.aimanecouissi.animerestapi.exception.ResourceNotFoundException;
 import com.aimanecouissi.animerestapi.exception.UnauthorizedOperationException;
 import com.aimanecouissi.animerestapi.exception.UniqueFieldException;
+import com.aimanecouissi.animerestapi.mapper.AnimeMapper;
 import com.aimanecouissi.animerestapi.payload.dto.AnimeDTO;
+import com.aimanecouissi.animerestapi.payload.response.AnimeBatchResponse;
+import com.aimanecouissi.animerestapi.payload.response.AnimeCursorPaginatedResponse;
 import com.aimanecouissi.animerestapi.payload.response.AnimePaginatedResponse;
+import com.aimanecouissi.animerestapi.payload.response.BatchItemResult;
 import com.aimanecouissi.animerestapi.repository.AnimeRepository;
-import com.aimanecouissi.animerestapi.repository.StudioRepository;
-import com.aimanecouissi.animerestapi.repository.UserRepository;
+import com.aimanecouissi.animerestapi.security.CurrentUserProvider;
 import com.aimanecouissi.animerestapi.service.AnimeService;
-import org.modelmapper.ModelMapper;
+import com.aimanecouissi.animerestapi.service.LibraryVersionService;
+import com.aimanecouissi.animerestapi.service.RatingSummaryService;
+import com.aimanecouissi.animerestapi.service.StudioCatalogService;
+import com.aimanecouissi.animerestapi.service.SyncService;
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
+import com.aimanecouissi.animerestapi.utility.ConstraintViolations;
+import com.aimanecouissi.animerestapi.utility.ETags;
+import com.aimanecouissi.animerestapi.utility.KeysetCursor;
+import com.aimanecouissi.animerestapi.utility.StudioCatalog;
+import com.aimanecouissi.animerestapi.utility.TitleCollation;
+import jakarta.persistence.EntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class AnimeServiceImplementation implements AnimeService {
+    // Non-nullable columns only, parsed back from their cursor representation
+    private static final Map<String, Function<String, Object>> CURSOR_SORT_KEYS = Map.of(
+            "id", Long::parseLong,
+            "title", value -> value,
+            "type", AnimeType::valueOf,
+            "status", AnimeStatus::valueOf,
+            "createdAt", LocalDateTime::parse
+    );
+    private static final String ANIME_ACCESS_DENIED = "You do not have permission to access this anime.";
+
     private final AnimeRepository animeRepository;
-    private final StudioRepository studioRepository;
-    private final UserRepository userRepository;
-    private final ModelMapper modelMapper;
+    private final StudioCatalogService studioCatalogService;
+    private final CurrentUserProvider currentUserProvider;
+    private final AnimeMapper animeMapper;
+    private final RatingSummaryService ratingSummaryService;
+    private final LibraryVersionService libraryVersionService;
+    private final SyncService syncService;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
 
-    public AnimeServiceImplementation(AnimeRepository animeRepository, StudioRepository studioRepository, UserRepository userRepository, ModelMapper modelMapper) {
+    public AnimeServiceImplementation(AnimeRepository animeRepository, StudioCatalogService studioCatalogService, CurrentUserProvider currentUserProvider, AnimeMapper animeMapper, RatingSummaryService ratingSummaryService, LibraryVersionService libraryVersionService, SyncService syncService, EntityManager entityManager, PlatformTransactionManager transactionManager) {
         this.animeRepository = animeRepository;
-        this.studioRepository = studioRepository;
-        this.userRepository = userRepository;
-        this.modelMapper = modelMapper;
+        this.studioCatalogService = studioCatalogService;
+        this.currentUserProvider = currentUserProvider;
+        this.animeMapper = animeMapper;
+        this.ratingSummaryService = ratingSummaryService;
+        this.libraryVersionService = libraryVersionService;
+        this.syncService = syncService;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
     @Transactional
     public AnimeDTO createAnime(AnimeDTO animeDTO) {
-        User currentUser = getCurrentUser();
-        if (animeRepository.existsByTitleAndUserId(animeDTO.getTitle(), currentUser.getId())) {
-            throw new UniqueFieldException("Title", animeDTO.getTitle());
-        }
-        Anime anime = toAnime(animeDTO);
+        User currentUser = currentUserProvider.getCurrentUserReference();
+        Anime anime = animeMapper.toAnime(animeDTO);
         Studio studio = getStudioById(animeDTO.getStudioId());
         anime.setStudio(studio);
         anime.setUser(currentUser);
-        return toAnimeDTO(animeRepository.save(anime));
+        Anime savedAnime = saveAnime(anime);
+        ratingSummaryService.recordRatingChange(currentUser.getId(), LibraryType.ANIME, null, savedAnime.getRating());
+        libraryVersionService.incrementVersion(currentUser.getId(), LibraryType.ANIME);
+        return animeMapper.toAnimeDTO(savedAnime);
     }
 
     @Override
     @Transactional(readOnly = true)
     public AnimePaginatedResponse getAllAnime(int pageNo, int pageSize, String sortBy, String sortDir) {
-        User currentUser = getCurrentUser();
+        long currentUserId = currentUserProvider.getCurrentUserId();
         PageRequest pageRequest = PageRequest.of(pageNo, pageSize, Sort.Direction.fromString(sortDir), sortBy);
-        Page<Anime> animePage = animeRepository.findAllByUserId(currentUser.getId(), pageRequest);
+        Page<Anime> animePage = animeRepository.findAllByUserId(currentUserId, pageRequest);
         return toAnimePaginatedResponse(animePage);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public AnimeCursorPaginatedResponse getAllAnimeByCursor(String cursor, int pageSize, String sortBy, String sortDir) {
+        long currentUserId = currentUserProvider.getCurrentUserId();
+        KeysetCursor keysetCursor = StringUtils.hasText(cursor)
+                ? KeysetCursor.decode(cursor, CURSOR_SORT_KEYS)
+                : KeysetCursor.first(sortBy, sortDir, CURSOR_SORT_KEYS);
+        Window<Anime> animeWindow = animeRepository.findAllByUserId(currentUserId, keysetCursor.getScrollPosition(), keysetCursor.getSort(), Limit.of(pageSize));
+        return toAnimeCursorPaginatedResponse(animeWindow, keysetCursor, pageSize);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public AnimeDTO getAnimeById(long id) {
-        Anime anime = getAnimeByIdAndUser(id, getCurrentUser().getId());
-        return toAnimeDTO(anime);
+        Anime anime = getAnimeByIdAndUser(id, currentUserProvider.getCurrentUserId());
+        return animeMapper.toAnimeDTO(anime);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> getAnimeETag(long id) {
+        // Missing or foreign anime gets no tag, so the full lookup still answers it with its 404 or 403
+        return animeRepository.findUpdatedAtByIdAndUserId(id, currentUserProvider.getCurrentUserId())
+                .map(updatedAt -> ETags.of(LibraryType.ANIME, id, updatedAt));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getAnimeLibraryETag() {
+        long currentUserId = currentUserProvider.getCurrentUserId();
+        return ETags.of(LibraryType.ANIME, currentUserId, libraryVersionService.getVersion(currentUserId, LibraryType.ANIME));
     }
 
     @Override
     @Transactional
     public AnimeDTO updateAnime(long id, AnimeDTO animeDTO) {
-        Anime anime = getAnimeByIdAndUser(id, getCurrentUser().getId());
-        if (!anime.getTitle().equals(animeDTO.getTitle()) && animeRepository.existsByTitleAndUserId(animeDTO.getTitle(), anime.getUser().getId())) {
-            throw new UniqueFieldException("Title", animeDTO.getTitle());
-        }
+        Anime anime = getAnimeByIdAndUser(id, currentUserProvider.getCurrentUserId());
         Studio studio = getStudioById(animeDTO.getStudioId());
+        Integer previousRating = anime.getRating();
         updateAnimeFields(anime, animeDTO, studio);
-        return toAnimeDTO(animeRepository.save(anime));
+        Anime savedAnime = saveAnime(anime);
+        ratingSummaryService.recordRatingChange(anime.getUser().getId(), LibraryType.ANIME, previousRating, savedAnime.getRating());
+        libraryVersionService.incrementVersion(anime.getUser().getId(), LibraryType.ANIME);
+        return animeMapper.toAnimeDTO(savedAnime);
     }
 
     @Override
     @Transactional
     public void deleteAnime(long id) {
-        Anime anime = getAnimeByIdAndUser(id, getCurrentUser().getId());
+        long currentUserId = currentUserProvider.getCurrentUserId();
+        Anime anime = getAnimeByIdAndUser(id, currentUserId);
         animeRepository.delete(anime);
+        ratingSummaryService.recordRatingChange(currentUserId, LibraryType.ANIME, anime.getRating(), null);
+        libraryVersionService.incrementVersion(currentUserId, LibraryType.ANIME);
+        syncService.recordDeletions(currentUserId, LibraryType.ANIME, List.of(id));
+    }
+
+    @Override
+    public AnimeBatchResponse createAnimeBatch(List<AnimeDTO> animeDTOs) {
+        return toAnimeBatchResponse(writeBatch(animeDTOs, this::createAnimeEntries));
+    }
+
+    @Override
+    public AnimeBatchResponse updateAnimeBatch(List<AnimeDTO> animeDTOs) {
+        return toAnimeBatchResponse(writeBatch(animeDTOs, this::updateAnimeEntries));
+    }
+
+    @Override
+    @Transactional
+    public AnimeBatchResponse deleteAnimeBatch(List<Long> ids) {
+        long currentUserId = currentUserProvider.getCurrentUserId();
+        Map<Long, Anime> animeById = getAnimeById(ids);
+        Set<Long> batchIds = new HashSet<>();
+        List<BatchItemResult<AnimeDTO>> results = new ArrayList<>(ids.size());
+        List<Anime> deletedAnime = new ArrayList<>();
+        for (int index = 0; index < ids.size(); index++) {
+            long id = ids.get(index);
+            Anime anime = animeById.get(id);
+            if (!batchIds.add(id)) {
+                results.add(BatchItemResult.failure(index, HttpStatus.BAD_REQUEST, String.format("ID '%d' appears more than once in the batch.", id)));
+            } else if (anime == null) {
+                results.add(BatchItemResult.failure(index, HttpStatus.NOT_FOUND, new ResourceNotFoundException("Anime", "ID", String.valueOf(id)).getMessage()));
+            } else if (anime.getUser().getId() != currentUserId) {
+                results.add(BatchItemResult.failure(index, HttpStatus.FORBIDDEN, ANIME_ACCESS_DENIED));
+            } else {
+                deletedAnime.add(anime);
+                results.add(BatchItemResult.success(index, HttpStatus.OK, animeMapper.toAnimeDTO(anime)));
+            }
+        }
+        animeRepository.deleteAll(deletedAnime);
+        ratingSummaryService.recordRatingChanges(currentUserId, LibraryType.ANIME, getRatings(deletedAnime), List.of());
+        if (!deletedAnime.isEmpty()) {
+            libraryVersionService.incrementVersion(currentUserId, LibraryType.ANIME);
+            syncService.recordDeletions(currentUserId, LibraryType.ANIME, deletedAnime.stream().map(Anime::getId).collect(Collectors.toList()));
+        }
+        return toAnimeBatchResponse(results);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<AnimeDTO> getAnimeByStudioId(long studioId) {
         getStudioById(studioId); // Ensure studio exists
-        User currentUser = getCurrentUser();
-        return animeRepository.findByStudioIdAndUserId(studioId, currentUser.getId())
+        long currentUserId = currentUserProvider.getCurrentUserId();
+        return animeRepository.findByStudioIdAndUserId(studioId, currentUserId)
                 .stream()
-                .map(this::toAnimeDTO)
+                .map(animeMapper::toAnimeDTO)
                 .collect(Collectors.toList());
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<AnimeDTO> searchAnime(String title, AnimeType type, AnimeStatus status, Integer rating, Boolean isFavorite, Boolean isComplete) {
-        return animeRepository.findAllByUserIdAndFilters(
-                        getCurrentUser().getId(),
-                        title,
-                        type,
-                        status,
-                        rating,
-                        isFavorite,
-                        isComplete
-                ).stream()
-                .map(this::toAnimeDTO)
-                .collect(Collectors.toList());
+    public AnimePaginatedResponse searchAnime(String title, AnimeType type, AnimeStatus status, Integer rating, Boolean isFavorite, Boolean isComplete, int pageNo, int pageSize, String sortBy, String sortDir) {
+        PageRequest pageRequest = PageRequest.of(pageNo, pageSize, Sort.Direction.fromString(sortDir), sortBy);
+        Page<Anime> animePage = animeRepository.findAllByUserIdAndFilters(
+                currentUserProvider.getCurrentUserId(),
+                title,
+                type,
+                status,
+                rating,
+                isFavorite,
+                isComplete,
+                pageRequest
+        );
+        return toAnimePaginatedResponse(animePage);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAnime(String title, AnimeType type, AnimeStatus status, Integer rating, Boolean isFavorite, Boolean isComplete, Consumer<AnimeDTO> consumer) {
+        try (Stream<Anime> animeStream = animeRepository.streamAllByUserIdAndFilters(
+                currentUserProvider.getCurrentUserId(),
+                title,
+                type,
+                status,
+                rating,
+                isFavorite,
+                isComplete
+        )) {
+            animeStream.forEach(anime -> {
+                consumer.accept(animeMapper.toAnimeDTO(anime));
+                // Keep the persistence context flat however many rows the cursor returns
+                entityManager.detach(anime);
+            });
+        }
     }
 
     @Override
     @Transactional(readOnly = true)
     public Double getMeanRating() {
-        User currentUser = getCurrentUser();
-        return animeRepository.findAverageRatingByUserId(currentUser.getId())
-                .orElse(0.0);
+        return ratingSummaryService.getMeanRating(currentUserProvider.getCurrentUserId(), LibraryType.ANIME);
+    }
+
+    /**
+     * Writes the batch in one transaction. A title taken since the batch was checked fails the whole flush, so the
+     * entries that passed the checks are then written again one transaction each and only the ones whose title is
+     * taken report the conflict. The write fills the results of the entries it rejects and leaves the others null until
+     * they are flushed.
+     */
+    private List<BatchItemResult<AnimeDTO>> writeBatch(List<AnimeDTO> animeDTOs, BiConsumer<List<AnimeDTO>, List<BatchItemResult<AnimeDTO>>> write) {
+        List<BatchItemResult<AnimeDTO>> results = new ArrayList<>(Collections.nCopies(animeDTOs.size(), null));
+        try {
+            transactionTemplate.executeWithoutResult(status -> write.accept(animeDTOs, results));
+            return results;
+        } catch (DataIntegrityViolationException ex) {
+            if (!ConstraintViolations.isUniqueViolation(ex, ApplicationConstants.ANIME_TITLE_CONSTRAINT)) {
+                throw ex;
+            }
+        }
+        for (int index = 0; index < animeDTOs.size(); index++) {
+            if (results.get(index) == null) {
+                results.set(index, writeEntry(index, animeDTOs.get(index), write));
+            }
+        }
+        return results;
+    }
+
+    private BatchItemResult<AnimeDTO> writeEntry(int index, AnimeDTO animeDTO, BiConsumer<List<AnimeDTO>, List<BatchItemResult<AnimeDTO>>> write) {
+        List<BatchItemResult<AnimeDTO>> results = new ArrayList<>(Collections.nCopies(1, null));
+        try {
+            transactionTemplate.executeWithoutResult(status -> write.accept(List.of(animeDTO), results));
+        } catch (DataIntegrityViolationException ex) {
+            if (!ConstraintViolations.isUniqueViolation(ex, ApplicationConstants.ANIME_TITLE_CONSTRAINT)) {
+                throw ex;
+            }
+            return BatchItemResult.failure(index, HttpStatus.CONFLICT, new UniqueFieldException("Title", animeDTO.getTitle()).getMessage());
+        }
+        BatchItemResult<AnimeDTO> result = results.get(0);
+        result.setIndex(index);
+        return result;
     }
 
-    private User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
+    private void createAnimeEntries(List<AnimeDTO> animeDTOs, List<BatchItemResult<AnimeDTO>> results) {
+        User currentUser = currentUserProvider.getCurrentUserReference();
+        StudioCatalog studioCatalog = studioCatalogService.getCatalog();
+        Set<String> takenTitles = animeRepository.findAllByUserIdAndTitleIn(currentUser.getId(), getTitles(animeDTOs))
+                .stream()
+                .map(anime -> TitleCollation.key(anime.getTitle()))
+                .collect(Collectors.toCollection(HashSet::new));
+        Map<Integer, Anime> animeByIndex = new LinkedHashMap<>();
+        for (int index = 0; index < animeDTOs.size(); index++) {
+            AnimeDTO animeDTO = animeDTOs.get(index);
+            if (!takenTitles.add(TitleCollation.key(animeDTO.getTitle()))) {
+                results.set(index, BatchItemResult.failure(index, HttpStatus.CONFLICT, new UniqueFieldException("Title", animeDTO.getTitle()).getMessage()));
+            } else if (studioCatalog.findById(animeDTO.getStudioId()).isEmpty()) {
+                results.set(index, BatchItemResult.failure(index, HttpStatus.NOT_FOUND, new ResourceNotFoundException("Studio", "ID", String.valueOf(animeDTO.getStudioId())).getMessage()));
+            } else {
+                Anime anime = animeMapper.toAnime(animeDTO);
+                anime.setStudio(entityManager.getReference(Studio.class, animeDTO.getStudioId()));
+                anime.setUser(currentUser);
+                animeByIndex.put(index, anime);
+            }
+        }
+        // Pooled ids let Hibernate group the inserts into JDBC batches, the flush surfaces a title taken meanwhile here
+        animeRepository.saveAllAndFlush(animeByIndex.values());
+        animeByIndex.forEach((index, anime) -> results.set(index, BatchItemResult.success(index, HttpStatus.CREATED, animeMapper.toAnimeDTO(anime))));
+        ratingSummaryService.recordRatingChanges(currentUser.getId(), LibraryType.ANIME, List.of(), getRatings(animeByIndex.values()));
+        if (!animeByIndex.isEmpty()) {
+            libraryVersionService.incrementVersion(currentUser.getId(), LibraryType.ANIME);
+        }
+    }
+
+    private void updateAnimeEntries(List<AnimeDTO> animeDTOs, List<BatchItemResult<AnimeDTO>> results) {
+        long currentUserId = currentUserProvider.getCurrentUserId();
+        StudioCatalog studioCatalog = studioCatalogService.getCatalog();
+        Map<Long, Anime> animeById = getAnimeById(animeDTOs.stream().map(AnimeDTO::getId).filter(Objects::nonNull).toList());
+        Map<String, Long> titleOwners = animeRepository.findAllByUserIdAndTitleIn(currentUserId, getTitles(animeDTOs))
+                .stream()
+                .collect(Collectors.toMap(anime -> TitleCollation.key(anime.getTitle()), Anime::getId, (first, second) -> first));
+        Set<Long> batchIds = new HashSet<>();
+        Set<String> batchTitles = new HashSet<>();
+        List<Integer> previousRatings = new ArrayList<>();
+        Map<Integer, Anime> animeByIndex = new LinkedHashMap<>();
+        for (int index = 0; index < animeDTOs.size(); index++) {
+            AnimeDTO animeDTO = animeDTOs.get(index);
+            Long id = animeDTO.getId();
+            Anime anime = id == null ? null : animeById.get(id);
+            String titleKey = TitleCollation.key(animeDTO.getTitle());
+            Long titleOwner = titleOwners.get(titleKey);
+            if (id == null) {
+                results.set(index, BatchItemResult.failure(index, HttpStatus.BAD_REQUEST, "ID is required."));
+            } else if (!batchIds.add(id)) {
+                results.set(index, BatchItemResult.failure(index, HttpStatus.BAD_REQUEST, String.format("ID '%d' appears more than once in the batch.", id)));
+            } else if (anime == null) {
+                results.set(index, BatchItemResult.failure(index, HttpStatus.NOT_FOUND, new ResourceNotFoundException("Anime", "ID", String.valueOf(id)).getMessage()));
+            } else if (anime.getUser().getId() != currentUserId) {
+                results.set(index, BatchItemResult.failure(index, HttpStatus.FORBIDDEN, ANIME_ACCESS_DENIED));
+            } else if ((titleOwner != null && titleOwner != anime.getId()) || !batchTitles.add(titleKey)) {
+                results.set(index, BatchItemResult.failure(index, HttpStatus.CONFLICT, new UniqueFieldException("Title", animeDTO.getTitle()).getMessage()));
+            } else if (studioCatalog.findById(animeDTO.getStudioId()).isEmpty()) {
+                results.set(index, BatchItemResult.failure(index, HttpStatus.NOT_FOUND, new ResourceNotFoundException("Studio", "ID", String.valueOf(animeDTO.getStudioId())).getMessage()));
+            } else {
+                previousRatings.add(anime.getRating());
+                updateAnimeFields(anime, animeDTO, entityManager.getReference(Studio.class, animeDTO.getStudioId()));
+                animeByIndex.put(index, anime);
+            }
+        }
+        animeRepository.saveAllAndFlush(animeByIndex.values());
+        animeByIndex.forEach((index, anime) -> results.set(index, BatchItemResult.success(index, HttpStatus.OK, animeMapper.toAnimeDTO(anime))));
+        ratingSummaryService.recordRatingChanges(currentUserId, LibraryType.ANIME, previousRatings, getRatings(animeByIndex.values()));
+        if (!animeByIndex.isEmpty()) {
+            libraryVersionService.incrementVersion(currentUserId, LibraryType.ANIME);
+        }
     }
 
     private Studio getStudioById(long studioId) {
-        return studioRepository.findById(studioId)
+        // Existence is answered by the cached catalog, the reference avoids loading the studio row
+        return studioCatalogService.getCatalog().findById(studioId)
+                .map(studio -> entityManager.getReference(Studio.class, studio.getId()))
                 .orElseThrow(() -> new ResourceNotFoundException("Studio", "ID", String.valueOf(studioId)));
     }
 
+    private Anime saveAnime(Anime anime) {
+        try {
+            // Flushed here so a title taken by another request is rejected by the unique constraint inside this call
+            return animeRepository.saveAndFlush(anime);
+        } catch (DataIntegrityViolationException ex) {
+            if (ConstraintViolations.isUniqueViolation(ex, ApplicationConstants.ANIME_TITLE_CONSTRAINT)) {
+                throw new UniqueFieldException("Title", anime.getTitle());
+            }
+            throw ex;
+        }
+    }
+
     private Anime getAnimeByIdAndUser(long animeId, long userId) {
         Anime anime = animeRepository.findById(animeId)
                 .orElseThrow(() -> new ResourceNotFoundException("Anime", "ID", String.valueOf(animeId)));
         if (anime.getUser().getId() != userId) {
-            throw new UnauthorizedOperationException("You do not have permission to access this anime.");
+            throw new UnauthorizedOperationException(ANIME_ACCESS_DENIED);
         }
         return anime;
     }
 
-    private AnimeDTO toAnimeDTO(Anime anime) {
-        return modelMapper.map(anime, AnimeDTO.class);
-    }
-
-    private Anime toAnime(AnimeDTO animeDTO) {
-        return modelMapper.map(animeDTO, Anime.class);
-    }
-
     private void updateAnimeFields(Anime anime, AnimeDTO animeDTO, Studio studio) {
         anime.setTitle(animeDTO.getTitle());
         anime.setType(animeDTO.getType());
@@ -163,10 +419,37 @@ public class AnimeServiceImplementation implements AnimeService {
         anime.setComplete(animeDTO.isComplete());
     }
 
+    private Map<Long, Anime> getAnimeById(Collection<Long> ids) {
+        return animeRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(Anime::getId, Function.identity()));
+    }
+
+    private static Set<String> getTitles(List<AnimeDTO> animeDTOs) {
+        return animeDTOs.stream()
+                .map(AnimeDTO::getTitle)
+                .collect(Collectors.toSet());
+    }
+
+    private static List<Integer> getRatings(Collection<Anime> anime) {
+        return anime.stream()
+                .map(Anime::getRating)
+                .collect(Collectors.toList());
+    }
+
+    private AnimeBatchResponse toAnimeBatchResponse(List<BatchItemResult<AnimeDTO>> results) {
+        int succeeded = (int) results.stream().filter(BatchItemResult::isSuccessful).count();
+        return AnimeBatchResponse.builder()
+                .results(results)
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .build();
+    }
+
     private AnimePaginatedResponse toAnimePaginatedResponse(Page<Anime> animePage) {
         List<AnimeDTO> animeDTOs = animePage.getContent()
                 .stream()
-                .map(this::toAnimeDTO)
+                .map(animeMapper::toAnimeDTO)
                 .collect(Collectors.toList());
         return AnimePaginatedResponse.builder()
                 .items(animeDTOs)
@@ -177,4 +460,20 @@ public class AnimeServiceImplementation implements AnimeService {
                 .isLast(animePage.isLast())
                 .build();
     }
+
+    private AnimeCursorPaginatedResponse toAnimeCursorPaginatedResponse(Window<Anime> animeWindow, KeysetCursor keysetCursor, int pageSize) {
+        List<AnimeDTO> animeDTOs = animeWindow.getContent()
+                .stream()
+                .map(animeMapper::toAnimeDTO)
+                .collect(Collectors.toList());
+        String nextCursor = animeWindow.hasNext()
+                ? keysetCursor.next((KeysetScrollPosition) animeWindow.positionAt(animeWindow.size() - 1))
+                : null;
+        return AnimeCursorPaginatedResponse.builder()
+                .items(animeDTOs)
+                .pageSize(pageSize)
+                .nextCursor(nextCursor)
+                .isLast(!animeWindow.hasNext())
+                .build();
+    }
 }
@@ -10,11 +10,15 @@ import com.aimanecouissi.animerestapi.repository.RoleRepository;
 import com.aimanecouissi.animerestapi.repository.UserRepository;
 import com.aimanecouissi.animerestapi.security.JwtTokenProvider;
 import com.aimanecouissi.animerestapi.service.AuthenticationService;
+import com.aimanecouissi.animerestapi.service.LibraryVersionService;
+import com.aimanecouissi.animerestapi.service.LoginAttemptService;
+import com.aimanecouissi.animerestapi.service.RatingSummaryService;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,20 +31,35 @@ public class AuthenticationServiceImplementation implements AuthenticationServic
     private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RatingSummaryService ratingSummaryService;
+    private final LibraryVersionService libraryVersionService;
+    private final LoginAttemptService loginAttemptService;
 
-    public AuthenticationServiceImplementation(AuthenticationManager authenticationManager, UserRepository userRepository, RoleRepository roleRepository, BCryptPasswordEncoder passwordEncoder, JwtTokenProvider jwtTokenProvider) {
+    public AuthenticationServiceImplementation(AuthenticationManager authenticationManager, UserRepository userRepository, RoleRepository roleRepository, PasswordEncoder passwordEncoder, JwtTokenProvider jwtTokenProvider, RatingSummaryService ratingSummaryService, LibraryVersionService libraryVersionService, LoginAttemptService loginAttemptService) {
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.ratingSummaryService = ratingSummaryService;
+        this.libraryVersionService = libraryVersionService;
+        this.loginAttemptService = loginAttemptService;
     }
 
     @Override
-    public String login(LoginDTO loginDTO) {
-        Authentication authentication = authenticateUser(loginDTO.getUsername(), loginDTO.getPassword());
+    public String login(LoginDTO loginDTO, String clientIp) {
+        // Refused before the user lookup and the password hash, which is what a brute force would make us pay for
+        loginAttemptService.checkAllowed(loginDTO.getUsername(), clientIp);
+        Authentication authentication;
+        try {
+            authentication = authenticateUser(loginDTO.getUsername(), loginDTO.getPassword());
+        } catch (BadCredentialsException ex) {
+            loginAttemptService.recordFailure(loginDTO.getUsername(), clientIp);
+            throw ex;
+        }
+        loginAttemptService.recordSuccess(loginDTO.getUsername());
         return jwtTokenProvider.generateToken(authentication);
     }
 
@@ -52,6 +71,9 @@ public class AuthenticationServiceImplementation implements AuthenticationServic
         }
         User user = createUser(registerDTO);
         userRepository.save(user);
+        // Summaries and versions exist before the first write so concurrent writes only ever lock, never insert, them
+        ratingSummaryService.createSummaries(user);
+        libraryVersionService.createVersions(user);
         return LoginDTO.builder()
                 .username(registerDTO.getUsername())
                 .password(registerDTO.getPassword())
@@ -0,0 +1,62 @@
+package com.aimanecouissi.animerestapi.service.implementation;
+
+import com.aimanecouissi.animerestapi.entity.Anime;
+import com.aimanecouissi.animerestapi.entity.Manga;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import com.aimanecouissi.animerestapi.mapper.AnimeMapper;
+import com.aimanecouissi.animerestapi.mapper.MangaMapper;
+import com.aimanecouissi.animerestapi.payload.dto.LibraryEntryDTO;
+import com.aimanecouissi.animerestapi.repository.AnimeRepository;
+import com.aimanecouissi.animerestapi.repository.MangaRepository;
+import com.aimanecouissi.animerestapi.security.CurrentUserProvider;
+import com.aimanecouissi.animerestapi.service.ExportService;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Service
+public class ExportServiceImplementation implements ExportService {
+    private final AnimeRepository animeRepository;
+    private final MangaRepository mangaRepository;
+    private final AnimeMapper animeMapper;
+    private final MangaMapper mangaMapper;
+    private final CurrentUserProvider currentUserProvider;
+    private final EntityManager entityManager;
+
+    public ExportServiceImplementation(AnimeRepository animeRepository, MangaRepository mangaRepository, AnimeMapper animeMapper, MangaMapper mangaMapper, CurrentUserProvider currentUserProvider, EntityManager entityManager) {
+        this.animeRepository = animeRepository;
+        this.mangaRepository = mangaRepository;
+        this.animeMapper = animeMapper;
+        this.mangaMapper = mangaMapper;
+        this.currentUserProvider = currentUserProvider;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportLibrary(LibraryType libraryType, Consumer<LibraryEntryDTO> consumer) {
+        long currentUserId = currentUserProvider.getCurrentUserId();
+        if (libraryType == null || libraryType == LibraryType.ANIME) {
+            try (Stream<Anime> animeStream = animeRepository.streamAllByUserIdOrderById(currentUserId)) {
+                exportEntries(animeStream, animeMapper::toLibraryEntryDTO, consumer);
+            }
+        }
+        if (libraryType == null || libraryType == LibraryType.MANGA) {
+            try (Stream<Manga> mangaStream = mangaRepository.streamAllByUserIdOrderById(currentUserId)) {
+                exportEntries(mangaStream, mangaMapper::toLibraryEntryDTO, consumer);
+            }
+        }
+    }
+
+    private <T> void exportEntries(Stream<T> entities, Function<T, LibraryEntryDTO> toLibraryEntryDTO, Consumer<LibraryEntryDTO> consumer) {
+        entities.forEach(entity -> {
+            consumer.accept(toLibraryEntryDTO.apply(entity));
+            // Keep the persistence context flat however large the library is
+            entityManager.detach(entity);
+        });
+    }
+}
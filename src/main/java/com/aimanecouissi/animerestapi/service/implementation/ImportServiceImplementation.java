@@ -0,0 +1,292 @@
+package com.aimanecouissi.animerestapi.service.implementation;
+
+import com.aimanecouissi.animerestapi.enums.FileFormat;
+import com.aimanecouissi.animerestapi.enums.ImportJobStatus;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import com.aimanecouissi.animerestapi.exception.ResourceNotFoundException;
+import com.aimanecouissi.animerestapi.exception.ServiceBusyException;
+import com.aimanecouissi.animerestapi.payload.dto.AnimeDTO;
+import com.aimanecouissi.animerestapi.payload.dto.MangaDTO;
+import com.aimanecouissi.animerestapi.payload.response.BatchItemResult;
+import com.aimanecouissi.animerestapi.payload.response.BatchResponse;
+import com.aimanecouissi.animerestapi.payload.response.ImportJobResponse;
+import com.aimanecouissi.animerestapi.security.CurrentUserProvider;
+import com.aimanecouissi.animerestapi.service.AnimeService;
+import com.aimanecouissi.animerestapi.service.ImportService;
+import com.aimanecouissi.animerestapi.service.MangaService;
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
+import com.aimanecouissi.animerestapi.utility.ImportJob;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Imports run on a small pool of their own with a bounded queue. The upload is spooled to a temporary file first, so
+ * the request returns as soon as the job is queued and the rows are written after the request stream has closed.
+ */
+@Slf4j
+@Service
+public class ImportServiceImplementation implements ImportService, AutoCloseable {
+    private static final String BUSY_MESSAGE = "Too many imports are running right now, please retry shortly.";
+
+    private final AnimeService animeService;
+    private final MangaService mangaService;
+    private final CurrentUserProvider currentUserProvider;
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper;
+    private final Validator validator;
+    private final int chunkSize;
+    private final Cache<String, ImportJob> importJobs;
+    private final ThreadPoolExecutor executor;
+
+    public ImportServiceImplementation(
+            AnimeService animeService,
+            MangaService mangaService,
+            CurrentUserProvider currentUserProvider,
+            ObjectMapper objectMapper,
+            Validator validator,
+            @Value("${app.import.chunk-size}") int chunkSize,
+            @Value("${app.import.threads}") int threads,
+            @Value("${app.import.queue-capacity}") int queueCapacity,
+            @Value("${app.import.job-retention}") Duration jobRetention
+    ) {
+        this.animeService = animeService;
+        this.mangaService = mangaService;
+        this.currentUserProvider = currentUserProvider;
+        this.objectMapper = objectMapper;
+        this.csvMapper = CsvMapper.builder()
+                .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+                .enable(CsvParser.Feature.TRIM_SPACES)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        this.validator = validator;
+        // Every chunk is written as one batch, so it cannot be larger than a batch request
+        this.chunkSize = Math.min(chunkSize, ApplicationConstants.MAX_BATCH_SIZE);
+        this.importJobs = Caffeine.newBuilder()
+                .expireAfterWrite(jobRetention)
+                .build();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("import-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Override
+    public ImportJobResponse importAnime(FileFormat format, InputStream inputStream) {
+        return importLibrary(LibraryType.ANIME, AnimeDTO.class, format, inputStream, animeService::createAnimeBatch);
+    }
+
+    @Override
+    public ImportJobResponse importManga(FileFormat format, InputStream inputStream) {
+        return importLibrary(LibraryType.MANGA, MangaDTO.class, format, inputStream, mangaService::createMangaBatch);
+    }
+
+    @Override
+    public ImportJobResponse getImportJob(String id) {
+        ImportJob importJob = importJobs.getIfPresent(id);
+        // Jobs of other users are reported as missing rather than forbidden so their IDs cannot be probed
+        if (importJob == null || importJob.getUserId() != currentUserProvider.getCurrentUserId()) {
+            throw new ResourceNotFoundException("Import job", "ID", id);
+        }
+        return toImportJobResponse(importJob);
+    }
+
+    @Override
+    public List<ImportJobResponse> getImportJobs() {
+        long currentUserId = currentUserProvider.getCurrentUserId();
+        return importJobs.asMap()
+                .values()
+                .stream()
+                .filter(importJob -> importJob.getUserId() == currentUserId)
+                .sorted(Comparator.comparing(ImportJob::getStartedAt).reversed())
+                .map(this::toImportJobResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> ImportJobResponse importLibrary(LibraryType libraryType, Class<T> type, FileFormat format, InputStream inputStream, Function<List<T>, ? extends BatchResponse<T>> createBatch) {
+        Path file = spool(inputStream);
+        ImportJob importJob = new ImportJob(currentUserProvider.getCurrentUserId(), libraryType, format);
+        importJobs.put(importJob.getId(), importJob);
+        // The batch services find the user in the security context, which the pool threads get from this request
+        Runnable task = new DelegatingSecurityContextRunnable(
+                () -> importFile(importJob, type, file, createBatch),
+                SecurityContextHolder.getContext()
+        );
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException ex) {
+            importJobs.invalidate(importJob.getId());
+            delete(file);
+            throw new ServiceBusyException(BUSY_MESSAGE);
+        }
+        return toImportJobResponse(importJob);
+    }
+
+    private Path spool(InputStream inputStream) {
+        Path file = null;
+        try {
+            file = Files.createTempFile("import-", ".tmp");
+            Files.copy(inputStream, file, StandardCopyOption.REPLACE_EXISTING);
+            return file;
+        } catch (IOException ex) {
+            delete(file);
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private <T> void importFile(ImportJob importJob, Class<T> type, Path file, Function<List<T>, ? extends BatchResponse<T>> createBatch) {
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            importRows(importJob, type, inputStream, createBatch);
+        } catch (IOException | RuntimeException ex) {
+            // Nobody waits on the pool thread, so the job and the log are the only places the failure is reported
+            if (importJob.getStatus() == ImportJobStatus.RUNNING) {
+                importJob.fail(importJob.getProcessed().get(), ex.getMessage());
+            }
+            log.error("Import job {} failed", importJob.getId(), ex);
+        } finally {
+            delete(file);
+        }
+    }
+
+    private <T> void importRows(ImportJob importJob, Class<T> type, InputStream inputStream, Function<List<T>, ? extends BatchResponse<T>> createBatch) throws IOException {
+        // Only the current chunk is held in memory, whatever the size of the file
+        List<T> chunk = new ArrayList<>(chunkSize);
+        long[] chunkRows = new long[chunkSize];
+        long row = 0;
+        try (MappingIterator<T> rows = readRows(type, importJob.getFormat(), inputStream)) {
+            while (rows.hasNextValue()) {
+                row++;
+                importJob.recordProcessed();
+                T item;
+                try {
+                    item = rows.nextValue();
+                } catch (JsonMappingException ex) {
+                    // The iterator skips the rest of the row, so a badly typed value only rejects its own row
+                    importJob.reject(row, ex.getOriginalMessage());
+                    continue;
+                }
+                Set<ConstraintViolation<T>> violations = validator.validate(item);
+                if (!violations.isEmpty()) {
+                    importJob.reject(row, toErrorMessage(violations));
+                    continue;
+                }
+                chunkRows[chunk.size()] = row;
+                chunk.add(item);
+                if (chunk.size() == chunkSize) {
+                    writeChunk(importJob, chunk, chunkRows, createBatch);
+                }
+            }
+            writeChunk(importJob, chunk, chunkRows, createBatch);
+            importJob.complete();
+        } catch (JsonProcessingException ex) {
+            // Malformed input cannot be resynchronized, the chunks already written stay committed
+            importJob.fail(row, ex.getOriginalMessage());
+        } catch (IOException | RuntimeException ex) {
+            importJob.fail(row, ex.getMessage());
+            throw ex;
+        }
+    }
+
+    private <T> MappingIterator<T> readRows(Class<T> type, FileFormat format, InputStream inputStream) throws IOException {
+        return switch (format) {
+            case CSV -> csvMapper.readerFor(type)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .readValues(inputStream);
+            case NDJSON -> objectMapper.readerFor(type).readValues(inputStream);
+        };
+    }
+
+    private <T> void writeChunk(ImportJob importJob, List<T> chunk, long[] chunkRows, Function<List<T>, ? extends BatchResponse<T>> createBatch) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        // Each chunk is committed in its own transaction by the batch service, which reports a taken title as a failed
+        // entry rather than throwing, so it only rejects its own row
+        BatchResponse<T> batchResponse = createBatch.apply(chunk);
+        for (BatchItemResult<T> result : batchResponse.getResults()) {
+            if (!result.isSuccessful()) {
+                importJob.reject(chunkRows[result.getIndex()], result.getError());
+            }
+        }
+        importJob.recordImported(batchResponse.getSucceeded());
+        chunk.clear();
+        // Writing the job again restarts its retention, so a long import does not expire while it runs
+        importJobs.put(importJob.getId(), importJob);
+    }
+
+    private static <T> String toErrorMessage(Set<ConstraintViolation<T>> violations) {
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static void delete(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("Could not delete import file {}", file, ex);
+        }
+    }
+
+    private ImportJobResponse toImportJobResponse(ImportJob importJob) {
+        return ImportJobResponse.builder()
+                .id(importJob.getId())
+                .libraryType(importJob.getLibraryType())
+                .format(importJob.getFormat())
+                .status(importJob.getStatus())
+                .processed(importJob.getProcessed().get())
+                .imported(importJob.getImported().get())
+                .rejected(importJob.getRejected().get())
+                .errors(importJob.getErrors())
+                .startedAt(importJob.getStartedAt())
+                .finishedAt(importJob.getFinishedAt())
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.aimanecouissi.animerestapi.service.implementation;
+
+import com.aimanecouissi.animerestapi.entity.LibraryVersion;
+import com.aimanecouissi.animerestapi.entity.User;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import com.aimanecouissi.animerestapi.payload.response.LibraryVersionResponse;
+import com.aimanecouissi.animerestapi.repository.LibraryVersionRepository;
+import com.aimanecouissi.animerestapi.security.CurrentUserProvider;
+import com.aimanecouissi.animerestapi.service.LibraryVersionService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Service
+public class LibraryVersionServiceImplementation implements LibraryVersionService {
+    private final LibraryVersionRepository libraryVersionRepository;
+    private final CurrentUserProvider currentUserProvider;
+
+    public LibraryVersionServiceImplementation(LibraryVersionRepository libraryVersionRepository, CurrentUserProvider currentUserProvider) {
+        this.libraryVersionRepository = libraryVersionRepository;
+        this.currentUserProvider = currentUserProvider;
+    }
+
+    @Override
+    @Transactional
+    public void createVersions(User user) {
+        for (LibraryType libraryType : LibraryType.values()) {
+            libraryVersionRepository.save(LibraryVersion.builder()
+                    .userId(user.getId())
+                    .libraryType(libraryType)
+                    .build());
+        }
+    }
+
+    @Override
+    @Transactional
+    public void incrementVersion(long userId, LibraryType libraryType) {
+        if (libraryVersionRepository.incrementVersion(userId, libraryType) == 0) {
+            // Only users created outside registration, such as the seeded admin, reach their first write without a row
+            libraryVersionRepository.save(LibraryVersion.builder()
+                    .userId(userId)
+                    .libraryType(libraryType)
+                    .version(1)
+                    .build());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getVersion(long userId, LibraryType libraryType) {
+        return libraryVersionRepository.findVersionByUserIdAndLibraryType(userId, libraryType).orElse(0L);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public LibraryVersionResponse getLibraryVersion() {
+        Map<LibraryType, Long> versions = new EnumMap<>(LibraryType.class);
+        for (LibraryVersion libraryVersion : libraryVersionRepository.findAllByUserId(currentUserProvider.getCurrentUserId())) {
+            versions.put(libraryVersion.getLibraryType(), libraryVersion.getVersion());
+        }
+        return LibraryVersionResponse.builder()
+                .anime(versions.getOrDefault(LibraryType.ANIME, 0L))
+                .manga(versions.getOrDefault(LibraryType.MANGA, 0L))
+                .build();
+    }
+}
@@ -0,0 +1,117 @@
+package com.aimanecouissi.animerestapi.service.implementation;
+
+import com.aimanecouissi.animerestapi.exception.LoginThrottledException;
+import com.aimanecouissi.animerestapi.service.LoginAttemptService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts failed logins per username and per client IP. Once a key reaches its threshold every further failure blocks
+ * it for twice as long as the previous one, up to the maximum block, and a blocked login is refused before the user
+ * is looked up or any password hashed. Counters are forgotten after the decay time without a new failure, and each
+ * map is bounded so a spray of random usernames cannot grow it without limit.
+ */
+@Service
+public class LoginAttemptServiceImplementation implements LoginAttemptService {
+    public static final String LOGIN_BLOCKED = "app.security.login.blocked";
+
+    private final Cache<String, FailedLogins> usernameFailures;
+    private final Cache<String, FailedLogins> ipFailures;
+    private final int maxUsernameFailures;
+    private final int maxIpFailures;
+    private final long baseBlockNanos;
+    private final long maxBlockNanos;
+    private final Ticker ticker;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public LoginAttemptServiceImplementation(
+            @Value("${app.login-throttle.username.max-failures}") int maxUsernameFailures,
+            @Value("${app.login-throttle.ip.max-failures}") int maxIpFailures,
+            @Value("${app.login-throttle.base-block}") Duration baseBlock,
+            @Value("${app.login-throttle.max-block}") Duration maxBlock,
+            @Value("${app.login-throttle.decay}") Duration decay,
+            @Value("${app.login-throttle.maximum-size}") long maximumSize,
+            MeterRegistry meterRegistry
+    ) {
+        this(maxUsernameFailures, maxIpFailures, baseBlock, maxBlock, decay, maximumSize, meterRegistry, Ticker.systemTicker());
+    }
+
+    public LoginAttemptServiceImplementation(int maxUsernameFailures, int maxIpFailures, Duration baseBlock, Duration maxBlock, Duration decay, long maximumSize, MeterRegistry meterRegistry, Ticker ticker) {
+        // A block never outlives its counter
+        Duration retention = decay.compareTo(maxBlock) < 0 ? maxBlock : decay;
+        this.usernameFailures = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(retention).ticker(ticker).build();
+        this.ipFailures = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(retention).ticker(ticker).build();
+        this.maxUsernameFailures = maxUsernameFailures;
+        this.maxIpFailures = maxIpFailures;
+        this.baseBlockNanos = baseBlock.toNanos();
+        this.maxBlockNanos = maxBlock.toNanos();
+        this.ticker = ticker;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void checkAllowed(String username, String clientIp) {
+        long now = ticker.read();
+        checkAllowed(usernameFailures, usernameKey(username), maxUsernameFailures, now, "username");
+        checkAllowed(ipFailures, clientIp, maxIpFailures, now, "ip");
+    }
+
+    @Override
+    public void recordFailure(String username, String clientIp) {
+        long now = ticker.read();
+        recordFailure(usernameFailures, usernameKey(username), maxUsernameFailures, now);
+        recordFailure(ipFailures, clientIp, maxIpFailures, now);
+    }
+
+    // The IP counter is left to decay, or logging into an own account would clear the failures on someone else's
+    @Override
+    public void recordSuccess(String username) {
+        usernameFailures.invalidate(usernameKey(username));
+    }
+
+    private void checkAllowed(Cache<String, FailedLogins> failures, String key, int maxFailures, long now, String keyType) {
+        FailedLogins failedLogins = failures.getIfPresent(key);
+        if (failedLogins != null && failedLogins.count() >= maxFailures && failedLogins.blockedUntil() - now > 0) {
+            Counter.builder(LOGIN_BLOCKED)
+                    .description("Logins refused because of previous failures")
+                    .tag("key", keyType)
+                    .register(meterRegistry)
+                    .increment();
+            long retryAfterSeconds = TimeUnit.NANOSECONDS.toSeconds(failedLogins.blockedUntil() - now + TimeUnit.SECONDS.toNanos(1) - 1);
+            throw new LoginThrottledException(retryAfterSeconds);
+        }
+    }
+
+    private void recordFailure(Cache<String, FailedLogins> failures, String key, int maxFailures, long now) {
+        failures.asMap().compute(key, (k, failedLogins) -> {
+            int count = failedLogins == null ? 1 : failedLogins.count() + 1;
+            return new FailedLogins(count, count < maxFailures ? now : now + blockNanos(count - maxFailures));
+        });
+    }
+
+    private long blockNanos(int failuresOverThreshold) {
+        // Doubles with every failure past the threshold, capped before the shift would carry bits out of the long
+        return failuresOverThreshold >= Long.numberOfLeadingZeros(baseBlockNanos) - 1
+                ? maxBlockNanos
+                : Math.min(baseBlockNanos << failuresOverThreshold, maxBlockNanos);
+    }
+
+    // Usernames may match case-insensitively in the database, they are counted the same way
+    private static String usernameKey(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    private record FailedLogins(int count, long blockedUntil) {
+    }
+}
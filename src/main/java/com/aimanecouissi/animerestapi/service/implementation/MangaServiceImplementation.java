@@ -2,131 +2,374 @@ package com.aimanecouissi.animerestapi.service.implementation;
 
 import com.aimanecouissi.animerestapi.entity.Manga;
 import com.aimanecouissi.animerestapi.entity.User;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
 import com.aimanecouissi.animerestapi.enums.MangaStatus;
 import com.aimanecouissi.animerestapi.exception.ResourceNotFoundException;
 import com.aimanecouissi.animerestapi.exception.UnauthorizedOperationException;
 import com.aimanecouissi.animerestapi.exception.UniqueFieldException;
+import com.aimanecouissi.animerestapi.mapper.MangaMapper;
 import com.aimanecouissi.animerestapi.payload.dto.MangaDTO;
+import com.aimanecouissi.animerestapi.payload.response.BatchItemResult;
+import com.aimanecouissi.animerestapi.payload.response.MangaBatchResponse;
+import com.aimanecouissi.animerestapi.payload.response.MangaCursorPaginatedResponse;
 import com.aimanecouissi.animerestapi.payload.response.MangaPaginatedResponse;
 import com.aimanecouissi.animerestapi.repository.MangaRepository;
-import com.aimanecouissi.animerestapi.repository.UserRepository;
+import com.aimanecouissi.animerestapi.security.CurrentUserProvider;
+import com.aimanecouissi.animerestapi.service.LibraryVersionService;
 import com.aimanecouissi.animerestapi.service.MangaService;
-import org.modelmapper.ModelMapper;
+import com.aimanecouissi.animerestapi.service.RatingSummaryService;
+import com.aimanecouissi.animerestapi.service.SyncService;
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
+import com.aimanecouissi.animerestapi.utility.ConstraintViolations;
+import com.aimanecouissi.animerestapi.utility.ETags;
+import com.aimanecouissi.animerestapi.utility.KeysetCursor;
+import com.aimanecouissi.animerestapi.utility.TitleCollation;
+import jakarta.persistence.EntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class MangaServiceImplementation implements MangaService {
+    // Non-nullable columns only, parsed back from their cursor representation
+    private static final Map<String, Function<String, Object>> CURSOR_SORT_KEYS = Map.of(
+            "id", Long::parseLong,
+            "title", value -> value,
+            "status", MangaStatus::valueOf,
+            "createdAt", LocalDateTime::parse
+    );
+    private static final String MANGA_ACCESS_DENIED = "You do not have permission to access this manga.";
+
     private final MangaRepository mangaRepository;
-    private final UserRepository userRepository;
-    private final ModelMapper modelMapper;
+    private final CurrentUserProvider currentUserProvider;
+    private final MangaMapper mangaMapper;
+    private final RatingSummaryService ratingSummaryService;
+    private final LibraryVersionService libraryVersionService;
+    private final SyncService syncService;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
 
-    public MangaServiceImplementation(MangaRepository mangaRepository, UserRepository userRepository, ModelMapper modelMapper) {
+    public MangaServiceImplementation(MangaRepository mangaRepository, CurrentUserProvider currentUserProvider, MangaMapper mangaMapper, RatingSummaryService ratingSummaryService, LibraryVersionService libraryVersionService, SyncService syncService, EntityManager entityManager, PlatformTransactionManager transactionManager) {
         this.mangaRepository = mangaRepository;
-        this.userRepository = userRepository;
-        this.modelMapper = modelMapper;
+        this.currentUserProvider = currentUserProvider;
+        this.mangaMapper = mangaMapper;
+        this.ratingSummaryService = ratingSummaryService;
+        this.libraryVersionService = libraryVersionService;
+        this.syncService = syncService;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
     @Transactional
     public MangaDTO createManga(MangaDTO mangaDTO) {
-        User currentUser = getCurrentUser();
-        if (mangaRepository.existsByTitleAndUserId(mangaDTO.getTitle(), currentUser.getId())) {
-            throw new UniqueFieldException("Title", mangaDTO.getTitle());
-        }
-        Manga manga = toManga(mangaDTO);
+        User currentUser = currentUserProvider.getCurrentUserReference();
+        Manga manga = mangaMapper.toManga(mangaDTO);
         manga.setUser(currentUser);
-        return toMangaDTO(mangaRepository.save(manga));
+        Manga savedManga = saveManga(manga);
+        ratingSummaryService.recordRatingChange(currentUser.getId(), LibraryType.MANGA, null, savedManga.getRating());
+        libraryVersionService.incrementVersion(currentUser.getId(), LibraryType.MANGA);
+        return mangaMapper.toMangaDTO(savedManga);
     }
 
     @Override
     @Transactional(readOnly = true)
     public MangaPaginatedResponse getAllManga(int pageNo, int pageSize, String sortBy, String sortDir) {
-        User currentUser = getCurrentUser();
+        long currentUserId = currentUserProvider.getCurrentUserId();
         PageRequest pageRequest = PageRequest.of(pageNo, pageSize, Sort.Direction.fromString(sortDir), sortBy);
-        Page<Manga> mangaPage = mangaRepository.findAllByUserId(currentUser.getId(), pageRequest);
+        Page<Manga> mangaPage = mangaRepository.findAllByUserId(currentUserId, pageRequest);
         return toMangaPaginatedResponse(mangaPage);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public MangaCursorPaginatedResponse getAllMangaByCursor(String cursor, int pageSize, String sortBy, String sortDir) {
+        long currentUserId = currentUserProvider.getCurrentUserId();
+        KeysetCursor keysetCursor = StringUtils.hasText(cursor)
+                ? KeysetCursor.decode(cursor, CURSOR_SORT_KEYS)
+                : KeysetCursor.first(sortBy, sortDir, CURSOR_SORT_KEYS);
+        Window<Manga> mangaWindow = mangaRepository.findAllByUserId(currentUserId, keysetCursor.getScrollPosition(), keysetCursor.getSort(), Limit.of(pageSize));
+        return toMangaCursorPaginatedResponse(mangaWindow, keysetCursor, pageSize);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public MangaDTO getMangaById(long id) {
-        Manga manga = getMangaByIdAndUser(id, getCurrentUser().getId());
-        return toMangaDTO(manga);
+        Manga manga = getMangaByIdAndUser(id, currentUserProvider.getCurrentUserId());
+        return mangaMapper.toMangaDTO(manga);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> getMangaETag(long id) {
+        // Missing or foreign manga gets no tag, so the full lookup still answers it with its 404 or 403
+        return mangaRepository.findUpdatedAtByIdAndUserId(id, currentUserProvider.getCurrentUserId())
+                .map(updatedAt -> ETags.of(LibraryType.MANGA, id, updatedAt));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getMangaLibraryETag() {
+        long currentUserId = currentUserProvider.getCurrentUserId();
+        return ETags.of(LibraryType.MANGA, currentUserId, libraryVersionService.getVersion(currentUserId, LibraryType.MANGA));
     }
 
     @Override
     @Transactional
     public MangaDTO updateManga(long id, MangaDTO mangaDTO) {
-        Manga manga = getMangaByIdAndUser(id, getCurrentUser().getId());
-        if (!manga.getTitle().equals(mangaDTO.getTitle()) && mangaRepository.existsByTitleAndUserId(mangaDTO.getTitle(), manga.getUser().getId())) {
-            throw new UniqueFieldException("Title", mangaDTO.getTitle());
-        }
+        Manga manga = getMangaByIdAndUser(id, currentUserProvider.getCurrentUserId());
+        Integer previousRating = manga.getRating();
         updateMangaFields(manga, mangaDTO);
-        return toMangaDTO(mangaRepository.save(manga));
+        Manga savedManga = saveManga(manga);
+        ratingSummaryService.recordRatingChange(manga.getUser().getId(), LibraryType.MANGA, previousRating, savedManga.getRating());
+        libraryVersionService.incrementVersion(manga.getUser().getId(), LibraryType.MANGA);
+        return mangaMapper.toMangaDTO(savedManga);
     }
 
     @Override
     @Transactional
     public void deleteManga(long id) {
-        Manga manga = getMangaByIdAndUser(id, getCurrentUser().getId());
+        long currentUserId = currentUserProvider.getCurrentUserId();
+        Manga manga = getMangaByIdAndUser(id, currentUserId);
         mangaRepository.delete(manga);
+        ratingSummaryService.recordRatingChange(currentUserId, LibraryType.MANGA, manga.getRating(), null);
+        libraryVersionService.incrementVersion(currentUserId, LibraryType.MANGA);
+        syncService.recordDeletions(currentUserId, LibraryType.MANGA, List.of(id));
+    }
+
+    @Override
+    public MangaBatchResponse createMangaBatch(List<MangaDTO> mangaDTOs) {
+        return toMangaBatchResponse(writeBatch(mangaDTOs, this::createMangaEntries));
+    }
+
+    @Override
+    public MangaBatchResponse updateMangaBatch(List<MangaDTO> mangaDTOs) {
+        return toMangaBatchResponse(writeBatch(mangaDTOs, this::updateMangaEntries));
+    }
+
+    @Override
+    @Transactional
+    public MangaBatchResponse deleteMangaBatch(List<Long> ids) {
+        long currentUserId = currentUserProvider.getCurrentUserId();
+        Map<Long, Manga> mangaById = getMangaById(ids);
+        Set<Long> batchIds = new HashSet<>();
+        List<BatchItemResult<MangaDTO>> results = new ArrayList<>(ids.size());
+        List<Manga> deletedManga = new ArrayList<>();
+        for (int index = 0; index < ids.size(); index++) {
+            long id = ids.get(index);
+            Manga manga = mangaById.get(id);
+            if (!batchIds.add(id)) {
+                results.add(BatchItemResult.failure(index, HttpStatus.BAD_REQUEST, String.format("ID '%d' appears more than once in the batch.", id)));
+            } else if (manga == null) {
+                results.add(BatchItemResult.failure(index, HttpStatus.NOT_FOUND, new ResourceNotFoundException("Manga", "ID", String.valueOf(id)).getMessage()));
+            } else if (manga.getUser().getId() != currentUserId) {
+                results.add(BatchItemResult.failure(index, HttpStatus.FORBIDDEN, MANGA_ACCESS_DENIED));
+            } else {
+                deletedManga.add(manga);
+                results.add(BatchItemResult.success(index, HttpStatus.OK, mangaMapper.toMangaDTO(manga)));
+            }
+        }
+        mangaRepository.deleteAll(deletedManga);
+        ratingSummaryService.recordRatingChanges(currentUserId, LibraryType.MANGA, getRatings(deletedManga), List.of());
+        if (!deletedManga.isEmpty()) {
+            libraryVersionService.incrementVersion(currentUserId, LibraryType.MANGA);
+            syncService.recordDeletions(currentUserId, LibraryType.MANGA, deletedManga.stream().map(Manga::getId).collect(Collectors.toList()));
+        }
+        return toMangaBatchResponse(results);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<MangaDTO> searchManga(String title, MangaStatus status, Integer rating, Boolean isFavorite) {
-        return mangaRepository.findAllByUserIdAndFilters(
-                        getCurrentUser().getId(),
-                        title,
-                        status,
-                        rating,
-                        isFavorite
-                ).stream()
-                .map(this::toMangaDTO)
-                .collect(Collectors.toList());
+    public MangaPaginatedResponse searchManga(String title, MangaStatus status, Integer rating, Boolean isFavorite, int pageNo, int pageSize, String sortBy, String sortDir) {
+        PageRequest pageRequest = PageRequest.of(pageNo, pageSize, Sort.Direction.fromString(sortDir), sortBy);
+        Page<Manga> mangaPage = mangaRepository.findAllByUserIdAndFilters(
+                currentUserProvider.getCurrentUserId(),
+                title,
+                status,
+                rating,
+                isFavorite,
+                pageRequest
+        );
+        return toMangaPaginatedResponse(mangaPage);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamManga(String title, MangaStatus status, Integer rating, Boolean isFavorite, Consumer<MangaDTO> consumer) {
+        try (Stream<Manga> mangaStream = mangaRepository.streamAllByUserIdAndFilters(
+                currentUserProvider.getCurrentUserId(),
+                title,
+                status,
+                rating,
+                isFavorite
+        )) {
+            mangaStream.forEach(manga -> {
+                consumer.accept(mangaMapper.toMangaDTO(manga));
+                // Keep the persistence context flat however many rows the cursor returns
+                entityManager.detach(manga);
+            });
+        }
     }
 
     @Override
     @Transactional(readOnly = true)
     public Double getMeanRating() {
-        User currentUser = getCurrentUser();
-        return mangaRepository.findAverageRatingByUserId(currentUser.getId())
-                .orElse(0.0);
+        return ratingSummaryService.getMeanRating(currentUserProvider.getCurrentUserId(), LibraryType.MANGA);
+    }
+
+    /**
+     * Writes the batch in one transaction. A title taken since the batch was checked fails the whole flush, so the
+     * entries that passed the checks are then written again one transaction each and only the ones whose title is
+     * taken report the conflict. The write fills the results of the entries it rejects and leaves the others null until
+     * they are flushed.
+     */
+    private List<BatchItemResult<MangaDTO>> writeBatch(List<MangaDTO> mangaDTOs, BiConsumer<List<MangaDTO>, List<BatchItemResult<MangaDTO>>> write) {
+        List<BatchItemResult<MangaDTO>> results = new ArrayList<>(Collections.nCopies(mangaDTOs.size(), null));
+        try {
+            transactionTemplate.executeWithoutResult(status -> write.accept(mangaDTOs, results));
+            return results;
+        } catch (DataIntegrityViolationException ex) {
+            if (!ConstraintViolations.isUniqueViolation(ex, ApplicationConstants.MANGA_TITLE_CONSTRAINT)) {
+                throw ex;
+            }
+        }
+        for (int index = 0; index < mangaDTOs.size(); index++) {
+            if (results.get(index) == null) {
+                results.set(index, writeEntry(index, mangaDTOs.get(index), write));
+            }
+        }
+        return results;
+    }
+
+    private BatchItemResult<MangaDTO> writeEntry(int index, MangaDTO mangaDTO, BiConsumer<List<MangaDTO>, List<BatchItemResult<MangaDTO>>> write) {
+        List<BatchItemResult<MangaDTO>> results = new ArrayList<>(Collections.nCopies(1, null));
+        try {
+            transactionTemplate.executeWithoutResult(status -> write.accept(List.of(mangaDTO), results));
+        } catch (DataIntegrityViolationException ex) {
+            if (!ConstraintViolations.isUniqueViolation(ex, ApplicationConstants.MANGA_TITLE_CONSTRAINT)) {
+                throw ex;
+            }
+            return BatchItemResult.failure(index, HttpStatus.CONFLICT, new UniqueFieldException("Title", mangaDTO.getTitle()).getMessage());
+        }
+        BatchItemResult<MangaDTO> result = results.get(0);
+        result.setIndex(index);
+        return result;
     }
 
-    private User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
+    private void createMangaEntries(List<MangaDTO> mangaDTOs, List<BatchItemResult<MangaDTO>> results) {
+        User currentUser = currentUserProvider.getCurrentUserReference();
+        Set<String> takenTitles = mangaRepository.findAllByUserIdAndTitleIn(currentUser.getId(), getTitles(mangaDTOs))
+                .stream()
+                .map(manga -> TitleCollation.key(manga.getTitle()))
+                .collect(Collectors.toCollection(HashSet::new));
+        Map<Integer, Manga> mangaByIndex = new LinkedHashMap<>();
+        for (int index = 0; index < mangaDTOs.size(); index++) {
+            MangaDTO mangaDTO = mangaDTOs.get(index);
+            if (!takenTitles.add(TitleCollation.key(mangaDTO.getTitle()))) {
+                results.set(index, BatchItemResult.failure(index, HttpStatus.CONFLICT, new UniqueFieldException("Title", mangaDTO.getTitle()).getMessage()));
+            } else {
+                Manga manga = mangaMapper.toManga(mangaDTO);
+                manga.setUser(currentUser);
+                mangaByIndex.put(index, manga);
+            }
+        }
+        // Pooled ids let Hibernate group the inserts into JDBC batches, the flush surfaces a title taken meanwhile here
+        mangaRepository.saveAllAndFlush(mangaByIndex.values());
+        mangaByIndex.forEach((index, manga) -> results.set(index, BatchItemResult.success(index, HttpStatus.CREATED, mangaMapper.toMangaDTO(manga))));
+        ratingSummaryService.recordRatingChanges(currentUser.getId(), LibraryType.MANGA, List.of(), getRatings(mangaByIndex.values()));
+        if (!mangaByIndex.isEmpty()) {
+            libraryVersionService.incrementVersion(currentUser.getId(), LibraryType.MANGA);
+        }
+    }
+
+    private void updateMangaEntries(List<MangaDTO> mangaDTOs, List<BatchItemResult<MangaDTO>> results) {
+        long currentUserId = currentUserProvider.getCurrentUserId();
+        Map<Long, Manga> mangaById = getMangaById(mangaDTOs.stream().map(MangaDTO::getId).filter(Objects::nonNull).toList());
+        Map<String, Long> titleOwners = mangaRepository.findAllByUserIdAndTitleIn(currentUserId, getTitles(mangaDTOs))
+                .stream()
+                .collect(Collectors.toMap(manga -> TitleCollation.key(manga.getTitle()), Manga::getId, (first, second) -> first));
+        Set<Long> batchIds = new HashSet<>();
+        Set<String> batchTitles = new HashSet<>();
+        List<Integer> previousRatings = new ArrayList<>();
+        Map<Integer, Manga> mangaByIndex = new LinkedHashMap<>();
+        for (int index = 0; index < mangaDTOs.size(); index++) {
+            MangaDTO mangaDTO = mangaDTOs.get(index);
+            Long id = mangaDTO.getId();
+            Manga manga = id == null ? null : mangaById.get(id);
+            String titleKey = TitleCollation.key(mangaDTO.getTitle());
+            Long titleOwner = titleOwners.get(titleKey);
+            if (id == null) {
+                results.set(index, BatchItemResult.failure(index, HttpStatus.BAD_REQUEST, "ID is required."));
+            } else if (!batchIds.add(id)) {
+                results.set(index, BatchItemResult.failure(index, HttpStatus.BAD_REQUEST, String.format("ID '%d' appears more than once in the batch.", id)));
+            } else if (manga == null) {
+                results.set(index, BatchItemResult.failure(index, HttpStatus.NOT_FOUND, new ResourceNotFoundException("Manga", "ID", String.valueOf(id)).getMessage()));
+            } else if (manga.getUser().getId() != currentUserId) {
+                results.set(index, BatchItemResult.failure(index, HttpStatus.FORBIDDEN, MANGA_ACCESS_DENIED));
+            } else if ((titleOwner != null && titleOwner != manga.getId()) || !batchTitles.add(titleKey)) {
+                results.set(index, BatchItemResult.failure(index, HttpStatus.CONFLICT, new UniqueFieldException("Title", mangaDTO.getTitle()).getMessage()));
+            } else {
+                previousRatings.add(manga.getRating());
+                updateMangaFields(manga, mangaDTO);
+                mangaByIndex.put(index, manga);
+            }
+        }
+        mangaRepository.saveAllAndFlush(mangaByIndex.values());
+        mangaByIndex.forEach((index, manga) -> results.set(index, BatchItemResult.success(index, HttpStatus.OK, mangaMapper.toMangaDTO(manga))));
+        ratingSummaryService.recordRatingChanges(currentUserId, LibraryType.MANGA, previousRatings, getRatings(mangaByIndex.values()));
+        if (!mangaByIndex.isEmpty()) {
+            libraryVersionService.incrementVersion(currentUserId, LibraryType.MANGA);
+        }
+    }
+
+    private Manga saveManga(Manga manga) {
+        try {
+            // Flushed here so a title taken by another request is rejected by the unique constraint inside this call
+            return mangaRepository.saveAndFlush(manga);
+        } catch (DataIntegrityViolationException ex) {
+            if (ConstraintViolations.isUniqueViolation(ex, ApplicationConstants.MANGA_TITLE_CONSTRAINT)) {
+                throw new UniqueFieldException("Title", manga.getTitle());
+            }
+            throw ex;
+        }
     }
 
     private Manga getMangaByIdAndUser(long mangaId, long userId) {
         Manga manga = mangaRepository.findById(mangaId)
                 .orElseThrow(() -> new ResourceNotFoundException("Manga", "ID", String.valueOf(mangaId)));
         if (manga.getUser().getId() != userId) {
-            throw new UnauthorizedOperationException("You do not have permission to access this manga.");
+            throw new UnauthorizedOperationException(MANGA_ACCESS_DENIED);
         }
         return manga;
     }
 
-    private MangaDTO toMangaDTO(Manga manga) {
-        return modelMapper.map(manga, MangaDTO.class);
-    }
-
-    private Manga toManga(MangaDTO mangaDTO) {
-        return modelMapper.map(mangaDTO, Manga.class);
-    }
-
     private void updateMangaFields(Manga manga, MangaDTO mangaDTO) {
         manga.setTitle(mangaDTO.getTitle());
         manga.setStatus(mangaDTO.getStatus());
@@ -134,10 +377,37 @@ public class MangaServiceImplementation implements MangaService {
         manga.setFavorite(mangaDTO.isFavorite());
     }
 
+    private Map<Long, Manga> getMangaById(Collection<Long> ids) {
+        return mangaRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(Manga::getId, Function.identity()));
+    }
+
+    private static Set<String> getTitles(List<MangaDTO> mangaDTOs) {
+        return mangaDTOs.stream()
+                .map(MangaDTO::getTitle)
+                .collect(Collectors.toSet());
+    }
+
+    private static List<Integer> getRatings(Collection<Manga> manga) {
+        return manga.stream()
+                .map(Manga::getRating)
+                .collect(Collectors.toList());
+    }
+
+    private MangaBatchResponse toMangaBatchResponse(List<BatchItemResult<MangaDTO>> results) {
+        int succeeded = (int) results.stream().filter(BatchItemResult::isSuccessful).count();
+        return MangaBatchResponse.builder()
+                .results(results)
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .build();
+    }
+
     private MangaPaginatedResponse toMangaPaginatedResponse(Page<Manga> mangaPage) {
         List<MangaDTO> mangaDTOs = mangaPage.getContent()
                 .stream()
-                .map(this::toMangaDTO)
+                .map(mangaMapper::toMangaDTO)
                 .collect(Collectors.toList());
         return MangaPaginatedResponse.builder()
                 .items(mangaDTOs)
@@ -148,4 +418,20 @@ public class MangaServiceImplementation implements MangaService {
                 .isLast(mangaPage.isLast())
                 .build();
     }
+
+    private MangaCursorPaginatedResponse toMangaCursorPaginatedResponse(Window<Manga> mangaWindow, KeysetCursor keysetCursor, int pageSize) {
+        List<MangaDTO> mangaDTOs = mangaWindow.getContent()
+                .stream()
+                .map(mangaMapper::toMangaDTO)
+                .collect(Collectors.toList());
+        String nextCursor = mangaWindow.hasNext()
+                ? keysetCursor.next((KeysetScrollPosition) mangaWindow.positionAt(mangaWindow.size() - 1))
+                : null;
+        return MangaCursorPaginatedResponse.builder()
+                .items(mangaDTOs)
+                .pageSize(pageSize)
+                .nextCursor(nextCursor)
+                .isLast(!mangaWindow.hasNext())
+                .build();
+    }
 }
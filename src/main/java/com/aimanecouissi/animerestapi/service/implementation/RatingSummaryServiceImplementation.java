@@ -0,0 +1,149 @@
+package com.aimanecouissi.animerestapi.service.implementation;
+
+import com.aimanecouissi.animerestapi.entity.RatingSummary;
+import com.aimanecouissi.animerestapi.entity.User;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import com.aimanecouissi.animerestapi.repository.AnimeRepository;
+import com.aimanecouissi.animerestapi.repository.MangaRepository;
+import com.aimanecouissi.animerestapi.repository.RatingSummaryRepository;
+import com.aimanecouissi.animerestapi.repository.projection.RatingCount;
+import com.aimanecouissi.animerestapi.service.RatingSummaryService;
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
+import com.aimanecouissi.animerestapi.utility.ConstraintViolations;
+import jakarta.persistence.EntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+public class RatingSummaryServiceImplementation implements RatingSummaryService {
+    private final RatingSummaryRepository ratingSummaryRepository;
+    private final AnimeRepository animeRepository;
+    private final MangaRepository mangaRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate summaryCreationTemplate;
+
+    public RatingSummaryServiceImplementation(RatingSummaryRepository ratingSummaryRepository, AnimeRepository animeRepository, MangaRepository mangaRepository, EntityManager entityManager, PlatformTransactionManager transactionManager) {
+        this.ratingSummaryRepository = ratingSummaryRepository;
+        this.animeRepository = animeRepository;
+        this.mangaRepository = mangaRepository;
+        this.entityManager = entityManager;
+        this.summaryCreationTemplate = new TransactionTemplate(transactionManager);
+        this.summaryCreationTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    @Transactional
+    public void createSummaries(User user) {
+        for (LibraryType libraryType : LibraryType.values()) {
+            ratingSummaryRepository.save(RatingSummary.builder()
+                    .user(user)
+                    .libraryType(libraryType)
+                    .build());
+        }
+    }
+
+    @Override
+    @Transactional
+    public void recordRatingChange(long userId, LibraryType libraryType, Integer previousRating, Integer newRating) {
+        if (Objects.equals(previousRating, newRating)) {
+            return;
+        }
+        recordRatingChanges(userId, libraryType, Collections.singletonList(previousRating), Collections.singletonList(newRating));
+    }
+
+    @Override
+    @Transactional
+    public void recordRatingChanges(long userId, LibraryType libraryType, List<Integer> previousRatings, List<Integer> newRatings) {
+        if (previousRatings.isEmpty() && newRatings.isEmpty()) {
+            return;
+        }
+        // Checked without a lock first, a locking read of a missing row would hold a gap lock that blocks its creation
+        if (!ratingSummaryRepository.existsByUserIdAndLibraryType(userId, libraryType)) {
+            createSummary(userId, libraryType);
+        }
+        // A whole batch is applied under a single lock of the summary row
+        RatingSummary ratingSummary = ratingSummaryRepository.findForUpdateByUserIdAndLibraryType(userId, libraryType)
+                .orElseThrow();
+        previousRatings.forEach(ratingSummary::removeRating);
+        newRatings.forEach(ratingSummary::addRating);
+        ratingSummaryRepository.save(ratingSummary);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public double getMeanRating(long userId, LibraryType libraryType) {
+        return ratingSummaryRepository.findByUserIdAndLibraryType(userId, libraryType)
+                .map(RatingSummary::getMeanRating)
+                .orElse(0.0);
+    }
+
+    @Override
+    @Transactional
+    public boolean rebuildSummary(long userId, LibraryType libraryType) {
+        RatingSummary ratingSummary = ratingSummaryRepository.findForUpdateByUserIdAndLibraryType(userId, libraryType)
+                .orElseGet(() -> RatingSummary.builder()
+                        .user(entityManager.getReference(User.class, userId))
+                        .libraryType(libraryType)
+                        .build());
+        Map<Integer, Long> histogram = countHistogram(userId, libraryType);
+        long count = histogram.values().stream().mapToLong(Long::longValue).sum();
+        long sum = histogram.entrySet().stream().mapToLong(entry -> entry.getKey() * entry.getValue()).sum();
+        boolean drifted = ratingSummary.getRatingCount() != count
+                || ratingSummary.getRatingSum() != sum
+                || !ratingSummary.getHistogram().equals(histogram);
+        if (drifted || ratingSummary.getId() == 0) {
+            ratingSummary.setRatingCount(count);
+            ratingSummary.setRatingSum(sum);
+            ratingSummary.getHistogram().clear();
+            ratingSummary.getHistogram().putAll(histogram);
+            ratingSummaryRepository.save(ratingSummary);
+        }
+        return drifted;
+    }
+
+    private void createSummary(long userId, LibraryType libraryType) {
+        // Committed on its own from the committed library, so the pending change is still applied as a delta. A
+        // concurrent first write that creates the row first leaves this one the row to lock instead of failing.
+        try {
+            summaryCreationTemplate.executeWithoutResult(status -> {
+                Map<Integer, Long> histogram = countHistogram(userId, libraryType);
+                ratingSummaryRepository.saveAndFlush(RatingSummary.builder()
+                        .user(entityManager.getReference(User.class, userId))
+                        .libraryType(libraryType)
+                        .ratingCount(histogram.values().stream().mapToLong(Long::longValue).sum())
+                        .ratingSum(histogram.entrySet().stream().mapToLong(entry -> entry.getKey() * entry.getValue()).sum())
+                        .histogram(histogram)
+                        .build());
+            });
+        } catch (DataIntegrityViolationException ex) {
+            if (!ConstraintViolations.isUniqueViolation(ex, ApplicationConstants.RATING_SUMMARY_CONSTRAINT)) {
+                throw ex;
+            }
+        }
+    }
+
+    private Map<Integer, Long> countHistogram(long userId, LibraryType libraryType) {
+        Map<Integer, Long> histogram = new HashMap<>();
+        for (RatingCount ratingCount : countRatings(userId, libraryType)) {
+            histogram.put(ratingCount.getRating(), ratingCount.getEntryCount());
+        }
+        return histogram;
+    }
+
+    private List<RatingCount> countRatings(long userId, LibraryType libraryType) {
+        return switch (libraryType) {
+            case ANIME -> animeRepository.countRatingsByUserId(userId);
+            case MANGA -> mangaRepository.countRatingsByUserId(userId);
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package com.aimanecouissi.animerestapi.service.implementation;
+
+import com.aimanecouissi.animerestapi.mapper.StudioMapper;
+import com.aimanecouissi.animerestapi.repository.StudioRepository;
+import com.aimanecouissi.animerestapi.service.StudioCatalogService;
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
+import com.aimanecouissi.animerestapi.utility.StudioCatalog;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class StudioCatalogServiceImplementation implements StudioCatalogService {
+    private final StudioRepository studioRepository;
+    private final StudioMapper studioMapper;
+
+    public StudioCatalogServiceImplementation(StudioRepository studioRepository, StudioMapper studioMapper) {
+        this.studioRepository = studioRepository;
+        this.studioMapper = studioMapper;
+    }
+
+    @Override
+    @Cacheable(ApplicationConstants.STUDIO_CATALOG_CACHE)
+    @Transactional(readOnly = true)
+    public StudioCatalog getCatalog() {
+        return new StudioCatalog(studioRepository.findAll()
+                .stream()
+                .map(studioMapper::toStudioDTO)
+                .toList());
+    }
+}
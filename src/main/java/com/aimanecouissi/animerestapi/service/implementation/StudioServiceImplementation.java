@@ -1,82 +1,114 @@
 package com.aimanecouissi.animerestapi.service.implementation;
 
 import com.aimanecouissi.animerestapi.entity.Studio;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
 import com.aimanecouissi.animerestapi.exception.ResourceNotFoundException;
 import com.aimanecouissi.animerestapi.exception.UniqueFieldException;
+import com.aimanecouissi.animerestapi.mapper.StudioMapper;
 import com.aimanecouissi.animerestapi.payload.dto.StudioDTO;
+import com.aimanecouissi.animerestapi.repository.AnimeRepository;
 import com.aimanecouissi.animerestapi.repository.StudioRepository;
+import com.aimanecouissi.animerestapi.repository.projection.AnimeOwner;
+import com.aimanecouissi.animerestapi.service.LibraryVersionService;
+import com.aimanecouissi.animerestapi.service.RatingSummaryService;
+import com.aimanecouissi.animerestapi.service.StudioCatalogService;
 import com.aimanecouissi.animerestapi.service.StudioService;
-import org.modelmapper.ModelMapper;
+import com.aimanecouissi.animerestapi.service.SyncService;
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 public class StudioServiceImplementation implements StudioService {
     private final StudioRepository studioRepository;
-    private final ModelMapper modelMapper;
+    private final StudioMapper studioMapper;
+    private final StudioCatalogService studioCatalogService;
+    private final AnimeRepository animeRepository;
+    private final RatingSummaryService ratingSummaryService;
+    private final LibraryVersionService libraryVersionService;
+    private final SyncService syncService;
 
-    public StudioServiceImplementation(StudioRepository studioRepository, ModelMapper modelMapper) {
+    public StudioServiceImplementation(StudioRepository studioRepository, StudioMapper studioMapper, StudioCatalogService studioCatalogService, AnimeRepository animeRepository, RatingSummaryService ratingSummaryService, LibraryVersionService libraryVersionService, SyncService syncService) {
         this.studioRepository = studioRepository;
-        this.modelMapper = modelMapper;
+        this.studioMapper = studioMapper;
+        this.studioCatalogService = studioCatalogService;
+        this.animeRepository = animeRepository;
+        this.ratingSummaryService = ratingSummaryService;
+        this.libraryVersionService = libraryVersionService;
+        this.syncService = syncService;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = ApplicationConstants.STUDIO_CATALOG_CACHE, allEntries = true)
     public StudioDTO createStudio(StudioDTO studioDTO) {
-        if (studioRepository.existsByName(studioDTO.getName())) {
+        if (studioCatalogService.getCatalog().existsByName(studioDTO.getName())) {
             throw new UniqueFieldException("Name", studioDTO.getName());
         }
-        Studio studio = toStudio(studioDTO);
-        return toStudioDTO(studioRepository.save(studio));
+        Studio studio = studioMapper.toStudio(studioDTO);
+        return studioMapper.toStudioDTO(studioRepository.save(studio));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<StudioDTO> getAllStudios() {
-        return studioRepository.findAll()
-                .stream()
-                .map(this::toStudioDTO)
-                .collect(Collectors.toList());
+        return studioCatalogService.getCatalog().getAll();
+    }
+
+    @Override
+    public String getAllStudiosETag() {
+        return studioCatalogService.getCatalog().getETag();
     }
 
     @Override
-    @Transactional(readOnly = true)
     public StudioDTO getStudioById(long id) {
-        Studio studio = getStudioByIdOrThrow(id);
-        return toStudioDTO(studio);
+        return studioCatalogService.getCatalog().findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Studio", "ID", String.valueOf(id)));
+    }
+
+    @Override
+    public Optional<String> getStudioETag(long id) {
+        return studioCatalogService.getCatalog().findETagById(id);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = ApplicationConstants.STUDIO_CATALOG_CACHE, allEntries = true)
     public StudioDTO updateStudio(long id, StudioDTO studioDTO) {
         Studio studio = getStudioByIdOrThrow(id);
-        if (studioRepository.existsByName(studioDTO.getName()) && !studio.getName().equals(studioDTO.getName())) {
+        if (studioCatalogService.getCatalog().findByName(studioDTO.getName()).filter(existing -> existing.getId() != id).isPresent()) {
             throw new UniqueFieldException("Name", studioDTO.getName());
         }
         studio.setName(studioDTO.getName());
-        return toStudioDTO(studioRepository.save(studio));
+        return studioMapper.toStudioDTO(studioRepository.save(studio));
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = ApplicationConstants.STUDIO_CATALOG_CACHE, allEntries = true)
     public void deleteStudio(long id) {
         Studio studio = getStudioByIdOrThrow(id);
+        // Deleting a studio cascades to the anime of every user, so their rating summaries are recomputed, their
+        // anime libraries move to a new version and the deleted anime are logged for sync
+        Map<Long, List<Long>> animeIdsByUserId = animeRepository.findOwnersByStudioId(id)
+                .stream()
+                .collect(Collectors.groupingBy(AnimeOwner::getUserId, Collectors.mapping(AnimeOwner::getAnimeId, Collectors.toList())));
         studioRepository.delete(studio);
+        studioRepository.flush();
+        animeIdsByUserId.forEach((userId, animeIds) -> {
+            ratingSummaryService.rebuildSummary(userId, LibraryType.ANIME);
+            libraryVersionService.incrementVersion(userId, LibraryType.ANIME);
+            syncService.recordDeletions(userId, LibraryType.ANIME, animeIds);
+        });
     }
 
     private Studio getStudioByIdOrThrow(long id) {
         return studioRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Studio", "ID", String.valueOf(id)));
     }
-
-    private StudioDTO toStudioDTO(Studio studio) {
-        return modelMapper.map(studio, StudioDTO.class);
-    }
-
-    private Studio toStudio(StudioDTO studioDTO) {
-        return modelMapper.map(studioDTO, Studio.class);
-    }
 }
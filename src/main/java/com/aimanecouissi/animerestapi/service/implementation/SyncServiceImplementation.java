@@ -0,0 +1,99 @@
+package com.aimanecouissi.animerestapi.service.implementation;
+
+import com.aimanecouissi.animerestapi.entity.Anime;
+import com.aimanecouissi.animerestapi.entity.LibraryDeletion;
+import com.aimanecouissi.animerestapi.entity.Manga;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import com.aimanecouissi.animerestapi.mapper.AnimeMapper;
+import com.aimanecouissi.animerestapi.mapper.MangaMapper;
+import com.aimanecouissi.animerestapi.payload.dto.TombstoneDTO;
+import com.aimanecouissi.animerestapi.payload.response.SyncResponse;
+import com.aimanecouissi.animerestapi.repository.AnimeRepository;
+import com.aimanecouissi.animerestapi.repository.LibraryDeletionRepository;
+import com.aimanecouissi.animerestapi.repository.MangaRepository;
+import com.aimanecouissi.animerestapi.security.CurrentUserProvider;
+import com.aimanecouissi.animerestapi.service.SyncService;
+import com.aimanecouissi.animerestapi.utility.SyncCursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+@Service
+public class SyncServiceImplementation implements SyncService {
+    private final AnimeRepository animeRepository;
+    private final MangaRepository mangaRepository;
+    private final LibraryDeletionRepository libraryDeletionRepository;
+    private final CurrentUserProvider currentUserProvider;
+    private final AnimeMapper animeMapper;
+    private final MangaMapper mangaMapper;
+    private final Duration settleTime;
+
+    public SyncServiceImplementation(
+            AnimeRepository animeRepository,
+            MangaRepository mangaRepository,
+            LibraryDeletionRepository libraryDeletionRepository,
+            CurrentUserProvider currentUserProvider,
+            AnimeMapper animeMapper,
+            MangaMapper mangaMapper,
+            @Value("${app.sync.settle-time}") Duration settleTime
+    ) {
+        this.animeRepository = animeRepository;
+        this.mangaRepository = mangaRepository;
+        this.libraryDeletionRepository = libraryDeletionRepository;
+        this.currentUserProvider = currentUserProvider;
+        this.animeMapper = animeMapper;
+        this.mangaMapper = mangaMapper;
+        this.settleTime = settleTime;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SyncResponse getChanges(String since, int pageSize) {
+        long currentUserId = currentUserProvider.getCurrentUserId();
+        SyncCursor syncCursor = StringUtils.hasText(since) ? SyncCursor.decode(since) : SyncCursor.first();
+        // A write still in flight may commit with a timestamp older than rows already visible, so only settled rows
+        // are returned and the token never passes one that could still appear behind it
+        LocalDateTime settledBefore = LocalDateTime.now().minus(settleTime);
+        Limit limit = Limit.of(pageSize);
+        Window<Anime> animeWindow = animeRepository.findAllByUserIdAndUpdatedAtBefore(currentUserId, settledBefore, syncCursor.getAnimePosition(), SyncCursor.ENTRY_SORT, limit);
+        Window<Manga> mangaWindow = mangaRepository.findAllByUserIdAndUpdatedAtBefore(currentUserId, settledBefore, syncCursor.getMangaPosition(), SyncCursor.ENTRY_SORT, limit);
+        Window<LibraryDeletion> deletionWindow = libraryDeletionRepository.findAllByUserIdAndDeletedAtBefore(currentUserId, settledBefore, syncCursor.getDeletionPosition(), SyncCursor.DELETION_SORT, limit);
+        return SyncResponse.builder()
+                .anime(animeWindow.stream().map(animeMapper::toAnimeDTO).collect(Collectors.toList()))
+                .manga(mangaWindow.stream().map(mangaMapper::toMangaDTO).collect(Collectors.toList()))
+                .deleted(deletionWindow.stream().map(SyncServiceImplementation::toTombstoneDTO).collect(Collectors.toList()))
+                .pageSize(pageSize)
+                .nextSince(syncCursor.next(animeWindow, mangaWindow, deletionWindow).encode())
+                .isLast(!animeWindow.hasNext() && !mangaWindow.hasNext() && !deletionWindow.hasNext())
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public void recordDeletions(long userId, LibraryType libraryType, Collection<Long> entryIds) {
+        // Pooled ids let Hibernate group the inserts into JDBC batches
+        libraryDeletionRepository.saveAll(entryIds.stream()
+                .map(entryId -> LibraryDeletion.builder()
+                        .userId(userId)
+                        .libraryType(libraryType)
+                        .entryId(entryId)
+                        .build())
+                .collect(Collectors.toList()));
+    }
+
+    private static TombstoneDTO toTombstoneDTO(LibraryDeletion libraryDeletion) {
+        return TombstoneDTO.builder()
+                .library(libraryDeletion.getLibraryType())
+                .id(libraryDeletion.getEntryId())
+                .deletedAt(libraryDeletion.getDeletedAt())
+                .build();
+    }
+}
@@ -5,4 +5,15 @@ public class ApplicationConstants {
     public static final String DEFAULT_PAGE_SIZE = "10";
     public static final String DEFAULT_SORT_BY = "id";
     public static final String DEFAULT_SORT_DIRECTION = "asc";
+    public static final String DEFAULT_SYNC_PAGE_SIZE = "100";
+    public static final String STREAM_FETCH_SIZE = "500";
+    public static final String STUDIO_CATALOG_CACHE = "studioCatalog";
+    public static final int ID_ALLOCATION_SIZE = 50;
+    public static final int MAX_BATCH_SIZE = 2000;
+    public static final int MAX_IMPORT_ERRORS = 100;
+    public static final long RETRY_AFTER_SECONDS = 1;
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    public static final String ANIME_TITLE_CONSTRAINT = "uk_anime_user_id_title";
+    public static final String MANGA_TITLE_CONSTRAINT = "uk_manga_user_id_title";
+    public static final String RATING_SUMMARY_CONSTRAINT = "uk_rating_summaries_user_id_library_type";
 }
@@ -0,0 +1,24 @@
+package com.aimanecouissi.animerestapi.utility;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * Tells which constraint rejected a write, so only the violation a caller expects is turned into a domain error.
+ */
+public class ConstraintViolations {
+
+    private ConstraintViolations() {
+    }
+
+    public static boolean isUniqueViolation(DataIntegrityViolationException ex, String constraintName) {
+        if (!(ex.getCause() instanceof ConstraintViolationException violation) || violation.getConstraintName() == null) {
+            return false;
+        }
+        // MySQL reports the constraint name as declared, H2 reports the upper-cased name of the index behind it
+        return violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE
+                && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(constraintName);
+    }
+}
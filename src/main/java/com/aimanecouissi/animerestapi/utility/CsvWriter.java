@@ -0,0 +1,40 @@
+package com.aimanecouissi.animerestapi.utility;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes a header row followed by one row per value so callers can stream results as they are read
+ * instead of building the whole file in memory first.
+ */
+public class CsvWriter implements Closeable {
+    private final SequenceWriter sequenceWriter;
+
+    public CsvWriter(CsvMapper csvMapper, Class<?> type, OutputStream outputStream) throws IOException {
+        CsvSchema csvSchema = csvMapper.schemaFor(type).withHeader();
+        this.sequenceWriter = csvMapper.writer(csvSchema)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writeValues(outputStream);
+    }
+
+    public void write(Object value) {
+        try {
+            sequenceWriter.write(value);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Flushes the last rows, the response stream itself is left open for the container
+        sequenceWriter.close();
+    }
+}
@@ -0,0 +1,24 @@
+package com.aimanecouissi.animerestapi.utility;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Builds strong entity tags from the values a representation depends on, so a conditional request can be answered
+ * from those values alone, without loading or serializing the resource.
+ */
+public class ETags {
+
+    private ETags() {
+    }
+
+    public static String of(Object... parts) {
+        String source = Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining(":"));
+        return "\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
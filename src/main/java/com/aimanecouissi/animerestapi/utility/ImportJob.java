@@ -0,0 +1,72 @@
+package com.aimanecouissi.animerestapi.utility;
+
+import com.aimanecouissi.animerestapi.enums.FileFormat;
+import com.aimanecouissi.animerestapi.enums.ImportJobStatus;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Getter
+public class ImportJob {
+    private final String id = UUID.randomUUID().toString();
+    private final long userId;
+    private final LibraryType libraryType;
+    private final FileFormat format;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    // Counters are read by progress requests while the importing request is still writing them
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    // Only the first errors are kept so a file full of bad rows cannot grow the job without bound
+    private final List<String> errors = new ArrayList<>();
+    private volatile ImportJobStatus status = ImportJobStatus.RUNNING;
+    private volatile LocalDateTime finishedAt;
+
+    public ImportJob(long userId, LibraryType libraryType, FileFormat format) {
+        this.userId = userId;
+        this.libraryType = libraryType;
+        this.format = format;
+    }
+
+    public void recordProcessed() {
+        processed.incrementAndGet();
+    }
+
+    public void recordImported(int count) {
+        imported.addAndGet(count);
+    }
+
+    public void reject(long row, String error) {
+        rejected.incrementAndGet();
+        addError(String.format("Row %d: %s", row, error));
+    }
+
+    public void complete() {
+        finish(ImportJobStatus.COMPLETED);
+    }
+
+    public void fail(long row, String error) {
+        addError(String.format("Import stopped at row %d: %s", row, error));
+        finish(ImportJobStatus.FAILED);
+    }
+
+    public synchronized List<String> getErrors() {
+        return List.copyOf(errors);
+    }
+
+    private synchronized void addError(String error) {
+        if (errors.size() < ApplicationConstants.MAX_IMPORT_ERRORS) {
+            errors.add(error);
+        }
+    }
+
+    private void finish(ImportJobStatus finalStatus) {
+        finishedAt = LocalDateTime.now();
+        status = finalStatus;
+    }
+}
@@ -0,0 +1,78 @@
+package com.aimanecouissi.animerestapi.utility;
+
+import lombok.Getter;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Opaque cursor for keyset pagination. It carries the sort key, the direction and the
+ * last seen {@code (sortKey, id)} pair so the next page can seek past it instead of using OFFSET.
+ * Only non-nullable sort keys are accepted since NULLs cannot be compared in a row-value predicate.
+ */
+@Getter
+public class KeysetCursor {
+    private static final String ID = "id";
+    private static final String SEPARATOR = "|";
+
+    private final String sortBy;
+    private final Sort.Direction direction;
+    private final Map<String, Object> keys;
+
+    private KeysetCursor(String sortBy, Sort.Direction direction, Map<String, Object> keys) {
+        this.sortBy = sortBy;
+        this.direction = direction;
+        this.keys = keys;
+    }
+
+    public static KeysetCursor first(String sortBy, String sortDir, Map<String, Function<String, Object>> sortKeys) {
+        requireSortKey(sortBy, sortKeys);
+        return new KeysetCursor(sortBy, Sort.Direction.fromString(sortDir), Map.of());
+    }
+
+    public static KeysetCursor decode(String cursor, Map<String, Function<String, Object>> sortKeys) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // The sort value goes last because it is the only part that may contain the separator
+            String[] parts = decoded.split("\\" + SEPARATOR, 4);
+            Sort.Direction direction = Sort.Direction.valueOf(parts[0]);
+            String sortBy = parts[1];
+            requireSortKey(sortBy, sortKeys);
+            Map<String, Object> keys = new LinkedHashMap<>();
+            if (!ID.equals(sortBy)) {
+                keys.put(sortBy, sortKeys.get(sortBy).apply(parts[3]));
+            }
+            keys.put(ID, Long.parseLong(parts[2]));
+            return new KeysetCursor(sortBy, direction, keys);
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public String next(KeysetScrollPosition lastPosition) {
+        Map<String, ?> lastKeys = lastPosition.getKeys();
+        String value = direction.name() + SEPARATOR + sortBy + SEPARATOR + lastKeys.get(ID) + SEPARATOR + lastKeys.get(sortBy);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Sort getSort() {
+        // The ID breaks ties so the seek predicate never skips or repeats rows
+        return ID.equals(sortBy) ? Sort.by(direction, ID) : Sort.by(direction, sortBy, ID);
+    }
+
+    public ScrollPosition getScrollPosition() {
+        return keys.isEmpty() ? ScrollPosition.keyset() : ScrollPosition.forward(keys);
+    }
+
+    private static void requireSortKey(String sortBy, Map<String, Function<String, Object>> sortKeys) {
+        if (!sortKeys.containsKey(sortBy)) {
+            throw new IllegalArgumentException("Cursor pagination does not support sorting by: " + sortBy + ". Supported fields: " + String.join(", ", sortKeys.keySet()));
+        }
+    }
+}
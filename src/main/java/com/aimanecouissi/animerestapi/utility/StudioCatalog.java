@@ -0,0 +1,58 @@
+package com.aimanecouissi.animerestapi.utility;
+
+import com.aimanecouissi.animerestapi.payload.dto.StudioDTO;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Immutable snapshot of every studio, indexed by ID and by name. Studios are a small reference set,
+ * so the whole table is cached as one entry and replaced on every write.
+ */
+public class StudioCatalog {
+    private final Map<Long, StudioDTO> studiosById = new LinkedHashMap<>();
+    // Names are unique regardless of case under the MySQL collation, so lookups ignore case too
+    private final Map<String, StudioDTO> studiosByName = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    // Computed once per snapshot, so conditional requests for studios never touch the database
+    private final String eTag;
+
+    public StudioCatalog(Collection<StudioDTO> studios) {
+        for (StudioDTO studio : studios) {
+            studiosById.put(studio.getId(), studio);
+            studiosByName.put(studio.getName(), studio);
+        }
+        eTag = ETags.of(studiosById.values().stream().map(StudioCatalog::getETag).toArray());
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    public Optional<String> findETagById(long id) {
+        return findById(id).map(StudioCatalog::getETag);
+    }
+
+    public List<StudioDTO> getAll() {
+        return List.copyOf(studiosById.values());
+    }
+
+    public Optional<StudioDTO> findById(long id) {
+        return Optional.ofNullable(studiosById.get(id));
+    }
+
+    public Optional<StudioDTO> findByName(String name) {
+        return Optional.ofNullable(studiosByName.get(name));
+    }
+
+    public boolean existsByName(String name) {
+        return studiosByName.containsKey(name);
+    }
+
+    private static String getETag(StudioDTO studio) {
+        return ETags.of(studio.getId(), studio.getName());
+    }
+}
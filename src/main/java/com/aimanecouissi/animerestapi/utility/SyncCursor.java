@@ -0,0 +1,98 @@
+package com.aimanecouissi.animerestapi.utility;
+
+import lombok.Getter;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Opaque sync token. It carries the last seen {@code (timestamp, id)} pair of the anime, manga and deletion streams,
+ * each paginated on its own, so the next sync seeks past what the client already holds. A plain ISO date-time is
+ * accepted as well and starts every stream at that instant.
+ */
+@Getter
+public class SyncCursor {
+    private static final String UPDATED_AT = "updatedAt";
+    private static final String DELETED_AT = "deletedAt";
+    private static final String ID = "id";
+    private static final String SEPARATOR = "|";
+
+    // The ID breaks ties between rows written in the same instant so the seek predicate never skips or repeats one
+    public static final Sort ENTRY_SORT = Sort.by(UPDATED_AT, ID);
+    public static final Sort DELETION_SORT = Sort.by(DELETED_AT, ID);
+
+    private final ScrollPosition animePosition;
+    private final ScrollPosition mangaPosition;
+    private final ScrollPosition deletionPosition;
+
+    private SyncCursor(ScrollPosition animePosition, ScrollPosition mangaPosition, ScrollPosition deletionPosition) {
+        this.animePosition = animePosition;
+        this.mangaPosition = mangaPosition;
+        this.deletionPosition = deletionPosition;
+    }
+
+    public static SyncCursor first() {
+        return new SyncCursor(ScrollPosition.keyset(), ScrollPosition.keyset(), ScrollPosition.keyset());
+    }
+
+    public static SyncCursor decode(String since) {
+        try {
+            // A colon never appears in Base64url, so it tells a date-time from a token
+            if (since.contains(":")) {
+                LocalDateTime timestamp = LocalDateTime.parse(since);
+                return new SyncCursor(position(UPDATED_AT, timestamp, 0), position(UPDATED_AT, timestamp, 0), position(DELETED_AT, timestamp, 0));
+            }
+            String decoded = new String(Base64.getUrlDecoder().decode(since), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + SEPARATOR, -1);
+            if (parts.length != 6) {
+                throw new IllegalArgumentException();
+            }
+            return new SyncCursor(
+                    decodePosition(UPDATED_AT, parts[0], parts[1]),
+                    decodePosition(UPDATED_AT, parts[2], parts[3]),
+                    decodePosition(DELETED_AT, parts[4], parts[5])
+            );
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid sync token: " + since);
+        }
+    }
+
+    public SyncCursor next(Window<?> animeWindow, Window<?> mangaWindow, Window<?> deletionWindow) {
+        // A stream without new rows keeps its position, so the token never moves back
+        return new SyncCursor(advance(animePosition, animeWindow), advance(mangaPosition, mangaWindow), advance(deletionPosition, deletionWindow));
+    }
+
+    public String encode() {
+        String value = encodePosition(animePosition, UPDATED_AT) + SEPARATOR + encodePosition(mangaPosition, UPDATED_AT) + SEPARATOR + encodePosition(deletionPosition, DELETED_AT);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ScrollPosition advance(ScrollPosition position, Window<?> window) {
+        return window.isEmpty() ? position : window.positionAt(window.size() - 1);
+    }
+
+    private static ScrollPosition decodePosition(String timestampKey, String timestamp, String id) {
+        return timestamp.isEmpty() ? ScrollPosition.keyset() : position(timestampKey, LocalDateTime.parse(timestamp), Long.parseLong(id));
+    }
+
+    private static ScrollPosition position(String timestampKey, LocalDateTime timestamp, long id) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(timestampKey, timestamp);
+        keys.put(ID, id);
+        return ScrollPosition.forward(keys);
+    }
+
+    private static String encodePosition(ScrollPosition position, String timestampKey) {
+        if (position instanceof KeysetScrollPosition keyset && !keyset.isInitial()) {
+            return keyset.getKeys().get(timestampKey) + SEPARATOR + keyset.getKeys().get(ID);
+        }
+        return SEPARATOR;
+    }
+}
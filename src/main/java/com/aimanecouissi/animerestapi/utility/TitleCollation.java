@@ -0,0 +1,20 @@
+package com.aimanecouissi.animerestapi.utility;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Compares titles the way the default MySQL collation does, ignoring case and accents. Titles with the same key
+ * collide on the unique title constraint, so checks made in memory have to use the key rather than the raw title.
+ */
+public class TitleCollation {
+
+    private TitleCollation() {
+    }
+
+    public static String key(String title) {
+        return Normalizer.normalize(title, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,20 @@
+-- Pooled id sequences, allocated in blocks of 50 ids. Each restarts past the highest id already handed out by the
+-- identity columns, so the first block allocated from it never collides with an existing row
+
+CREATE SEQUENCE roles_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE roles_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 51 FROM roles);
+
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE users_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 51 FROM users);
+
+CREATE SEQUENCE studios_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE studios_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 51 FROM studios);
+
+CREATE SEQUENCE anime_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE anime_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 51 FROM anime);
+
+CREATE SEQUENCE manga_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE manga_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 51 FROM manga);
+
+CREATE SEQUENCE rating_summaries_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE rating_summaries_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 51 FROM rating_summaries);
@@ -0,0 +1,24 @@
+-- One title per user and library. Duplicates saved before the constraint keep the title of their first entry, the
+-- later ones get their id appended so the constraint can be added without losing any entry
+
+UPDATE anime
+SET title = CONCAT(LEFT(title, 100 - CHAR_LENGTH(CONCAT(' (', id, ')'))), ' (', id, ')')
+WHERE id IN (SELECT id
+             FROM (SELECT DISTINCT later.id
+                   FROM anime later
+                            JOIN anime earlier
+                                 ON earlier.user_id = later.user_id AND earlier.title = later.title AND earlier.id < later.id) duplicates);
+
+ALTER TABLE anime
+    ADD CONSTRAINT uk_anime_user_id_title UNIQUE (user_id, title);
+
+UPDATE manga
+SET title = CONCAT(LEFT(title, 100 - CHAR_LENGTH(CONCAT(' (', id, ')'))), ' (', id, ')')
+WHERE id IN (SELECT id
+             FROM (SELECT DISTINCT later.id
+                   FROM manga later
+                            JOIN manga earlier
+                                 ON earlier.user_id = later.user_id AND earlier.title = later.title AND earlier.id < later.id) duplicates);
+
+ALTER TABLE manga
+    ADD CONSTRAINT uk_manga_user_id_title UNIQUE (user_id, title);
@@ -0,0 +1,21 @@
+-- Tombstones of deleted anime and manga, read by the delta sync in deletion order per user
+
+CREATE SEQUENCE library_deletions_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE library_deletions
+(
+    id           BIGINT                 NOT NULL,
+    user_id      BIGINT                 NOT NULL,
+    library_type ENUM ('ANIME','MANGA') NOT NULL,
+    entry_id     BIGINT                 NOT NULL,
+    deleted_at   TIMESTAMP(6)           NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_library_deletions_user_id FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE INDEX idx_library_deletions_user_id_deleted_at ON library_deletions (user_id, deleted_at);
+
+-- The sync reads changes by update timestamp, so rows never stamped with one take their creation time
+UPDATE anime SET updated_at = created_at WHERE updated_at IS NULL;
+
+UPDATE manga SET updated_at = created_at WHERE updated_at IS NULL;
@@ -0,0 +1,75 @@
+-- Baseline of the schema Hibernate generated from the entities before the migrations, constraint names are kept so
+-- databases created by ddl-auto are baselined at this version and receive every later migration
+
+-- Users and roles
+CREATE TABLE roles
+(
+    id   BIGINT       NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE users
+(
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    first_name VARCHAR(30) NOT NULL,
+    last_name  VARCHAR(30) NOT NULL,
+    username   VARCHAR(50) NOT NULL,
+    password   VARCHAR(60) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT UKr43af9ap4edm43mmtq01oddj6 UNIQUE (username)
+) ENGINE = InnoDB;
+
+CREATE TABLE user_role
+(
+    role_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    PRIMARY KEY (role_id, user_id),
+    CONSTRAINT FKt7e7djp752sqn6w22i6ocqy6q FOREIGN KEY (role_id) REFERENCES roles (id),
+    CONSTRAINT FKj345gk1bovqvfame88rcx7yyx FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+-- Studios
+CREATE TABLE studios
+(
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    name       VARCHAR(50) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT UKjsy8u97x8j8sw58y75fatfi72 UNIQUE (name)
+) ENGINE = InnoDB;
+
+-- Anime library
+CREATE TABLE anime
+(
+    id          BIGINT                                        NOT NULL AUTO_INCREMENT,
+    title       VARCHAR(100)                                  NOT NULL,
+    type        ENUM ('MOVIE','TV')                           NOT NULL,
+    status      ENUM ('COMPLETED','PLAN_TO_WATCH','WATCHING') NOT NULL,
+    rating      INTEGER,
+    is_favorite BIT,
+    is_complete BIT,
+    studio_id   BIGINT,
+    user_id     BIGINT,
+    created_at  DATETIME(6)                                   NOT NULL,
+    updated_at  DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT FK1ogaoughadkxkvygfkj8i9cdx FOREIGN KEY (studio_id) REFERENCES studios (id),
+    CONSTRAINT FKfqj8p1v2kbpd9eo0s08m2p2ib FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+-- Manga library
+CREATE TABLE manga
+(
+    id          BIGINT                                      NOT NULL AUTO_INCREMENT,
+    title       VARCHAR(100)                                NOT NULL,
+    status      ENUM ('COMPLETED','PLAN_TO_READ','READING') NOT NULL,
+    rating      INTEGER,
+    is_favorite BIT,
+    user_id     BIGINT,
+    created_at  DATETIME(6)                                 NOT NULL,
+    updated_at  DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT FKt67w0qyt1p7gjiwgtd5exrahl FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
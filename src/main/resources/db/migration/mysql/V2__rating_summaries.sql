@@ -0,0 +1,23 @@
+-- Per-user rating aggregates, a missing summary is computed from the library the first time it is needed
+
+CREATE TABLE rating_summaries
+(
+    id           BIGINT                 NOT NULL AUTO_INCREMENT,
+    user_id      BIGINT                 NOT NULL,
+    library_type ENUM ('ANIME','MANGA') NOT NULL,
+    rating_count BIGINT                 NOT NULL,
+    rating_sum   BIGINT                 NOT NULL,
+    updated_at   DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_rating_summaries_user_id_library_type UNIQUE (user_id, library_type),
+    CONSTRAINT FKlk78vwiodvwwcnua4f265ukst FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE rating_summary_histogram
+(
+    rating_summary_id BIGINT  NOT NULL,
+    rating            INTEGER NOT NULL,
+    entry_count       BIGINT  NOT NULL,
+    PRIMARY KEY (rating, rating_summary_id),
+    CONSTRAINT FKe68i91tqrdt5i0p0pmwdqdxow FOREIGN KEY (rating_summary_id) REFERENCES rating_summaries (id)
+) ENGINE = InnoDB;
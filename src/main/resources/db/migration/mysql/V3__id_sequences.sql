@@ -0,0 +1,20 @@
+-- Pooled id sequences, emulated by MySQL with one-row tables. Each starts past the highest id already handed out by
+-- AUTO_INCREMENT, so the first block of 50 ids allocated from it never collides with an existing row
+
+CREATE TABLE roles_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO roles_seq SELECT COALESCE(MAX(id), 0) + 51 FROM roles;
+
+CREATE TABLE users_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO users_seq SELECT COALESCE(MAX(id), 0) + 51 FROM users;
+
+CREATE TABLE studios_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO studios_seq SELECT COALESCE(MAX(id), 0) + 51 FROM studios;
+
+CREATE TABLE anime_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO anime_seq SELECT COALESCE(MAX(id), 0) + 51 FROM anime;
+
+CREATE TABLE manga_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO manga_seq SELECT COALESCE(MAX(id), 0) + 51 FROM manga;
+
+CREATE TABLE rating_summaries_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO rating_summaries_seq SELECT COALESCE(MAX(id), 0) + 51 FROM rating_summaries;
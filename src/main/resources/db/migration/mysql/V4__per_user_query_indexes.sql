@@ -0,0 +1,11 @@
+-- Composite indexes led by the user, matching the filters and orderings of the per-user library queries
+
+CREATE INDEX idx_anime_user_id_status ON anime (user_id, status);
+
+CREATE INDEX idx_anime_user_id_studio_id ON anime (user_id, studio_id);
+
+CREATE INDEX idx_anime_user_id_created_at ON anime (user_id, created_at);
+
+CREATE INDEX idx_manga_user_id_status ON manga (user_id, status);
+
+CREATE INDEX idx_manga_user_id_created_at ON manga (user_id, created_at);
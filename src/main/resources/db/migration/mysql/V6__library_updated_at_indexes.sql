@@ -0,0 +1,5 @@
+-- Lets the conditional requests read the entry count and latest update of a library from an index
+
+CREATE INDEX idx_anime_user_id_updated_at ON anime (user_id, updated_at);
+
+CREATE INDEX idx_manga_user_id_updated_at ON manga (user_id, updated_at);
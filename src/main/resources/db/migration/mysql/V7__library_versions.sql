@@ -0,0 +1,18 @@
+-- One change counter per user and library, existing users start at version 0
+
+CREATE TABLE library_versions
+(
+    user_id      BIGINT                 NOT NULL,
+    library_type ENUM ('ANIME','MANGA') NOT NULL,
+    version      BIGINT                 NOT NULL,
+    PRIMARY KEY (user_id, library_type),
+    CONSTRAINT fk_library_versions_user_id FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+INSERT INTO library_versions (user_id, library_type, version)
+SELECT id, 'ANIME', 0
+FROM users;
+
+INSERT INTO library_versions (user_id, library_type, version)
+SELECT id, 'MANGA', 0
+FROM users;
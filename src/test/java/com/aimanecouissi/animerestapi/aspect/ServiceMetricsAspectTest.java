@@ -0,0 +1,66 @@
+package com.aimanecouissi.animerestapi.aspect;
+
+import com.aimanecouissi.animerestapi.exception.ResourceNotFoundException;
+import com.aimanecouissi.animerestapi.service.StudioService;
+import com.aimanecouissi.animerestapi.service.implementation.StudioServiceImplementation;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(OrderAnnotation.class)
+class ServiceMetricsAspectTest {
+
+    @Mock
+    private StudioServiceImplementation studioServiceImplementation;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StudioService studioService;
+
+    @BeforeEach
+    void setUp() {
+        // Proxy the mocked implementation the way Spring proxies the real one
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(studioServiceImplementation);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        studioService = proxyFactory.getProxy();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Time Service Method - Success")
+    void shouldTimeSuccessfulInvocation() {
+        given(studioServiceImplementation.getAllStudiosETag()).willReturn("\"tag\"");
+        studioService.getAllStudiosETag();
+        Timer timer = meterRegistry.get(ServiceMetricsAspect.SERVICE_INVOCATIONS)
+                .tag("method", "getAllStudiosETag")
+                .tag("outcome", "SUCCESS")
+                .tag("exception", "none")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Time Service Method - Exception")
+    void shouldTimeFailedInvocationWithException() {
+        given(studioServiceImplementation.getStudioById(1L)).willThrow(new ResourceNotFoundException("Studio", "ID", "1"));
+        assertThrows(ResourceNotFoundException.class, () -> studioService.getStudioById(1L));
+        Timer timer = meterRegistry.get(ServiceMetricsAspect.SERVICE_INVOCATIONS)
+                .tag("method", "getStudioById")
+                .tag("outcome", "ERROR")
+                .tag("exception", "ResourceNotFoundException")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+}
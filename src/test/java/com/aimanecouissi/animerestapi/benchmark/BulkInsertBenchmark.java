@@ -0,0 +1,113 @@
+package com.aimanecouissi.animerestapi.benchmark;
+
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays the statements Hibernate sends for a bulk insert under each id strategy: IDENTITY needs one
+ * round trip per row to read the key back, a pooled sequence fetches a block of ids at once and batches the rows.
+ * H2 runs as a TCP server so each statement pays a real, if local, network round trip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkInsertBenchmark {
+    private static final String COLUMNS = "title VARCHAR(100) NOT NULL, type VARCHAR(255) NOT NULL, status VARCHAR(255) NOT NULL, rating INT, user_id BIGINT NOT NULL";
+
+    @Param({"1000"})
+    private int rows;
+
+    @Param({"", ";MODE=MySQL"})
+    private String mode;
+
+    private Server server;
+    private Connection connection;
+
+    @Setup
+    public void setUp() throws SQLException {
+        server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        connection = DriverManager.getConnection("jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:bulk-insert" + mode, "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE anime_identity (id BIGINT AUTO_INCREMENT PRIMARY KEY, " + COLUMNS + ")");
+            statement.execute("CREATE TABLE anime_sequence (id BIGINT PRIMARY KEY, " + COLUMNS + ")");
+            statement.execute("CREATE SEQUENCE anime_seq START WITH 1 INCREMENT BY " + ApplicationConstants.ID_ALLOCATION_SIZE);
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+        server.stop();
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE anime_identity");
+            statement.execute("TRUNCATE TABLE anime_sequence");
+        }
+        connection.commit();
+    }
+
+    @Benchmark
+    public void identity(Blackhole blackhole) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO anime_identity (title, type, status, rating, user_id) VALUES (?, ?, ?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < rows; i++) {
+                bind(insert, 1, i);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    blackhole.consume(keys.getLong(1));
+                }
+            }
+        }
+        connection.commit();
+    }
+
+    @Benchmark
+    public void pooledSequence(Blackhole blackhole) throws SQLException {
+        try (PreparedStatement nextValue = connection.prepareStatement("SELECT NEXT VALUE FOR anime_seq");
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO anime_sequence (id, title, type, status, rating, user_id) VALUES (?, ?, ?, ?, ?, ?)")) {
+            long nextId = 0;
+            long lastId = -1;
+            for (int i = 0; i < rows; i++) {
+                if (nextId > lastId) {
+                    // One sequence call reserves a whole block of ids, like the pooled optimizer
+                    try (ResultSet resultSet = nextValue.executeQuery()) {
+                        resultSet.next();
+                        nextId = resultSet.getLong(1);
+                        lastId = nextId + ApplicationConstants.ID_ALLOCATION_SIZE - 1;
+                    }
+                }
+                insert.setLong(1, nextId++);
+                bind(insert, 2, i);
+                insert.addBatch();
+                if ((i + 1) % ApplicationConstants.ID_ALLOCATION_SIZE == 0) {
+                    blackhole.consume(insert.executeBatch());
+                }
+            }
+            blackhole.consume(insert.executeBatch());
+        }
+        connection.commit();
+    }
+
+    private static void bind(PreparedStatement insert, int index, int row) throws SQLException {
+        insert.setString(index, "Anime " + row);
+        insert.setString(index + 1, "TV");
+        insert.setString(index + 2, "COMPLETED");
+        insert.setInt(index + 3, row % 10 + 1);
+        insert.setLong(index + 4, 1L);
+    }
+}
@@ -0,0 +1,58 @@
+package com.aimanecouissi.animerestapi.benchmark;
+
+import com.aimanecouissi.animerestapi.security.JwtTokenProvider;
+import com.aimanecouissi.animerestapi.security.UserPrincipal;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import javax.crypto.SecretKey;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+    private static final String JWT_SECRET = "c2VjcmV0LWtleS1mb3ItdGVzdGluZy1wdXJwb3Nlcy1vbmx5LTEyMzQ1Njc4OTA=";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(JWT_SECRET, 3_600_000L, 0L);
+        UserPrincipal userPrincipal = new UserPrincipal(1L, "john.doe", null, Set.of(new SimpleGrantedAuthority("ROLE_USER")));
+        token = jwtTokenProvider.generateToken(new UsernamePasswordAuthenticationToken(userPrincipal, null, userPrincipal.getAuthorities()));
+    }
+
+    @Benchmark
+    public Claims perRequestKeyAndTwoParsers() {
+        // Previous filter path: validateToken(token) followed by getUsername(token), each decoding the key and building a parser
+        Jwts.parser()
+                .verifyWith(key())
+                .build()
+                .parse(token);
+        return Jwts.parser()
+                .verifyWith(key())
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    @Benchmark
+    public Claims cachedParserSinglePass() {
+        return jwtTokenProvider.parseAndValidate(token);
+    }
+
+    private SecretKey key() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(JWT_SECRET));
+    }
+}
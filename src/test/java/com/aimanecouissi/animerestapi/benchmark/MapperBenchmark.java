@@ -0,0 +1,80 @@
+package com.aimanecouissi.animerestapi.benchmark;
+
+import com.aimanecouissi.animerestapi.entity.Anime;
+import com.aimanecouissi.animerestapi.entity.Manga;
+import com.aimanecouissi.animerestapi.entity.Studio;
+import com.aimanecouissi.animerestapi.enums.AnimeStatus;
+import com.aimanecouissi.animerestapi.enums.AnimeType;
+import com.aimanecouissi.animerestapi.enums.MangaStatus;
+import com.aimanecouissi.animerestapi.mapper.AnimeMapper;
+import com.aimanecouissi.animerestapi.mapper.MangaMapper;
+import com.aimanecouissi.animerestapi.payload.dto.AnimeDTO;
+import com.aimanecouissi.animerestapi.payload.dto.MangaDTO;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"100"})
+    private int pageSize;
+
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final AnimeMapper animeMapper = new AnimeMapper();
+    private final MangaMapper mangaMapper = new MangaMapper();
+
+    private List<Anime> animePage;
+    private List<Manga> mangaPage;
+
+    @Setup
+    public void setUp() {
+        Studio studio = Studio.builder().id(1L).name("MAPPA").build();
+        animePage = new ArrayList<>(pageSize);
+        mangaPage = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            animePage.add(Anime.builder()
+                    .id(i)
+                    .title("Anime " + i)
+                    .type(AnimeType.TV)
+                    .status(AnimeStatus.WATCHING)
+                    .rating(i % 10 + 1)
+                    .studio(studio)
+                    .build());
+            mangaPage.add(Manga.builder()
+                    .id(i)
+                    .title("Manga " + i)
+                    .status(MangaStatus.READING)
+                    .rating(i % 10 + 1)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<AnimeDTO> animePageWithModelMapper() {
+        return animePage.stream().map(anime -> modelMapper.map(anime, AnimeDTO.class)).toList();
+    }
+
+    @Benchmark
+    public List<AnimeDTO> animePageWithAnimeMapper() {
+        return animePage.stream().map(animeMapper::toAnimeDTO).toList();
+    }
+
+    @Benchmark
+    public List<MangaDTO> mangaPageWithModelMapper() {
+        return mangaPage.stream().map(manga -> modelMapper.map(manga, MangaDTO.class)).toList();
+    }
+
+    @Benchmark
+    public List<MangaDTO> mangaPageWithMangaMapper() {
+        return mangaPage.stream().map(mangaMapper::toMangaDTO).toList();
+    }
+}
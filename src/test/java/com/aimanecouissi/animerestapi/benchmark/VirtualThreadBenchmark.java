@@ -0,0 +1,107 @@
+package com.aimanecouissi.animerestapi.benchmark;
+
+import com.aimanecouissi.animerestapi.utility.BulkheadDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.*;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves a burst of requests the way each threading mode would. A request waits on other I/O, then runs a query that
+ * holds its connection for a few milliseconds. PLATFORM runs them on a pool the size of Tomcat's default and lets the
+ * connection pool queue the rest, VIRTUAL gives every request its own virtual thread and queues them at the bulkhead.
+ * H2 runs as a TCP server so each query pays a real, if local, network round trip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class VirtualThreadBenchmark {
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int POOL_SIZE = 10;
+
+    public enum ThreadingMode {PLATFORM, VIRTUAL}
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    private ThreadingMode threadingMode;
+
+    @Param({"2000"})
+    private int requests;
+
+    @Param({"50"})
+    private int ioMillis;
+
+    @Param({"1"})
+    private int queryMillis;
+
+    private Server server;
+    private HikariDataSource hikariDataSource;
+    private DataSource dataSource;
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp() throws SQLException {
+        server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setJdbcUrl("jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:virtual-threads");
+        hikariConfig.setUsername("sa");
+        hikariConfig.setMaximumPoolSize(POOL_SIZE);
+        hikariConfig.setConnectionTimeout(Duration.ofMinutes(1).toMillis());
+        hikariDataSource = new HikariDataSource(hikariConfig);
+        try (Connection connection = hikariDataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE ALIAS IF NOT EXISTS SLEEP FOR '" + VirtualThreadBenchmark.class.getName() + ".sleep'");
+        }
+        if (threadingMode == ThreadingMode.VIRTUAL) {
+            dataSource = new BulkheadDataSource(hikariDataSource, POOL_SIZE, Duration.ofMinutes(1));
+            executor = Executors.newVirtualThreadPerTaskExecutor();
+        } else {
+            dataSource = hikariDataSource;
+            executor = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        hikariDataSource.close();
+        server.stop();
+    }
+
+    @Benchmark
+    public void burst() throws Exception {
+        List<Future<?>> futures = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            futures.add(executor.submit(this::handleRequest));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    // Called by H2 for SLEEP, Thread.sleep itself is overloaded and cannot be aliased
+    public static void sleep(long millis) throws InterruptedException {
+        Thread.sleep(millis);
+    }
+
+    private Void handleRequest() throws Exception {
+        Thread.sleep(ioMillis);
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CALL SLEEP(" + queryMillis + ")");
+        }
+        return null;
+    }
+}
@@ -0,0 +1,60 @@
+package com.aimanecouissi.animerestapi.configuration;
+
+import com.aimanecouissi.animerestapi.security.InMemoryRateLimitStore;
+import com.aimanecouissi.animerestapi.security.RateLimitStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestMethodOrder(OrderAnnotation.class)
+class RateLimitConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner();
+
+    @Test
+    @Order(1)
+    @DisplayName("Rate Limit Store - In Memory By Default")
+    void shouldDeclareInMemoryStoreByDefault() {
+        contextRunner.withUserConfiguration(RateLimitConfiguration.class)
+                .run(context -> assertThat(context).getBean(RateLimitStore.class).isInstanceOf(InMemoryRateLimitStore.class));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Rate Limit Store - Replaced By Custom Store")
+    void shouldBackOffWhenCustomStoreIsDeclared() {
+        contextRunner.withUserConfiguration(RateLimitConfiguration.class, SharedStoreConfiguration.class)
+                .run(context -> {
+                    assertThat(context).hasSingleBean(RateLimitStore.class);
+                    assertThat(context.getBean(RateLimitStore.class)).isSameAs(context.getBean(SharedStoreConfiguration.class).store);
+                });
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Rate Limit Store - Replaced By Custom Store Registered First")
+    void shouldBackOffWhateverTheRegistrationOrder() {
+        contextRunner.withUserConfiguration(SharedStoreConfiguration.class, RateLimitConfiguration.class)
+                .run(context -> {
+                    assertThat(context).hasSingleBean(RateLimitStore.class);
+                    assertThat(context.getBean(RateLimitStore.class)).isSameAs(context.getBean(SharedStoreConfiguration.class).store);
+                });
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class SharedStoreConfiguration {
+        private final RateLimitStore store = new InMemoryRateLimitStore();
+
+        @Bean
+        RateLimitStore sharedRateLimitStore() {
+            return store;
+        }
+    }
+}
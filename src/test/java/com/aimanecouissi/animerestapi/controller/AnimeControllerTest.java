@@ -4,11 +4,17 @@ import com.aimanecouissi.animerestapi.enums.AnimeStatus;
 import com.aimanecouissi.animerestapi.enums.AnimeType;
 import com.aimanecouissi.animerestapi.exception.ResourceNotFoundException;
 import com.aimanecouissi.animerestapi.exception.UniqueFieldException;
+import com.aimanecouissi.animerestapi.payload.dto.AnimeBatchDTO;
 import com.aimanecouissi.animerestapi.payload.dto.AnimeDTO;
+import com.aimanecouissi.animerestapi.payload.dto.BatchDeleteDTO;
+import com.aimanecouissi.animerestapi.payload.response.AnimeBatchResponse;
+import com.aimanecouissi.animerestapi.payload.response.AnimeCursorPaginatedResponse;
 import com.aimanecouissi.animerestapi.payload.response.AnimePaginatedResponse;
+import com.aimanecouissi.animerestapi.payload.response.BatchItemResult;
 import com.aimanecouissi.animerestapi.security.JwtTokenProvider;
 import com.aimanecouissi.animerestapi.service.AnimeService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,17 +23,28 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.CannotCreateTransactionException;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = AnimeController.class)
@@ -37,6 +54,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 public class AnimeControllerTest {
 
     private static final String API_URL = "/api/v1/anime";
+    private static final String ANIME_ETAG = "\"5d41402abc4b2a76b9719d911017c592\"";
 
     @Autowired
     private MockMvc mockMvc;
@@ -47,6 +65,9 @@ public class AnimeControllerTest {
     @MockBean
     private JwtTokenProvider jwtTokenProvider;
 
+    @MockBean
+    private MeterRegistry meterRegistry;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -243,14 +264,26 @@ public class AnimeControllerTest {
                         .studioId(1L)
                         .build()
         );
+        AnimePaginatedResponse paginatedResponse = AnimePaginatedResponse.builder()
+                .items(animeList)
+                .pageNumber(0)
+                .pageSize(10)
+                .totalPages(1)
+                .totalElements(1)
+                .isLast(true)
+                .build();
         when(animeService.searchAnime(
                 anyString(),
                 any(AnimeType.class),
                 any(AnimeStatus.class),
                 anyInt(),
                 anyBoolean(),
-                anyBoolean()
-        )).thenReturn(animeList);
+                anyBoolean(),
+                anyInt(),
+                anyInt(),
+                anyString(),
+                anyString()
+        )).thenReturn(paginatedResponse);
         mockMvc.perform(get(API_URL + "/search")
                         .param("title", "My Neighbor Totoro")
                         .param("type", AnimeType.MOVIE.toString())
@@ -259,7 +292,7 @@ public class AnimeControllerTest {
                         .param("isFavorite", "true")
                         .param("isComplete", "false"))
                 .andExpect(status().isOk())
-                .andExpect(content().json(objectMapper.writeValueAsString(animeList)));
+                .andExpect(content().json(objectMapper.writeValueAsString(paginatedResponse)));
     }
 
     @Test
@@ -272,4 +305,180 @@ public class AnimeControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().json(objectMapper.writeValueAsString(meanRating)));
     }
+
+    @Test
+    @Order(14)
+    @DisplayName("Get All Anime By Cursor - Success")
+    void shouldGetAllAnimeByCursor() throws Exception {
+        AnimeCursorPaginatedResponse cursorPaginatedResponse = AnimeCursorPaginatedResponse.builder()
+                .items(Collections.emptyList())
+                .pageSize(10)
+                .nextCursor("QVNDfGlkfDEw")
+                .isLast(false)
+                .build();
+        when(animeService.getAllAnimeByCursor("", 10, "id", "asc")).thenReturn(cursorPaginatedResponse);
+        mockMvc.perform(get(API_URL).param("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(cursorPaginatedResponse)));
+        verify(animeService, never()).getAllAnime(anyInt(), anyInt(), anyString(), anyString());
+    }
+
+    @Test
+    @Order(15)
+    @DisplayName("Stream Anime - Success")
+    void shouldStreamAnime() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<AnimeDTO> consumer = invocation.getArgument(6);
+            consumer.accept(createdAnime);
+            consumer.accept(animeDTO);
+            return null;
+        }).when(animeService).streamAnime(any(), any(), any(), any(), any(), any(), any());
+        mockMvc.perform(get(API_URL + "/search/stream")
+                        .param("type", AnimeType.MOVIE.toString()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(objectMapper.writeValueAsString(createdAnime) + "\n" + objectMapper.writeValueAsString(animeDTO) + "\n"));
+    }
+
+    @Test
+    @Order(16)
+    @DisplayName("Create Anime Batch - Success")
+    void shouldCreateAnimeBatch() throws Exception {
+        AnimeBatchResponse batchResponse = AnimeBatchResponse.builder()
+                .results(List.of(BatchItemResult.success(0, HttpStatus.CREATED, createdAnime), BatchItemResult.failure(1, HttpStatus.CONFLICT, "'Title' with value 'Spirited Away' already exists.")))
+                .succeeded(1)
+                .failed(1)
+                .build();
+        when(animeService.createAnimeBatch(anyList())).thenReturn(batchResponse);
+        mockMvc.perform(post(API_URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(AnimeBatchDTO.builder().items(List.of(animeDTO, animeDTO)).build())))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(batchResponse)));
+    }
+
+    @Test
+    @Order(17)
+    @DisplayName("Create Anime Batch - Invalid Entry")
+    void shouldRejectWholeAnimeBatchWhenAnEntryIsInvalid() throws Exception {
+        AnimeDTO invalidAnimeDTO = AnimeDTO.builder().build();
+        mockMvc.perform(post(API_URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(AnimeBatchDTO.builder().items(List.of(animeDTO, invalidAnimeDTO)).build())))
+                .andExpect(status().isBadRequest());
+        verify(animeService, never()).createAnimeBatch(anyList());
+    }
+
+    @Test
+    @Order(18)
+    @DisplayName("Update Anime Batch - Success")
+    void shouldUpdateAnimeBatch() throws Exception {
+        AnimeBatchResponse batchResponse = AnimeBatchResponse.builder()
+                .results(List.of(BatchItemResult.success(0, HttpStatus.OK, createdAnime)))
+                .succeeded(1)
+                .build();
+        when(animeService.updateAnimeBatch(anyList())).thenReturn(batchResponse);
+        mockMvc.perform(put(API_URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(AnimeBatchDTO.builder().items(List.of(createdAnime)).build())))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(batchResponse)));
+    }
+
+    @Test
+    @Order(19)
+    @DisplayName("Delete Anime Batch - Success")
+    void shouldDeleteAnimeBatch() throws Exception {
+        AnimeBatchResponse batchResponse = AnimeBatchResponse.builder()
+                .results(List.of(BatchItemResult.success(0, HttpStatus.OK, createdAnime), BatchItemResult.failure(1, HttpStatus.NOT_FOUND, "Resource 'Anime' not found with ID: '2'.")))
+                .succeeded(1)
+                .failed(1)
+                .build();
+        when(animeService.deleteAnimeBatch(List.of(1L, 2L))).thenReturn(batchResponse);
+        mockMvc.perform(delete(API_URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(BatchDeleteDTO.builder().ids(List.of(1L, 2L)).build())))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(batchResponse)));
+    }
+
+    @Test
+    @Order(20)
+    @DisplayName("Delete Anime Batch - Empty")
+    void shouldRejectEmptyAnimeDeleteBatch() throws Exception {
+        mockMvc.perform(delete(API_URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(BatchDeleteDTO.builder().ids(List.of()).build())))
+                .andExpect(status().isBadRequest());
+        verify(animeService, never()).deleteAnimeBatch(anyList());
+    }
+
+    @Test
+    @Order(21)
+    @DisplayName("Create Anime Batch - Conflicting Commit")
+    void shouldReturnConflictWhenAnimeBatchViolatesConstraint() throws Exception {
+        when(animeService.createAnimeBatch(anyList())).thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+        mockMvc.perform(post(API_URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(AnimeBatchDTO.builder().items(List.of(animeDTO)).build())))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @Order(22)
+    @DisplayName("Get Anime By ID - Not Modified")
+    void shouldReturnNotModifiedWhenAnimeETagMatches() throws Exception {
+        when(animeService.getAnimeETag(1L)).thenReturn(Optional.of(ANIME_ETAG));
+        mockMvc.perform(get(API_URL + "/{id}", 1L).header(HttpHeaders.IF_NONE_MATCH, ANIME_ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, ANIME_ETAG))
+                .andExpect(content().string(""));
+        verify(animeService, never()).getAnimeById(anyLong());
+    }
+
+    @Test
+    @Order(23)
+    @DisplayName("Get Anime By ID - Stale ETag")
+    void shouldGetAnimeByIdWhenAnimeETagIsStale() throws Exception {
+        when(animeService.getAnimeETag(1L)).thenReturn(Optional.of(ANIME_ETAG));
+        when(animeService.getAnimeById(1L)).thenReturn(createdAnime);
+        mockMvc.perform(get(API_URL + "/{id}", 1L).header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ANIME_ETAG))
+                .andExpect(content().json(objectMapper.writeValueAsString(createdAnime)));
+    }
+
+    @Test
+    @Order(24)
+    @DisplayName("Get All Anime - Not Modified")
+    void shouldReturnNotModifiedWhenAnimeLibraryETagMatches() throws Exception {
+        when(animeService.getAnimeLibraryETag()).thenReturn(ANIME_ETAG);
+        mockMvc.perform(get(API_URL).header(HttpHeaders.IF_NONE_MATCH, ANIME_ETAG))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get(API_URL + "/search").param("title", "Titan").header(HttpHeaders.IF_NONE_MATCH, ANIME_ETAG))
+                .andExpect(status().isNotModified());
+        verify(animeService, never()).getAllAnime(anyInt(), anyInt(), anyString(), anyString());
+        verify(animeService, never()).searchAnime(any(), any(), any(), any(), any(), any(), anyInt(), anyInt(), anyString(), anyString());
+    }
+
+    @Test
+    @Order(25)
+    @DisplayName("Get Anime By ID - Database Busy")
+    void shouldReturnServiceUnavailableWhenNoConnectionIsAvailable() throws Exception {
+        when(animeService.getAnimeById(1L)).thenThrow(new CannotCreateTransactionException("Could not open JPA EntityManager for transaction"));
+        mockMvc.perform(get(API_URL + "/{id}", 1L))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+    }
+
+    @Test
+    @Order(26)
+    @DisplayName("Create Anime Batch - Null Entry")
+    void shouldRejectAnimeBatchWithNullEntry() throws Exception {
+        mockMvc.perform(post(API_URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(AnimeBatchDTO.builder().items(Arrays.asList(animeDTO, null)).build())))
+                .andExpect(status().isBadRequest());
+        verify(animeService, never()).createAnimeBatch(anyList());
+    }
 }
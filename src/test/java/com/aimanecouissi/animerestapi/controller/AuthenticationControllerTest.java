@@ -1,5 +1,7 @@
 package com.aimanecouissi.animerestapi.controller;
 
+import com.aimanecouissi.animerestapi.exception.LoginThrottledException;
+import com.aimanecouissi.animerestapi.exception.ServiceBusyException;
 import com.aimanecouissi.animerestapi.exception.UniqueFieldException;
 import com.aimanecouissi.animerestapi.payload.dto.LoginDTO;
 import com.aimanecouissi.animerestapi.payload.dto.RegisterDTO;
@@ -7,6 +9,7 @@ import com.aimanecouissi.animerestapi.payload.response.AuthenticationResponse;
 import com.aimanecouissi.animerestapi.security.JwtTokenProvider;
 import com.aimanecouissi.animerestapi.service.AuthenticationService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.validation.ConstraintViolationException;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,13 +18,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = AuthenticationController.class)
@@ -41,6 +47,9 @@ public class AuthenticationControllerTest {
     @MockBean
     private JwtTokenProvider jwtTokenProvider;
 
+    @MockBean
+    private MeterRegistry meterRegistry;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -79,7 +88,7 @@ public class AuthenticationControllerTest {
     @Order(1)
     @DisplayName("Login - Success")
     void shouldLoginSuccessfully() throws Exception {
-        when(authenticationService.login(any(LoginDTO.class))).thenReturn(authResponse.getAccessToken());
+        when(authenticationService.login(any(LoginDTO.class), anyString())).thenReturn(authResponse.getAccessToken());
         mockMvc.perform(post(API_URL + "/login")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(loginDTO)))
@@ -136,4 +145,28 @@ public class AuthenticationControllerTest {
         when(authenticationService.register(any(RegisterDTO.class))).thenThrow(new ConstraintViolationException("Weak password", null));
         performPostRequest("/register", weakPasswordRegisterDTO, 400);
     }
+
+    @Test
+    @Order(7)
+    @DisplayName("Login - Hashing Queue Full")
+    void shouldReturnServiceUnavailableWhenPasswordHashingIsSaturated() throws Exception {
+        when(authenticationService.login(any(LoginDTO.class), anyString())).thenThrow(new ServiceBusyException("Too many passwords are being checked right now, please retry shortly."));
+        mockMvc.perform(post(API_URL + "/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginDTO)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Login - Throttled")
+    void shouldReturnTooManyRequestsWhenLoginIsThrottled() throws Exception {
+        when(authenticationService.login(any(LoginDTO.class), anyString())).thenThrow(new LoginThrottledException(30));
+        mockMvc.perform(post(API_URL + "/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginDTO)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "30"));
+    }
 }
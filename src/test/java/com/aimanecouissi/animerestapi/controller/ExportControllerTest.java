@@ -0,0 +1,129 @@
+package com.aimanecouissi.animerestapi.controller;
+
+import com.aimanecouissi.animerestapi.enums.AnimeType;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import com.aimanecouissi.animerestapi.payload.dto.LibraryEntryDTO;
+import com.aimanecouissi.animerestapi.security.JwtTokenProvider;
+import com.aimanecouissi.animerestapi.service.ExportService;
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = ExportController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(OrderAnnotation.class)
+public class ExportControllerTest {
+
+    private static final String API_URL = "/api/v1/export";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ExportService exportService;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private MeterRegistry meterRegistry;
+
+    private List<LibraryEntryDTO> entries;
+
+    @BeforeEach
+    void setUp() {
+        LibraryEntryDTO anime = LibraryEntryDTO.builder()
+                .library(LibraryType.ANIME)
+                .id(1L)
+                .title("Attack on Titan")
+                .type(AnimeType.TV)
+                .studioId(3L)
+                .status("COMPLETED")
+                .rating(10)
+                .favorite(true)
+                .complete(true)
+                .build();
+        LibraryEntryDTO manga = LibraryEntryDTO.builder()
+                .library(LibraryType.MANGA)
+                .id(2L)
+                .title("One Piece")
+                .status("READING")
+                .favorite(false)
+                .build();
+        entries = List.of(anime, manga);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Export Library - NDJSON")
+    @SuppressWarnings("unchecked")
+    void shouldExportLibraryAsNdjson() throws Exception {
+        doAnswer(invocation -> {
+            entries.forEach(invocation.<Consumer<LibraryEntryDTO>>getArgument(1));
+            return null;
+        }).when(exportService).exportLibrary(isNull(), any(Consumer.class));
+        mockMvc.perform(get(API_URL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"library.ndjson\""))
+                .andExpect(content().string("""
+                        {"library":"ANIME","id":1,"title":"Attack on Titan","type":"TV","studioId":3,"status":"COMPLETED","rating":10,"favorite":true,"complete":true}
+                        {"library":"MANGA","id":2,"title":"One Piece","status":"READING","favorite":false}
+                        """));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Export Library - CSV")
+    @SuppressWarnings("unchecked")
+    void shouldExportLibraryAsCsv() throws Exception {
+        doAnswer(invocation -> {
+            entries.forEach(invocation.<Consumer<LibraryEntryDTO>>getArgument(1));
+            return null;
+        }).when(exportService).exportLibrary(isNull(), any(Consumer.class));
+        mockMvc.perform(get(API_URL).param("format", "CSV"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(ApplicationConstants.TEXT_CSV_VALUE))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"library.csv\""))
+                .andExpect(content().string("""
+                        library,id,title,type,studioId,status,rating,favorite,complete
+                        ANIME,1,"Attack on Titan",TV,3,COMPLETED,10,true,true
+                        MANGA,2,"One Piece",,,READING,,false,
+                        """));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Export Library - One Library")
+    @SuppressWarnings("unchecked")
+    void shouldExportOneLibrary() throws Exception {
+        mockMvc.perform(get(API_URL).param("library", "MANGA"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(""));
+        verify(exportService).exportLibrary(eq(LibraryType.MANGA), any(Consumer.class));
+    }
+}
@@ -0,0 +1,174 @@
+package com.aimanecouissi.animerestapi.controller;
+
+import com.aimanecouissi.animerestapi.enums.FileFormat;
+import com.aimanecouissi.animerestapi.enums.ImportJobStatus;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import com.aimanecouissi.animerestapi.exception.ResourceNotFoundException;
+import com.aimanecouissi.animerestapi.exception.ServiceBusyException;
+import com.aimanecouissi.animerestapi.payload.response.ImportJobResponse;
+import com.aimanecouissi.animerestapi.security.JwtTokenProvider;
+import com.aimanecouissi.animerestapi.service.ImportService;
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = ImportController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(OrderAnnotation.class)
+public class ImportControllerTest {
+
+    private static final String API_URL = "/api/v1/imports";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ImportService importService;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private ImportJobResponse importJob;
+
+    @BeforeEach
+    void setUp() {
+        importJob = ImportJobResponse.builder()
+                .id("5f0c6a8e-3b4d-4c3e-9a57-2f1d9e0b7c41")
+                .libraryType(LibraryType.ANIME)
+                .format(FileFormat.CSV)
+                .status(ImportJobStatus.COMPLETED)
+                .processed(2)
+                .imported(1)
+                .rejected(1)
+                .errors(List.of("Row 2: Title is required"))
+                .startedAt(LocalDateTime.of(2024, 6, 1, 12, 0))
+                .finishedAt(LocalDateTime.of(2024, 6, 1, 12, 1))
+                .build();
+    }
+
+    private static ImportJobResponse runningImportJob(ImportJobResponse importJob) {
+        return ImportJobResponse.builder()
+                .id(importJob.getId())
+                .libraryType(importJob.getLibraryType())
+                .format(importJob.getFormat())
+                .status(ImportJobStatus.RUNNING)
+                .errors(List.of())
+                .startedAt(importJob.getStartedAt())
+                .build();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Import Anime - CSV")
+    void shouldImportAnimeFromCsv() throws Exception {
+        importJob = runningImportJob(importJob);
+        when(importService.importAnime(eq(FileFormat.CSV), any(InputStream.class))).thenReturn(importJob);
+        mockMvc.perform(post(API_URL + "/anime")
+                        .contentType(ApplicationConstants.TEXT_CSV_VALUE)
+                        .content("title,type,studioId\nChainsaw Man,TV,1\n,TV,1\n".getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "http://localhost" + API_URL + "/" + importJob.getId()))
+                .andExpect(content().json(objectMapper.writeValueAsString(importJob)));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Import Manga - NDJSON")
+    void shouldImportMangaFromNdjson() throws Exception {
+        importJob.setLibraryType(LibraryType.MANGA);
+        importJob.setFormat(FileFormat.NDJSON);
+        importJob = runningImportJob(importJob);
+        when(importService.importManga(eq(FileFormat.NDJSON), any(InputStream.class))).thenReturn(importJob);
+        mockMvc.perform(post(API_URL + "/manga")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"title\":\"Berserk\",\"status\":\"READING\"}\n"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "http://localhost" + API_URL + "/" + importJob.getId()))
+                .andExpect(content().json(objectMapper.writeValueAsString(importJob)));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Import Anime - Unsupported Format")
+    void shouldRejectUnsupportedFileFormat() throws Exception {
+        mockMvc.perform(post(API_URL + "/anime")
+                        .contentType(MediaType.APPLICATION_XML)
+                        .content("<anime/>"))
+                .andExpect(status().isUnsupportedMediaType());
+        verify(importService, never()).importAnime(any(), any());
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Get Import Job - Success")
+    void shouldGetImportJob() throws Exception {
+        when(importService.getImportJob(importJob.getId())).thenReturn(importJob);
+        mockMvc.perform(get(API_URL + "/{id}", importJob.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(importJob)));
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Get Import Job - Not Found")
+    void shouldReturnNotFoundForUnknownImportJob() throws Exception {
+        when(importService.getImportJob("unknown")).thenThrow(new ResourceNotFoundException("Import job", "ID", "unknown"));
+        mockMvc.perform(get(API_URL + "/{id}", "unknown")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Get Import Jobs - Success")
+    void shouldGetImportJobs() throws Exception {
+        when(importService.getImportJobs()).thenReturn(List.of(importJob));
+        mockMvc.perform(get(API_URL))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(List.of(importJob))));
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Import Anime - Too Many Imports")
+    void shouldReturnServiceUnavailableWhenImportQueueIsFull() throws Exception {
+        when(importService.importAnime(eq(FileFormat.CSV), any(InputStream.class))).thenThrow(new ServiceBusyException("Too many imports are running right now, please retry shortly."));
+        mockMvc.perform(post(API_URL + "/anime")
+                        .contentType(ApplicationConstants.TEXT_CSV_VALUE)
+                        .content("title,type,studioId\nChainsaw Man,TV,1\n"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+    }
+}
@@ -0,0 +1,90 @@
+package com.aimanecouissi.animerestapi.controller;
+
+import com.aimanecouissi.animerestapi.payload.response.LibraryVersionResponse;
+import com.aimanecouissi.animerestapi.security.JwtTokenProvider;
+import com.aimanecouissi.animerestapi.service.LibraryVersionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = LibraryController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(OrderAnnotation.class)
+public class LibraryControllerTest {
+
+    private static final String API_URL = "/api/v1/library/version";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private LibraryVersionService libraryVersionService;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        when(libraryVersionService.getLibraryVersion()).thenReturn(LibraryVersionResponse.builder()
+                .anime(42)
+                .manga(7)
+                .build());
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Get Library Version - Success")
+    void shouldGetLibraryVersion() throws Exception {
+        mockMvc.perform(get(API_URL))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.anime").value(42))
+                .andExpect(jsonPath("$.manga").value(7));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Get Library Version - Head")
+    void shouldAnswerHeadWithLibraryVersionETag() throws Exception {
+        String eTag = mockMvc.perform(get(API_URL)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(head(API_URL))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Get Library Version - Not Modified")
+    void shouldReturnNotModifiedWhenVersionIsUnchanged() throws Exception {
+        String eTag = mockMvc.perform(get(API_URL)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get(API_URL).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        when(libraryVersionService.getLibraryVersion()).thenReturn(LibraryVersionResponse.builder()
+                .anime(43)
+                .manga(7)
+                .build());
+        mockMvc.perform(get(API_URL).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)));
+    }
+}
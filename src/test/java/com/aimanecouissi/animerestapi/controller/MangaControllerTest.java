@@ -3,11 +3,17 @@ package com.aimanecouissi.animerestapi.controller;
 import com.aimanecouissi.animerestapi.enums.MangaStatus;
 import com.aimanecouissi.animerestapi.exception.ResourceNotFoundException;
 import com.aimanecouissi.animerestapi.exception.UniqueFieldException;
+import com.aimanecouissi.animerestapi.payload.dto.BatchDeleteDTO;
+import com.aimanecouissi.animerestapi.payload.dto.MangaBatchDTO;
 import com.aimanecouissi.animerestapi.payload.dto.MangaDTO;
+import com.aimanecouissi.animerestapi.payload.response.BatchItemResult;
+import com.aimanecouissi.animerestapi.payload.response.MangaBatchResponse;
+import com.aimanecouissi.animerestapi.payload.response.MangaCursorPaginatedResponse;
 import com.aimanecouissi.animerestapi.payload.response.MangaPaginatedResponse;
 import com.aimanecouissi.animerestapi.security.JwtTokenProvider;
 import com.aimanecouissi.animerestapi.service.MangaService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,17 +22,26 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = MangaController.class)
@@ -36,6 +51,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 public class MangaControllerTest {
 
     private static final String API_URL = "/api/v1/manga";
+    private static final String MANGA_ETAG = "\"7d793037a0760186574b0282f2f435e7\"";
 
     @Autowired
     private MockMvc mockMvc;
@@ -45,6 +61,9 @@ public class MangaControllerTest {
     @MockBean
     private JwtTokenProvider jwtTokenProvider;
 
+    @MockBean
+    private MeterRegistry meterRegistry;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -231,14 +250,22 @@ public class MangaControllerTest {
                 .rating(9)
                 .isFavorite(true)
                 .build());
-        when(mangaService.searchManga(anyString(), any(MangaStatus.class), anyInt(), anyBoolean())).thenReturn(mangaList);
+        MangaPaginatedResponse paginatedResponse = MangaPaginatedResponse.builder()
+                .items(mangaList)
+                .pageNumber(0)
+                .pageSize(10)
+                .totalPages(1)
+                .totalElements(1)
+                .isLast(true)
+                .build();
+        when(mangaService.searchManga(anyString(), any(MangaStatus.class), anyInt(), anyBoolean(), anyInt(), anyInt(), anyString(), anyString())).thenReturn(paginatedResponse);
         mockMvc.perform(get(API_URL + "/search")
                         .param("title", "Naruto")
                         .param("status", MangaStatus.COMPLETED.toString())
                         .param("rating", "9")
                         .param("isFavorite", "true"))
                 .andExpect(status().isOk())
-                .andExpect(content().json(objectMapper.writeValueAsString(mangaList)));
+                .andExpect(content().json(objectMapper.writeValueAsString(paginatedResponse)));
     }
 
     @Test
@@ -251,4 +278,143 @@ public class MangaControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().json(objectMapper.writeValueAsString(meanRating)));
     }
+
+    @Test
+    @Order(14)
+    @DisplayName("Get All Manga By Cursor - Success")
+    void shouldGetAllMangaByCursor() throws Exception {
+        MangaCursorPaginatedResponse cursorPaginatedResponse = MangaCursorPaginatedResponse.builder()
+                .items(Collections.emptyList())
+                .pageSize(10)
+                .nextCursor("QVNDfGlkfDEw")
+                .isLast(false)
+                .build();
+        when(mangaService.getAllMangaByCursor("", 10, "id", "asc")).thenReturn(cursorPaginatedResponse);
+        mockMvc.perform(get(API_URL).param("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(cursorPaginatedResponse)));
+        verify(mangaService, never()).getAllManga(anyInt(), anyInt(), anyString(), anyString());
+    }
+
+    @Test
+    @Order(15)
+    @DisplayName("Stream Manga - Success")
+    void shouldStreamManga() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<MangaDTO> consumer = invocation.getArgument(4);
+            consumer.accept(createdManga);
+            consumer.accept(mangaDTO);
+            return null;
+        }).when(mangaService).streamManga(any(), any(), any(), any(), any());
+        mockMvc.perform(get(API_URL + "/search/stream")
+                        .param("status", MangaStatus.READING.toString()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(objectMapper.writeValueAsString(createdManga) + "\n" + objectMapper.writeValueAsString(mangaDTO) + "\n"));
+    }
+
+    @Test
+    @Order(16)
+    @DisplayName("Create Manga Batch - Success")
+    void shouldCreateMangaBatch() throws Exception {
+        MangaBatchResponse batchResponse = MangaBatchResponse.builder()
+                .results(List.of(BatchItemResult.success(0, HttpStatus.CREATED, createdManga), BatchItemResult.failure(1, HttpStatus.CONFLICT, "'Title' with value 'One Piece' already exists.")))
+                .succeeded(1)
+                .failed(1)
+                .build();
+        when(mangaService.createMangaBatch(anyList())).thenReturn(batchResponse);
+        mockMvc.perform(post(API_URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(MangaBatchDTO.builder().items(List.of(mangaDTO, mangaDTO)).build())))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(batchResponse)));
+    }
+
+    @Test
+    @Order(17)
+    @DisplayName("Create Manga Batch - Invalid Entry")
+    void shouldRejectWholeMangaBatchWhenAnEntryIsInvalid() throws Exception {
+        MangaDTO invalidMangaDTO = MangaDTO.builder().build();
+        mockMvc.perform(post(API_URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(MangaBatchDTO.builder().items(List.of(mangaDTO, invalidMangaDTO)).build())))
+                .andExpect(status().isBadRequest());
+        verify(mangaService, never()).createMangaBatch(anyList());
+    }
+
+    @Test
+    @Order(18)
+    @DisplayName("Update Manga Batch - Success")
+    void shouldUpdateMangaBatch() throws Exception {
+        MangaBatchResponse batchResponse = MangaBatchResponse.builder()
+                .results(List.of(BatchItemResult.success(0, HttpStatus.OK, createdManga)))
+                .succeeded(1)
+                .build();
+        when(mangaService.updateMangaBatch(anyList())).thenReturn(batchResponse);
+        mockMvc.perform(put(API_URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(MangaBatchDTO.builder().items(List.of(createdManga)).build())))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(batchResponse)));
+    }
+
+    @Test
+    @Order(19)
+    @DisplayName("Delete Manga Batch - Success")
+    void shouldDeleteMangaBatch() throws Exception {
+        MangaBatchResponse batchResponse = MangaBatchResponse.builder()
+                .results(List.of(BatchItemResult.success(0, HttpStatus.OK, createdManga), BatchItemResult.failure(1, HttpStatus.NOT_FOUND, "Resource 'Manga' not found with ID: '2'.")))
+                .succeeded(1)
+                .failed(1)
+                .build();
+        when(mangaService.deleteMangaBatch(List.of(1L, 2L))).thenReturn(batchResponse);
+        mockMvc.perform(delete(API_URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(BatchDeleteDTO.builder().ids(List.of(1L, 2L)).build())))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(batchResponse)));
+    }
+
+    @Test
+    @Order(20)
+    @DisplayName("Delete Manga Batch - Empty")
+    void shouldRejectEmptyMangaDeleteBatch() throws Exception {
+        mockMvc.perform(delete(API_URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(BatchDeleteDTO.builder().ids(List.of()).build())))
+                .andExpect(status().isBadRequest());
+        verify(mangaService, never()).deleteMangaBatch(anyList());
+    }
+
+    @Test
+    @Order(21)
+    @DisplayName("Get Manga By ID - Not Modified")
+    void shouldReturnNotModifiedWhenMangaETagMatches() throws Exception {
+        when(mangaService.getMangaETag(1L)).thenReturn(Optional.of(MANGA_ETAG));
+        mockMvc.perform(get(API_URL + "/{id}", 1L).header(HttpHeaders.IF_NONE_MATCH, MANGA_ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, MANGA_ETAG));
+        verify(mangaService, never()).getMangaById(anyLong());
+    }
+
+    @Test
+    @Order(22)
+    @DisplayName("Get All Manga - Not Modified")
+    void shouldReturnNotModifiedWhenMangaLibraryETagMatches() throws Exception {
+        when(mangaService.getMangaLibraryETag()).thenReturn(MANGA_ETAG);
+        mockMvc.perform(get(API_URL).param("cursor", "").header(HttpHeaders.IF_NONE_MATCH, MANGA_ETAG))
+                .andExpect(status().isNotModified());
+        verify(mangaService, never()).getAllMangaByCursor(anyString(), anyInt(), anyString(), anyString());
+    }
+
+    @Test
+    @Order(23)
+    @DisplayName("Create Manga Batch - Null Entry")
+    void shouldRejectMangaBatchWithNullEntry() throws Exception {
+        mockMvc.perform(post(API_URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(MangaBatchDTO.builder().items(Arrays.asList(mangaDTO, null)).build())))
+                .andExpect(status().isBadRequest());
+        verify(mangaService, never()).createMangaBatch(anyList());
+    }
 }
@@ -6,6 +6,7 @@ import com.aimanecouissi.animerestapi.payload.dto.StudioDTO;
 import com.aimanecouissi.animerestapi.security.JwtTokenProvider;
 import com.aimanecouissi.animerestapi.service.StudioService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
@@ -15,12 +16,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -36,6 +39,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 public class StudioControllerTest {
 
     private static final String API_URL = "/api/v1/studios";
+    private static final String STUDIO_ETAG = "\"0cc175b9c0f1b6a831c399e269772661\"";
 
     @Autowired
     private MockMvc mockMvc;
@@ -46,6 +50,9 @@ public class StudioControllerTest {
     @MockBean
     private JwtTokenProvider jwtTokenProvider;
 
+    @MockBean
+    private MeterRegistry meterRegistry;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -196,4 +203,24 @@ public class StudioControllerTest {
         doThrow(new ResourceNotFoundException("Studio", "ID", "1")).when(studioService).deleteStudio(anyLong());
         performDeleteRequest();
     }
+
+    @Test
+    @Order(12)
+    @DisplayName("Get Studio By ID - Not Modified")
+    void shouldReturnNotModifiedWhenStudioETagMatches() throws Exception {
+        when(studioService.getStudioETag(1L)).thenReturn(Optional.of(STUDIO_ETAG));
+        mockMvc.perform(get(API_URL + "/{id}", 1L).header(HttpHeaders.IF_NONE_MATCH, STUDIO_ETAG))
+                .andExpect(status().isNotModified());
+        verify(studioService, never()).getStudioById(anyLong());
+    }
+
+    @Test
+    @Order(13)
+    @DisplayName("Get All Studios - Not Modified")
+    void shouldReturnNotModifiedWhenStudioCatalogETagMatches() throws Exception {
+        when(studioService.getAllStudiosETag()).thenReturn(STUDIO_ETAG);
+        mockMvc.perform(get(API_URL).header(HttpHeaders.IF_NONE_MATCH, STUDIO_ETAG))
+                .andExpect(status().isNotModified());
+        verify(studioService, never()).getAllStudios();
+    }
 }
@@ -0,0 +1,97 @@
+package com.aimanecouissi.animerestapi.controller;
+
+import com.aimanecouissi.animerestapi.enums.AnimeStatus;
+import com.aimanecouissi.animerestapi.enums.AnimeType;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import com.aimanecouissi.animerestapi.payload.dto.AnimeDTO;
+import com.aimanecouissi.animerestapi.payload.dto.TombstoneDTO;
+import com.aimanecouissi.animerestapi.payload.response.SyncResponse;
+import com.aimanecouissi.animerestapi.security.JwtTokenProvider;
+import com.aimanecouissi.animerestapi.service.SyncService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = SyncController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(OrderAnnotation.class)
+public class SyncControllerTest {
+
+    private static final String API_URL = "/api/v1/sync";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SyncService syncService;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @Order(1)
+    @DisplayName("Get Changes - Success")
+    void shouldGetChanges() throws Exception {
+        when(syncService.getChanges(null, 100)).thenReturn(SyncResponse.builder()
+                .anime(List.of(AnimeDTO.builder().id(1L).title("Attack on Titan").type(AnimeType.TV).status(AnimeStatus.COMPLETED).studioId(1L).build()))
+                .manga(List.of())
+                .deleted(List.of(TombstoneDTO.builder().library(LibraryType.MANGA).id(2L).deletedAt(LocalDateTime.of(2024, 6, 1, 12, 0)).build()))
+                .pageSize(100)
+                .nextSince("token")
+                .isLast(true)
+                .build());
+        mockMvc.perform(get(API_URL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.anime[0].title").value("Attack on Titan"))
+                .andExpect(jsonPath("$.manga").isEmpty())
+                .andExpect(jsonPath("$.deleted[0].library").value("MANGA"))
+                .andExpect(jsonPath("$.deleted[0].id").value(2))
+                .andExpect(jsonPath("$.nextSince").value("token"))
+                .andExpect(jsonPath("$.last").value(true));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Get Changes - Since Token")
+    void shouldPassTokenAndPageSize() throws Exception {
+        when(syncService.getChanges("token", 5)).thenReturn(SyncResponse.builder()
+                .anime(List.of())
+                .manga(List.of())
+                .deleted(List.of())
+                .pageSize(5)
+                .nextSince("token")
+                .isLast(true)
+                .build());
+        mockMvc.perform(get(API_URL).param("since", "token").param("pageSize", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pageSize").value(5));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Get Changes - Invalid Token")
+    void shouldReturnBadRequestWhenTokenIsInvalid() throws Exception {
+        when(syncService.getChanges("bad", 100)).thenThrow(new IllegalArgumentException("Invalid sync token: bad"));
+        mockMvc.perform(get(API_URL).param("since", "bad"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -323,14 +323,14 @@ public class AnimeControllerIntegrationTest {
                         .param("isFavorite", "true")
                         .param("isComplete", "true"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.size()", is(1)))
-                .andExpect(jsonPath("$[0].title", is("Spirited Away")))
-                .andExpect(jsonPath("$[0].type", is(AnimeType.MOVIE.toString())))
-                .andExpect(jsonPath("$[0].status", is(AnimeStatus.COMPLETED.toString())))
-                .andExpect(jsonPath("$[0].rating", is(10)))
-                .andExpect(jsonPath("$[0].favorite", is(true)))
-                .andExpect(jsonPath("$[0].complete", is(true)))
-                .andExpect(jsonPath("$[0].studioId", is(((int) studio.getId()))));
+                .andExpect(jsonPath("$.items.size()", is(1)))
+                .andExpect(jsonPath("$.items[0].title", is("Spirited Away")))
+                .andExpect(jsonPath("$.items[0].type", is(AnimeType.MOVIE.toString())))
+                .andExpect(jsonPath("$.items[0].status", is(AnimeStatus.COMPLETED.toString())))
+                .andExpect(jsonPath("$.items[0].rating", is(10)))
+                .andExpect(jsonPath("$.items[0].favorite", is(true)))
+                .andExpect(jsonPath("$.items[0].complete", is(true)))
+                .andExpect(jsonPath("$.items[0].studioId", is(((int) studio.getId()))));
     }
 
     @Test
@@ -214,16 +214,17 @@ class AnimeRepositoryIntegrationTest {
     @Order(5)
     @DisplayName("Find All Anime By User ID and Filters")
     void shouldFindAllByUserIdAndFilters() {
-        List<Anime> animeList = animeRepository.findAllByUserIdAndFilters(
+        Page<Anime> animePage = animeRepository.findAllByUserIdAndFilters(
                 user.getId(),
                 "Spirited",
                 AnimeType.MOVIE,
                 AnimeStatus.COMPLETED,
                 10,
                 true,
-                true
+                true,
+                PageRequest.of(0, 10)
         );
-        assertThat(animeList).isNotEmpty();
-        assertThat(animeList).contains(anime);
+        assertThat(animePage).isNotEmpty();
+        assertThat(animePage.getContent()).contains(anime);
     }
 }
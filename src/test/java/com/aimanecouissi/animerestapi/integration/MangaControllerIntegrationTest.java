@@ -291,11 +291,11 @@ public class MangaControllerIntegrationTest {
                         .param("rating", "9")
                         .param("isFavorite", "true"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.size()", is(1)))
-                .andExpect(jsonPath("$[0].title", is("Naruto")))
-                .andExpect(jsonPath("$[0].status", is(MangaStatus.COMPLETED.toString())))
-                .andExpect(jsonPath("$[0].rating", is(9)))
-                .andExpect(jsonPath("$[0].favorite", is(true)));
+                .andExpect(jsonPath("$.items.size()", is(1)))
+                .andExpect(jsonPath("$.items[0].title", is("Naruto")))
+                .andExpect(jsonPath("$.items[0].status", is(MangaStatus.COMPLETED.toString())))
+                .andExpect(jsonPath("$.items[0].rating", is(9)))
+                .andExpect(jsonPath("$.items[0].favorite", is(true)));
     }
 
     @Test
@@ -183,14 +183,15 @@ class MangaRepositoryIntegrationTest {
     @Order(4)
     @DisplayName("Find All Manga By User ID and Filters")
     void shouldFindAllByUserIdAndFilters() {
-        List<Manga> mangaList = mangaRepository.findAllByUserIdAndFilters(
+        Page<Manga> mangaPage = mangaRepository.findAllByUserIdAndFilters(
                 user.getId(),
                 "Naruto",
                 MangaStatus.READING,
                 9,
-                true
+                true,
+                PageRequest.of(0, 10)
         );
-        assertThat(mangaList).isNotEmpty();
-        assertThat(mangaList).contains(manga);
+        assertThat(mangaPage).isNotEmpty();
+        assertThat(mangaPage.getContent()).contains(manga);
     }
 }
@@ -0,0 +1,105 @@
+package com.aimanecouissi.animerestapi.mapper;
+
+import com.aimanecouissi.animerestapi.entity.Anime;
+import com.aimanecouissi.animerestapi.entity.Studio;
+import com.aimanecouissi.animerestapi.entity.User;
+import com.aimanecouissi.animerestapi.enums.AnimeStatus;
+import com.aimanecouissi.animerestapi.enums.AnimeType;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import com.aimanecouissi.animerestapi.payload.dto.AnimeDTO;
+import com.aimanecouissi.animerestapi.payload.dto.LibraryEntryDTO;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.modelmapper.ModelMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestMethodOrder(OrderAnnotation.class)
+class AnimeMapperTest {
+
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final AnimeMapper animeMapper = new AnimeMapper();
+
+    private Anime anime;
+    private AnimeDTO animeDTO;
+
+    @BeforeEach
+    void setUp() {
+        // Anime BO
+        anime = Anime.builder()
+                .id(1L)
+                .title("Attack on Titan")
+                .type(AnimeType.TV)
+                .status(AnimeStatus.COMPLETED)
+                .rating(10)
+                .isFavorite(true)
+                .isComplete(true)
+                .studio(Studio.builder().id(3L).name("MAPPA").build())
+                .user(User.builder().id(5L).username("john.doe").build())
+                .build();
+
+        // Anime DTO
+        animeDTO = AnimeDTO.builder()
+                .id(1L)
+                .title("Attack on Titan")
+                .type(AnimeType.TV)
+                .status(AnimeStatus.WATCHING)
+                .rating(8)
+                .isFavorite(false)
+                .isComplete(true)
+                .studioId(3L)
+                .build();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("To Anime DTO - Matches ModelMapper")
+    void shouldMapAnimeToDTOLikeModelMapper() {
+        AnimeDTO expected = modelMapper.map(anime, AnimeDTO.class);
+        assertThat(animeMapper.toAnimeDTO(anime)).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("To Anime DTO - Null Rating And Studio")
+    void shouldMapAnimeWithNullsToDTOLikeModelMapper() {
+        anime.setRating(null);
+        anime.setStudio(null);
+        AnimeDTO expected = modelMapper.map(anime, AnimeDTO.class);
+        assertThat(animeMapper.toAnimeDTO(anime)).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("To Anime - Matches ModelMapper")
+    void shouldMapDTOToAnimeLikeModelMapper() {
+        Anime expected = modelMapper.map(animeDTO, Anime.class);
+        assertThat(animeMapper.toAnime(animeDTO)).usingRecursiveComparison().ignoringFields("id", "studio", "user").isEqualTo(expected);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("To Anime - Ignores Client Supplied ID And Studio")
+    void shouldNotCopyIdOrStudioFromDTO() {
+        Anime mappedAnime = animeMapper.toAnime(animeDTO);
+        assertThat(mappedAnime.getId()).isZero();
+        assertThat(mappedAnime.getStudio()).isNull();
+        assertThat(mappedAnime.getUser()).isNull();
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("To Library Entry DTO - Anime")
+    void shouldMapAnimeToLibraryEntryDTO() {
+        LibraryEntryDTO libraryEntryDTO = animeMapper.toLibraryEntryDTO(anime);
+        assertThat(libraryEntryDTO.getLibrary()).isEqualTo(LibraryType.ANIME);
+        assertThat(libraryEntryDTO.getStudioId()).isEqualTo(3L);
+        assertThat(libraryEntryDTO.getStatus()).isEqualTo("COMPLETED");
+        assertThat(libraryEntryDTO.getId()).isEqualTo(1L);
+        assertThat(libraryEntryDTO.getTitle()).isEqualTo("Attack on Titan");
+        assertThat(libraryEntryDTO.getType()).isEqualTo(AnimeType.TV);
+        assertThat(libraryEntryDTO.getRating()).isEqualTo(10);
+        assertThat(libraryEntryDTO.getFavorite()).isTrue();
+        assertThat(libraryEntryDTO.getComplete()).isTrue();
+    }
+}
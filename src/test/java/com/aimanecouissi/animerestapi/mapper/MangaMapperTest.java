@@ -0,0 +1,91 @@
+package com.aimanecouissi.animerestapi.mapper;
+
+import com.aimanecouissi.animerestapi.entity.Manga;
+import com.aimanecouissi.animerestapi.entity.User;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import com.aimanecouissi.animerestapi.enums.MangaStatus;
+import com.aimanecouissi.animerestapi.payload.dto.LibraryEntryDTO;
+import com.aimanecouissi.animerestapi.payload.dto.MangaDTO;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.modelmapper.ModelMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestMethodOrder(OrderAnnotation.class)
+class MangaMapperTest {
+
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final MangaMapper mangaMapper = new MangaMapper();
+
+    private Manga manga;
+    private MangaDTO mangaDTO;
+
+    @BeforeEach
+    void setUp() {
+        // Manga BO
+        manga = Manga.builder()
+                .id(1L)
+                .title("One Piece")
+                .status(MangaStatus.READING)
+                .rating(9)
+                .isFavorite(true)
+                .user(User.builder().id(5L).username("john.doe").build())
+                .build();
+
+        // Manga DTO
+        mangaDTO = MangaDTO.builder()
+                .id(1L)
+                .title("One Piece")
+                .status(MangaStatus.COMPLETED)
+                .rating(10)
+                .isFavorite(false)
+                .build();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("To Manga DTO - Matches ModelMapper")
+    void shouldMapMangaToDTOLikeModelMapper() {
+        MangaDTO expected = modelMapper.map(manga, MangaDTO.class);
+        assertThat(mangaMapper.toMangaDTO(manga)).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("To Manga DTO - Null Rating")
+    void shouldMapMangaWithNullRatingToDTOLikeModelMapper() {
+        manga.setRating(null);
+        MangaDTO expected = modelMapper.map(manga, MangaDTO.class);
+        assertThat(mangaMapper.toMangaDTO(manga)).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("To Manga - Matches ModelMapper")
+    void shouldMapDTOToMangaLikeModelMapper() {
+        Manga expected = modelMapper.map(mangaDTO, Manga.class);
+        assertThat(mangaMapper.toManga(mangaDTO)).usingRecursiveComparison().ignoringFields("id", "user").isEqualTo(expected);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("To Manga - Ignores Client Supplied ID")
+    void shouldNotCopyIdFromDTO() {
+        assertThat(mangaMapper.toManga(mangaDTO).getId()).isZero();
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("To Library Entry DTO - Manga")
+    void shouldMapMangaToLibraryEntryDTO() {
+        LibraryEntryDTO libraryEntryDTO = mangaMapper.toLibraryEntryDTO(manga);
+        assertThat(libraryEntryDTO.getLibrary()).isEqualTo(LibraryType.MANGA);
+        assertThat(libraryEntryDTO.getTitle()).isEqualTo("One Piece");
+        assertThat(libraryEntryDTO.getStatus()).isEqualTo("READING");
+        assertThat(libraryEntryDTO.getFavorite()).isTrue();
+        assertThat(libraryEntryDTO.getType()).isNull();
+        assertThat(libraryEntryDTO.getStudioId()).isNull();
+        assertThat(libraryEntryDTO.getComplete()).isNull();
+    }
+}
@@ -0,0 +1,36 @@
+package com.aimanecouissi.animerestapi.mapper;
+
+import com.aimanecouissi.animerestapi.entity.Studio;
+import com.aimanecouissi.animerestapi.payload.dto.StudioDTO;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.modelmapper.ModelMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestMethodOrder(OrderAnnotation.class)
+class StudioMapperTest {
+
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final StudioMapper studioMapper = new StudioMapper();
+
+    @Test
+    @Order(1)
+    @DisplayName("To Studio DTO - Matches ModelMapper")
+    void shouldMapStudioToDTOLikeModelMapper() {
+        Studio studio = Studio.builder().id(1L).name("MAPPA").build();
+        StudioDTO expected = modelMapper.map(studio, StudioDTO.class);
+        assertThat(studioMapper.toStudioDTO(studio)).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("To Studio - Matches ModelMapper")
+    void shouldMapDTOToStudioLikeModelMapper() {
+        StudioDTO studioDTO = StudioDTO.builder().id(1L).name("MAPPA").build();
+        Studio expected = modelMapper.map(studioDTO, Studio.class);
+        Studio mappedStudio = studioMapper.toStudio(studioDTO);
+        assertThat(mappedStudio).usingRecursiveComparison().ignoringFields("id").isEqualTo(expected);
+        assertThat(mappedStudio.getId()).isZero();
+    }
+}
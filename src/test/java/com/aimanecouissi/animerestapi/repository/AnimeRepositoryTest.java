@@ -6,18 +6,31 @@ import com.aimanecouissi.animerestapi.entity.Studio;
 import com.aimanecouissi.animerestapi.entity.User;
 import com.aimanecouissi.animerestapi.enums.AnimeStatus;
 import com.aimanecouissi.animerestapi.enums.AnimeType;
+import com.aimanecouissi.animerestapi.repository.projection.AnimeOwner;
+import com.aimanecouissi.animerestapi.repository.projection.RatingCount;
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
+import com.aimanecouissi.animerestapi.utility.ConstraintViolations;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DataJpaTest
 @TestMethodOrder(OrderAnnotation.class)
@@ -212,16 +225,223 @@ class AnimeRepositoryTest {
     @Order(5)
     @DisplayName("Find All Anime By User ID and Filters")
     void shouldFindAllByUserIdAndFilters() {
-        List<Anime> animeList = animeRepository.findAllByUserIdAndFilters(
+        Page<Anime> animePage = animeRepository.findAllByUserIdAndFilters(
                 user.getId(),
                 "Attack",
                 AnimeType.TV,
                 AnimeStatus.COMPLETED,
                 10,
                 true,
-                true
+                true,
+                PageRequest.of(0, 10)
         );
-        assertThat(animeList).isNotEmpty();
-        assertThat(animeList).contains(anime);
+        assertThat(animePage.getTotalElements()).isEqualTo(1);
+        assertThat(animePage.getContent()).contains(anime);
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("Find All Anime By User ID With Keyset")
+    void shouldScrollAllByUserIdWithKeyset() {
+        Anime bleach = Anime.builder().title("Bleach").type(AnimeType.TV).status(AnimeStatus.WATCHING).studio(studio).user(user).build();
+        Anime naruto = Anime.builder().title("Naruto").type(AnimeType.TV).status(AnimeStatus.WATCHING).studio(studio).user(user).build();
+        animeRepository.saveAll(List.of(naruto, bleach));
+        Sort sort = Sort.by(Sort.Direction.ASC, "title", "id");
+        Window<Anime> firstWindow = animeRepository.findAllByUserId(user.getId(), ScrollPosition.keyset(), sort, Limit.of(2));
+        assertThat(firstWindow.getContent()).containsExactly(anime, bleach);
+        assertThat(firstWindow.hasNext()).isTrue();
+        Window<Anime> secondWindow = animeRepository.findAllByUserId(user.getId(), firstWindow.positionAt(1), sort, Limit.of(2));
+        assertThat(secondWindow.getContent()).containsExactly(naruto);
+        assertThat(secondWindow.hasNext()).isFalse();
+    }
+
+    @Test
+    @Order(13)
+    @DisplayName("Stream All Anime By User ID and Filters")
+    void shouldStreamAllByUserIdAndFilters() {
+        try (Stream<Anime> animeStream = animeRepository.streamAllByUserIdAndFilters(
+                user.getId(),
+                "Attack",
+                AnimeType.TV,
+                AnimeStatus.COMPLETED,
+                10,
+                true,
+                true
+        )) {
+            assertThat(animeStream).containsExactly(anime);
+        }
+    }
+
+    @Test
+    @Order(14)
+    @DisplayName("Find All Anime By Title")
+    void shouldFindAllByTitle() {
+        assertThat(findAllByTitle("ON TIT")).containsExactly(anime);
+        assertThat(findAllByTitle("at")).containsExactly(anime);
+        assertThat(findAllByTitle("xyz")).isEmpty();
+    }
+
+    @Test
+    @Order(15)
+    @DisplayName("Find All Anime By Updated Title")
+    void shouldFindAllByUpdatedTitle() {
+        anime.setTitle("Shingeki no Kyojin");
+        animeRepository.saveAndFlush(anime);
+        assertThat(findAllByTitle("ON TIT")).isEmpty();
+        assertThat(findAllByTitle("Kyojin")).containsExactly(anime);
+    }
+
+    @Test
+    @Order(16)
+    @DisplayName("Count Ratings By User ID")
+    void shouldCountRatingsByUserId() {
+        Anime unratedAnime = Anime.builder()
+                .title("Chainsaw Man")
+                .type(AnimeType.TV)
+                .status(AnimeStatus.PLAN_TO_WATCH)
+                .studio(studio)
+                .user(user)
+                .build();
+        animeRepository.save(unratedAnime);
+        List<RatingCount> ratingCounts = animeRepository.countRatingsByUserId(user.getId());
+        assertThat(ratingCounts).hasSize(1);
+        assertThat(ratingCounts.get(0).getRating()).isEqualTo(10);
+        assertThat(ratingCounts.get(0).getEntryCount()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(17)
+    @DisplayName("Find Owners By Studio ID")
+    void shouldFindOwnersByStudioId() {
+        List<AnimeOwner> animeOwners = animeRepository.findOwnersByStudioId(studio.getId());
+        assertThat(animeOwners).extracting(AnimeOwner::getUserId, AnimeOwner::getAnimeId).containsExactly(tuple(user.getId(), anime.getId()));
+    }
+
+    @Test
+    @Order(18)
+    @DisplayName("Save All Anime With Pooled IDs")
+    void shouldAssignConsecutiveIdsFromPooledSequence() {
+        List<Anime> newAnime = Stream.of("Chainsaw Man", "Vinland Saga", "Mob Psycho 100")
+                .map(title -> Anime.builder()
+                        .title(title)
+                        .type(AnimeType.TV)
+                        .status(AnimeStatus.COMPLETED)
+                        .studio(studio)
+                        .user(user)
+                        .build())
+                .toList();
+        List<Anime> savedAnime = animeRepository.saveAllAndFlush(newAnime);
+        assertThat(savedAnime).extracting(Anime::getId)
+                .containsExactly(anime.getId() + 1, anime.getId() + 2, anime.getId() + 3);
+    }
+
+    @Test
+    @Order(19)
+    @DisplayName("Find All Anime By User ID And Titles")
+    void shouldFindAllAnimeByUserIdAndTitles() {
+        List<Anime> foundAnime = animeRepository.findAllByUserIdAndTitleIn(user.getId(), Set.of(anime.getTitle(), "Chainsaw Man"));
+        assertThat(foundAnime).containsExactly(anime);
+        assertThat(animeRepository.findAllByUserIdAndTitleIn(user.getId() + 1, Set.of(anime.getTitle()))).isEmpty();
+    }
+
+    @Test
+    @Order(20)
+    @DisplayName("Stream All Anime By User ID Ordered By ID")
+    void shouldStreamAllAnimeByUserIdOrderedById() {
+        Anime newAnime = Anime.builder()
+                .title("Chainsaw Man")
+                .type(AnimeType.TV)
+                .status(AnimeStatus.WATCHING)
+                .studio(studio)
+                .user(user)
+                .build();
+        animeRepository.save(newAnime);
+        try (Stream<Anime> animeStream = animeRepository.streamAllByUserIdOrderById(user.getId())) {
+            assertThat(animeStream).containsExactly(anime, newAnime);
+        }
+        try (Stream<Anime> animeStream = animeRepository.streamAllByUserIdOrderById(user.getId() + 1)) {
+            assertThat(animeStream).isEmpty();
+        }
+    }
+
+    @Test
+    @Order(21)
+    @DisplayName("Save Anime - Duplicate Title")
+    void shouldRejectDuplicateAnimeTitle() {
+        Anime duplicateAnime = Anime.builder()
+                .title(anime.getTitle())
+                .type(AnimeType.MOVIE)
+                .status(AnimeStatus.WATCHING)
+                .studio(studio)
+                .user(user)
+                .build();
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class, () -> animeRepository.saveAndFlush(duplicateAnime));
+        assertThat(ConstraintViolations.isUniqueViolation(exception, ApplicationConstants.ANIME_TITLE_CONSTRAINT)).isTrue();
+        assertThat(ConstraintViolations.isUniqueViolation(exception, ApplicationConstants.MANGA_TITLE_CONSTRAINT)).isFalse();
+    }
+
+    @Test
+    @Order(22)
+    @DisplayName("Find Anime Update Timestamp By ID and User ID")
+    void shouldFindAnimeUpdatedAtByIdAndUserId() {
+        animeRepository.flush();
+        assertThat(animeRepository.findUpdatedAtByIdAndUserId(anime.getId(), user.getId())).contains(anime.getUpdatedAt());
+        assertThat(animeRepository.findUpdatedAtByIdAndUserId(anime.getId(), user.getId() + 1)).isEmpty();
+    }
+
+    @Test
+    @Order(23)
+    @DisplayName("Find Anime Updated Before With Keyset")
+    void shouldScrollAllByUserIdAndUpdatedAtBeforeWithKeyset() {
+        Anime chainsawMan = Anime.builder().title("Chainsaw Man").type(AnimeType.TV).status(AnimeStatus.WATCHING).studio(studio).user(user).build();
+        animeRepository.saveAndFlush(chainsawMan);
+        Sort sort = Sort.by("updatedAt", "id");
+        LocalDateTime now = LocalDateTime.now().plusSeconds(1);
+        Window<Anime> firstWindow = animeRepository.findAllByUserIdAndUpdatedAtBefore(user.getId(), now, ScrollPosition.keyset(), sort, Limit.of(1));
+        assertThat(firstWindow.getContent()).containsExactly(anime);
+        assertThat(firstWindow.hasNext()).isTrue();
+        Window<Anime> secondWindow = animeRepository.findAllByUserIdAndUpdatedAtBefore(user.getId(), now, firstWindow.positionAt(0), sort, Limit.of(1));
+        assertThat(secondWindow.getContent()).containsExactly(chainsawMan);
+        assertThat(secondWindow.hasNext()).isFalse();
+        assertThat(animeRepository.findAllByUserIdAndUpdatedAtBefore(user.getId(), anime.getUpdatedAt(), ScrollPosition.keyset(), sort, Limit.of(1))).isEmpty();
+    }
+
+    @Test
+    @Order(24)
+    @DisplayName("Find All Anime By Title Of One User")
+    void shouldFindAllByTitleOfOneUserOnly() {
+        User otherUser = User.builder()
+                .firstName("Jane")
+                .lastName("Doe")
+                .username("jane.doe")
+                .password("password123")
+                .build();
+        userRepository.save(otherUser);
+        Anime otherAnime = Anime.builder().title("Attack on Titan").type(AnimeType.TV).status(AnimeStatus.WATCHING).studio(studio).user(otherUser).build();
+        animeRepository.saveAndFlush(otherAnime);
+        assertThat(findAllByTitle(anime.getTitle())).containsExactly(anime);
+    }
+
+    @Test
+    @Order(25)
+    @DisplayName("Find All Anime By Title With Supplementary Characters")
+    void shouldFindAllByTitleWithSupplementaryCharacters() {
+        Anime dragonAnime = Anime.builder().title("Dragon \uD83D\uDC09 Quest").type(AnimeType.TV).status(AnimeStatus.WATCHING).studio(studio).user(user).build();
+        animeRepository.saveAndFlush(dragonAnime);
+        assertThat(findAllByTitle("\uD83D\uDC09")).containsExactly(dragonAnime);
+        assertThat(findAllByTitle("N \uD83D\uDC09 q")).containsExactly(dragonAnime);
+    }
+
+    private List<Anime> findAllByTitle(String title) {
+        return animeRepository.findAllByUserIdAndFilters(
+                user.getId(),
+                title,
+                null,
+                null,
+                null,
+                null,
+                null,
+                PageRequest.of(0, 10)
+        ).getContent();
     }
 }
@@ -0,0 +1,85 @@
+package com.aimanecouissi.animerestapi.repository;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * A database as ddl-auto left it before the migrations, holding rows, and the parts of a schema compared to tell
+ * whether the migrations brought it to the schema a fresh database gets.
+ */
+final class LegacySchema {
+
+    private static final String FLYWAY_HISTORY_TABLE = "flyway_schema_history";
+
+    private LegacySchema() {
+    }
+
+    static void create(DataSource dataSource, String vendor) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/ddl-auto/" + vendor + ".sql"));
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/ddl-auto/data.sql"));
+        }
+    }
+
+    // Configured like the application, so a database that is not empty is baselined at V1
+    static Flyway flyway(DataSource dataSource, String vendor) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/" + vendor)
+                .baselineOnMigrate(true)
+                .load();
+    }
+
+    static Set<String> columns(DataSource dataSource) throws SQLException {
+        Set<String> columns = new TreeSet<>();
+        try (Connection connection = dataSource.getConnection();
+             ResultSet resultSet = connection.getMetaData().getColumns(connection.getCatalog(), connection.getSchema(), "%", "%")) {
+            while (resultSet.next()) {
+                String table = resultSet.getString("TABLE_NAME");
+                if (!FLYWAY_HISTORY_TABLE.equalsIgnoreCase(table)) {
+                    columns.add("%s.%s %s(%d) %s".formatted(table, resultSet.getString("COLUMN_NAME"), resultSet.getString("TYPE_NAME"),
+                            resultSet.getInt("COLUMN_SIZE"), resultSet.getString("IS_NULLABLE")));
+                }
+            }
+        }
+        return columns;
+    }
+
+    static Set<String> indexes(DataSource dataSource) throws SQLException {
+        Set<String> indexes = new TreeSet<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String table : tables(connection)) {
+                try (ResultSet resultSet = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), table, false, false)) {
+                    while (resultSet.next()) {
+                        indexes.add("%s.%s %s(%d) %s".formatted(table, resultSet.getString("INDEX_NAME"), resultSet.getString("COLUMN_NAME"),
+                                resultSet.getShort("ORDINAL_POSITION"), resultSet.getBoolean("NON_UNIQUE") ? "NON_UNIQUE" : "UNIQUE"));
+                    }
+                }
+            }
+        }
+        return indexes;
+    }
+
+    private static Set<String> tables(Connection connection) throws SQLException {
+        Set<String> tables = new TreeSet<>();
+        try (ResultSet resultSet = connection.getMetaData().getTables(connection.getCatalog(), connection.getSchema(), "%", new String[]{"TABLE"})) {
+            while (resultSet.next()) {
+                String table = resultSet.getString("TABLE_NAME");
+                if (!FLYWAY_HISTORY_TABLE.equalsIgnoreCase(table)) {
+                    tables.add(table);
+                }
+            }
+        }
+        return tables;
+    }
+}
@@ -0,0 +1,96 @@
+package com.aimanecouissi.animerestapi.repository;
+
+import com.aimanecouissi.animerestapi.entity.LibraryDeletion;
+import com.aimanecouissi.animerestapi.entity.Role;
+import com.aimanecouissi.animerestapi.entity.User;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@TestMethodOrder(OrderAnnotation.class)
+class LibraryDeletionRepositoryTest {
+
+    @Autowired
+    private LibraryDeletionRepository libraryDeletionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        // Create a role for user
+        Role role = Role.builder()
+                .name("ROLE_USER")
+                .build();
+        roleRepository.save(role);
+
+        // Create a user for library deletions
+        user = User.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .username("john.doe")
+                .password("password123")
+                .roles(Set.of(role))
+                .build();
+        userRepository.save(user);
+
+        // Record a deleted anime and a deleted manga
+        libraryDeletionRepository.saveAllAndFlush(List.of(
+                LibraryDeletion.builder().userId(user.getId()).libraryType(LibraryType.ANIME).entryId(7L).build(),
+                LibraryDeletion.builder().userId(user.getId()).libraryType(LibraryType.MANGA).entryId(3L).build()
+        ));
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Save Library Deletion")
+    void shouldStampDeletionTime() {
+        assertThat(libraryDeletionRepository.findAll()).allMatch(libraryDeletion -> libraryDeletion.getDeletedAt() != null);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Find Library Deletions Before With Keyset")
+    void shouldScrollAllByUserIdAndDeletedAtBeforeWithKeyset() {
+        Sort sort = Sort.by("deletedAt", "id");
+        LocalDateTime now = LocalDateTime.now().plusSeconds(1);
+        Window<LibraryDeletion> firstWindow = libraryDeletionRepository.findAllByUserIdAndDeletedAtBefore(user.getId(), now, ScrollPosition.keyset(), sort, Limit.of(1));
+        assertThat(firstWindow.getContent())
+                .extracting(LibraryDeletion::getLibraryType, LibraryDeletion::getEntryId)
+                .containsExactly(tuple(LibraryType.ANIME, 7L));
+        assertThat(firstWindow.hasNext()).isTrue();
+        Window<LibraryDeletion> secondWindow = libraryDeletionRepository.findAllByUserIdAndDeletedAtBefore(user.getId(), now, firstWindow.positionAt(0), sort, Limit.of(1));
+        assertThat(secondWindow.getContent())
+                .extracting(LibraryDeletion::getLibraryType, LibraryDeletion::getEntryId)
+                .containsExactly(tuple(LibraryType.MANGA, 3L));
+        assertThat(secondWindow.hasNext()).isFalse();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Find Library Deletions Before - Other User or Unsettled")
+    void shouldNotFindDeletionsOfOtherUsersOrAfterCutoff() {
+        Sort sort = Sort.by("deletedAt", "id");
+        assertThat(libraryDeletionRepository.findAllByUserIdAndDeletedAtBefore(user.getId() + 1, LocalDateTime.now().plusSeconds(1), ScrollPosition.keyset(), sort, Limit.of(10))).isEmpty();
+        assertThat(libraryDeletionRepository.findAllByUserIdAndDeletedAtBefore(user.getId(), LocalDateTime.now().minusHours(1), ScrollPosition.keyset(), sort, Limit.of(10))).isEmpty();
+    }
+}
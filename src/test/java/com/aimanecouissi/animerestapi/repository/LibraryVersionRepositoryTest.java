@@ -0,0 +1,89 @@
+package com.aimanecouissi.animerestapi.repository;
+
+import com.aimanecouissi.animerestapi.entity.LibraryVersion;
+import com.aimanecouissi.animerestapi.entity.Role;
+import com.aimanecouissi.animerestapi.entity.User;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@TestMethodOrder(OrderAnnotation.class)
+class LibraryVersionRepositoryTest {
+
+    @Autowired
+    private LibraryVersionRepository libraryVersionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        // Create a role for user
+        Role role = Role.builder()
+                .name("ROLE_USER")
+                .build();
+        roleRepository.save(role);
+
+        // Create a user for library versions
+        user = User.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .username("john.doe")
+                .password("password123")
+                .roles(Set.of(role))
+                .build();
+        userRepository.save(user);
+
+        // Create an anime library version
+        libraryVersionRepository.saveAndFlush(LibraryVersion.builder()
+                .userId(user.getId())
+                .libraryType(LibraryType.ANIME)
+                .version(3)
+                .build());
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Find Library Version By User ID and Library Type")
+    void shouldFindVersionByUserIdAndLibraryType() {
+        assertThat(libraryVersionRepository.findVersionByUserIdAndLibraryType(user.getId(), LibraryType.ANIME)).contains(3L);
+        assertThat(libraryVersionRepository.findVersionByUserIdAndLibraryType(user.getId(), LibraryType.MANGA)).isEmpty();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Find All Library Versions By User ID")
+    void shouldFindAllByUserId() {
+        assertThat(libraryVersionRepository.findAllByUserId(user.getId()))
+                .extracting(LibraryVersion::getLibraryType, LibraryVersion::getVersion)
+                .containsExactly(tuple(LibraryType.ANIME, 3L));
+        assertThat(libraryVersionRepository.findAllByUserId(user.getId() + 1)).isEmpty();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Increment Library Version")
+    void shouldIncrementVersion() {
+        assertThat(libraryVersionRepository.incrementVersion(user.getId(), LibraryType.ANIME)).isEqualTo(1);
+        assertThat(libraryVersionRepository.incrementVersion(user.getId(), LibraryType.MANGA)).isZero();
+        entityManager.clear();
+        assertThat(libraryVersionRepository.findVersionByUserIdAndLibraryType(user.getId(), LibraryType.ANIME)).contains(4L);
+    }
+}
@@ -4,18 +4,29 @@ import com.aimanecouissi.animerestapi.entity.Manga;
 import com.aimanecouissi.animerestapi.entity.Role;
 import com.aimanecouissi.animerestapi.entity.User;
 import com.aimanecouissi.animerestapi.enums.MangaStatus;
+import com.aimanecouissi.animerestapi.repository.projection.RatingCount;
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
+import com.aimanecouissi.animerestapi.utility.ConstraintViolations;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DataJpaTest
 @TestMethodOrder(OrderAnnotation.class)
@@ -176,14 +187,184 @@ class MangaRepositoryTest {
     @Order(4)
     @DisplayName("Find All Manga By User ID and Filters")
     void shouldFindAllByUserIdAndFilters() {
-        List<Manga> mangaList = mangaRepository.findAllByUserIdAndFilters(
+        Page<Manga> mangaPage = mangaRepository.findAllByUserIdAndFilters(
                 user.getId(),
                 "Boruto",
                 MangaStatus.READING,
                 8,
-                true
+                true,
+                PageRequest.of(0, 10)
         );
-        assertThat(mangaList).isNotEmpty();
-        assertThat(mangaList).contains(manga);
+        assertThat(mangaPage.getTotalElements()).isEqualTo(1);
+        assertThat(mangaPage.getContent()).contains(manga);
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("Find All Manga By User ID With Keyset")
+    void shouldScrollAllByUserIdWithKeyset() {
+        Manga bleach = Manga.builder().title("Bleach").status(MangaStatus.READING).user(user).build();
+        Manga naruto = Manga.builder().title("Naruto").status(MangaStatus.READING).user(user).build();
+        mangaRepository.saveAll(List.of(naruto, bleach));
+        Sort sort = Sort.by(Sort.Direction.ASC, "title", "id");
+        Window<Manga> firstWindow = mangaRepository.findAllByUserId(user.getId(), ScrollPosition.keyset(), sort, Limit.of(2));
+        assertThat(firstWindow.getContent()).containsExactly(bleach, manga);
+        assertThat(firstWindow.hasNext()).isTrue();
+        Window<Manga> secondWindow = mangaRepository.findAllByUserId(user.getId(), firstWindow.positionAt(1), sort, Limit.of(2));
+        assertThat(secondWindow.getContent()).containsExactly(naruto);
+        assertThat(secondWindow.hasNext()).isFalse();
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("Stream All Manga By User ID and Filters")
+    void shouldStreamAllByUserIdAndFilters() {
+        try (Stream<Manga> mangaStream = mangaRepository.streamAllByUserIdAndFilters(
+                user.getId(),
+                "Boruto",
+                MangaStatus.READING,
+                8,
+                true
+        )) {
+            assertThat(mangaStream).containsExactly(manga);
+        }
+    }
+
+    @Test
+    @Order(13)
+    @DisplayName("Find All Manga By Title")
+    void shouldFindAllByTitle() {
+        assertThat(findAllByTitle("NARUTO NEXT")).containsExactly(manga);
+        assertThat(findAllByTitle("bo")).containsExactly(manga);
+        assertThat(findAllByTitle("xyz")).isEmpty();
+    }
+
+    @Test
+    @Order(14)
+    @DisplayName("Find All Manga By Updated Title")
+    void shouldFindAllByUpdatedTitle() {
+        manga.setTitle("Boruto: Two Blue Vortex");
+        mangaRepository.saveAndFlush(manga);
+        assertThat(findAllByTitle("NARUTO NEXT")).isEmpty();
+        assertThat(findAllByTitle("Vortex")).containsExactly(manga);
+    }
+
+    @Test
+    @Order(15)
+    @DisplayName("Count Ratings By User ID")
+    void shouldCountRatingsByUserId() {
+        Manga unratedManga = Manga.builder()
+                .title("One Piece")
+                .status(MangaStatus.PLAN_TO_READ)
+                .user(user)
+                .build();
+        mangaRepository.save(unratedManga);
+        List<RatingCount> ratingCounts = mangaRepository.countRatingsByUserId(user.getId());
+        assertThat(ratingCounts).hasSize(1);
+        assertThat(ratingCounts.get(0).getRating()).isEqualTo(8);
+        assertThat(ratingCounts.get(0).getEntryCount()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(16)
+    @DisplayName("Find All Manga By User ID And Titles")
+    void shouldFindAllMangaByUserIdAndTitles() {
+        List<Manga> foundManga = mangaRepository.findAllByUserIdAndTitleIn(user.getId(), Set.of(manga.getTitle(), "Berserk"));
+        assertThat(foundManga).containsExactly(manga);
+        assertThat(mangaRepository.findAllByUserIdAndTitleIn(user.getId() + 1, Set.of(manga.getTitle()))).isEmpty();
+    }
+
+    @Test
+    @Order(17)
+    @DisplayName("Stream All Manga By User ID Ordered By ID")
+    void shouldStreamAllMangaByUserIdOrderedById() {
+        Manga newManga = Manga.builder()
+                .title("Berserk")
+                .status(MangaStatus.READING)
+                .user(user)
+                .build();
+        mangaRepository.save(newManga);
+        try (Stream<Manga> mangaStream = mangaRepository.streamAllByUserIdOrderById(user.getId())) {
+            assertThat(mangaStream).containsExactly(manga, newManga);
+        }
+        try (Stream<Manga> mangaStream = mangaRepository.streamAllByUserIdOrderById(user.getId() + 1)) {
+            assertThat(mangaStream).isEmpty();
+        }
+    }
+
+    @Test
+    @Order(18)
+    @DisplayName("Save Manga - Duplicate Title")
+    void shouldRejectDuplicateMangaTitle() {
+        Manga duplicateManga = Manga.builder()
+                .title(manga.getTitle())
+                .status(MangaStatus.COMPLETED)
+                .user(user)
+                .build();
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class, () -> mangaRepository.saveAndFlush(duplicateManga));
+        assertThat(ConstraintViolations.isUniqueViolation(exception, ApplicationConstants.MANGA_TITLE_CONSTRAINT)).isTrue();
+    }
+
+    @Test
+    @Order(19)
+    @DisplayName("Find Manga Update Timestamp By ID and User ID")
+    void shouldFindMangaUpdatedAtByIdAndUserId() {
+        mangaRepository.flush();
+        assertThat(mangaRepository.findUpdatedAtByIdAndUserId(manga.getId(), user.getId())).contains(manga.getUpdatedAt());
+        assertThat(mangaRepository.findUpdatedAtByIdAndUserId(manga.getId(), user.getId() + 1)).isEmpty();
+    }
+
+    @Test
+    @Order(20)
+    @DisplayName("Find Manga Updated Before With Keyset")
+    void shouldScrollAllByUserIdAndUpdatedAtBeforeWithKeyset() {
+        Manga bleach = Manga.builder().title("Bleach").status(MangaStatus.READING).user(user).build();
+        mangaRepository.saveAndFlush(bleach);
+        Sort sort = Sort.by("updatedAt", "id");
+        LocalDateTime now = LocalDateTime.now().plusSeconds(1);
+        Window<Manga> firstWindow = mangaRepository.findAllByUserIdAndUpdatedAtBefore(user.getId(), now, ScrollPosition.keyset(), sort, Limit.of(1));
+        assertThat(firstWindow.getContent()).containsExactly(manga);
+        assertThat(firstWindow.hasNext()).isTrue();
+        Window<Manga> secondWindow = mangaRepository.findAllByUserIdAndUpdatedAtBefore(user.getId(), now, firstWindow.positionAt(0), sort, Limit.of(1));
+        assertThat(secondWindow.getContent()).containsExactly(bleach);
+        assertThat(secondWindow.hasNext()).isFalse();
+        assertThat(mangaRepository.findAllByUserIdAndUpdatedAtBefore(user.getId(), manga.getUpdatedAt(), ScrollPosition.keyset(), sort, Limit.of(1))).isEmpty();
+    }
+
+    @Test
+    @Order(21)
+    @DisplayName("Find All Manga By Title Of One User")
+    void shouldFindAllByTitleOfOneUserOnly() {
+        User otherUser = User.builder()
+                .firstName("Jane")
+                .lastName("Doe")
+                .username("jane.doe")
+                .password("password123")
+                .build();
+        userRepository.save(otherUser);
+        Manga otherManga = Manga.builder().title(manga.getTitle()).status(MangaStatus.READING).user(otherUser).build();
+        mangaRepository.saveAndFlush(otherManga);
+        assertThat(findAllByTitle(manga.getTitle())).containsExactly(manga);
+    }
+
+    @Test
+    @Order(22)
+    @DisplayName("Find All Manga By Title With Supplementary Characters")
+    void shouldFindAllByTitleWithSupplementaryCharacters() {
+        Manga dragonManga = Manga.builder().title("Dragon \uD83D\uDC09 Quest").status(MangaStatus.READING).user(user).build();
+        mangaRepository.saveAndFlush(dragonManga);
+        assertThat(findAllByTitle("\uD83D\uDC09")).containsExactly(dragonManga);
+        assertThat(findAllByTitle("N \uD83D\uDC09 q")).containsExactly(dragonManga);
+    }
+
+    private List<Manga> findAllByTitle(String title) {
+        return mangaRepository.findAllByUserIdAndFilters(
+                user.getId(),
+                title,
+                null,
+                null,
+                null,
+                PageRequest.of(0, 10)
+        ).getContent();
     }
 }
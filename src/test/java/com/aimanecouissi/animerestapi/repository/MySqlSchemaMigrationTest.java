@@ -0,0 +1,87 @@
+package com.aimanecouissi.animerestapi.repository;
+
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the MySQL migrations, which the H2 tests never execute, on a fresh database validated by Hibernate and on a
+ * database created by ddl-auto before the migrations. Skipped where Docker is not available.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestMethodOrder(OrderAnnotation.class)
+class MySqlSchemaMigrationTest {
+
+    // Root, so the test can create the second database
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0").withUsername("root");
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Migrations - Applied And Matching Entities")
+    void shouldApplyMigrationsMatchingEntities() {
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().applied()).extracting(MigrationInfo::getScript).contains("V1__baseline.sql");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Migrations - Database Created By ddl-auto")
+    void shouldMigrateDatabaseCreatedByDdlAutoToTheFreshSchema() throws SQLException {
+        new JdbcTemplate(dataSource).execute("CREATE DATABASE legacy");
+        String legacyUrl = "jdbc:mysql://%s:%d/legacy".formatted(MYSQL.getHost(), MYSQL.getMappedPort(MySQLContainer.MYSQL_PORT));
+        DataSource legacyDataSource = new DriverManagerDataSource(legacyUrl, MYSQL.getUsername(), MYSQL.getPassword());
+        LegacySchema.create(legacyDataSource, "mysql");
+        Flyway legacyFlyway = LegacySchema.flyway(legacyDataSource, "mysql");
+        legacyFlyway.migrate();
+        assertThat(legacyFlyway.info().pending()).isEmpty();
+        assertThat(legacyFlyway.info().applied()).extracting(MigrationInfo::getScript).doesNotContain("V1__baseline.sql");
+        assertThat(LegacySchema.columns(legacyDataSource)).isEqualTo(LegacySchema.columns(dataSource));
+        assertThat(LegacySchema.indexes(legacyDataSource)).isEqualTo(LegacySchema.indexes(dataSource));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(legacyDataSource);
+        assertThat(jdbcTemplate.queryForList("SELECT title FROM anime ORDER BY id", String.class)).containsExactly("Naruto", "Naruto (2)", "Naruto", "Bleach");
+        assertThat(jdbcTemplate.queryForList("SELECT title FROM manga ORDER BY id", String.class)).containsExactly("One Piece", "One Piece (2)");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM library_versions", Long.class)).isEqualTo(4);
+        // The first block of ids allocated from a sequence table starts past the rows written under AUTO_INCREMENT
+        Long nextAnimeId = jdbcTemplate.queryForObject("SELECT next_val FROM anime_seq", Long.class);
+        assertThat(nextAnimeId - ApplicationConstants.ID_ALLOCATION_SIZE + 1).isGreaterThan(4);
+    }
+}
@@ -0,0 +1,178 @@
+package com.aimanecouissi.animerestapi.repository;
+
+import com.aimanecouissi.animerestapi.enums.AnimeStatus;
+import com.aimanecouissi.animerestapi.enums.AnimeType;
+import com.aimanecouissi.animerestapi.enums.MangaStatus;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs EXPLAIN on every statement the anime and manga repositories issue and fails when one of them reads a whole
+ * table. A query method added to either repository fails the coverage check until it is exercised here.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.aimanecouissi.animerestapi.repository.QueryPlanTest$RecordingStatementInspector")
+@TestMethodOrder(OrderAnnotation.class)
+class QueryPlanTest {
+
+    // Not filtered by user and not used on any request path, so they are allowed to scan
+    private static final Set<String> FULL_SCAN_QUERIES = Set.of("findByTitle");
+
+    // H2 comments each table of a plan with the index it reads and the condition it seeks on, a comment without a
+    // condition is a scan of the whole table or index
+    private static final Pattern FULL_SCAN = Pattern.compile("/\\* PUBLIC\\.[\\w.]+ \\*/");
+
+    private static final long USER_ID = 1L;
+    private static final String TITLE = "Titan";
+
+    @Autowired
+    private AnimeRepository animeRepository;
+
+    @Autowired
+    private MangaRepository mangaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Set<String> checkedQueries;
+
+    @BeforeEach
+    void setUp() {
+        checkedQueries = new HashSet<>();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Query Plans - Anime Repository")
+    void shouldNotScanAnimeTable() {
+        Sort sort = Sort.by("createdAt", "id");
+        checkQueryPlans("existsByTitleAndUserId", () -> animeRepository.existsByTitleAndUserId(TITLE, USER_ID));
+        checkQueryPlans("findAllByUserIdAndTitleIn", () -> animeRepository.findAllByUserIdAndTitleIn(USER_ID, Set.of(TITLE)));
+        checkQueryPlans("findByStudioIdAndUserId", () -> animeRepository.findByStudioIdAndUserId(1L, USER_ID));
+        checkQueryPlans("findAllByUserId", () -> animeRepository.findAllByUserId(USER_ID, PageRequest.of(1, 10, sort)));
+        checkQueryPlans("findAllByUserId", () -> animeRepository.findAllByUserId(USER_ID, keysetPosition(), sort, Limit.of(10)));
+        checkQueryPlans("findAllByUserIdAndUpdatedAtBefore", () -> animeRepository.findAllByUserIdAndUpdatedAtBefore(USER_ID, LocalDateTime.now(), syncPosition(), Sort.by("updatedAt", "id"), Limit.of(10)));
+        checkQueryPlans("findUpdatedAtByIdAndUserId", () -> animeRepository.findUpdatedAtByIdAndUserId(1L, USER_ID));
+        checkQueryPlans("findAverageRatingByUserId", () -> animeRepository.findAverageRatingByUserId(USER_ID));
+        checkQueryPlans("countRatingsByUserId", () -> animeRepository.countRatingsByUserId(USER_ID));
+        checkQueryPlans("findOwnersByStudioId", () -> animeRepository.findOwnersByStudioId(1L));
+        checkQueryPlans("findAllByUserIdAndFilters", () -> animeRepository.findAllByUserIdAndFilters(
+                USER_ID, TITLE, AnimeType.TV, AnimeStatus.COMPLETED, 10, true, true, PageRequest.of(1, 10)
+        ));
+        checkQueryPlans("streamAllByUserIdAndFilters", () -> {
+            try (Stream<?> animeStream = animeRepository.streamAllByUserIdAndFilters(USER_ID, null, null, null, null, null, null)) {
+                animeStream.forEach(anime -> {
+                });
+            }
+        });
+        checkQueryPlans("streamAllByUserIdOrderById", () -> {
+            try (Stream<?> animeStream = animeRepository.streamAllByUserIdOrderById(USER_ID)) {
+                animeStream.forEach(anime -> {
+                });
+            }
+        });
+        assertThat(checkedQueries).containsExactlyInAnyOrderElementsOf(queryMethods(AnimeRepository.class));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Query Plans - Manga Repository")
+    void shouldNotScanMangaTable() {
+        Sort sort = Sort.by("createdAt", "id");
+        checkQueryPlans("existsByTitleAndUserId", () -> mangaRepository.existsByTitleAndUserId(TITLE, USER_ID));
+        checkQueryPlans("findAllByUserIdAndTitleIn", () -> mangaRepository.findAllByUserIdAndTitleIn(USER_ID, Set.of(TITLE)));
+        checkQueryPlans("findAllByUserId", () -> mangaRepository.findAllByUserId(USER_ID, PageRequest.of(1, 10, sort)));
+        checkQueryPlans("findAllByUserId", () -> mangaRepository.findAllByUserId(USER_ID, keysetPosition(), sort, Limit.of(10)));
+        checkQueryPlans("findAllByUserIdAndUpdatedAtBefore", () -> mangaRepository.findAllByUserIdAndUpdatedAtBefore(USER_ID, LocalDateTime.now(), syncPosition(), Sort.by("updatedAt", "id"), Limit.of(10)));
+        checkQueryPlans("findUpdatedAtByIdAndUserId", () -> mangaRepository.findUpdatedAtByIdAndUserId(1L, USER_ID));
+        checkQueryPlans("findAverageRatingByUserId", () -> mangaRepository.findAverageRatingByUserId(USER_ID));
+        checkQueryPlans("countRatingsByUserId", () -> mangaRepository.countRatingsByUserId(USER_ID));
+        checkQueryPlans("findAllByUserIdAndFilters", () -> mangaRepository.findAllByUserIdAndFilters(
+                USER_ID, TITLE, MangaStatus.READING, 10, true, PageRequest.of(1, 10)
+        ));
+        checkQueryPlans("streamAllByUserIdAndFilters", () -> {
+            try (Stream<?> mangaStream = mangaRepository.streamAllByUserIdAndFilters(USER_ID, null, null, null, null)) {
+                mangaStream.forEach(manga -> {
+                });
+            }
+        });
+        checkQueryPlans("streamAllByUserIdOrderById", () -> {
+            try (Stream<?> mangaStream = mangaRepository.streamAllByUserIdOrderById(USER_ID)) {
+                mangaStream.forEach(manga -> {
+                });
+            }
+        });
+        assertThat(checkedQueries).containsExactlyInAnyOrderElementsOf(queryMethods(MangaRepository.class));
+    }
+
+    private void checkQueryPlans(String queryMethod, Runnable query) {
+        RecordingStatementInspector.STATEMENTS.clear();
+        query.run();
+        assertThat(RecordingStatementInspector.STATEMENTS).as(queryMethod).isNotEmpty();
+        for (String sql : RecordingStatementInspector.STATEMENTS) {
+            assertThat(explain(sql)).as("%s: %s", queryMethod, sql).doesNotContainPattern(FULL_SCAN);
+        }
+        checkedQueries.add(queryMethod);
+    }
+
+    private String explain(String sql) {
+        // The plan is chosen before any value is bound, so every parameter can be left null
+        return jdbcTemplate.query("EXPLAIN " + sql, preparedStatement -> {
+            int parameterCount = preparedStatement.getParameterMetaData().getParameterCount();
+            for (int index = 1; index <= parameterCount; index++) {
+                preparedStatement.setObject(index, null);
+            }
+        }, resultSet -> resultSet.next() ? resultSet.getString(1) : "");
+    }
+
+    private static ScrollPosition keysetPosition() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("createdAt", LocalDateTime.of(2024, 6, 1, 12, 0));
+        keys.put("id", 1L);
+        return ScrollPosition.forward(keys);
+    }
+
+    private static ScrollPosition syncPosition() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("updatedAt", LocalDateTime.of(2024, 6, 1, 12, 0));
+        keys.put("id", 1L);
+        return ScrollPosition.forward(keys);
+    }
+
+    private static Set<String> queryMethods(Class<?> repository) {
+        return Arrays.stream(repository.getDeclaredMethods())
+                .map(Method::getName)
+                .filter(name -> !FULL_SCAN_QUERIES.contains(name))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Registered with Hibernate by class name, so the statements it records have to be shared statically.
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.aimanecouissi.animerestapi.repository;
+
+import com.aimanecouissi.animerestapi.entity.RatingSummary;
+import com.aimanecouissi.animerestapi.entity.Role;
+import com.aimanecouissi.animerestapi.entity.User;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@TestMethodOrder(OrderAnnotation.class)
+class RatingSummaryRepositoryTest {
+
+    @Autowired
+    private RatingSummaryRepository ratingSummaryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    private User user;
+    private RatingSummary ratingSummary;
+
+    @BeforeEach
+    void setUp() {
+        // Create a role for user
+        Role role = Role.builder()
+                .name("ROLE_USER")
+                .build();
+        roleRepository.save(role);
+
+        // Create a user for rating summary
+        user = User.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .username("john.doe")
+                .password("password123")
+                .roles(Set.of(role))
+                .build();
+        userRepository.save(user);
+
+        // Create an anime rating summary
+        ratingSummary = RatingSummary.builder()
+                .user(user)
+                .libraryType(LibraryType.ANIME)
+                .ratingCount(2)
+                .ratingSum(17)
+                .histogram(new HashMap<>(Map.of(8, 1L, 9, 1L)))
+                .build();
+        ratingSummaryRepository.save(ratingSummary);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Find Rating Summary By User ID and Library Type")
+    void shouldFindByUserIdAndLibraryType() {
+        Optional<RatingSummary> foundRatingSummary = ratingSummaryRepository.findByUserIdAndLibraryType(user.getId(), LibraryType.ANIME);
+        assertThat(foundRatingSummary).isPresent();
+        assertThat(foundRatingSummary.get().getMeanRating()).isEqualTo(8.5);
+        assertThat(foundRatingSummary.get().getHistogram()).containsExactlyInAnyOrderEntriesOf(Map.of(8, 1L, 9, 1L));
+        assertThat(ratingSummaryRepository.findByUserIdAndLibraryType(user.getId(), LibraryType.MANGA)).isEmpty();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Find Rating Summary For Update")
+    void shouldFindForUpdateByUserIdAndLibraryType() {
+        Optional<RatingSummary> foundRatingSummary = ratingSummaryRepository.findForUpdateByUserIdAndLibraryType(user.getId(), LibraryType.ANIME);
+        assertThat(foundRatingSummary).contains(ratingSummary);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Find User IDs Without Summary")
+    void shouldFindUserIdsWithoutSummary() {
+        assertThat(ratingSummaryRepository.findUserIdsWithoutSummary(LibraryType.ANIME)).isEmpty();
+        assertThat(ratingSummaryRepository.findUserIdsWithoutSummary(LibraryType.MANGA)).containsExactly(user.getId());
+    }
+}
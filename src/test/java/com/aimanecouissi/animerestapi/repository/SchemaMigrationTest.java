@@ -0,0 +1,63 @@
+package com.aimanecouissi.animerestapi.repository;
+
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.h2.Driver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hibernate validates the migrated schema against the entities here, since the application no longer does it at
+ * startup. The context fails to load when a migration and a mapping disagree.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@TestMethodOrder(OrderAnnotation.class)
+class SchemaMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @Order(1)
+    @DisplayName("Migrations - Applied And Matching Entities")
+    void shouldApplyMigrationsMatchingEntities() {
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().applied()).extracting(MigrationInfo::getScript).contains("V1__baseline.sql");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Migrations - Database Created By ddl-auto")
+    void shouldMigrateDatabaseCreatedByDdlAutoToTheFreshSchema() throws SQLException {
+        DataSource legacyDataSource = new SimpleDriverDataSource(new Driver(), "jdbc:h2:mem:legacy;DB_CLOSE_DELAY=-1", "sa", "");
+        LegacySchema.create(legacyDataSource, "h2");
+        Flyway legacyFlyway = LegacySchema.flyway(legacyDataSource, "h2");
+        legacyFlyway.migrate();
+        assertThat(legacyFlyway.info().pending()).isEmpty();
+        assertThat(legacyFlyway.info().applied()).extracting(MigrationInfo::getScript).doesNotContain("V1__baseline.sql");
+        assertThat(LegacySchema.columns(legacyDataSource)).isEqualTo(LegacySchema.columns(dataSource));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(legacyDataSource);
+        assertThat(jdbcTemplate.queryForList("SELECT title FROM anime ORDER BY id", String.class)).containsExactly("Naruto", "Naruto (2)", "Naruto", "Bleach");
+        assertThat(jdbcTemplate.queryForList("SELECT title FROM manga ORDER BY id", String.class)).containsExactly("One Piece", "One Piece (2)");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM library_versions", Long.class)).isEqualTo(4);
+        // The first block of ids allocated from a sequence starts past the rows written under IDENTITY
+        Long nextAnimeId = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR anime_seq", Long.class);
+        assertThat(nextAnimeId - ApplicationConstants.ID_ALLOCATION_SIZE + 1).isGreaterThan(4);
+    }
+}
@@ -2,6 +2,7 @@ package com.aimanecouissi.animerestapi.repository;
 
 import com.aimanecouissi.animerestapi.entity.Role;
 import com.aimanecouissi.animerestapi.entity.User;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,6 +23,9 @@ class UserRepositoryTest {
     @Autowired
     private RoleRepository roleRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private User user;
 
     @BeforeEach
@@ -79,4 +83,15 @@ class UserRepositoryTest {
         boolean exists = userRepository.existsByUsername(user.getUsername());
         assertThat(exists).isTrue();
     }
+
+    @Test
+    @Order(4)
+    @DisplayName("Update Password By ID")
+    void shouldUpdatePasswordById() {
+        assertThat(userRepository.updatePasswordById(user.getId(), "rehashed")).isEqualTo(1);
+        entityManager.clear();
+        assertThat(userRepository.findByUsername(user.getUsername())).get()
+                .extracting(User::getPassword)
+                .isEqualTo("rehashed");
+    }
 }
@@ -0,0 +1,103 @@
+package com.aimanecouissi.animerestapi.security;
+
+import com.aimanecouissi.animerestapi.exception.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(OrderAnnotation.class)
+class BoundedPasswordEncoderTest {
+
+    @Mock
+    private PasswordEncoder delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // One hashing thread and room for one waiting hash
+        passwordEncoder = new BoundedPasswordEncoder(delegate, 1, 1, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.close();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Encode - Success")
+    void shouldEncodeOnHashingThreadAndRecordTimers() {
+        given(delegate.encode("password")).willAnswer(invocation -> Thread.currentThread().getName());
+        String hashingThread = passwordEncoder.encode("password");
+        assertThat(hashingThread).startsWith("password-hashing-");
+        assertThat(meterRegistry.get(BoundedPasswordEncoder.QUEUE_WAIT).tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(BoundedPasswordEncoder.HASH_TIME).tag("operation", "encode").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Matches - Success")
+    void shouldMatchThroughDelegate() {
+        given(delegate.matches("password", "hash")).willReturn(true);
+        assertThat(passwordEncoder.matches("password", "hash")).isTrue();
+        assertThat(meterRegistry.get(BoundedPasswordEncoder.HASH_TIME).tag("operation", "matches").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Matches - Queue Full")
+    void shouldRejectCallerWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch hashing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(delegate.matches("password", "hash")).willAnswer(invocation -> {
+            hashing.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        });
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> passwordEncoder.matches("password", "hash"));
+        assertThat(hashing.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.matches("password", "hash"));
+        while (meterRegistry.get(BoundedPasswordEncoder.QUEUE_DEPTH).gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+        assertThrows(ServiceBusyException.class, () -> passwordEncoder.matches("password", "hash"));
+        assertThat(passwordEncoder.upgradeEncoding("hash")).isFalse();
+        assertThat(meterRegistry.get(BoundedPasswordEncoder.REJECTED).counter().count()).isEqualTo(1);
+        release.countDown();
+        assertThat(running.join()).isTrue();
+        assertThat(queued.join()).isTrue();
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Upgrade Encoding - Idle")
+    void shouldAskDelegateWhetherToUpgradeWhenIdle() {
+        given(delegate.upgradeEncoding("hash")).willReturn(true);
+        assertThat(passwordEncoder.upgradeEncoding("hash")).isTrue();
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Encode - Delegate Failure")
+    void shouldRethrowDelegateFailureToCaller() {
+        given(delegate.encode("password")).willThrow(new IllegalArgumentException("Invalid password"));
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> passwordEncoder.encode("password"));
+        assertThat(ex.getMessage()).isEqualTo("Invalid password");
+    }
+}
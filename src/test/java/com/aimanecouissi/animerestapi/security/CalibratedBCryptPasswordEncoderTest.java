@@ -0,0 +1,64 @@
+package com.aimanecouissi.animerestapi.security;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestMethodOrder(OrderAnnotation.class)
+class CalibratedBCryptPasswordEncoderTest {
+
+    private static final String PASSWORD = "Azerty123&";
+
+    private final CalibratedBCryptPasswordEncoder passwordEncoder = new CalibratedBCryptPasswordEncoder(11);
+
+    @Test
+    @Order(1)
+    @DisplayName("Upgrade Encoding - Same Cost")
+    void shouldKeepHashAtConfiguredCost() {
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+        assertThat(passwordEncoder.matches(PASSWORD, encodedPassword)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(encodedPassword)).isFalse();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Upgrade Encoding - Lower Cost")
+    void shouldUpgradeHashAtLowerCost() {
+        assertThat(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(10).encode(PASSWORD))).isTrue();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Upgrade Encoding - Higher Cost")
+    void shouldKeepHashAtHigherCost() {
+        assertThat(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(12).encode(PASSWORD))).isFalse();
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Upgrade Encoding - Not A BCrypt Hash")
+    void shouldNotUpgradeUnknownHash() {
+        assertThat(passwordEncoder.upgradeEncoding(null)).isFalse();
+        assertThat(passwordEncoder.upgradeEncoding("password123")).isFalse();
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Calibrate Cost - Target Below Minimum")
+    void shouldNeverCalibrateBelowMinimumCost() {
+        assertThat(CalibratedBCryptPasswordEncoder.calibrateCost(Duration.ZERO)).isEqualTo(CalibratedBCryptPasswordEncoder.MIN_COST);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Calibrate Cost - Within Bounds")
+    void shouldCalibrateCostWithinBounds() {
+        CalibratedBCryptPasswordEncoder calibrated = CalibratedBCryptPasswordEncoder.calibrate(Duration.ofMillis(200));
+        assertThat(calibrated.getCost()).isBetween(CalibratedBCryptPasswordEncoder.MIN_COST, CalibratedBCryptPasswordEncoder.MAX_COST);
+        assertThat(calibrated.upgradeEncoding(calibrated.encode(PASSWORD))).isFalse();
+    }
+}
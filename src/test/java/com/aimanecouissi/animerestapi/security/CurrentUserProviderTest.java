@@ -0,0 +1,85 @@
+package com.aimanecouissi.animerestapi.security;
+
+import com.aimanecouissi.animerestapi.entity.User;
+import com.aimanecouissi.animerestapi.exception.ResourceNotFoundException;
+import com.aimanecouissi.animerestapi.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(OrderAnnotation.class)
+class CurrentUserProviderTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private CurrentUserProvider currentUserProvider;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Get Current User ID - From JWT Principal")
+    void shouldReadUserIdFromPrincipalWithoutQuery() {
+        UserPrincipal userPrincipal = new UserPrincipal(7L, "john.doe", null, Set.of(new SimpleGrantedAuthority("ROLE_USER")));
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(userPrincipal, null, userPrincipal.getAuthorities()));
+        assertThat(currentUserProvider.getCurrentUserId()).isEqualTo(7L);
+        verify(userRepository, never()).findIdByUsername(anyString());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Get Current User ID - Fallback To Username")
+    void shouldResolveUserIdByUsernameForOtherPrincipals() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("john.doe", null, List.of()));
+        given(userRepository.findIdByUsername("john.doe")).willReturn(Optional.of(3L));
+        assertThat(currentUserProvider.getCurrentUserId()).isEqualTo(3L);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Get Current User ID - User Not Found")
+    void shouldThrowExceptionWhenFallbackUserNotFound() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("ghost", null, List.of()));
+        given(userRepository.findIdByUsername("ghost")).willReturn(Optional.empty());
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> currentUserProvider.getCurrentUserId());
+        assertThat(exception.getMessage()).contains("User", "username", "ghost");
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Get Current User Reference - Uses Entity Manager Reference")
+    void shouldReturnReferenceWithoutLoadingUser() {
+        UserPrincipal userPrincipal = new UserPrincipal(7L, "john.doe", null, Set.of());
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(userPrincipal, null, userPrincipal.getAuthorities()));
+        User reference = User.builder().id(7L).build();
+        given(entityManager.getReference(User.class, 7L)).willReturn(reference);
+        assertThat(currentUserProvider.getCurrentUserReference()).isSameAs(reference);
+    }
+}
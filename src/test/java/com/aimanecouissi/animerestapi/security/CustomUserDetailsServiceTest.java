@@ -0,0 +1,70 @@
+package com.aimanecouissi.animerestapi.security;
+
+import com.aimanecouissi.animerestapi.entity.Role;
+import com.aimanecouissi.animerestapi.entity.User;
+import com.aimanecouissi.animerestapi.repository.UserRepository;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(OrderAnnotation.class)
+class CustomUserDetailsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Test
+    @Order(1)
+    @DisplayName("Load User By Username - Success")
+    void shouldLoadUserPrincipal() {
+        User user = User.builder()
+                .id(7L)
+                .username("john.doe")
+                .password("hash")
+                .roles(Set.of(Role.builder().name("ROLE_USER").build()))
+                .build();
+        given(userRepository.findByUsername("john.doe")).willReturn(Optional.of(user));
+        UserPrincipal userPrincipal = (UserPrincipal) customUserDetailsService.loadUserByUsername("john.doe");
+        assertThat(userPrincipal.getId()).isEqualTo(7L);
+        assertThat(userPrincipal.getPassword()).isEqualTo("hash");
+        assertThat(userPrincipal.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Load User By Username - Not Found")
+    void shouldThrowExceptionWhenUserIsUnknown() {
+        given(userRepository.findByUsername("john.doe")).willReturn(Optional.empty());
+        assertThrows(UsernameNotFoundException.class, () -> customUserDetailsService.loadUserByUsername("john.doe"));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Update Password - Rehashed On Login")
+    void shouldStoreUpgradedHash() {
+        UserPrincipal userPrincipal = new UserPrincipal(7L, "john.doe", "old-hash", Set.of(new SimpleGrantedAuthority("ROLE_USER")));
+        UserDetails updated = customUserDetailsService.updatePassword(userPrincipal, "new-hash");
+        verify(userRepository).updatePasswordById(7L, "new-hash");
+        assertThat(updated.getPassword()).isEqualTo("new-hash");
+        assertThat(((UserPrincipal) updated).getId()).isEqualTo(7L);
+        assertThat(updated.getAuthorities()).isEqualTo(userPrincipal.getAuthorities());
+    }
+}
@@ -0,0 +1,90 @@
+package com.aimanecouissi.animerestapi.security;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestMethodOrder(OrderAnnotation.class)
+class InMemoryRateLimitStoreTest {
+
+    private static final long PERIOD = TimeUnit.SECONDS.toNanos(10);
+
+    private final AtomicLong now = new AtomicLong(-5_000L);
+
+    private InMemoryRateLimitStore rateLimitStore;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitStore = new InMemoryRateLimitStore(now::get);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Try Consume - Burst Up To Capacity")
+    void shouldAdmitBurstUpToCapacity() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimitStore.tryConsume("client", 5, PERIOD)).isZero();
+        }
+        // One token comes back every period / capacity
+        assertThat(rateLimitStore.tryConsume("client", 5, PERIOD)).isEqualTo(TimeUnit.SECONDS.toNanos(2));
+        assertThat(rateLimitStore.tryConsume("other", 5, PERIOD)).isZero();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Try Consume - Refilled Over Time")
+    void shouldRefillEvenlyOverPeriod() {
+        for (int i = 0; i < 5; i++) {
+            rateLimitStore.tryConsume("client", 5, PERIOD);
+        }
+        now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertThat(rateLimitStore.tryConsume("client", 5, PERIOD)).isZero();
+        assertThat(rateLimitStore.tryConsume("client", 5, PERIOD)).isPositive();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Evict Idle - Only Refilled Buckets")
+    void shouldEvictOnlyRefilledBuckets() {
+        rateLimitStore.tryConsume("idle", 5, PERIOD);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(3));
+        rateLimitStore.tryConsume("busy", 5, PERIOD);
+        assertThat(rateLimitStore.evictIdle()).isEqualTo(1);
+        assertThat(rateLimitStore.size()).isEqualTo(1);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertThat(rateLimitStore.evictIdle()).isEqualTo(1);
+        assertThat(rateLimitStore.size()).isZero();
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Try Consume - Concurrent Callers")
+    void shouldNeverAdmitMoreThanCapacityUnderContention() throws InterruptedException {
+        int callers = 16;
+        AtomicInteger admitted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(callers)) {
+            for (int i = 0; i < callers; i++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                        for (int j = 0; j < 100; j++) {
+                            if (rateLimitStore.tryConsume("client", 50, PERIOD) == 0) {
+                                admitted.incrementAndGet();
+                            }
+                        }
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            start.countDown();
+        }
+        assertThat(admitted.get()).isEqualTo(50);
+    }
+}
@@ -0,0 +1,84 @@
+package com.aimanecouissi.animerestapi.security;
+
+import com.aimanecouissi.animerestapi.exception.JwtAuthenticationException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Date;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@TestMethodOrder(OrderAnnotation.class)
+class JwtTokenProviderTest {
+
+    private static final String JWT_SECRET = "c2VjcmV0LWtleS1mb3ItdGVzdGluZy1wdXJwb3Nlcy1vbmx5LTEyMzQ1Njc4OTA=";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private UserPrincipal userPrincipal;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(JWT_SECRET, 60_000L, 0L);
+
+        // Authenticated user
+        Set<GrantedAuthority> authorities = Set.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"));
+        userPrincipal = new UserPrincipal(42L, "john.doe", "password123", authorities);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Generate Token - Embeds User ID And Roles")
+    void shouldEmbedUserIdAndRolesInToken() {
+        String token = jwtTokenProvider.generateToken(new UsernamePasswordAuthenticationToken(userPrincipal, null, userPrincipal.getAuthorities()));
+        UserPrincipal principal = jwtTokenProvider.getUserPrincipal(jwtTokenProvider.parseAndValidate(token));
+        assertThat(principal.getId()).isEqualTo(42L);
+        assertThat(principal.getUsername()).isEqualTo("john.doe");
+        assertThat(principal.getPassword()).isNull();
+        assertThat(principal.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Freshness - Disabled By Default")
+    void shouldTreatTokenAsFreshWhenWindowIsDisabled() {
+        String token = jwtTokenProvider.generateToken(new UsernamePasswordAuthenticationToken(userPrincipal, null, userPrincipal.getAuthorities()));
+        Claims claims = jwtTokenProvider.parseAndValidate(token);
+        assertThat(jwtTokenProvider.isFresh(claims)).isTrue();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Freshness - Token Older Than Window")
+    void shouldTreatTokenAsStaleWhenOlderThanWindow() {
+        Claims claims = Jwts.claims()
+                .issuedAt(new Date(System.currentTimeMillis() - 10_000L))
+                .build();
+        jwtTokenProvider = new JwtTokenProvider(JWT_SECRET, 60_000L, 5_000L);
+        assertThat(jwtTokenProvider.isFresh(claims)).isFalse();
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Parse And Validate - Tampered Token")
+    void shouldRejectTamperedToken() {
+        String token = jwtTokenProvider.generateToken(new UsernamePasswordAuthenticationToken(userPrincipal, null, userPrincipal.getAuthorities()));
+        String tamperedToken = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        JwtAuthenticationException exception = assertThrows(JwtAuthenticationException.class, () -> jwtTokenProvider.parseAndValidate(tamperedToken));
+        assertThat(exception.getMessage()).isEqualTo("Invalid JWT signature");
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Parse And Validate - Malformed Token")
+    void shouldRejectMalformedToken() {
+        JwtAuthenticationException exception = assertThrows(JwtAuthenticationException.class, () -> jwtTokenProvider.parseAndValidate("not-a-token"));
+        assertThat(exception.getMessage()).isEqualTo("Invalid JWT token");
+    }
+}
@@ -0,0 +1,119 @@
+package com.aimanecouissi.animerestapi.security;
+
+import com.aimanecouissi.animerestapi.configuration.RateLimitProperties;
+import com.aimanecouissi.animerestapi.enums.RateLimitKey;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestMethodOrder(OrderAnnotation.class)
+class RateLimitFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RateLimitProperties rateLimitProperties;
+
+    private RateLimitStore rateLimitStore;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimitStore = new InMemoryRateLimitStore();
+        Map<String, RateLimitProperties.Group> groups = new LinkedHashMap<>();
+        groups.put("api", new RateLimitProperties.Group(List.of("/api/**"), limit(3), limit(3)));
+        groups.put("auth", new RateLimitProperties.Group(List.of("/api/v1/auth/**"), limit(1), null));
+        rateLimitProperties = new RateLimitProperties(true, groups);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Filter - Per IP Limit Exceeded")
+    void shouldRejectClientOverItsLimitWithRetryAfter() throws Exception {
+        RateLimitFilter rateLimitFilter = filter(RateLimitKey.IP);
+        assertThat(perform(rateLimitFilter, "/api/v1/anime", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(perform(rateLimitFilter, "/api/v1/anime", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(perform(rateLimitFilter, "/api/v1/anime", "10.0.0.1").getStatus()).isEqualTo(200);
+        MockHttpServletResponse response = perform(rateLimitFilter, "/api/v1/anime", "10.0.0.1");
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("20");
+        assertThat(response.getContentAsString()).contains("Too many requests");
+        assertThat(perform(rateLimitFilter, "/api/v1/anime", "10.0.0.2").getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get(RateLimitFilter.RATE_LIMIT_REJECTED).tag("group", "api").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Filter - Most Specific Group")
+    void shouldCountRequestAgainstMostSpecificGroup() throws Exception {
+        RateLimitFilter rateLimitFilter = filter(RateLimitKey.IP);
+        assertThat(perform(rateLimitFilter, "/api/v1/auth/login", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(perform(rateLimitFilter, "/api/v1/auth/login", "10.0.0.1").getStatus()).isEqualTo(429);
+        assertThat(perform(rateLimitFilter, "/api/v1/anime", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(perform(rateLimitFilter, "/actuator/health", "10.0.0.1").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Filter - Per User Limit")
+    void shouldLimitAuthenticatedUserAcrossAddresses() throws Exception {
+        RateLimitFilter rateLimitFilter = filter(RateLimitKey.USER);
+        UserPrincipal userPrincipal = new UserPrincipal(7L, "john.doe", null, Set.of(new SimpleGrantedAuthority("ROLE_USER")));
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(userPrincipal, null, userPrincipal.getAuthorities()));
+        for (int i = 1; i <= 3; i++) {
+            assertThat(perform(rateLimitFilter, "/api/v1/anime", "10.0.0." + i).getStatus()).isEqualTo(200);
+        }
+        assertThat(perform(rateLimitFilter, "/api/v1/anime", "10.0.0.4").getStatus()).isEqualTo(429);
+        // The auth group sets no per user limit and does not fall back to the api one
+        assertThat(perform(rateLimitFilter, "/api/v1/auth/login", "10.0.0.5").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Filter - Per User Limit Anonymous")
+    void shouldNotLimitAnonymousRequestsPerUser() throws Exception {
+        RateLimitFilter rateLimitFilter = filter(RateLimitKey.USER);
+        for (int i = 0; i < 5; i++) {
+            assertThat(perform(rateLimitFilter, "/api/v1/anime", "10.0.0.1").getStatus()).isEqualTo(200);
+        }
+    }
+
+    private RateLimitFilter filter(RateLimitKey rateLimitKey) {
+        return new RateLimitFilter(rateLimitKey, rateLimitProperties, rateLimitStore, objectMapper, meterRegistry);
+    }
+
+    private MockHttpServletResponse perform(RateLimitFilter rateLimitFilter, String uri, String remoteAddress) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setRemoteAddr(remoteAddress);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        rateLimitFilter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static RateLimitProperties.Limit limit(long capacity) {
+        return new RateLimitProperties.Limit(capacity, Duration.ofMinutes(1));
+    }
+}
@@ -6,39 +6,60 @@ import com.aimanecouissi.animerestapi.entity.Studio;
 import com.aimanecouissi.animerestapi.entity.User;
 import com.aimanecouissi.animerestapi.enums.AnimeStatus;
 import com.aimanecouissi.animerestapi.enums.AnimeType;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
 import com.aimanecouissi.animerestapi.exception.ResourceNotFoundException;
 import com.aimanecouissi.animerestapi.exception.UniqueFieldException;
+import com.aimanecouissi.animerestapi.mapper.AnimeMapper;
 import com.aimanecouissi.animerestapi.payload.dto.AnimeDTO;
+import com.aimanecouissi.animerestapi.payload.dto.StudioDTO;
+import com.aimanecouissi.animerestapi.payload.response.AnimeBatchResponse;
+import com.aimanecouissi.animerestapi.payload.response.AnimeCursorPaginatedResponse;
 import com.aimanecouissi.animerestapi.payload.response.AnimePaginatedResponse;
+import com.aimanecouissi.animerestapi.payload.response.BatchItemResult;
 import com.aimanecouissi.animerestapi.repository.AnimeRepository;
 import com.aimanecouissi.animerestapi.repository.RoleRepository;
-import com.aimanecouissi.animerestapi.repository.StudioRepository;
-import com.aimanecouissi.animerestapi.repository.UserRepository;
+import com.aimanecouissi.animerestapi.security.CurrentUserProvider;
 import com.aimanecouissi.animerestapi.service.implementation.AnimeServiceImplementation;
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
+import com.aimanecouissi.animerestapi.utility.StudioCatalog;
+import jakarta.persistence.EntityManager;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Window;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 @TestMethodOrder(OrderAnnotation.class)
@@ -48,16 +69,28 @@ class AnimeServiceTest {
     private AnimeRepository animeRepository;
 
     @Mock
-    private StudioRepository studioRepository;
+    private StudioCatalogService studioCatalogService;
 
     @Mock
-    private UserRepository userRepository;
+    private CurrentUserProvider currentUserProvider;
 
     @Mock
-    private ModelMapper modelMapper;
+    private AnimeMapper animeMapper;
 
     @Mock
-    private Authentication authentication;
+    private RatingSummaryService ratingSummaryService;
+
+    @Mock
+    private LibraryVersionService libraryVersionService;
+
+    @Mock
+    private SyncService syncService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     @InjectMocks
     private AnimeServiceImplementation animeService;
@@ -116,34 +149,37 @@ class AnimeServiceTest {
                 .studioId(studio.getId())
                 .build();
 
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-        given(authentication.getName()).willReturn(user.getUsername());
-        given(userRepository.findByUsername(user.getUsername())).willReturn(Optional.of(user));
+        lenient().when(currentUserProvider.getCurrentUserId()).thenReturn(user.getId());
+        lenient().when(currentUserProvider.getCurrentUserReference()).thenReturn(user);
     }
 
     @Test
     @Order(1)
     @DisplayName("Create Anime - Success")
     void shouldCreateAnime() {
-        given(animeRepository.existsByTitleAndUserId(animeDTO.getTitle(), user.getId())).willReturn(false);
-        given(studioRepository.findById(studio.getId())).willReturn(Optional.of(studio));
-        given(animeRepository.save(any(Anime.class))).willReturn(anime);
-        given(modelMapper.map(animeDTO, Anime.class)).willReturn(anime);
-        given(modelMapper.map(anime, AnimeDTO.class)).willReturn(animeDTO);
+        givenStudioInCatalog();
+        given(animeRepository.saveAndFlush(any(Anime.class))).willReturn(anime);
+        given(animeMapper.toAnime(animeDTO)).willReturn(anime);
+        given(animeMapper.toAnimeDTO(anime)).willReturn(animeDTO);
         AnimeDTO savedAnimeDTO = animeService.createAnime(animeDTO);
         assertThat(savedAnimeDTO).isNotNull();
         assertThat(savedAnimeDTO.getTitle()).isEqualTo(animeDTO.getTitle());
-        verify(animeRepository).save(any(Anime.class));
+        verify(animeRepository).saveAndFlush(any(Anime.class));
+        verify(ratingSummaryService).recordRatingChange(user.getId(), LibraryType.ANIME, null, 10);
+        verify(libraryVersionService).incrementVersion(user.getId(), LibraryType.ANIME);
     }
 
     @Test
     @Order(2)
     @DisplayName("Create Anime - Duplicate Title")
     void shouldThrowExceptionWhenCreatingAnimeWithDuplicateTitle() {
-        given(animeRepository.existsByTitleAndUserId(animeDTO.getTitle(), user.getId())).willReturn(true);
+        givenStudioInCatalog();
+        given(animeMapper.toAnime(animeDTO)).willReturn(anime);
+        given(animeRepository.saveAndFlush(any(Anime.class))).willThrow(titleViolation());
         UniqueFieldException exception = assertThrows(UniqueFieldException.class, () -> animeService.createAnime(animeDTO));
-        assertThat(exception.getMessage()).contains("Title", animeDTO.getTitle());
-        verify(animeRepository, never()).save(any(Anime.class));
+        assertThat(exception.getMessage()).contains("Title", anime.getTitle());
+        verify(ratingSummaryService, never()).recordRatingChange(anyLong(), any(), any(), any());
+        verify(libraryVersionService, never()).incrementVersion(anyLong(), any());
     }
 
     @Test
@@ -158,7 +194,7 @@ class AnimeServiceTest {
         );
         Page<Anime> animePage = new PageImpl<>(List.of(anime), pageRequest, 1);
         given(animeRepository.findAllByUserId(user.getId(), pageRequest)).willReturn(animePage);
-        given(modelMapper.map(anime, AnimeDTO.class)).willReturn(animeDTO);
+        given(animeMapper.toAnimeDTO(anime)).willReturn(animeDTO);
         AnimePaginatedResponse response = animeService.getAllAnime(
                 0,
                 10,
@@ -175,7 +211,7 @@ class AnimeServiceTest {
     @DisplayName("Get Anime By ID - Success")
     void shouldGetAnimeById() {
         given(animeRepository.findById(anime.getId())).willReturn(Optional.of(anime));
-        given(modelMapper.map(anime, AnimeDTO.class)).willReturn(animeDTO);
+        given(animeMapper.toAnimeDTO(anime)).willReturn(animeDTO);
         AnimeDTO foundAnimeDTO = animeService.getAnimeById(anime.getId());
         assertThat(foundAnimeDTO).isNotNull();
         assertThat(foundAnimeDTO.getTitle()).isEqualTo(anime.getTitle());
@@ -215,14 +251,15 @@ class AnimeServiceTest {
                 .studioId(studio.getId())
                 .build();
         given(animeRepository.findById(anime.getId())).willReturn(Optional.of(anime));
-        given(animeRepository.existsByTitleAndUserId(updatedAnimeDTO.getTitle(), user.getId())).willReturn(false);
-        given(studioRepository.findById(studio.getId())).willReturn(Optional.of(studio));
-        given(animeRepository.save(any(Anime.class))).willReturn(updatedAnime);
-        given(modelMapper.map(updatedAnime, AnimeDTO.class)).willReturn(updatedAnimeDTO);
+        givenStudioInCatalog();
+        given(animeRepository.saveAndFlush(any(Anime.class))).willReturn(updatedAnime);
+        given(animeMapper.toAnimeDTO(updatedAnime)).willReturn(updatedAnimeDTO);
         AnimeDTO savedUpdatedAnimeDTO = animeService.updateAnime(anime.getId(), updatedAnimeDTO);
         assertThat(savedUpdatedAnimeDTO).isNotNull();
         assertThat(savedUpdatedAnimeDTO.getTitle()).isEqualTo(updatedAnime.getTitle());
-        verify(animeRepository).save(any(Anime.class));
+        verify(animeRepository).saveAndFlush(any(Anime.class));
+        verify(ratingSummaryService).recordRatingChange(user.getId(), LibraryType.ANIME, 10, 10);
+        verify(libraryVersionService).incrementVersion(user.getId(), LibraryType.ANIME);
     }
 
     @Test
@@ -239,10 +276,12 @@ class AnimeServiceTest {
                 .studioId(studio.getId())
                 .build();
         given(animeRepository.findById(anime.getId())).willReturn(Optional.of(anime));
-        given(animeRepository.existsByTitleAndUserId(updatedAnimeDTO.getTitle(), user.getId())).willReturn(true);
+        givenStudioInCatalog();
+        given(animeRepository.saveAndFlush(any(Anime.class))).willThrow(titleViolation());
         UniqueFieldException exception = assertThrows(UniqueFieldException.class, () -> animeService.updateAnime(anime.getId(), updatedAnimeDTO));
         assertThat(exception.getMessage()).contains("Title", updatedAnimeDTO.getTitle());
-        verify(animeRepository, never()).save(any(Anime.class));
+        verify(ratingSummaryService, never()).recordRatingChange(anyLong(), any(), any(), any());
+        verify(libraryVersionService, never()).incrementVersion(anyLong(), any());
     }
 
     @Test
@@ -252,6 +291,9 @@ class AnimeServiceTest {
         given(animeRepository.findById(anime.getId())).willReturn(Optional.of(anime));
         animeService.deleteAnime(anime.getId());
         verify(animeRepository).delete(anime);
+        verify(ratingSummaryService).recordRatingChange(user.getId(), LibraryType.ANIME, 10, null);
+        verify(libraryVersionService).incrementVersion(user.getId(), LibraryType.ANIME);
+        verify(syncService).recordDeletions(user.getId(), LibraryType.ANIME, List.of(anime.getId()));
     }
 
     @Test
@@ -267,9 +309,9 @@ class AnimeServiceTest {
     @Order(6)
     @DisplayName("Get Anime By Studio ID - Success")
     void shouldGetAnimeByStudioId() {
-        given(studioRepository.findById(studio.getId())).willReturn(Optional.of(studio));
+        givenStudioInCatalog();
         given(animeRepository.findByStudioIdAndUserId(studio.getId(), user.getId())).willReturn(List.of(anime));
-        given(modelMapper.map(anime, AnimeDTO.class)).willReturn(animeDTO);
+        given(animeMapper.toAnimeDTO(anime)).willReturn(animeDTO);
         List<AnimeDTO> result = animeService.getAnimeByStudioId(studio.getId());
         assertThat(result).isNotEmpty();
         assertThat(result).contains(animeDTO);
@@ -279,32 +321,40 @@ class AnimeServiceTest {
     @Order(11)
     @DisplayName("Search Anime - Success")
     void shouldSearchAnime() {
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.Direction.ASC, "title");
+        Page<Anime> animePage = new PageImpl<>(List.of(anime), pageRequest, 1);
         given(animeRepository.findAllByUserIdAndFilters(
                 user.getId(),
                 "Spirited Away",
                 AnimeType.MOVIE,
                 AnimeStatus.COMPLETED,
-                10, true,
-                true
-        )).willReturn(List.of(anime));
-        given(modelMapper.map(anime, AnimeDTO.class)).willReturn(animeDTO);
-        List<AnimeDTO> result = animeService.searchAnime(
+                10,
+                true,
+                true,
+                pageRequest
+        )).willReturn(animePage);
+        given(animeMapper.toAnimeDTO(anime)).willReturn(animeDTO);
+        AnimePaginatedResponse response = animeService.searchAnime(
                 "Spirited Away",
                 AnimeType.MOVIE,
                 AnimeStatus.COMPLETED,
                 10,
                 true,
-                true
+                true,
+                0,
+                10,
+                "title",
+                "asc"
         );
-        assertThat(result).isNotEmpty();
-        assertThat(result).contains(animeDTO);
+        assertThat(response.getItems()).containsExactly(animeDTO);
+        assertThat(response.getTotalElements()).isEqualTo(1);
     }
 
     @Test
     @Order(12)
     @DisplayName("Get Mean Rating - Success")
     void shouldGetMeanRating() {
-        given(animeRepository.findAverageRatingByUserId(user.getId())).willReturn(Optional.of(10.0));
+        given(ratingSummaryService.getMeanRating(user.getId(), LibraryType.ANIME)).willReturn(10.0);
         Double meanRating = animeService.getMeanRating();
         assertThat(meanRating).isEqualTo(10.0);
     }
@@ -313,8 +363,281 @@ class AnimeServiceTest {
     @Order(13)
     @DisplayName("Get Mean Rating - No Anime")
     void shouldGetMeanRatingWithNoAnime() {
-        given(animeRepository.findAverageRatingByUserId(user.getId())).willReturn(Optional.empty());
+        given(ratingSummaryService.getMeanRating(user.getId(), LibraryType.ANIME)).willReturn(0.0);
         Double meanRating = animeService.getMeanRating();
         assertThat(meanRating).isEqualTo(0.0);
     }
+
+    @Test
+    @Order(14)
+    @DisplayName("Get All Anime By Cursor - Success")
+    void shouldGetAllAnimeByCursor() {
+        Sort sort = Sort.by(Sort.Direction.ASC, "title", "id");
+        ScrollPosition lastPosition = ScrollPosition.forward(Map.of("title", anime.getTitle(), "id", anime.getId()));
+        given(animeRepository.findAllByUserId(user.getId(), ScrollPosition.keyset(), sort, Limit.of(1)))
+                .willReturn(Window.from(List.of(anime), index -> lastPosition, true));
+        given(animeRepository.findAllByUserId(user.getId(), lastPosition, sort, Limit.of(1)))
+                .willReturn(Window.from(List.of(), index -> lastPosition));
+        given(animeMapper.toAnimeDTO(anime)).willReturn(animeDTO);
+        AnimeCursorPaginatedResponse firstResponse = animeService.getAllAnimeByCursor("", 1, "title", "asc");
+        assertThat(firstResponse.getItems()).containsExactly(animeDTO);
+        assertThat(firstResponse.isLast()).isFalse();
+        assertThat(firstResponse.getNextCursor()).isNotBlank();
+        // The cursor carries the original sort, so the sortBy and sortDir of the next request are ignored
+        AnimeCursorPaginatedResponse nextResponse = animeService.getAllAnimeByCursor(firstResponse.getNextCursor(), 1, "id", "desc");
+        assertThat(nextResponse.getItems()).isEmpty();
+        assertThat(nextResponse.isLast()).isTrue();
+        assertThat(nextResponse.getNextCursor()).isNull();
+    }
+
+    @Test
+    @Order(15)
+    @DisplayName("Get All Anime By Cursor - Unsupported Sort Field")
+    void shouldThrowExceptionWhenSortingByNullableField() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> animeService.getAllAnimeByCursor("", 10, "rating", "asc"));
+        assertThat(exception.getMessage()).contains("rating");
+    }
+
+    @Test
+    @Order(16)
+    @DisplayName("Get All Anime By Cursor - Invalid Cursor")
+    void shouldThrowExceptionWhenCursorIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> animeService.getAllAnimeByCursor("not-a-cursor", 10, "id", "asc"));
+    }
+
+    @Test
+    @Order(17)
+    @DisplayName("Stream Anime - Success")
+    void shouldStreamAnime() {
+        given(animeRepository.streamAllByUserIdAndFilters(
+                user.getId(),
+                "Spirited Away",
+                AnimeType.MOVIE,
+                AnimeStatus.COMPLETED,
+                10,
+                true,
+                true
+        )).willReturn(Stream.of(anime));
+        given(animeMapper.toAnimeDTO(anime)).willReturn(animeDTO);
+        List<AnimeDTO> streamedAnime = new ArrayList<>();
+        animeService.streamAnime(
+                "Spirited Away",
+                AnimeType.MOVIE,
+                AnimeStatus.COMPLETED,
+                10,
+                true,
+                true,
+                streamedAnime::add
+        );
+        assertThat(streamedAnime).containsExactly(animeDTO);
+        verify(entityManager).detach(anime);
+    }
+
+    @Test
+    @Order(18)
+    @DisplayName("Create Anime Batch - Partial Success")
+    void shouldCreateAnimeBatchReportingEachEntry() {
+        AnimeDTO unknownStudioDTO = AnimeDTO.builder()
+                .title("Vinland Saga")
+                .type(AnimeType.TV)
+                .status(AnimeStatus.WATCHING)
+                .studioId(99L)
+                .build();
+        AnimeDTO takenTitleDTO = AnimeDTO.builder()
+                .title("Jujutsu Kaisen")
+                .type(AnimeType.TV)
+                .status(AnimeStatus.COMPLETED)
+                .studioId(studio.getId())
+                .build();
+        Anime takenTitleAnime = Anime.builder()
+                .id(2L)
+                .title("Jujutsu Kaisen")
+                .user(user)
+                .build();
+        givenStudioInCatalog();
+        given(animeRepository.findAllByUserIdAndTitleIn(user.getId(), Set.of(animeDTO.getTitle(), unknownStudioDTO.getTitle(), takenTitleDTO.getTitle())))
+                .willReturn(List.of(takenTitleAnime));
+        given(animeMapper.toAnime(animeDTO)).willReturn(anime);
+        given(animeMapper.toAnimeDTO(anime)).willReturn(animeDTO);
+        AnimeBatchResponse response = animeService.createAnimeBatch(List.of(animeDTO, unknownStudioDTO, takenTitleDTO, animeDTO));
+        assertThat(response.getSucceeded()).isEqualTo(1);
+        assertThat(response.getFailed()).isEqualTo(3);
+        assertThat(response.getResults()).extracting(BatchItemResult::getStatus).containsExactly(201, 404, 409, 409);
+        assertThat(response.getResults().get(0).getItem()).isEqualTo(animeDTO);
+        assertThat(response.getResults().get(1).getError()).contains("Studio", "99");
+        verify(animeRepository).saveAllAndFlush(anyCollection());
+        verify(ratingSummaryService).recordRatingChanges(user.getId(), LibraryType.ANIME, List.of(), List.of(10));
+        verify(libraryVersionService).incrementVersion(user.getId(), LibraryType.ANIME);
+    }
+
+    @Test
+    @Order(19)
+    @DisplayName("Update Anime Batch - Partial Success")
+    void shouldUpdateAnimeBatchReportingEachEntry() {
+        User otherUser = User.builder()
+                .id(2L)
+                .username("jane.doe")
+                .build();
+        Anime otherUserAnime = Anime.builder()
+                .id(3L)
+                .title("Mob Psycho 100")
+                .user(otherUser)
+                .build();
+        AnimeDTO updatedAnimeDTO = AnimeDTO.builder()
+                .id(anime.getId())
+                .title("Shingeki no Kyojin")
+                .type(AnimeType.TV)
+                .status(AnimeStatus.COMPLETED)
+                .rating(9)
+                .studioId(studio.getId())
+                .build();
+        AnimeDTO missingIdDTO = AnimeDTO.builder()
+                .title("Chainsaw Man")
+                .studioId(studio.getId())
+                .build();
+        AnimeDTO notFoundDTO = AnimeDTO.builder()
+                .id(42L)
+                .title("Dororo")
+                .studioId(studio.getId())
+                .build();
+        AnimeDTO otherUserDTO = AnimeDTO.builder()
+                .id(otherUserAnime.getId())
+                .title("Mob Psycho 100")
+                .studioId(studio.getId())
+                .build();
+        givenStudioInCatalog();
+        given(animeRepository.findAllById(List.of(anime.getId(), 42L, otherUserAnime.getId()))).willReturn(List.of(anime, otherUserAnime));
+        given(animeRepository.findAllByUserIdAndTitleIn(user.getId(), Set.of("Shingeki no Kyojin", "Chainsaw Man", "Dororo", "Mob Psycho 100"))).willReturn(List.of());
+        given(animeMapper.toAnimeDTO(anime)).willReturn(updatedAnimeDTO);
+        AnimeBatchResponse response = animeService.updateAnimeBatch(List.of(updatedAnimeDTO, missingIdDTO, notFoundDTO, otherUserDTO));
+        assertThat(response.getSucceeded()).isEqualTo(1);
+        assertThat(response.getResults()).extracting(BatchItemResult::getStatus).containsExactly(200, 400, 404, 403);
+        assertThat(anime.getTitle()).isEqualTo("Shingeki no Kyojin");
+        verify(animeRepository).saveAllAndFlush(anyCollection());
+        verify(ratingSummaryService).recordRatingChanges(user.getId(), LibraryType.ANIME, List.of(10), List.of(9));
+        verify(libraryVersionService).incrementVersion(user.getId(), LibraryType.ANIME);
+    }
+
+    @Test
+    @Order(20)
+    @DisplayName("Delete Anime Batch - Partial Success")
+    void shouldDeleteAnimeBatchReportingEachEntry() {
+        given(animeRepository.findAllById(List.of(anime.getId(), 42L, anime.getId()))).willReturn(List.of(anime));
+        given(animeMapper.toAnimeDTO(anime)).willReturn(animeDTO);
+        AnimeBatchResponse response = animeService.deleteAnimeBatch(List.of(anime.getId(), 42L, anime.getId()));
+        assertThat(response.getSucceeded()).isEqualTo(1);
+        assertThat(response.getResults()).extracting(BatchItemResult::getStatus).containsExactly(200, 404, 400);
+        verify(animeRepository).deleteAll(List.of(anime));
+        verify(ratingSummaryService).recordRatingChanges(user.getId(), LibraryType.ANIME, List.of(10), List.of());
+        verify(libraryVersionService).incrementVersion(user.getId(), LibraryType.ANIME);
+        verify(syncService).recordDeletions(user.getId(), LibraryType.ANIME, List.of(anime.getId()));
+    }
+
+    private void givenStudioInCatalog() {
+        given(studioCatalogService.getCatalog()).willReturn(new StudioCatalog(List.of(StudioDTO.builder().id(studio.getId()).name(studio.getName()).build())));
+        lenient().when(entityManager.getReference(Studio.class, studio.getId())).thenReturn(studio);
+    }
+
+    @Test
+    @Order(21)
+    @DisplayName("Get Anime ETag")
+    void shouldGetAnimeETagFromUpdateTimestamp() {
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 6, 1, 12, 0);
+        given(animeRepository.findUpdatedAtByIdAndUserId(anime.getId(), user.getId())).willReturn(Optional.of(updatedAt));
+        Optional<String> eTag = animeService.getAnimeETag(anime.getId());
+        assertThat(eTag).hasValueSatisfying(value -> assertThat(value).startsWith("\"").endsWith("\""));
+        given(animeRepository.findUpdatedAtByIdAndUserId(anime.getId(), user.getId())).willReturn(Optional.of(updatedAt.plusSeconds(1)));
+        assertThat(animeService.getAnimeETag(anime.getId())).isNotEqualTo(eTag);
+        verify(animeRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @Order(22)
+    @DisplayName("Get Anime ETag - Not Owned")
+    void shouldNotGetAnimeETagWhenNotOwned() {
+        given(animeRepository.findUpdatedAtByIdAndUserId(anime.getId(), user.getId())).willReturn(Optional.empty());
+        assertThat(animeService.getAnimeETag(anime.getId())).isEmpty();
+    }
+
+    @Test
+    @Order(23)
+    @DisplayName("Get Anime Library ETag")
+    void shouldChangeAnimeLibraryETagWithLibraryVersion() {
+        given(libraryVersionService.getVersion(user.getId(), LibraryType.ANIME)).willReturn(3L);
+        String eTag = animeService.getAnimeLibraryETag();
+        assertThat(animeService.getAnimeLibraryETag()).isEqualTo(eTag);
+        given(libraryVersionService.getVersion(user.getId(), LibraryType.ANIME)).willReturn(4L);
+        assertThat(animeService.getAnimeLibraryETag()).isNotEqualTo(eTag);
+        verifyNoInteractions(animeRepository);
+    }
+
+    @Test
+    @Order(24)
+    @DisplayName("Create Anime Batch - Case Variant Titles")
+    void shouldRejectCaseVariantTitlesInAnimeBatch() {
+        AnimeDTO narutoDTO = AnimeDTO.builder()
+                .title("Naruto")
+                .type(AnimeType.TV)
+                .status(AnimeStatus.COMPLETED)
+                .rating(8)
+                .studioId(studio.getId())
+                .build();
+        AnimeDTO lowerCaseNarutoDTO = AnimeDTO.builder()
+                .title("naruto")
+                .type(AnimeType.TV)
+                .status(AnimeStatus.COMPLETED)
+                .studioId(studio.getId())
+                .build();
+        Anime naruto = Anime.builder()
+                .title("Naruto")
+                .rating(8)
+                .build();
+        givenStudioInCatalog();
+        given(animeRepository.findAllByUserIdAndTitleIn(user.getId(), Set.of("Naruto", "naruto"))).willReturn(List.of());
+        given(animeMapper.toAnime(narutoDTO)).willReturn(naruto);
+        given(animeMapper.toAnimeDTO(naruto)).willReturn(narutoDTO);
+        AnimeBatchResponse response = animeService.createAnimeBatch(List.of(narutoDTO, lowerCaseNarutoDTO));
+        assertThat(response.getResults()).extracting(BatchItemResult::getStatus).containsExactly(201, 409);
+        assertThat(response.getResults().get(1).getError()).contains("Title", "naruto");
+        verify(animeMapper, never()).toAnime(lowerCaseNarutoDTO);
+    }
+
+    @Test
+    @Order(25)
+    @DisplayName("Create Anime Batch - Title Taken Concurrently")
+    void shouldRetryAnimeBatchEntryByEntryWhenTitleIsTakenConcurrently() {
+        AnimeDTO takenTitleDTO = AnimeDTO.builder()
+                .title("Vinland Saga")
+                .type(AnimeType.TV)
+                .status(AnimeStatus.WATCHING)
+                .studioId(studio.getId())
+                .build();
+        Anime takenTitleAnime = Anime.builder()
+                .title("Vinland Saga")
+                .build();
+        givenStudioInCatalog();
+        given(animeMapper.toAnime(animeDTO)).willReturn(anime);
+        given(animeMapper.toAnime(takenTitleDTO)).willReturn(takenTitleAnime);
+        given(animeMapper.toAnimeDTO(anime)).willReturn(animeDTO);
+        // The batch and then the entry whose title another request took fail on the unique constraint
+        given(animeRepository.saveAllAndFlush(anyCollection()))
+                .willThrow(titleViolation())
+                .willReturn(List.of(anime))
+                .willThrow(titleViolation());
+        AnimeBatchResponse response = animeService.createAnimeBatch(List.of(animeDTO, takenTitleDTO));
+        assertThat(response.getSucceeded()).isEqualTo(1);
+        assertThat(response.getResults()).extracting(BatchItemResult::getIndex).containsExactly(0, 1);
+        assertThat(response.getResults()).extracting(BatchItemResult::getStatus).containsExactly(201, 409);
+        assertThat(response.getResults().get(1).getError()).contains("Title", "Vinland Saga");
+        verify(animeRepository, times(3)).saveAllAndFlush(anyCollection());
+        verify(ratingSummaryService).recordRatingChanges(user.getId(), LibraryType.ANIME, List.of(), List.of(10));
+        verify(libraryVersionService).incrementVersion(user.getId(), LibraryType.ANIME);
+    }
+
+    private static DataIntegrityViolationException titleViolation() {
+        ConstraintViolationException violation = new ConstraintViolationException(
+                "Duplicate entry", new SQLException(), null, ConstraintViolationException.ConstraintKind.UNIQUE, ApplicationConstants.ANIME_TITLE_CONSTRAINT
+        );
+        return new DataIntegrityViolationException("Duplicate entry", violation);
+    }
 }
@@ -2,6 +2,7 @@ package com.aimanecouissi.animerestapi.service;
 
 import com.aimanecouissi.animerestapi.entity.Role;
 import com.aimanecouissi.animerestapi.entity.User;
+import com.aimanecouissi.animerestapi.exception.LoginThrottledException;
 import com.aimanecouissi.animerestapi.exception.ResourceNotFoundException;
 import com.aimanecouissi.animerestapi.exception.UniqueFieldException;
 import com.aimanecouissi.animerestapi.payload.dto.LoginDTO;
@@ -17,9 +18,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
 import java.util.Set;
@@ -42,11 +44,20 @@ class AuthenticationServiceTest {
     private RoleRepository roleRepository;
 
     @Mock
-    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordEncoder passwordEncoder;
 
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private RatingSummaryService ratingSummaryService;
+
+    @Mock
+    private LibraryVersionService libraryVersionService;
+
+    @Mock
+    private LoginAttemptService loginAttemptService;
+
     @InjectMocks
     private AuthenticationServiceImplementation authenticationService;
 
@@ -93,10 +104,11 @@ class AuthenticationServiceTest {
         Authentication authentication = mock(Authentication.class);
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class))).thenReturn(authentication);
         when(jwtTokenProvider.generateToken(authentication)).thenReturn("jwt-token");
-        String token = authenticationService.login(loginDTO);
+        String token = authenticationService.login(loginDTO, "127.0.0.1");
         assertThat(token).isEqualTo("jwt-token");
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
         verify(jwtTokenProvider).generateToken(authentication);
+        verify(loginAttemptService).recordSuccess("alice.smith");
     }
 
     @Test
@@ -112,6 +124,8 @@ class AuthenticationServiceTest {
         assertThat(returnedLoginDTO.getUsername()).isEqualTo(registerDTO.getUsername());
         verify(userRepository).existsByUsername(registerDTO.getUsername());
         verify(userRepository).save(any(User.class));
+        verify(ratingSummaryService).createSummaries(any(User.class));
+        verify(libraryVersionService).createVersions(any(User.class));
     }
 
     @Test
@@ -136,4 +150,24 @@ class AuthenticationServiceTest {
         verify(userRepository).existsByUsername(registerDTO.getUsername());
         verify(userRepository, never()).save(any(User.class));
     }
+
+    @Test
+    @Order(5)
+    @DisplayName("Sign in - Bad Credentials")
+    void shouldRecordFailedLogin() {
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class))).thenThrow(new BadCredentialsException("Bad credentials"));
+        assertThrows(BadCredentialsException.class, () -> authenticationService.login(loginDTO, "127.0.0.1"));
+        verify(loginAttemptService).recordFailure("alice.smith", "127.0.0.1");
+        verify(loginAttemptService, never()).recordSuccess(anyString());
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Sign in - Throttled")
+    void shouldRefuseThrottledLoginBeforeAuthenticating() {
+        doThrow(new LoginThrottledException(30)).when(loginAttemptService).checkAllowed("alice.smith", "127.0.0.1");
+        assertThrows(LoginThrottledException.class, () -> authenticationService.login(loginDTO, "127.0.0.1"));
+        verifyNoInteractions(authenticationManager, jwtTokenProvider);
+        verify(loginAttemptService, never()).recordFailure(anyString(), anyString());
+    }
 }
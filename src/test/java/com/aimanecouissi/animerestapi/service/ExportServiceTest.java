@@ -0,0 +1,100 @@
+package com.aimanecouissi.animerestapi.service;
+
+import com.aimanecouissi.animerestapi.entity.Anime;
+import com.aimanecouissi.animerestapi.entity.Manga;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import com.aimanecouissi.animerestapi.mapper.AnimeMapper;
+import com.aimanecouissi.animerestapi.mapper.MangaMapper;
+import com.aimanecouissi.animerestapi.payload.dto.LibraryEntryDTO;
+import com.aimanecouissi.animerestapi.repository.AnimeRepository;
+import com.aimanecouissi.animerestapi.repository.MangaRepository;
+import com.aimanecouissi.animerestapi.security.CurrentUserProvider;
+import com.aimanecouissi.animerestapi.service.implementation.ExportServiceImplementation;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(OrderAnnotation.class)
+class ExportServiceTest {
+
+    @Mock
+    private AnimeRepository animeRepository;
+
+    @Mock
+    private MangaRepository mangaRepository;
+
+    @Mock
+    private AnimeMapper animeMapper;
+
+    @Mock
+    private MangaMapper mangaMapper;
+
+    @Mock
+    private CurrentUserProvider currentUserProvider;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private ExportServiceImplementation exportService;
+
+    private Anime anime;
+    private Manga manga;
+    private LibraryEntryDTO animeEntry;
+    private LibraryEntryDTO mangaEntry;
+
+    @BeforeEach
+    void setUp() {
+        anime = Anime.builder().id(1L).title("Attack on Titan").build();
+        manga = Manga.builder().id(1L).title("One Piece").build();
+        animeEntry = LibraryEntryDTO.builder().library(LibraryType.ANIME).id(1L).title("Attack on Titan").build();
+        mangaEntry = LibraryEntryDTO.builder().library(LibraryType.MANGA).id(1L).title("One Piece").build();
+        given(currentUserProvider.getCurrentUserId()).willReturn(5L);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Export Library - Anime Then Manga")
+    void shouldExportAnimeThenManga() {
+        given(animeRepository.streamAllByUserIdOrderById(5L)).willReturn(Stream.of(anime));
+        given(mangaRepository.streamAllByUserIdOrderById(5L)).willReturn(Stream.of(manga));
+        given(animeMapper.toLibraryEntryDTO(anime)).willReturn(animeEntry);
+        given(mangaMapper.toLibraryEntryDTO(manga)).willReturn(mangaEntry);
+        List<LibraryEntryDTO> exported = new ArrayList<>();
+        exportService.exportLibrary(null, exported::add);
+        assertThat(exported).containsExactly(animeEntry, mangaEntry);
+        InOrder inOrder = inOrder(entityManager);
+        inOrder.verify(entityManager).detach(anime);
+        inOrder.verify(entityManager).detach(manga);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Export Library - Manga Only")
+    void shouldExportMangaOnly() {
+        given(mangaRepository.streamAllByUserIdOrderById(5L)).willReturn(Stream.of(manga));
+        given(mangaMapper.toLibraryEntryDTO(manga)).willReturn(mangaEntry);
+        List<LibraryEntryDTO> exported = new ArrayList<>();
+        exportService.exportLibrary(LibraryType.MANGA, exported::add);
+        assertThat(exported).containsExactly(mangaEntry);
+        verify(animeRepository, never()).streamAllByUserIdOrderById(anyLong());
+        verify(entityManager).detach(manga);
+    }
+}
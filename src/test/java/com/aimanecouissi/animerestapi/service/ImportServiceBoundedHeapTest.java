@@ -0,0 +1,119 @@
+package com.aimanecouissi.animerestapi.service;
+
+import com.aimanecouissi.animerestapi.enums.FileFormat;
+import com.aimanecouissi.animerestapi.enums.ImportJobStatus;
+import com.aimanecouissi.animerestapi.payload.dto.AnimeDTO;
+import com.aimanecouissi.animerestapi.payload.response.AnimeBatchResponse;
+import com.aimanecouissi.animerestapi.payload.response.ImportJobResponse;
+import com.aimanecouissi.animerestapi.security.CurrentUserProvider;
+import com.aimanecouissi.animerestapi.service.implementation.ImportServiceImplementation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Runs in the bounded-heap surefire execution with a 64 MB heap, far less than the file and its rows would take if
+ * the import buffered them.
+ */
+@Tag("bounded-heap")
+class ImportServiceBoundedHeapTest {
+    private static final int ROWS = 1_000_000;
+
+    @Test
+    @DisplayName("Import Anime - One Million Rows")
+    void shouldImportMillionRowsInConstantMemory() throws InterruptedException {
+        // Stub-only mocks do not record invocations, which would otherwise keep every chunk reachable
+        AnimeService animeService = mock(AnimeService.class, withSettings().stubOnly());
+        CurrentUserProvider currentUserProvider = mock(CurrentUserProvider.class, withSettings().stubOnly());
+        given(currentUserProvider.getCurrentUserId()).willReturn(1L);
+        given(animeService.createAnimeBatch(anyList())).willAnswer(invocation -> {
+            List<AnimeDTO> items = invocation.getArgument(0);
+            return AnimeBatchResponse.builder().results(List.of()).succeeded(items.size()).build();
+        });
+        try (ImportServiceImplementation importService = new ImportServiceImplementation(
+                animeService,
+                mock(MangaService.class),
+                currentUserProvider,
+                new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                500,
+                1,
+                1,
+                Duration.ofHours(1)
+        )) {
+            // The upload is spooled to disk before the import runs, so the file is not held in memory there either
+            String importJobId = importService.importAnime(FileFormat.CSV, new SyntheticCsvInputStream(ROWS)).getId();
+            long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(2);
+            ImportJobResponse importJob = importService.getImportJob(importJobId);
+            while (importJob.getStatus() == ImportJobStatus.RUNNING && System.nanoTime() < deadline) {
+                Thread.sleep(100);
+                importJob = importService.getImportJob(importJobId);
+            }
+            assertThat(importJob.getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+            assertThat(importJob.getProcessed()).isEqualTo(ROWS);
+            assertThat(importJob.getImported()).isEqualTo(ROWS);
+            assertThat(importJob.getRejected()).isZero();
+        }
+    }
+
+    /**
+     * Generates the CSV export one row at a time, so the file itself never exists in memory either.
+     */
+    private static class SyntheticCsvInputStream extends InputStream {
+        private final int rows;
+        private byte[] line = "title,type,studioId,status,rating,favorite,complete\n".getBytes(StandardCharsets.UTF_8);
+        private int position;
+        private int row;
+
+        SyntheticCsvInputStream(int rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public int read() {
+            if (position == line.length && !nextLine()) {
+                return -1;
+            }
+            return line[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (position == line.length && !nextLine()) {
+                return -1;
+            }
+            int count = Math.min(length, line.length - position);
+            System.arraycopy(line, position, buffer, offset, count);
+            position += count;
+            return count;
+        }
+
+        private boolean nextLine() {
+            if (row == rows) {
+                return false;
+            }
+            row++;
+            line = String.format("Anime %d,TV,%d,COMPLETED,%d,%b,true%n", row, row % 20 + 1, row % 10 + 1, row % 3 == 0)
+                    .getBytes(StandardCharsets.UTF_8);
+            position = 0;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.aimanecouissi.animerestapi.service;
+
+import com.aimanecouissi.animerestapi.enums.AnimeType;
+import com.aimanecouissi.animerestapi.enums.FileFormat;
+import com.aimanecouissi.animerestapi.enums.ImportJobStatus;
+import com.aimanecouissi.animerestapi.exception.ResourceNotFoundException;
+import com.aimanecouissi.animerestapi.exception.ServiceBusyException;
+import com.aimanecouissi.animerestapi.payload.dto.AnimeDTO;
+import com.aimanecouissi.animerestapi.payload.dto.MangaDTO;
+import com.aimanecouissi.animerestapi.payload.response.AnimeBatchResponse;
+import com.aimanecouissi.animerestapi.payload.response.BatchItemResult;
+import com.aimanecouissi.animerestapi.payload.response.ImportJobResponse;
+import com.aimanecouissi.animerestapi.payload.response.MangaBatchResponse;
+import com.aimanecouissi.animerestapi.security.CurrentUserProvider;
+import com.aimanecouissi.animerestapi.service.implementation.ImportServiceImplementation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(OrderAnnotation.class)
+class ImportServiceTest {
+
+    @Mock
+    private AnimeService animeService;
+
+    @Mock
+    private MangaService mangaService;
+
+    @Mock
+    private CurrentUserProvider currentUserProvider;
+
+    private ImportServiceImplementation importService;
+
+    @BeforeEach
+    void setUp() {
+        // Chunks of two rows so a handful of rows spans several transactions
+        importService = newImportService(1, 10);
+        lenient().when(currentUserProvider.getCurrentUserId()).thenReturn(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        importService.close();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Import Anime - CSV In Chunks")
+    void shouldImportAnimeFromCsvInChunks() throws InterruptedException {
+        List<List<String>> chunkTitles = new ArrayList<>();
+        given(animeService.createAnimeBatch(anyList())).willAnswer(invocation -> {
+            List<AnimeDTO> items = invocation.getArgument(0);
+            chunkTitles.add(items.stream().map(AnimeDTO::getTitle).toList());
+            assertThat(items.get(0).getType()).isIn(AnimeType.TV, AnimeType.MOVIE);
+            // The second entry of the second chunk (row 5) already exists
+            List<BatchItemResult<AnimeDTO>> results = items.stream()
+                    .map(item -> item.getTitle().equals("Mob Psycho 100")
+                            ? BatchItemResult.<AnimeDTO>failure(items.indexOf(item), HttpStatus.CONFLICT, "'Title' with value 'Mob Psycho 100' already exists.")
+                            : BatchItemResult.success(items.indexOf(item), HttpStatus.CREATED, item))
+                    .toList();
+            int succeeded = (int) results.stream().filter(BatchItemResult::isSuccessful).count();
+            return AnimeBatchResponse.builder().results(results).succeeded(succeeded).failed(results.size() - succeeded).build();
+        });
+        String csv = """
+                title,type,studioId,status,rating,favorite,complete,notes
+                Chainsaw Man,TV,1,COMPLETED,9,true,true,ignored
+                Vinland Saga,TV,1,WATCHING,,false,false,
+                ,TV,1,WATCHING,5,false,false,
+                Dororo,SERIES,1,COMPLETED,8,false,true,
+                Mob Psycho 100,TV,1,COMPLETED,10,true,true,
+                Spirited Away,MOVIE,2,COMPLETED,10,true,true,
+                """;
+        ImportJobResponse importJob = awaitImportJob(importService.importAnime(FileFormat.CSV, toInputStream(csv)));
+        assertThat(importJob.getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(importJob.getProcessed()).isEqualTo(6);
+        assertThat(importJob.getImported()).isEqualTo(3);
+        assertThat(importJob.getRejected()).isEqualTo(3);
+        assertThat(importJob.getErrors()).hasSize(3);
+        assertThat(importJob.getErrors().get(0)).startsWith("Row 3: Title is required");
+        assertThat(importJob.getErrors().get(1)).startsWith("Row 4: ").contains("SERIES");
+        assertThat(importJob.getErrors().get(2)).startsWith("Row 5: ").contains("already exists");
+        assertThat(importJob.getFinishedAt()).isNotNull();
+        assertThat(chunkTitles).containsExactly(
+                List.of("Chainsaw Man", "Vinland Saga"),
+                List.of("Mob Psycho 100", "Spirited Away")
+        );
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Import Manga - NDJSON")
+    void shouldImportMangaFromNdjson() throws InterruptedException {
+        given(mangaService.createMangaBatch(anyList())).willAnswer(invocation -> {
+            List<MangaDTO> items = invocation.getArgument(0);
+            return MangaBatchResponse.builder()
+                    .results(items.stream().map(item -> BatchItemResult.success(items.indexOf(item), HttpStatus.CREATED, item)).toList())
+                    .succeeded(items.size())
+                    .build();
+        });
+        String ndjson = """
+                {"title":"Berserk","status":"READING","rating":10,"favorite":true}
+                {"title":"Monster","status":"COMPLETED"}
+
+                {"title":"Vagabond","rating":11}
+                """;
+        ImportJobResponse importJob = awaitImportJob(importService.importManga(FileFormat.NDJSON, toInputStream(ndjson)));
+        assertThat(importJob.getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(importJob.getProcessed()).isEqualTo(3);
+        assertThat(importJob.getImported()).isEqualTo(2);
+        assertThat(importJob.getErrors()).containsExactly("Row 3: Rating must be at most 10, Status is required");
+        verify(mangaService).createMangaBatch(anyList());
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Import Manga - Malformed NDJSON")
+    void shouldFailImportOnMalformedNdjson() throws InterruptedException {
+        given(mangaService.createMangaBatch(anyList())).willAnswer(invocation -> {
+            List<MangaDTO> items = invocation.getArgument(0);
+            return MangaBatchResponse.builder().results(List.of()).succeeded(items.size()).build();
+        });
+        String ndjson = """
+                {"title":"Berserk","status":"READING"}
+                {"title":"Monster","status":"COMPLETED"}
+                {"title":"Vagabond",
+                """;
+        ImportJobResponse importJob = awaitImportJob(importService.importManga(FileFormat.NDJSON, toInputStream(ndjson)));
+        assertThat(importJob.getStatus()).isEqualTo(ImportJobStatus.FAILED);
+        assertThat(importJob.getImported()).isEqualTo(2);
+        assertThat(importJob.getErrors()).singleElement().asString().startsWith("Import stopped at row 3");
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Get Import Job - Success")
+    void shouldGetImportJob() throws InterruptedException {
+        ImportJobResponse importJob = awaitImportJob(importService.importManga(FileFormat.NDJSON, toInputStream("")));
+        assertThat(importService.getImportJob(importJob.getId()).getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(importService.getImportJobs()).extracting(ImportJobResponse::getId).containsExactly(importJob.getId());
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Get Import Job - Other User")
+    void shouldHideImportJobOfOtherUser() throws InterruptedException {
+        ImportJobResponse importJob = awaitImportJob(importService.importManga(FileFormat.NDJSON, toInputStream("")));
+        given(currentUserProvider.getCurrentUserId()).willReturn(2L);
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> importService.getImportJob(importJob.getId()));
+        assertThat(exception.getMessage()).contains("Import job", importJob.getId());
+        assertThat(importService.getImportJobs()).isEmpty();
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Import Manga - Queue Full")
+    void shouldRejectImportWhenQueueIsFull() throws InterruptedException {
+        importService.close();
+        importService = newImportService(1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(mangaService.createMangaBatch(anyList())).willAnswer(invocation -> {
+            started.countDown();
+            assertThat(release.await(10, TimeUnit.SECONDS)).isTrue();
+            return MangaBatchResponse.builder().results(List.of()).succeeded(1).build();
+        });
+        String ndjson = "{\"title\":\"Berserk\",\"status\":\"READING\"}\n";
+        // The first import holds the only thread and the second one the only queue slot
+        ImportJobResponse runningJob = importService.importManga(FileFormat.NDJSON, toInputStream(ndjson));
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        ImportJobResponse queuedJob = importService.importManga(FileFormat.NDJSON, toInputStream(ndjson));
+        assertThat(runningJob.getStatus()).isEqualTo(ImportJobStatus.RUNNING);
+        assertThat(queuedJob.getStatus()).isEqualTo(ImportJobStatus.RUNNING);
+        assertThrows(ServiceBusyException.class, () -> importService.importManga(FileFormat.NDJSON, toInputStream(ndjson)));
+        assertThat(importService.getImportJobs()).extracting(ImportJobResponse::getId).containsExactlyInAnyOrder(runningJob.getId(), queuedJob.getId());
+        release.countDown();
+        assertThat(awaitImportJob(runningJob).getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(awaitImportJob(queuedJob).getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+    }
+
+    private ImportServiceImplementation newImportService(int threads, int queueCapacity) {
+        return new ImportServiceImplementation(
+                animeService,
+                mangaService,
+                currentUserProvider,
+                new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                2,
+                threads,
+                queueCapacity,
+                Duration.ofHours(1)
+        );
+    }
+
+    // Rows are written on the import pool, so the job is polled the way a client follows it
+    private ImportJobResponse awaitImportJob(ImportJobResponse importJob) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        ImportJobResponse currentJob = importService.getImportJob(importJob.getId());
+        while (currentJob.getStatus() == ImportJobStatus.RUNNING && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            currentJob = importService.getImportJob(importJob.getId());
+        }
+        return currentJob;
+    }
+
+    private static InputStream toInputStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,156 @@
+package com.aimanecouissi.animerestapi.service;
+
+import com.aimanecouissi.animerestapi.entity.Role;
+import com.aimanecouissi.animerestapi.entity.Studio;
+import com.aimanecouissi.animerestapi.entity.User;
+import com.aimanecouissi.animerestapi.enums.FileFormat;
+import com.aimanecouissi.animerestapi.enums.ImportJobStatus;
+import com.aimanecouissi.animerestapi.mapper.AnimeMapper;
+import com.aimanecouissi.animerestapi.mapper.MangaMapper;
+import com.aimanecouissi.animerestapi.payload.dto.StudioDTO;
+import com.aimanecouissi.animerestapi.payload.response.ImportJobResponse;
+import com.aimanecouissi.animerestapi.repository.*;
+import com.aimanecouissi.animerestapi.security.CurrentUserProvider;
+import com.aimanecouissi.animerestapi.service.implementation.AnimeServiceImplementation;
+import com.aimanecouissi.animerestapi.service.implementation.ImportServiceImplementation;
+import com.aimanecouissi.animerestapi.service.implementation.MangaServiceImplementation;
+import com.aimanecouissi.animerestapi.utility.StudioCatalog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * Imports through the real batch services, so a title rejected by the uniqueness checks is seen the way the import
+ * sees it, as one rejected row of a job that still completes.
+ */
+@DataJpaTest
+@Import({AnimeServiceImplementation.class, MangaServiceImplementation.class, AnimeMapper.class, MangaMapper.class, CurrentUserProvider.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestMethodOrder(OrderAnnotation.class)
+class ImportServiceTitleUniquenessTest {
+
+    @Autowired
+    private AnimeService animeService;
+
+    @Autowired
+    private MangaService mangaService;
+
+    @Autowired
+    private CurrentUserProvider currentUserProvider;
+
+    @Autowired
+    private AnimeRepository animeRepository;
+
+    @Autowired
+    private StudioRepository studioRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @MockBean
+    private StudioCatalogService studioCatalogService;
+
+    @MockBean
+    private RatingSummaryService ratingSummaryService;
+
+    @MockBean
+    private LibraryVersionService libraryVersionService;
+
+    @MockBean
+    private SyncService syncService;
+
+    private ImportServiceImplementation importService;
+    private User user;
+    private Studio studio;
+
+    @BeforeEach
+    void setUp() {
+        Role role = roleRepository.save(Role.builder()
+                .name("ROLE_USER")
+                .build());
+        user = userRepository.save(User.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .username("john.doe")
+                .password("password123")
+                .roles(Set.of(role))
+                .build());
+        studio = studioRepository.save(Studio.builder()
+                .name("Pierrot")
+                .build());
+        given(studioCatalogService.getCatalog()).willReturn(new StudioCatalog(List.of(StudioDTO.builder().id(studio.getId()).name(studio.getName()).build())));
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(user.getUsername(), null, List.of()));
+        importService = new ImportServiceImplementation(
+                animeService,
+                mangaService,
+                currentUserProvider,
+                new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                500,
+                1,
+                10,
+                Duration.ofHours(1)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        importService.close();
+        SecurityContextHolder.clearContext();
+        animeRepository.deleteAll();
+        studioRepository.deleteAll();
+        userRepository.deleteAll();
+        roleRepository.deleteAll();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Import Anime - Case Variant Titles")
+    void shouldRejectOnlyTheCaseVariantTitleOfAnImport() throws InterruptedException {
+        String csv = """
+                title,type,studioId,status,rating,favorite,complete
+                Naruto,TV,%1$d,COMPLETED,8,false,true
+                naruto,TV,%1$d,COMPLETED,7,false,true
+                Bleach,TV,%1$d,COMPLETED,8,false,true
+                """.formatted(studio.getId());
+        // The import runs on a pool thread, which finds the user in the security context handed over by this one
+        ImportJobResponse importJob = awaitImportJob(importService.importAnime(FileFormat.CSV, new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))));
+        assertThat(importJob.getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(importJob.getImported()).isEqualTo(2);
+        assertThat(importJob.getRejected()).isEqualTo(1);
+        assertThat(importJob.getErrors()).singleElement().asString().startsWith("Row 2: ").contains("naruto");
+        assertThat(animeRepository.findAllByUserIdAndTitleIn(user.getId(), Set.of("Naruto", "naruto", "Bleach"))).hasSize(2);
+    }
+
+    private ImportJobResponse awaitImportJob(ImportJobResponse importJob) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        ImportJobResponse currentJob = importService.getImportJob(importJob.getId());
+        while (currentJob.getStatus() == ImportJobStatus.RUNNING && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            currentJob = importService.getImportJob(importJob.getId());
+        }
+        return currentJob;
+    }
+}
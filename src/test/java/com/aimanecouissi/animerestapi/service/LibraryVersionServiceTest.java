@@ -0,0 +1,110 @@
+package com.aimanecouissi.animerestapi.service;
+
+import com.aimanecouissi.animerestapi.entity.LibraryVersion;
+import com.aimanecouissi.animerestapi.entity.User;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import com.aimanecouissi.animerestapi.payload.response.LibraryVersionResponse;
+import com.aimanecouissi.animerestapi.repository.LibraryVersionRepository;
+import com.aimanecouissi.animerestapi.security.CurrentUserProvider;
+import com.aimanecouissi.animerestapi.service.implementation.LibraryVersionServiceImplementation;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(OrderAnnotation.class)
+class LibraryVersionServiceTest {
+
+    @Mock
+    private LibraryVersionRepository libraryVersionRepository;
+
+    @Mock
+    private CurrentUserProvider currentUserProvider;
+
+    @InjectMocks
+    private LibraryVersionServiceImplementation libraryVersionService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        // User for library versions
+        user = User.builder()
+                .id(1L)
+                .username("john.doe")
+                .build();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Create Library Versions")
+    void shouldCreateVersionForEachLibrary() {
+        libraryVersionService.createVersions(user);
+        ArgumentCaptor<LibraryVersion> captor = ArgumentCaptor.forClass(LibraryVersion.class);
+        verify(libraryVersionRepository, times(LibraryType.values().length)).save(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(LibraryVersion::getLibraryType)
+                .containsExactly(LibraryType.values());
+        assertThat(captor.getAllValues()).allMatch(libraryVersion -> libraryVersion.getUserId() == 1L && libraryVersion.getVersion() == 0);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Increment Library Version")
+    void shouldIncrementExistingVersion() {
+        given(libraryVersionRepository.incrementVersion(1L, LibraryType.ANIME)).willReturn(1);
+        libraryVersionService.incrementVersion(1L, LibraryType.ANIME);
+        verify(libraryVersionRepository, never()).save(any(LibraryVersion.class));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Increment Library Version - Missing Version")
+    void shouldCreateVersionWhenMissing() {
+        given(libraryVersionRepository.incrementVersion(1L, LibraryType.MANGA)).willReturn(0);
+        libraryVersionService.incrementVersion(1L, LibraryType.MANGA);
+        ArgumentCaptor<LibraryVersion> captor = ArgumentCaptor.forClass(LibraryVersion.class);
+        verify(libraryVersionRepository).save(captor.capture());
+        assertThat(captor.getValue().getLibraryType()).isEqualTo(LibraryType.MANGA);
+        assertThat(captor.getValue().getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Get Library Version")
+    void shouldGetVersionOrZero() {
+        given(libraryVersionRepository.findVersionByUserIdAndLibraryType(1L, LibraryType.ANIME)).willReturn(Optional.of(5L));
+        given(libraryVersionRepository.findVersionByUserIdAndLibraryType(1L, LibraryType.MANGA)).willReturn(Optional.empty());
+        assertThat(libraryVersionService.getVersion(1L, LibraryType.ANIME)).isEqualTo(5);
+        assertThat(libraryVersionService.getVersion(1L, LibraryType.MANGA)).isZero();
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Get Library Version Of Current User")
+    void shouldGetLibraryVersionOfCurrentUser() {
+        given(currentUserProvider.getCurrentUserId()).willReturn(1L);
+        given(libraryVersionRepository.findAllByUserId(1L)).willReturn(List.of(LibraryVersion.builder()
+                .userId(1L)
+                .libraryType(LibraryType.ANIME)
+                .version(5)
+                .build()));
+        LibraryVersionResponse libraryVersion = libraryVersionService.getLibraryVersion();
+        assertThat(libraryVersion.getAnime()).isEqualTo(5);
+        assertThat(libraryVersion.getManga()).isZero();
+    }
+}
@@ -0,0 +1,131 @@
+package com.aimanecouissi.animerestapi.service;
+
+import com.aimanecouissi.animerestapi.exception.LoginThrottledException;
+import com.aimanecouissi.animerestapi.service.implementation.LoginAttemptServiceImplementation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@TestMethodOrder(OrderAnnotation.class)
+class LoginAttemptServiceTest {
+
+    private static final String IP = "10.0.0.1";
+
+    private final AtomicLong now = new AtomicLong();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private LoginAttemptService loginAttemptService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // Three failures per username, five per IP, blocks from 1 to 8 seconds, counters kept for a minute
+        loginAttemptService = new LoginAttemptServiceImplementation(3, 5, Duration.ofSeconds(1), Duration.ofSeconds(8), Duration.ofMinutes(1), 100, meterRegistry, now::get);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Check Allowed - Under Threshold")
+    void shouldAllowLoginsUnderThreshold() {
+        failTimes("john.doe", IP, 2);
+        assertDoesNotThrow(() -> loginAttemptService.checkAllowed("john.doe", IP));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Check Allowed - Username Blocked")
+    void shouldBlockUsernameProgressively() {
+        failTimes("john.doe", IP, 3);
+        LoginThrottledException exception = assertThrows(LoginThrottledException.class, () -> loginAttemptService.checkAllowed("John.Doe", "10.0.0.2"));
+        assertThat(exception.getRetryAfterSeconds()).isEqualTo(1);
+        advanceSeconds(1);
+        loginAttemptService.recordFailure("john.doe", "10.0.0.2");
+        exception = assertThrows(LoginThrottledException.class, () -> loginAttemptService.checkAllowed("john.doe", "10.0.0.3"));
+        assertThat(exception.getRetryAfterSeconds()).isEqualTo(2);
+        assertThat(meterRegistry.get(LoginAttemptServiceImplementation.LOGIN_BLOCKED).tag("key", "username").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Check Allowed - Block Capped")
+    void shouldCapBlockAtMaximum() {
+        for (int i = 0; i < 10; i++) {
+            loginAttemptService.recordFailure("john.doe", "10.0.0." + i);
+        }
+        LoginThrottledException exception = assertThrows(LoginThrottledException.class, () -> loginAttemptService.checkAllowed("john.doe", "10.0.1.1"));
+        assertThat(exception.getRetryAfterSeconds()).isEqualTo(8);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Check Allowed - IP Blocked")
+    void shouldBlockAddressSprayingUsernames() {
+        for (int i = 0; i < 5; i++) {
+            loginAttemptService.recordFailure("user" + i, IP);
+        }
+        assertThrows(LoginThrottledException.class, () -> loginAttemptService.checkAllowed("someone.else", IP));
+        assertDoesNotThrow(() -> loginAttemptService.checkAllowed("someone.else", "10.0.0.2"));
+        assertThat(meterRegistry.get(LoginAttemptServiceImplementation.LOGIN_BLOCKED).tag("key", "ip").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Record Success - Username Reset")
+    void shouldResetUsernameCounterOnSuccess() {
+        failTimes("john.doe", IP, 2);
+        loginAttemptService.recordSuccess("john.doe");
+        failTimes("john.doe", IP, 2);
+        assertDoesNotThrow(() -> loginAttemptService.checkAllowed("john.doe", IP));
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Check Allowed - Failures Decay")
+    void shouldForgetFailuresAfterDecay() {
+        failTimes("john.doe", IP, 3);
+        advanceSeconds(61);
+        failTimes("john.doe", IP, 2);
+        assertDoesNotThrow(() -> loginAttemptService.checkAllowed("john.doe", IP));
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Check Allowed - Long Base Block Capped")
+    void shouldCapLongBaseBlockWithoutOverflow() {
+        assertBlockDoublesUpTo(Duration.ofMinutes(1), Duration.ofHours(1));
+        // Shifted 30 times, 17.2 seconds carries out of the long and used to leave a block of about 250 days
+        assertBlockDoublesUpTo(Duration.ofMillis(17_200), Duration.ofDays(365));
+    }
+
+    private void assertBlockDoublesUpTo(Duration baseBlock, Duration maxBlock) {
+        loginAttemptService = new LoginAttemptServiceImplementation(3, 5, baseBlock, maxBlock, Duration.ofMinutes(1), 100, meterRegistry, now::get);
+        failTimes("john.doe", IP, 2);
+        long previousRetryAfterSeconds = 0;
+        for (int i = 0; i < 64; i++) {
+            loginAttemptService.recordFailure("john.doe", "10.0." + i + ".1");
+            long retryAfterSeconds = assertThrows(LoginThrottledException.class, () -> loginAttemptService.checkAllowed("john.doe", "10.0.1.1")).getRetryAfterSeconds();
+            assertThat(retryAfterSeconds).isBetween(previousRetryAfterSeconds, maxBlock.toSeconds());
+            previousRetryAfterSeconds = retryAfterSeconds;
+        }
+        assertThat(previousRetryAfterSeconds).isEqualTo(maxBlock.toSeconds());
+    }
+
+    private void failTimes(String username, String clientIp, int times) {
+        for (int i = 0; i < times; i++) {
+            loginAttemptService.recordFailure(username, clientIp);
+        }
+    }
+
+    private void advanceSeconds(long seconds) {
+        now.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+}
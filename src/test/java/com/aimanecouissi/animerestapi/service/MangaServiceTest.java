@@ -4,37 +4,57 @@ import com.aimanecouissi.animerestapi.entity.Manga;
 import com.aimanecouissi.animerestapi.entity.Role;
 import com.aimanecouissi.animerestapi.entity.User;
 import com.aimanecouissi.animerestapi.enums.MangaStatus;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
 import com.aimanecouissi.animerestapi.exception.ResourceNotFoundException;
 import com.aimanecouissi.animerestapi.exception.UniqueFieldException;
+import com.aimanecouissi.animerestapi.mapper.MangaMapper;
 import com.aimanecouissi.animerestapi.payload.dto.MangaDTO;
+import com.aimanecouissi.animerestapi.payload.response.BatchItemResult;
+import com.aimanecouissi.animerestapi.payload.response.MangaBatchResponse;
+import com.aimanecouissi.animerestapi.payload.response.MangaCursorPaginatedResponse;
 import com.aimanecouissi.animerestapi.payload.response.MangaPaginatedResponse;
 import com.aimanecouissi.animerestapi.repository.MangaRepository;
-import com.aimanecouissi.animerestapi.repository.UserRepository;
+import com.aimanecouissi.animerestapi.security.CurrentUserProvider;
 import com.aimanecouissi.animerestapi.service.implementation.MangaServiceImplementation;
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
+import jakarta.persistence.EntityManager;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Window;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 @TestMethodOrder(OrderAnnotation.class)
@@ -44,13 +64,25 @@ class MangaServiceTest {
     private MangaRepository mangaRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private CurrentUserProvider currentUserProvider;
 
     @Mock
-    private ModelMapper modelMapper;
+    private MangaMapper mangaMapper;
 
     @Mock
-    private Authentication authentication;
+    private RatingSummaryService ratingSummaryService;
+
+    @Mock
+    private LibraryVersionService libraryVersionService;
+
+    @Mock
+    private SyncService syncService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     @InjectMocks
     private MangaServiceImplementation mangaService;
@@ -93,33 +125,35 @@ class MangaServiceTest {
                 .isFavorite(true)
                 .build();
 
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-        given(authentication.getName()).willReturn(user.getUsername());
-        given(userRepository.findByUsername(user.getUsername())).willReturn(Optional.of(user));
+        lenient().when(currentUserProvider.getCurrentUserId()).thenReturn(user.getId());
+        lenient().when(currentUserProvider.getCurrentUserReference()).thenReturn(user);
     }
 
     @Test
     @Order(1)
     @DisplayName("Create Manga - Success")
     void shouldCreateManga() {
-        given(mangaRepository.existsByTitleAndUserId(mangaDTO.getTitle(), user.getId())).willReturn(false);
-        given(mangaRepository.save(any(Manga.class))).willReturn(manga);
-        given(modelMapper.map(mangaDTO, Manga.class)).willReturn(manga);
-        given(modelMapper.map(manga, MangaDTO.class)).willReturn(mangaDTO);
+        given(mangaRepository.saveAndFlush(any(Manga.class))).willReturn(manga);
+        given(mangaMapper.toManga(mangaDTO)).willReturn(manga);
+        given(mangaMapper.toMangaDTO(manga)).willReturn(mangaDTO);
         MangaDTO savedMangaDTO = mangaService.createManga(mangaDTO);
         assertThat(savedMangaDTO).isNotNull();
         assertThat(savedMangaDTO.getTitle()).isEqualTo(mangaDTO.getTitle());
-        verify(mangaRepository).save(any(Manga.class));
+        verify(mangaRepository).saveAndFlush(any(Manga.class));
+        verify(ratingSummaryService).recordRatingChange(user.getId(), LibraryType.MANGA, null, 10);
+        verify(libraryVersionService).incrementVersion(user.getId(), LibraryType.MANGA);
     }
 
     @Test
     @Order(2)
     @DisplayName("Create Manga - Duplicate Title")
     void shouldThrowExceptionWhenCreatingMangaWithDuplicateTitle() {
-        given(mangaRepository.existsByTitleAndUserId(mangaDTO.getTitle(), user.getId())).willReturn(true);
+        given(mangaMapper.toManga(mangaDTO)).willReturn(manga);
+        given(mangaRepository.saveAndFlush(any(Manga.class))).willThrow(titleViolation());
         UniqueFieldException exception = assertThrows(UniqueFieldException.class, () -> mangaService.createManga(mangaDTO));
-        assertThat(exception.getMessage()).contains("Title", mangaDTO.getTitle());
-        verify(mangaRepository, never()).save(any(Manga.class));
+        assertThat(exception.getMessage()).contains("Title", manga.getTitle());
+        verify(ratingSummaryService, never()).recordRatingChange(anyLong(), any(), any(), any());
+        verify(libraryVersionService, never()).incrementVersion(anyLong(), any());
     }
 
     @Test
@@ -133,7 +167,7 @@ class MangaServiceTest {
         );
         Page<Manga> mangaPage = new PageImpl<>(List.of(manga), pageRequest, 1);
         given(mangaRepository.findAllByUserId(user.getId(), pageRequest)).willReturn(mangaPage);
-        given(modelMapper.map(manga, MangaDTO.class)).willReturn(mangaDTO);
+        given(mangaMapper.toMangaDTO(manga)).willReturn(mangaDTO);
         MangaPaginatedResponse response = mangaService.getAllManga(
                 0,
                 10,
@@ -150,7 +184,7 @@ class MangaServiceTest {
     @DisplayName("Get Manga By ID - Success")
     void shouldGetMangaById() {
         given(mangaRepository.findById(manga.getId())).willReturn(Optional.of(manga));
-        given(modelMapper.map(manga, MangaDTO.class)).willReturn(mangaDTO);
+        given(mangaMapper.toMangaDTO(manga)).willReturn(mangaDTO);
         MangaDTO foundMangaDTO = mangaService.getMangaById(manga.getId());
         assertThat(foundMangaDTO).isNotNull();
         assertThat(foundMangaDTO.getTitle()).isEqualTo(manga.getTitle());
@@ -186,13 +220,14 @@ class MangaServiceTest {
                 .build();
 
         given(mangaRepository.findById(manga.getId())).willReturn(Optional.of(manga));
-        given(mangaRepository.existsByTitleAndUserId(updatedMangaDTO.getTitle(), user.getId())).willReturn(false);
-        given(mangaRepository.save(any(Manga.class))).willReturn(updatedManga);
-        given(modelMapper.map(updatedManga, MangaDTO.class)).willReturn(updatedMangaDTO);
+        given(mangaRepository.saveAndFlush(any(Manga.class))).willReturn(updatedManga);
+        given(mangaMapper.toMangaDTO(updatedManga)).willReturn(updatedMangaDTO);
         MangaDTO savedUpdatedMangaDTO = mangaService.updateManga(manga.getId(), updatedMangaDTO);
         assertThat(savedUpdatedMangaDTO).isNotNull();
         assertThat(savedUpdatedMangaDTO.getTitle()).isEqualTo(updatedManga.getTitle());
-        verify(mangaRepository).save(any(Manga.class));
+        verify(mangaRepository).saveAndFlush(any(Manga.class));
+        verify(ratingSummaryService).recordRatingChange(user.getId(), LibraryType.MANGA, 10, 8);
+        verify(libraryVersionService).incrementVersion(user.getId(), LibraryType.MANGA);
     }
 
     @Test
@@ -206,10 +241,11 @@ class MangaServiceTest {
                 .isFavorite(true)
                 .build();
         given(mangaRepository.findById(manga.getId())).willReturn(Optional.of(manga));
-        given(mangaRepository.existsByTitleAndUserId(updatedMangaDTO.getTitle(), user.getId())).willReturn(true);
+        given(mangaRepository.saveAndFlush(any(Manga.class))).willThrow(titleViolation());
         UniqueFieldException exception = assertThrows(UniqueFieldException.class, () -> mangaService.updateManga(manga.getId(), updatedMangaDTO));
         assertThat(exception.getMessage()).contains("Title", updatedMangaDTO.getTitle());
-        verify(mangaRepository, never()).save(any(Manga.class));
+        verify(ratingSummaryService, never()).recordRatingChange(anyLong(), any(), any(), any());
+        verify(libraryVersionService, never()).incrementVersion(anyLong(), any());
     }
 
     @Test
@@ -219,6 +255,9 @@ class MangaServiceTest {
         given(mangaRepository.findById(manga.getId())).willReturn(Optional.of(manga));
         mangaService.deleteManga(manga.getId());
         verify(mangaRepository).delete(manga);
+        verify(ratingSummaryService).recordRatingChange(user.getId(), LibraryType.MANGA, 10, null);
+        verify(libraryVersionService).incrementVersion(user.getId(), LibraryType.MANGA);
+        verify(syncService).recordDeletions(user.getId(), LibraryType.MANGA, List.of(manga.getId()));
     }
 
     @Test
@@ -234,29 +273,36 @@ class MangaServiceTest {
     @Order(10)
     @DisplayName("Search Manga - Success")
     void shouldSearchManga() {
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.Direction.ASC, "title");
+        Page<Manga> mangaPage = new PageImpl<>(List.of(manga), pageRequest, 1);
         given(mangaRepository.findAllByUserIdAndFilters(
                 user.getId(),
                 "One Piece",
                 MangaStatus.READING,
                 10,
-                true
-        )).willReturn(List.of(manga));
-        given(modelMapper.map(manga, MangaDTO.class)).willReturn(mangaDTO);
-        List<MangaDTO> result = mangaService.searchManga(
+                true,
+                pageRequest
+        )).willReturn(mangaPage);
+        given(mangaMapper.toMangaDTO(manga)).willReturn(mangaDTO);
+        MangaPaginatedResponse response = mangaService.searchManga(
                 "One Piece",
                 MangaStatus.READING,
                 10,
-                true
+                true,
+                0,
+                10,
+                "title",
+                "asc"
         );
-        assertThat(result).isNotEmpty();
-        assertThat(result).contains(mangaDTO);
+        assertThat(response.getItems()).containsExactly(mangaDTO);
+        assertThat(response.getTotalElements()).isEqualTo(1);
     }
 
     @Test
     @Order(11)
     @DisplayName("Get Mean Rating - Success")
     void shouldGetMeanRating() {
-        given(mangaRepository.findAverageRatingByUserId(user.getId())).willReturn(Optional.of(10.0));
+        given(ratingSummaryService.getMeanRating(user.getId(), LibraryType.MANGA)).willReturn(10.0);
         Double meanRating = mangaService.getMeanRating();
         assertThat(meanRating).isEqualTo(10.0);
     }
@@ -265,8 +311,241 @@ class MangaServiceTest {
     @Order(12)
     @DisplayName("Get Mean Rating - No Manga")
     void shouldGetMeanRatingWithNoManga() {
-        given(mangaRepository.findAverageRatingByUserId(user.getId())).willReturn(Optional.empty());
+        given(ratingSummaryService.getMeanRating(user.getId(), LibraryType.MANGA)).willReturn(0.0);
         Double meanRating = mangaService.getMeanRating();
         assertThat(meanRating).isEqualTo(0.0);
     }
+
+    @Test
+    @Order(13)
+    @DisplayName("Get All Manga By Cursor - Success")
+    void shouldGetAllMangaByCursor() {
+        Sort sort = Sort.by(Sort.Direction.ASC, "title", "id");
+        ScrollPosition lastPosition = ScrollPosition.forward(Map.of("title", manga.getTitle(), "id", manga.getId()));
+        given(mangaRepository.findAllByUserId(user.getId(), ScrollPosition.keyset(), sort, Limit.of(1)))
+                .willReturn(Window.from(List.of(manga), index -> lastPosition, true));
+        given(mangaRepository.findAllByUserId(user.getId(), lastPosition, sort, Limit.of(1)))
+                .willReturn(Window.from(List.of(), index -> lastPosition));
+        given(mangaMapper.toMangaDTO(manga)).willReturn(mangaDTO);
+        MangaCursorPaginatedResponse firstResponse = mangaService.getAllMangaByCursor("", 1, "title", "asc");
+        assertThat(firstResponse.getItems()).containsExactly(mangaDTO);
+        assertThat(firstResponse.isLast()).isFalse();
+        assertThat(firstResponse.getNextCursor()).isNotBlank();
+        // The cursor carries the original sort, so the sortBy and sortDir of the next request are ignored
+        MangaCursorPaginatedResponse nextResponse = mangaService.getAllMangaByCursor(firstResponse.getNextCursor(), 1, "id", "desc");
+        assertThat(nextResponse.getItems()).isEmpty();
+        assertThat(nextResponse.isLast()).isTrue();
+        assertThat(nextResponse.getNextCursor()).isNull();
+    }
+
+    @Test
+    @Order(14)
+    @DisplayName("Get All Manga By Cursor - Unsupported Sort Field")
+    void shouldThrowExceptionWhenSortingByNullableField() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> mangaService.getAllMangaByCursor("", 10, "rating", "asc"));
+        assertThat(exception.getMessage()).contains("rating");
+    }
+
+    @Test
+    @Order(15)
+    @DisplayName("Get All Manga By Cursor - Invalid Cursor")
+    void shouldThrowExceptionWhenCursorIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> mangaService.getAllMangaByCursor("not-a-cursor", 10, "id", "asc"));
+    }
+
+    @Test
+    @Order(16)
+    @DisplayName("Stream Manga - Success")
+    void shouldStreamManga() {
+        given(mangaRepository.streamAllByUserIdAndFilters(
+                user.getId(),
+                "One Piece",
+                MangaStatus.READING,
+                10,
+                true
+        )).willReturn(Stream.of(manga));
+        given(mangaMapper.toMangaDTO(manga)).willReturn(mangaDTO);
+        List<MangaDTO> streamedManga = new ArrayList<>();
+        mangaService.streamManga(
+                "One Piece",
+                MangaStatus.READING,
+                10,
+                true,
+                streamedManga::add
+        );
+        assertThat(streamedManga).containsExactly(mangaDTO);
+        verify(entityManager).detach(manga);
+    }
+
+    @Test
+    @Order(17)
+    @DisplayName("Create Manga Batch - Partial Success")
+    void shouldCreateMangaBatchReportingEachEntry() {
+        MangaDTO takenTitleDTO = MangaDTO.builder()
+                .title("Berserk")
+                .status(MangaStatus.READING)
+                .build();
+        Manga takenTitleManga = Manga.builder()
+                .id(2L)
+                .title("Berserk")
+                .user(user)
+                .build();
+        given(mangaRepository.findAllByUserIdAndTitleIn(user.getId(), Set.of(mangaDTO.getTitle(), takenTitleDTO.getTitle())))
+                .willReturn(List.of(takenTitleManga));
+        given(mangaMapper.toManga(mangaDTO)).willReturn(manga);
+        given(mangaMapper.toMangaDTO(manga)).willReturn(mangaDTO);
+        MangaBatchResponse response = mangaService.createMangaBatch(List.of(mangaDTO, takenTitleDTO, mangaDTO));
+        assertThat(response.getSucceeded()).isEqualTo(1);
+        assertThat(response.getFailed()).isEqualTo(2);
+        assertThat(response.getResults()).extracting(BatchItemResult::getStatus).containsExactly(201, 409, 409);
+        assertThat(response.getResults().get(1).getError()).contains("Title", "Berserk");
+        verify(mangaRepository).saveAllAndFlush(anyCollection());
+        verify(ratingSummaryService).recordRatingChanges(user.getId(), LibraryType.MANGA, List.of(), List.of(10));
+        verify(libraryVersionService).incrementVersion(user.getId(), LibraryType.MANGA);
+    }
+
+    @Test
+    @Order(18)
+    @DisplayName("Update Manga Batch - Partial Success")
+    void shouldUpdateMangaBatchReportingEachEntry() {
+        Manga otherUserManga = Manga.builder()
+                .id(3L)
+                .title("Vagabond")
+                .user(User.builder().id(2L).username("jane.doe").build())
+                .build();
+        MangaDTO updatedMangaDTO = MangaDTO.builder()
+                .id(manga.getId())
+                .title("One Piece")
+                .status(MangaStatus.COMPLETED)
+                .rating(9)
+                .build();
+        MangaDTO notFoundDTO = MangaDTO.builder()
+                .id(42L)
+                .title("Monster")
+                .build();
+        MangaDTO otherUserDTO = MangaDTO.builder()
+                .id(otherUserManga.getId())
+                .title("Vagabond")
+                .build();
+        given(mangaRepository.findAllById(List.of(manga.getId(), 42L, otherUserManga.getId()))).willReturn(List.of(manga, otherUserManga));
+        given(mangaRepository.findAllByUserIdAndTitleIn(user.getId(), Set.of("One Piece", "Monster", "Vagabond"))).willReturn(List.of(manga));
+        given(mangaMapper.toMangaDTO(manga)).willReturn(updatedMangaDTO);
+        MangaBatchResponse response = mangaService.updateMangaBatch(List.of(updatedMangaDTO, notFoundDTO, otherUserDTO));
+        assertThat(response.getSucceeded()).isEqualTo(1);
+        assertThat(response.getResults()).extracting(BatchItemResult::getStatus).containsExactly(200, 404, 403);
+        assertThat(manga.getStatus()).isEqualTo(MangaStatus.COMPLETED);
+        verify(mangaRepository).saveAllAndFlush(anyCollection());
+        verify(ratingSummaryService).recordRatingChanges(user.getId(), LibraryType.MANGA, List.of(10), List.of(9));
+        verify(libraryVersionService).incrementVersion(user.getId(), LibraryType.MANGA);
+    }
+
+    @Test
+    @Order(19)
+    @DisplayName("Delete Manga Batch - Partial Success")
+    void shouldDeleteMangaBatchReportingEachEntry() {
+        given(mangaRepository.findAllById(List.of(manga.getId(), 42L))).willReturn(List.of(manga));
+        given(mangaMapper.toMangaDTO(manga)).willReturn(mangaDTO);
+        MangaBatchResponse response = mangaService.deleteMangaBatch(List.of(manga.getId(), 42L));
+        assertThat(response.getSucceeded()).isEqualTo(1);
+        assertThat(response.getResults()).extracting(BatchItemResult::getStatus).containsExactly(200, 404);
+        verify(mangaRepository).deleteAll(List.of(manga));
+        verify(ratingSummaryService).recordRatingChanges(user.getId(), LibraryType.MANGA, List.of(10), List.of());
+        verify(libraryVersionService).incrementVersion(user.getId(), LibraryType.MANGA);
+        verify(syncService).recordDeletions(user.getId(), LibraryType.MANGA, List.of(manga.getId()));
+    }
+
+    @Test
+    @Order(20)
+    @DisplayName("Get Manga ETag")
+    void shouldGetMangaETagFromUpdateTimestamp() {
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 6, 1, 12, 0);
+        given(mangaRepository.findUpdatedAtByIdAndUserId(manga.getId(), user.getId())).willReturn(Optional.of(updatedAt));
+        Optional<String> eTag = mangaService.getMangaETag(manga.getId());
+        assertThat(eTag).hasValueSatisfying(value -> assertThat(value).startsWith("\"").endsWith("\""));
+        given(mangaRepository.findUpdatedAtByIdAndUserId(manga.getId(), user.getId())).willReturn(Optional.of(updatedAt.plusSeconds(1)));
+        assertThat(mangaService.getMangaETag(manga.getId())).isNotEqualTo(eTag);
+        verify(mangaRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @Order(21)
+    @DisplayName("Get Manga ETag - Not Owned")
+    void shouldNotGetMangaETagWhenNotOwned() {
+        given(mangaRepository.findUpdatedAtByIdAndUserId(manga.getId(), user.getId())).willReturn(Optional.empty());
+        assertThat(mangaService.getMangaETag(manga.getId())).isEmpty();
+    }
+
+    @Test
+    @Order(22)
+    @DisplayName("Get Manga Library ETag")
+    void shouldChangeMangaLibraryETagWithLibraryVersion() {
+        given(libraryVersionService.getVersion(user.getId(), LibraryType.MANGA)).willReturn(3L);
+        String eTag = mangaService.getMangaLibraryETag();
+        assertThat(mangaService.getMangaLibraryETag()).isEqualTo(eTag);
+        given(libraryVersionService.getVersion(user.getId(), LibraryType.MANGA)).willReturn(4L);
+        assertThat(mangaService.getMangaLibraryETag()).isNotEqualTo(eTag);
+        verifyNoInteractions(mangaRepository);
+    }
+
+    @Test
+    @Order(23)
+    @DisplayName("Create Manga Batch - Case Variant Titles")
+    void shouldRejectCaseVariantTitlesInMangaBatch() {
+        MangaDTO narutoDTO = MangaDTO.builder()
+                .title("Naruto")
+                .status(MangaStatus.COMPLETED)
+                .rating(8)
+                .build();
+        MangaDTO lowerCaseNarutoDTO = MangaDTO.builder()
+                .title("naruto")
+                .status(MangaStatus.COMPLETED)
+                .build();
+        Manga naruto = Manga.builder()
+                .title("Naruto")
+                .rating(8)
+                .build();
+        given(mangaRepository.findAllByUserIdAndTitleIn(user.getId(), Set.of("Naruto", "naruto"))).willReturn(List.of());
+        given(mangaMapper.toManga(narutoDTO)).willReturn(naruto);
+        given(mangaMapper.toMangaDTO(naruto)).willReturn(narutoDTO);
+        MangaBatchResponse response = mangaService.createMangaBatch(List.of(narutoDTO, lowerCaseNarutoDTO));
+        assertThat(response.getResults()).extracting(BatchItemResult::getStatus).containsExactly(201, 409);
+        assertThat(response.getResults().get(1).getError()).contains("Title", "naruto");
+        verify(mangaMapper, never()).toManga(lowerCaseNarutoDTO);
+    }
+
+    @Test
+    @Order(24)
+    @DisplayName("Create Manga Batch - Title Taken Concurrently")
+    void shouldRetryMangaBatchEntryByEntryWhenTitleIsTakenConcurrently() {
+        MangaDTO takenTitleDTO = MangaDTO.builder()
+                .title("Berserk")
+                .status(MangaStatus.READING)
+                .build();
+        Manga takenTitleManga = Manga.builder()
+                .title("Berserk")
+                .build();
+        given(mangaMapper.toManga(mangaDTO)).willReturn(manga);
+        given(mangaMapper.toManga(takenTitleDTO)).willReturn(takenTitleManga);
+        given(mangaMapper.toMangaDTO(manga)).willReturn(mangaDTO);
+        // The batch and then the entry whose title another request took fail on the unique constraint
+        given(mangaRepository.saveAllAndFlush(anyCollection()))
+                .willThrow(titleViolation())
+                .willReturn(List.of(manga))
+                .willThrow(titleViolation());
+        MangaBatchResponse response = mangaService.createMangaBatch(List.of(mangaDTO, takenTitleDTO));
+        assertThat(response.getSucceeded()).isEqualTo(1);
+        assertThat(response.getResults()).extracting(BatchItemResult::getIndex).containsExactly(0, 1);
+        assertThat(response.getResults()).extracting(BatchItemResult::getStatus).containsExactly(201, 409);
+        assertThat(response.getResults().get(1).getError()).contains("Title", "Berserk");
+        verify(mangaRepository, times(3)).saveAllAndFlush(anyCollection());
+        verify(ratingSummaryService).recordRatingChanges(user.getId(), LibraryType.MANGA, List.of(), List.of(10));
+        verify(libraryVersionService).incrementVersion(user.getId(), LibraryType.MANGA);
+    }
+
+    private static DataIntegrityViolationException titleViolation() {
+        ConstraintViolationException violation = new ConstraintViolationException(
+                "Duplicate entry", new SQLException(), null, ConstraintViolationException.ConstraintKind.UNIQUE, ApplicationConstants.MANGA_TITLE_CONSTRAINT
+        );
+        return new DataIntegrityViolationException("Duplicate entry", violation);
+    }
 }
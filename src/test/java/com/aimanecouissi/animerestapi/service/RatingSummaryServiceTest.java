@@ -0,0 +1,231 @@
+package com.aimanecouissi.animerestapi.service;
+
+import com.aimanecouissi.animerestapi.entity.RatingSummary;
+import com.aimanecouissi.animerestapi.entity.User;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import com.aimanecouissi.animerestapi.repository.AnimeRepository;
+import com.aimanecouissi.animerestapi.repository.MangaRepository;
+import com.aimanecouissi.animerestapi.repository.RatingSummaryRepository;
+import com.aimanecouissi.animerestapi.repository.projection.RatingCount;
+import com.aimanecouissi.animerestapi.service.implementation.RatingSummaryServiceImplementation;
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
+import jakarta.persistence.EntityManager;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.SQLException;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(OrderAnnotation.class)
+class RatingSummaryServiceTest {
+
+    @Mock
+    private RatingSummaryRepository ratingSummaryRepository;
+
+    @Mock
+    private AnimeRepository animeRepository;
+
+    @Mock
+    private MangaRepository mangaRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private RatingSummaryServiceImplementation ratingSummaryService;
+
+    private User user;
+    private RatingSummary ratingSummary;
+
+    @BeforeEach
+    void setUp() {
+        // User for rating summary
+        user = User.builder()
+                .id(1L)
+                .username("john.doe")
+                .build();
+
+        // Rating summary of one anime rated 10
+        ratingSummary = RatingSummary.builder()
+                .id(1L)
+                .user(user)
+                .libraryType(LibraryType.ANIME)
+                .ratingCount(1)
+                .ratingSum(10)
+                .histogram(new HashMap<>(Map.of(10, 1L)))
+                .build();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Create Summaries - One Per Library")
+    void shouldCreateSummaryForEveryLibrary() {
+        ratingSummaryService.createSummaries(user);
+        verify(ratingSummaryRepository, times(LibraryType.values().length)).save(any(RatingSummary.class));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Record Rating Change - Success")
+    void shouldRecordRatingChange() {
+        given(ratingSummaryRepository.existsByUserIdAndLibraryType(user.getId(), LibraryType.ANIME)).willReturn(true);
+        given(ratingSummaryRepository.findForUpdateByUserIdAndLibraryType(user.getId(), LibraryType.ANIME)).willReturn(Optional.of(ratingSummary));
+        ratingSummaryService.recordRatingChange(user.getId(), LibraryType.ANIME, null, 8);
+        ratingSummaryService.recordRatingChange(user.getId(), LibraryType.ANIME, 10, null);
+        assertThat(ratingSummary.getRatingCount()).isEqualTo(1);
+        assertThat(ratingSummary.getRatingSum()).isEqualTo(8);
+        assertThat(ratingSummary.getHistogram()).containsExactlyEntriesOf(Map.of(8, 1L));
+        verify(ratingSummaryRepository, times(2)).save(ratingSummary);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Record Rating Change - Unchanged Rating")
+    void shouldSkipUnchangedRating() {
+        ratingSummaryService.recordRatingChange(user.getId(), LibraryType.ANIME, 10, 10);
+        verifyNoInteractions(ratingSummaryRepository);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Record Rating Change - Missing Summary")
+    void shouldCreateMissingSummaryBeforeRecordingChange() {
+        RatingSummary createdSummary = RatingSummary.builder()
+                .id(2L)
+                .user(user)
+                .libraryType(LibraryType.MANGA)
+                .ratingCount(3)
+                .ratingSum(23)
+                .histogram(new HashMap<>(Map.of(7, 2L, 9, 1L)))
+                .build();
+        given(ratingSummaryRepository.existsByUserIdAndLibraryType(user.getId(), LibraryType.MANGA)).willReturn(false);
+        given(entityManager.getReference(User.class, user.getId())).willReturn(user);
+        given(mangaRepository.countRatingsByUserId(user.getId())).willReturn(List.of(ratingCount(7, 2), ratingCount(9, 1)));
+        given(ratingSummaryRepository.findForUpdateByUserIdAndLibraryType(user.getId(), LibraryType.MANGA)).willReturn(Optional.of(createdSummary));
+        ratingSummaryService.recordRatingChange(user.getId(), LibraryType.MANGA, null, 9);
+        ArgumentCaptor<RatingSummary> captor = ArgumentCaptor.forClass(RatingSummary.class);
+        verify(ratingSummaryRepository).saveAndFlush(captor.capture());
+        assertThat(captor.getValue().getLibraryType()).isEqualTo(LibraryType.MANGA);
+        assertThat(captor.getValue().getRatingCount()).isEqualTo(3);
+        assertThat(captor.getValue().getRatingSum()).isEqualTo(23);
+        assertThat(createdSummary.getRatingCount()).isEqualTo(4);
+        assertThat(createdSummary.getRatingSum()).isEqualTo(32);
+        verify(ratingSummaryRepository).save(createdSummary);
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Get Mean Rating - Success")
+    void shouldGetMeanRating() {
+        ratingSummary.addRating(7);
+        given(ratingSummaryRepository.findByUserIdAndLibraryType(user.getId(), LibraryType.ANIME)).willReturn(Optional.of(ratingSummary));
+        assertThat(ratingSummaryService.getMeanRating(user.getId(), LibraryType.ANIME)).isEqualTo(8.5);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Get Mean Rating - No Summary")
+    void shouldGetZeroMeanRatingWithoutSummary() {
+        given(ratingSummaryRepository.findByUserIdAndLibraryType(user.getId(), LibraryType.ANIME)).willReturn(Optional.empty());
+        assertThat(ratingSummaryService.getMeanRating(user.getId(), LibraryType.ANIME)).isEqualTo(0.0);
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Rebuild Summary - Drifted")
+    void shouldRepairDriftedSummary() {
+        given(ratingSummaryRepository.findForUpdateByUserIdAndLibraryType(user.getId(), LibraryType.ANIME)).willReturn(Optional.of(ratingSummary));
+        given(animeRepository.countRatingsByUserId(user.getId())).willReturn(List.of(ratingCount(10, 1), ratingCount(6, 1)));
+        assertThat(ratingSummaryService.rebuildSummary(user.getId(), LibraryType.ANIME)).isTrue();
+        assertThat(ratingSummary.getMeanRating()).isEqualTo(8.0);
+        assertThat(ratingSummary.getHistogram()).containsExactlyInAnyOrderEntriesOf(Map.of(10, 1L, 6, 1L));
+        verify(ratingSummaryRepository).save(ratingSummary);
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Rebuild Summary - Consistent")
+    void shouldLeaveConsistentSummaryUntouched() {
+        given(ratingSummaryRepository.findForUpdateByUserIdAndLibraryType(user.getId(), LibraryType.ANIME)).willReturn(Optional.of(ratingSummary));
+        given(animeRepository.countRatingsByUserId(user.getId())).willReturn(List.of(ratingCount(10, 1)));
+        assertThat(ratingSummaryService.rebuildSummary(user.getId(), LibraryType.ANIME)).isFalse();
+        verify(ratingSummaryRepository, never()).save(any(RatingSummary.class));
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("Record Rating Changes - Single Lock")
+    void shouldRecordRatingChangesUnderSingleLock() {
+        given(ratingSummaryRepository.existsByUserIdAndLibraryType(user.getId(), LibraryType.ANIME)).willReturn(true);
+        given(ratingSummaryRepository.findForUpdateByUserIdAndLibraryType(user.getId(), LibraryType.ANIME)).willReturn(Optional.of(ratingSummary));
+        ratingSummaryService.recordRatingChanges(user.getId(), LibraryType.ANIME, List.of(), Arrays.asList(8, null, 6));
+        assertThat(ratingSummary.getRatingCount()).isEqualTo(3);
+        assertThat(ratingSummary.getRatingSum()).isEqualTo(24);
+        verify(ratingSummaryRepository, times(1)).findForUpdateByUserIdAndLibraryType(user.getId(), LibraryType.ANIME);
+        verify(ratingSummaryRepository, times(1)).save(ratingSummary);
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("Record Rating Changes - Empty Batch")
+    void shouldSkipEmptyRatingChanges() {
+        ratingSummaryService.recordRatingChanges(user.getId(), LibraryType.ANIME, List.of(), List.of());
+        verifyNoInteractions(ratingSummaryRepository);
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("Record Rating Change - Summary Created Concurrently")
+    void shouldRecordChangeWhenSummaryIsCreatedConcurrently() {
+        given(ratingSummaryRepository.existsByUserIdAndLibraryType(user.getId(), LibraryType.ANIME)).willReturn(false);
+        given(animeRepository.countRatingsByUserId(user.getId())).willReturn(List.of(ratingCount(10, 1)));
+        ConstraintViolationException violation = new ConstraintViolationException(
+                "Duplicate entry", new SQLException(), null, ConstraintViolationException.ConstraintKind.UNIQUE, ApplicationConstants.RATING_SUMMARY_CONSTRAINT
+        );
+        given(ratingSummaryRepository.saveAndFlush(any(RatingSummary.class))).willThrow(new DataIntegrityViolationException("Duplicate entry", violation));
+        given(ratingSummaryRepository.findForUpdateByUserIdAndLibraryType(user.getId(), LibraryType.ANIME)).willReturn(Optional.of(ratingSummary));
+        ratingSummaryService.recordRatingChange(user.getId(), LibraryType.ANIME, null, 6);
+        assertThat(ratingSummary.getRatingCount()).isEqualTo(2);
+        assertThat(ratingSummary.getRatingSum()).isEqualTo(16);
+        verify(ratingSummaryRepository).save(ratingSummary);
+    }
+
+    private static RatingCount ratingCount(int rating, long entryCount) {
+        return new RatingCount() {
+            @Override
+            public Integer getRating() {
+                return rating;
+            }
+
+            @Override
+            public long getEntryCount() {
+                return entryCount;
+            }
+        };
+    }
+}
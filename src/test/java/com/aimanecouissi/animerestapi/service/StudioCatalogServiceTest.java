@@ -0,0 +1,131 @@
+package com.aimanecouissi.animerestapi.service;
+
+import com.aimanecouissi.animerestapi.configuration.CacheConfiguration;
+import com.aimanecouissi.animerestapi.entity.Studio;
+import com.aimanecouissi.animerestapi.mapper.StudioMapper;
+import com.aimanecouissi.animerestapi.payload.dto.StudioDTO;
+import com.aimanecouissi.animerestapi.repository.AnimeRepository;
+import com.aimanecouissi.animerestapi.repository.StudioRepository;
+import com.aimanecouissi.animerestapi.service.implementation.StudioCatalogServiceImplementation;
+import com.aimanecouissi.animerestapi.service.implementation.StudioServiceImplementation;
+import com.aimanecouissi.animerestapi.utility.ApplicationConstants;
+import com.aimanecouissi.animerestapi.utility.StudioCatalog;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringJUnitConfig({CacheConfiguration.class, StudioCatalogServiceImplementation.class, StudioServiceImplementation.class})
+@TestPropertySource(properties = "app.cache.studio-catalog.spec=maximumSize=1,expireAfterWrite=10m,recordStats")
+@TestMethodOrder(OrderAnnotation.class)
+class StudioCatalogServiceTest {
+
+    @MockBean
+    private StudioRepository studioRepository;
+
+    @MockBean
+    private StudioMapper studioMapper;
+
+    @MockBean
+    private AnimeRepository animeRepository;
+
+    @MockBean
+    private RatingSummaryService ratingSummaryService;
+
+    @MockBean
+    private LibraryVersionService libraryVersionService;
+
+    @MockBean
+    private SyncService syncService;
+
+    @Autowired
+    private StudioCatalogService studioCatalogService;
+
+    @Autowired
+    private StudioService studioService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Studio studio;
+    private StudioDTO studioDTO;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(ApplicationConstants.STUDIO_CATALOG_CACHE).clear();
+
+        // Studio BO
+        studio = Studio.builder()
+                .id(1L)
+                .name("Madhouse")
+                .build();
+
+        // Studio DTO
+        studioDTO = StudioDTO.builder()
+                .id(1L)
+                .name("Madhouse")
+                .build();
+
+        given(studioRepository.findAll()).willReturn(List.of(studio));
+        given(studioMapper.toStudioDTO(studio)).willReturn(studioDTO);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Get Catalog - Cached")
+    void shouldReadStudiosOnceWhileCached() {
+        StudioCatalog catalog = studioCatalogService.getCatalog();
+        assertThat(studioCatalogService.getCatalog()).isSameAs(catalog);
+        assertThat(catalog.findById(1L)).contains(studioDTO);
+        assertThat(catalog.existsByName("MADHOUSE")).isTrue();
+        verify(studioRepository, times(1)).findAll();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Get Catalog - Hit And Miss Statistics")
+    @SuppressWarnings("unchecked")
+    void shouldRecordHitAndMissStatistics() {
+        Cache<Object, Object> nativeCache = (Cache<Object, Object>) cacheManager.getCache(ApplicationConstants.STUDIO_CATALOG_CACHE).getNativeCache();
+        long hitCount = nativeCache.stats().hitCount();
+        long missCount = nativeCache.stats().missCount();
+        studioCatalogService.getCatalog();
+        studioCatalogService.getCatalog();
+        assertThat(nativeCache.stats().hitCount()).isEqualTo(hitCount + 1);
+        assertThat(nativeCache.stats().missCount()).isEqualTo(missCount + 1);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Create Studio - Evicts Catalog")
+    void shouldEvictCatalogOnCreate() {
+        Studio newStudio = Studio.builder()
+                .id(2L)
+                .name("Bones")
+                .build();
+        StudioDTO newStudioDTO = StudioDTO.builder()
+                .id(2L)
+                .name("Bones")
+                .build();
+        studioCatalogService.getCatalog();
+        given(studioMapper.toStudio(any(StudioDTO.class))).willReturn(newStudio);
+        given(studioRepository.save(newStudio)).willReturn(newStudio);
+        given(studioMapper.toStudioDTO(newStudio)).willReturn(newStudioDTO);
+        studioService.createStudio(newStudioDTO);
+        given(studioRepository.findAll()).willReturn(List.of(studio, newStudio));
+        assertThat(studioCatalogService.getCatalog().existsByName("Bones")).isTrue();
+        verify(studioRepository, times(2)).findAll();
+    }
+}
@@ -1,18 +1,22 @@
 package com.aimanecouissi.animerestapi.service;
 
 import com.aimanecouissi.animerestapi.entity.Studio;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
 import com.aimanecouissi.animerestapi.exception.ResourceNotFoundException;
 import com.aimanecouissi.animerestapi.exception.UniqueFieldException;
+import com.aimanecouissi.animerestapi.mapper.StudioMapper;
 import com.aimanecouissi.animerestapi.payload.dto.StudioDTO;
+import com.aimanecouissi.animerestapi.repository.AnimeRepository;
 import com.aimanecouissi.animerestapi.repository.StudioRepository;
+import com.aimanecouissi.animerestapi.repository.projection.AnimeOwner;
 import com.aimanecouissi.animerestapi.service.implementation.StudioServiceImplementation;
+import com.aimanecouissi.animerestapi.utility.StudioCatalog;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 
 import java.util.Collections;
 import java.util.List;
@@ -23,6 +27,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,7 +38,22 @@ class StudioServiceTest {
     private StudioRepository studioRepository;
 
     @Mock
-    private ModelMapper modelMapper;
+    private StudioMapper studioMapper;
+
+    @Mock
+    private StudioCatalogService studioCatalogService;
+
+    @Mock
+    private AnimeRepository animeRepository;
+
+    @Mock
+    private RatingSummaryService ratingSummaryService;
+
+    @Mock
+    private LibraryVersionService libraryVersionService;
+
+    @Mock
+    private SyncService syncService;
 
     @InjectMocks
     private StudioServiceImplementation studioService;
@@ -51,6 +71,7 @@ class StudioServiceTest {
 
         // Studio DTO
         studioDTO = StudioDTO.builder()
+                .id(1L)
                 .name("Madhouse")
                 .build();
     }
@@ -59,9 +80,9 @@ class StudioServiceTest {
     @Order(1)
     @DisplayName("Create Studio - Success")
     void shouldCreateStudio() {
-        given(studioRepository.existsByName(studio.getName())).willReturn(false);
-        given(modelMapper.map(studioDTO, Studio.class)).willReturn(studio);
-        given(modelMapper.map(studio, StudioDTO.class)).willReturn(studioDTO);
+        given(studioCatalogService.getCatalog()).willReturn(new StudioCatalog(List.of()));
+        given(studioMapper.toStudio(studioDTO)).willReturn(studio);
+        given(studioMapper.toStudioDTO(studio)).willReturn(studioDTO);
         given(studioRepository.save(studio)).willReturn(studio);
         StudioDTO savedStudioDTO = studioService.createStudio(studioDTO);
         assertThat(savedStudioDTO).isNotNull();
@@ -73,7 +94,7 @@ class StudioServiceTest {
     @Order(2)
     @DisplayName("Create Studio - Duplicate Name")
     void shouldThrowExceptionWhenCreatingStudioWithDuplicateName() {
-        given(studioRepository.existsByName(studio.getName())).willReturn(true);
+        given(studioCatalogService.getCatalog()).willReturn(new StudioCatalog(List.of(studioDTO)));
         UniqueFieldException exception = assertThrows(UniqueFieldException.class, () -> studioService.createStudio(studioDTO));
         assertThat(exception.getMessage()).contains("Name", studioDTO.getName());
     }
@@ -82,16 +103,11 @@ class StudioServiceTest {
     @Order(3)
     @DisplayName("Get All Studios - Success")
     void shouldGetAllStudios() {
-        Studio anotherStudio = Studio.builder()
-                .id(2L)
-                .name("Bones")
-                .build();
         StudioDTO anotherStudioDTO = StudioDTO.builder()
+                .id(2L)
                 .name("Bones")
                 .build();
-        given(studioRepository.findAll()).willReturn(List.of(studio, anotherStudio));
-        given(modelMapper.map(studio, StudioDTO.class)).willReturn(studioDTO);
-        given(modelMapper.map(anotherStudio, StudioDTO.class)).willReturn(anotherStudioDTO);
+        given(studioCatalogService.getCatalog()).willReturn(new StudioCatalog(List.of(studioDTO, anotherStudioDTO)));
         List<StudioDTO> studioDTOs = studioService.getAllStudios();
         assertThat(studioDTOs).isNotEmpty();
         assertThat(studioDTOs.size()).isEqualTo(2);
@@ -102,7 +118,7 @@ class StudioServiceTest {
     @Order(4)
     @DisplayName("Get All Studios - Empty List")
     void shouldReturnEmptyListWhenGetAllStudios() {
-        given(studioRepository.findAll()).willReturn(Collections.emptyList());
+        given(studioCatalogService.getCatalog()).willReturn(new StudioCatalog(Collections.emptyList()));
         List<StudioDTO> studioDTOs = studioService.getAllStudios();
         assertThat(studioDTOs).isEmpty();
     }
@@ -111,8 +127,7 @@ class StudioServiceTest {
     @Order(5)
     @DisplayName("Get Studio By ID - Success")
     void shouldGetStudioById() {
-        given(studioRepository.findById(1L)).willReturn(Optional.of(studio));
-        given(modelMapper.map(studio, StudioDTO.class)).willReturn(studioDTO);
+        given(studioCatalogService.getCatalog()).willReturn(new StudioCatalog(List.of(studioDTO)));
         StudioDTO foundStudioDTO = studioService.getStudioById(1L);
         assertThat(foundStudioDTO).isNotNull();
         assertThat(foundStudioDTO.getName()).isEqualTo(studio.getName());
@@ -122,7 +137,7 @@ class StudioServiceTest {
     @Order(6)
     @DisplayName("Get Studio By ID - Not Found")
     void shouldThrowExceptionWhenStudioNotFoundById() {
-        given(studioRepository.findById(1L)).willReturn(Optional.empty());
+        given(studioCatalogService.getCatalog()).willReturn(new StudioCatalog(Collections.emptyList()));
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> studioService.getStudioById(1L));
         assertThat(exception.getMessage()).contains("Studio", "ID", "1");
     }
@@ -143,8 +158,8 @@ class StudioServiceTest {
                 .name("MAPPA")
                 .build();
         given(studioRepository.findById(1L)).willReturn(Optional.of(existingStudio));
-        given(studioRepository.existsByName(updatedStudioDTO.getName())).willReturn(false);
-        doReturn(updatedStudioDTO).when(modelMapper).map(updatedStudio, StudioDTO.class);
+        given(studioCatalogService.getCatalog()).willReturn(new StudioCatalog(List.of(StudioDTO.builder().id(1L).name("Existing Studio").build())));
+        doReturn(updatedStudioDTO).when(studioMapper).toStudioDTO(updatedStudio);
         doReturn(updatedStudio).when(studioRepository).save(existingStudio);
         StudioDTO savedUpdatedStudioDTO = studioService.updateStudio(1L, updatedStudioDTO);
         assertThat(savedUpdatedStudioDTO).isNotNull();
@@ -160,7 +175,7 @@ class StudioServiceTest {
                 .name("Bones")
                 .build();
         given(studioRepository.findById(1L)).willReturn(Optional.of(studio));
-        given(studioRepository.existsByName(updatedStudioDTO.getName())).willReturn(true);
+        given(studioCatalogService.getCatalog()).willReturn(new StudioCatalog(List.of(studioDTO, StudioDTO.builder().id(2L).name("Bones").build())));
         UniqueFieldException exception = assertThrows(UniqueFieldException.class, () -> studioService.updateStudio(1L, updatedStudioDTO));
         assertThat(exception.getMessage()).contains("Name", updatedStudioDTO.getName());
     }
@@ -170,9 +185,16 @@ class StudioServiceTest {
     @DisplayName("Delete Studio - Success")
     void shouldDeleteStudio() {
         given(studioRepository.findById(1L)).willReturn(Optional.of(studio));
+        AnimeOwner animeOwner = mock(AnimeOwner.class);
+        given(animeOwner.getUserId()).willReturn(2L);
+        given(animeOwner.getAnimeId()).willReturn(3L);
+        given(animeRepository.findOwnersByStudioId(1L)).willReturn(List.of(animeOwner));
         willDoNothing().given(studioRepository).delete(studio);
         studioService.deleteStudio(1L);
         verify(studioRepository).delete(studio);
+        verify(ratingSummaryService).rebuildSummary(2L, LibraryType.ANIME);
+        verify(libraryVersionService).incrementVersion(2L, LibraryType.ANIME);
+        verify(syncService).recordDeletions(2L, LibraryType.ANIME, List.of(3L));
     }
 
     @Test
@@ -183,4 +205,22 @@ class StudioServiceTest {
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> studioService.deleteStudio(1L));
         assertThat(exception.getMessage()).contains("Studio", "ID", "1");
     }
+
+    @Test
+    @Order(11)
+    @DisplayName("Get Studio ETags")
+    void shouldChangeStudioETagsWhenStudioIsRenamed() {
+        given(studioCatalogService.getCatalog()).willReturn(new StudioCatalog(List.of(studioDTO)));
+        String catalogETag = studioService.getAllStudiosETag();
+        Optional<String> studioETag = studioService.getStudioETag(1L);
+        assertThat(studioETag).isPresent();
+        assertThat(studioService.getStudioETag(2L)).isEmpty();
+        StudioDTO renamedStudioDTO = StudioDTO.builder()
+                .id(1L)
+                .name("MAPPA")
+                .build();
+        given(studioCatalogService.getCatalog()).willReturn(new StudioCatalog(List.of(renamedStudioDTO)));
+        assertThat(studioService.getAllStudiosETag()).isNotEqualTo(catalogETag);
+        assertThat(studioService.getStudioETag(1L)).isNotEqualTo(studioETag);
+    }
 }
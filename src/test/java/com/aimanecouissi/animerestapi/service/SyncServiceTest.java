@@ -0,0 +1,191 @@
+package com.aimanecouissi.animerestapi.service;
+
+import com.aimanecouissi.animerestapi.entity.Anime;
+import com.aimanecouissi.animerestapi.entity.LibraryDeletion;
+import com.aimanecouissi.animerestapi.entity.Manga;
+import com.aimanecouissi.animerestapi.enums.AnimeStatus;
+import com.aimanecouissi.animerestapi.enums.AnimeType;
+import com.aimanecouissi.animerestapi.enums.LibraryType;
+import com.aimanecouissi.animerestapi.enums.MangaStatus;
+import com.aimanecouissi.animerestapi.mapper.AnimeMapper;
+import com.aimanecouissi.animerestapi.mapper.MangaMapper;
+import com.aimanecouissi.animerestapi.payload.dto.TombstoneDTO;
+import com.aimanecouissi.animerestapi.payload.response.SyncResponse;
+import com.aimanecouissi.animerestapi.repository.AnimeRepository;
+import com.aimanecouissi.animerestapi.repository.LibraryDeletionRepository;
+import com.aimanecouissi.animerestapi.repository.MangaRepository;
+import com.aimanecouissi.animerestapi.security.CurrentUserProvider;
+import com.aimanecouissi.animerestapi.service.implementation.SyncServiceImplementation;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(OrderAnnotation.class)
+class SyncServiceTest {
+
+    @Mock
+    private AnimeRepository animeRepository;
+
+    @Mock
+    private MangaRepository mangaRepository;
+
+    @Mock
+    private LibraryDeletionRepository libraryDeletionRepository;
+
+    @Mock
+    private CurrentUserProvider currentUserProvider;
+
+    private SyncService syncService;
+
+    private Anime anime;
+    private Manga manga;
+    private LibraryDeletion libraryDeletion;
+
+    @BeforeEach
+    void setUp() {
+        // Changes settle after five seconds
+        syncService = new SyncServiceImplementation(
+                animeRepository,
+                mangaRepository,
+                libraryDeletionRepository,
+                currentUserProvider,
+                new AnimeMapper(),
+                new MangaMapper(),
+                Duration.ofSeconds(5)
+        );
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 6, 1, 12, 0);
+        anime = Anime.builder()
+                .id(1L)
+                .title("Attack on Titan")
+                .type(AnimeType.TV)
+                .status(AnimeStatus.COMPLETED)
+                .updatedAt(updatedAt)
+                .build();
+        manga = Manga.builder()
+                .id(2L)
+                .title("Berserk")
+                .status(MangaStatus.READING)
+                .updatedAt(updatedAt)
+                .build();
+        libraryDeletion = LibraryDeletion.builder()
+                .id(3L)
+                .userId(1L)
+                .libraryType(LibraryType.ANIME)
+                .entryId(4L)
+                .deletedAt(updatedAt)
+                .build();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Get Changes - Full Sync")
+    void shouldReturnEveryChangeOnFirstSync() {
+        given(currentUserProvider.getCurrentUserId()).willReturn(1L);
+        given(animeRepository.findAllByUserIdAndUpdatedAtBefore(eq(1L), any(LocalDateTime.class), eq(ScrollPosition.keyset()), any(), eq(Limit.of(10))))
+                .willReturn(window(List.of(anime), "updatedAt", anime.getUpdatedAt(), anime.getId(), false));
+        given(mangaRepository.findAllByUserIdAndUpdatedAtBefore(eq(1L), any(LocalDateTime.class), eq(ScrollPosition.keyset()), any(), eq(Limit.of(10))))
+                .willReturn(window(List.of(manga), "updatedAt", manga.getUpdatedAt(), manga.getId(), false));
+        given(libraryDeletionRepository.findAllByUserIdAndDeletedAtBefore(eq(1L), any(LocalDateTime.class), eq(ScrollPosition.keyset()), any(), eq(Limit.of(10))))
+                .willReturn(window(List.of(libraryDeletion), "deletedAt", libraryDeletion.getDeletedAt(), libraryDeletion.getId(), false));
+        LocalDateTime before = LocalDateTime.now();
+        SyncResponse response = syncService.getChanges(null, 10);
+        assertThat(response.getAnime()).extracting("title").containsExactly("Attack on Titan");
+        assertThat(response.getManga()).extracting("title").containsExactly("Berserk");
+        assertThat(response.getDeleted())
+                .extracting(TombstoneDTO::getLibrary, TombstoneDTO::getId)
+                .containsExactly(tuple(LibraryType.ANIME, 4L));
+        assertThat(response.isLast()).isTrue();
+        assertThat(response.getNextSince()).isNotBlank();
+        ArgumentCaptor<LocalDateTime> settledBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(animeRepository).findAllByUserIdAndUpdatedAtBefore(eq(1L), settledBefore.capture(), any(), any(), any());
+        assertThat(settledBefore.getValue()).isBefore(before.minusSeconds(4));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Get Changes - Resume From Token")
+    void shouldResumeEachStreamFromToken() {
+        given(currentUserProvider.getCurrentUserId()).willReturn(1L);
+        given(animeRepository.findAllByUserIdAndUpdatedAtBefore(anyLong(), any(), any(), any(), any()))
+                .willReturn(window(List.of(anime), "updatedAt", anime.getUpdatedAt(), anime.getId(), true));
+        given(mangaRepository.findAllByUserIdAndUpdatedAtBefore(anyLong(), any(), any(), any(), any())).willReturn(Window.from(List.of(), index -> null));
+        given(libraryDeletionRepository.findAllByUserIdAndDeletedAtBefore(anyLong(), any(), any(), any(), any())).willReturn(Window.from(List.of(), index -> null));
+        SyncResponse firstResponse = syncService.getChanges(null, 1);
+        assertThat(firstResponse.isLast()).isFalse();
+        syncService.getChanges(firstResponse.getNextSince(), 1);
+        verify(animeRepository).findAllByUserIdAndUpdatedAtBefore(anyLong(), any(), eq(position("updatedAt", anime.getUpdatedAt(), anime.getId())), any(), any());
+        // Streams without new rows stay at the start instead of skipping ahead
+        verify(mangaRepository, times(2)).findAllByUserIdAndUpdatedAtBefore(anyLong(), any(), eq(ScrollPosition.keyset()), any(), any());
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Get Changes - Since Timestamp")
+    void shouldStartEveryStreamAtTimestamp() {
+        given(currentUserProvider.getCurrentUserId()).willReturn(1L);
+        given(animeRepository.findAllByUserIdAndUpdatedAtBefore(anyLong(), any(), any(), any(), any())).willReturn(Window.from(List.of(), index -> null));
+        given(mangaRepository.findAllByUserIdAndUpdatedAtBefore(anyLong(), any(), any(), any(), any())).willReturn(Window.from(List.of(), index -> null));
+        given(libraryDeletionRepository.findAllByUserIdAndDeletedAtBefore(anyLong(), any(), any(), any(), any())).willReturn(Window.from(List.of(), index -> null));
+        LocalDateTime since = LocalDateTime.of(2024, 6, 1, 12, 0);
+        syncService.getChanges(since.toString(), 10);
+        verify(animeRepository).findAllByUserIdAndUpdatedAtBefore(anyLong(), any(), eq(position("updatedAt", since, 0L)), any(), any());
+        verify(mangaRepository).findAllByUserIdAndUpdatedAtBefore(anyLong(), any(), eq(position("updatedAt", since, 0L)), any(), any());
+        verify(libraryDeletionRepository).findAllByUserIdAndDeletedAtBefore(anyLong(), any(), eq(position("deletedAt", since, 0L)), any(), any());
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Get Changes - Invalid Token")
+    void shouldThrowExceptionWhenTokenIsInvalid() {
+        given(currentUserProvider.getCurrentUserId()).willReturn(1L);
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> syncService.getChanges("not-a-token", 10));
+        assertThat(exception.getMessage()).contains("Invalid sync token", "not-a-token");
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Record Deletions")
+    @SuppressWarnings("unchecked")
+    void shouldRecordDeletionForEachEntry() {
+        syncService.recordDeletions(1L, LibraryType.MANGA, List.of(5L, 6L));
+        ArgumentCaptor<List<LibraryDeletion>> captor = ArgumentCaptor.forClass(List.class);
+        verify(libraryDeletionRepository).saveAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(LibraryDeletion::getUserId, LibraryDeletion::getLibraryType, LibraryDeletion::getEntryId)
+                .containsExactly(tuple(1L, LibraryType.MANGA, 5L), tuple(1L, LibraryType.MANGA, 6L));
+    }
+
+    private static <T> Window<T> window(List<T> content, String timestampKey, LocalDateTime timestamp, long id, boolean hasNext) {
+        return Window.from(content, index -> position(timestampKey, timestamp, id), hasNext);
+    }
+
+    private static ScrollPosition position(String timestampKey, LocalDateTime timestamp, long id) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(timestampKey, timestamp);
+        keys.put("id", id);
+        return ScrollPosition.forward(keys);
+    }
+}
@@ -0,0 +1,208 @@
+package com.aimanecouissi.animerestapi.service;
+
+import com.aimanecouissi.animerestapi.entity.Role;
+import com.aimanecouissi.animerestapi.entity.Studio;
+import com.aimanecouissi.animerestapi.entity.User;
+import com.aimanecouissi.animerestapi.enums.AnimeStatus;
+import com.aimanecouissi.animerestapi.enums.AnimeType;
+import com.aimanecouissi.animerestapi.enums.MangaStatus;
+import com.aimanecouissi.animerestapi.exception.UniqueFieldException;
+import com.aimanecouissi.animerestapi.mapper.AnimeMapper;
+import com.aimanecouissi.animerestapi.mapper.MangaMapper;
+import com.aimanecouissi.animerestapi.payload.dto.AnimeDTO;
+import com.aimanecouissi.animerestapi.payload.dto.MangaDTO;
+import com.aimanecouissi.animerestapi.payload.dto.StudioDTO;
+import com.aimanecouissi.animerestapi.payload.response.AnimeBatchResponse;
+import com.aimanecouissi.animerestapi.repository.*;
+import com.aimanecouissi.animerestapi.security.CurrentUserProvider;
+import com.aimanecouissi.animerestapi.service.implementation.AnimeServiceImplementation;
+import com.aimanecouissi.animerestapi.service.implementation.MangaServiceImplementation;
+import com.aimanecouissi.animerestapi.utility.StudioCatalog;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * Creates the same title from several threads at once, each in its own transaction, so only the unique constraint
+ * can keep the duplicates out.
+ */
+@DataJpaTest
+@Import({AnimeServiceImplementation.class, MangaServiceImplementation.class, AnimeMapper.class, MangaMapper.class, CurrentUserProvider.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestMethodOrder(OrderAnnotation.class)
+class TitleUniquenessConcurrencyTest {
+    private static final int THREADS = 8;
+
+    @Autowired
+    private AnimeService animeService;
+
+    @Autowired
+    private MangaService mangaService;
+
+    @Autowired
+    private AnimeRepository animeRepository;
+
+    @Autowired
+    private MangaRepository mangaRepository;
+
+    @Autowired
+    private StudioRepository studioRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @MockBean
+    private StudioCatalogService studioCatalogService;
+
+    @MockBean
+    private RatingSummaryService ratingSummaryService;
+
+    @MockBean
+    private LibraryVersionService libraryVersionService;
+
+    @MockBean
+    private SyncService syncService;
+
+    private User user;
+    private Studio studio;
+
+    @BeforeEach
+    void setUp() {
+        Role role = roleRepository.save(Role.builder()
+                .name("ROLE_USER")
+                .build());
+        user = userRepository.save(User.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .username("john.doe")
+                .password("password123")
+                .roles(Set.of(role))
+                .build());
+        studio = studioRepository.save(Studio.builder()
+                .name("MAPPA")
+                .build());
+        given(studioCatalogService.getCatalog()).willReturn(new StudioCatalog(List.of(StudioDTO.builder().id(studio.getId()).name(studio.getName()).build())));
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Every create committed, so nothing is rolled back for the next test
+        animeRepository.deleteAll();
+        mangaRepository.deleteAll();
+        studioRepository.deleteAll();
+        userRepository.deleteAll();
+        roleRepository.deleteAll();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Create Anime - Concurrent Duplicate Titles")
+    void shouldCreateExactlyOneAnimeWhenTitlesRace() throws Exception {
+        AnimeDTO animeDTO = AnimeDTO.builder()
+                .title("Attack on Titan")
+                .type(AnimeType.TV)
+                .status(AnimeStatus.COMPLETED)
+                .rating(10)
+                .studioId(studio.getId())
+                .build();
+        List<Throwable> failures = runConcurrently(() -> animeService.createAnime(animeDTO));
+        assertThat(failures).hasSize(THREADS - 1).allMatch(UniqueFieldException.class::isInstance);
+        assertThat(animeRepository.findAllByUserIdAndTitleIn(user.getId(), Set.of(animeDTO.getTitle()))).hasSize(1);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Create Manga - Concurrent Duplicate Titles")
+    void shouldCreateExactlyOneMangaWhenTitlesRace() throws Exception {
+        MangaDTO mangaDTO = MangaDTO.builder()
+                .title("Berserk")
+                .status(MangaStatus.READING)
+                .rating(10)
+                .build();
+        List<Throwable> failures = runConcurrently(() -> mangaService.createManga(mangaDTO));
+        assertThat(failures).hasSize(THREADS - 1).allMatch(UniqueFieldException.class::isInstance);
+        assertThat(mangaRepository.findAllByUserIdAndTitleIn(user.getId(), Set.of(mangaDTO.getTitle()))).hasSize(1);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Create Anime Batch - Concurrent Duplicate Titles")
+    void shouldRejectOnlyTheRacingEntryOfEachAnimeBatch() throws Exception {
+        AtomicInteger threads = new AtomicInteger();
+        Queue<AnimeBatchResponse> responses = new ConcurrentLinkedQueue<>();
+        List<Throwable> failures = runConcurrently(() -> responses.add(animeService.createAnimeBatch(List.of(
+                animeDTO("Attack on Titan"),
+                animeDTO("Vinland Saga " + threads.incrementAndGet())
+        ))));
+        assertThat(failures).isEmpty();
+        // Every batch keeps its own title, only one of them gets the title they all race for
+        assertThat(responses).allSatisfy(response -> assertThat(response.getResults().get(1).getStatus()).isEqualTo(201));
+        assertThat(responses).filteredOn(response -> response.getResults().get(0).isSuccessful()).hasSize(1);
+        assertThat(responses).filteredOn(response -> response.getResults().get(0).getStatus() == 409).hasSize(THREADS - 1);
+        assertThat(animeRepository.count()).isEqualTo(THREADS + 1);
+    }
+
+    private AnimeDTO animeDTO(String title) {
+        return AnimeDTO.builder()
+                .title(title)
+                .type(AnimeType.TV)
+                .status(AnimeStatus.COMPLETED)
+                .rating(10)
+                .studioId(studio.getId())
+                .build();
+    }
+
+    private List<Throwable> runConcurrently(Callable<?> create) throws Exception {
+        Authentication authentication = new UsernamePasswordAuthenticationToken(user.getUsername(), null, List.of());
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                futures.add(executor.submit(() -> {
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    try {
+                        // Every thread passes the gate together so their transactions overlap
+                        start.await();
+                        return create.call();
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                    }
+                }));
+            }
+            start.countDown();
+            List<Throwable> failures = new ArrayList<>();
+            for (Future<?> future : futures) {
+                try {
+                    future.get(30, TimeUnit.SECONDS);
+                } catch (ExecutionException ex) {
+                    failures.add(ex.getCause());
+                }
+            }
+            return failures;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.aimanecouissi.animerestapi.utility;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(OrderAnnotation.class)
+class BulkheadDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    private BulkheadDataSource bulkheadDataSource;
+
+    @BeforeEach
+    void setUp() {
+        // Two connections at once, and a short wait for a third
+        bulkheadDataSource = new BulkheadDataSource(targetDataSource, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Get Connection - Permit Returned On Close")
+    void shouldReturnPermitWhenConnectionIsClosed() throws SQLException {
+        Connection targetConnection = mock(Connection.class);
+        given(targetDataSource.getConnection()).willReturn(targetConnection);
+        Connection connection = bulkheadDataSource.getConnection();
+        assertThat(bulkheadDataSource.getAvailablePermits()).isEqualTo(1);
+        connection.close();
+        connection.close();
+        assertThat(bulkheadDataSource.getAvailablePermits()).isEqualTo(2);
+        verify(targetConnection, times(1)).close();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Get Connection - Bulkhead Full")
+    void shouldRejectCallerWhenNoPermitFreesUpInTime() throws SQLException {
+        given(targetDataSource.getConnection()).willAnswer(invocation -> mock(Connection.class));
+        bulkheadDataSource.getConnection();
+        bulkheadDataSource.getConnection();
+        assertThrows(SQLTransientConnectionException.class, () -> bulkheadDataSource.getConnection());
+        verify(targetDataSource, times(2)).getConnection();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Get Connection - Pool Failure")
+    void shouldReturnPermitWhenPoolFails() throws SQLException {
+        given(targetDataSource.getConnection()).willThrow(new SQLException("Pool exhausted"));
+        assertThrows(SQLException.class, () -> bulkheadDataSource.getConnection());
+        assertThat(bulkheadDataSource.getAvailablePermits()).isEqualTo(2);
+    }
+}
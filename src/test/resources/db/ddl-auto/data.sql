@@ -0,0 +1,21 @@
+-- Rows written under IDENTITY ids, including titles saved twice before the title constraint existed
+
+INSERT INTO roles (id, name) VALUES (1, 'ROLE_ADMIN'), (2, 'ROLE_USER');
+
+INSERT INTO users (id, first_name, last_name, username, password)
+VALUES (1, 'John', 'Doe', 'john.doe', 'password123'),
+       (2, 'Jane', 'Doe', 'jane.doe', 'password123');
+
+INSERT INTO user_role (role_id, user_id) VALUES (2, 1), (2, 2);
+
+INSERT INTO studios (id, name, created_at) VALUES (1, 'Pierrot', CURRENT_TIMESTAMP);
+
+INSERT INTO anime (id, title, type, status, rating, is_favorite, is_complete, studio_id, user_id, created_at)
+VALUES (1, 'Naruto', 'TV', 'COMPLETED', 8, FALSE, TRUE, 1, 1, CURRENT_TIMESTAMP),
+       (2, 'Naruto', 'TV', 'WATCHING', 7, FALSE, FALSE, 1, 1, CURRENT_TIMESTAMP),
+       (3, 'Naruto', 'TV', 'COMPLETED', 9, TRUE, TRUE, 1, 2, CURRENT_TIMESTAMP),
+       (4, 'Bleach', 'TV', 'COMPLETED', 8, FALSE, TRUE, 1, 1, CURRENT_TIMESTAMP);
+
+INSERT INTO manga (id, title, status, rating, is_favorite, user_id, created_at)
+VALUES (1, 'One Piece', 'READING', 9, TRUE, 1, CURRENT_TIMESTAMP),
+       (2, 'One Piece', 'COMPLETED', 8, FALSE, 1, CURRENT_TIMESTAMP);
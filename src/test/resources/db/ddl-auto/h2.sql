@@ -0,0 +1,83 @@
+-- Schema hibernate.hbm2ddl.auto=update created from the entities before the migrations, as generated by Hibernate
+-- for H2. Databases deployed back then hold exactly this and are baselined at V1
+
+    create table anime (
+        is_complete boolean,
+        is_favorite boolean,
+        rating integer,
+        created_at timestamp(6) not null,
+        id bigint generated by default as identity,
+        studio_id bigint,
+        updated_at timestamp(6),
+        user_id bigint,
+        title varchar(100) not null,
+        status enum ('COMPLETED','PLAN_TO_WATCH','WATCHING') not null,
+        type enum ('MOVIE','TV') not null,
+        primary key (id)
+    );
+
+    create table manga (
+        is_favorite boolean,
+        rating integer,
+        created_at timestamp(6) not null,
+        id bigint generated by default as identity,
+        updated_at timestamp(6),
+        user_id bigint,
+        title varchar(100) not null,
+        status enum ('COMPLETED','PLAN_TO_READ','READING') not null,
+        primary key (id)
+    );
+
+    create table roles (
+        id bigint generated by default as identity,
+        name varchar(255) not null,
+        primary key (id)
+    );
+
+    create table studios (
+        created_at timestamp(6) not null,
+        id bigint generated by default as identity,
+        updated_at timestamp(6),
+        name varchar(50) not null unique,
+        primary key (id)
+    );
+
+    create table user_role (
+        role_id bigint not null,
+        user_id bigint not null,
+        primary key (role_id, user_id)
+    );
+
+    create table users (
+        id bigint generated by default as identity,
+        first_name varchar(30) not null,
+        last_name varchar(30) not null,
+        username varchar(50) not null unique,
+        password varchar(60) not null,
+        primary key (id)
+    );
+
+    alter table if exists anime
+       add constraint FK1ogaoughadkxkvygfkj8i9cdx
+       foreign key (studio_id)
+       references studios;
+
+    alter table if exists anime
+       add constraint FKfqj8p1v2kbpd9eo0s08m2p2ib
+       foreign key (user_id)
+       references users;
+
+    alter table if exists manga
+       add constraint FKt67w0qyt1p7gjiwgtd5exrahl
+       foreign key (user_id)
+       references users;
+
+    alter table if exists user_role
+       add constraint FKt7e7djp752sqn6w22i6ocqy6q
+       foreign key (role_id)
+       references roles;
+
+    alter table if exists user_role
+       add constraint FKj345gk1bovqvfame88rcx7yyx
+       foreign key (user_id)
+       references users;
@@ -0,0 +1,89 @@
+-- Schema hibernate.hbm2ddl.auto=update created from the entities before the migrations, as generated by Hibernate
+-- for MySQL. Databases deployed back then hold exactly this and are baselined at V1
+
+    create table anime (
+        is_complete bit,
+        is_favorite bit,
+        rating integer,
+        created_at datetime(6) not null,
+        id bigint not null auto_increment,
+        studio_id bigint,
+        updated_at datetime(6),
+        user_id bigint,
+        title varchar(100) not null,
+        status enum ('COMPLETED','PLAN_TO_WATCH','WATCHING') not null,
+        type enum ('MOVIE','TV') not null,
+        primary key (id)
+    ) engine=InnoDB;
+
+    create table manga (
+        is_favorite bit,
+        rating integer,
+        created_at datetime(6) not null,
+        id bigint not null auto_increment,
+        updated_at datetime(6),
+        user_id bigint,
+        title varchar(100) not null,
+        status enum ('COMPLETED','PLAN_TO_READ','READING') not null,
+        primary key (id)
+    ) engine=InnoDB;
+
+    create table roles (
+        id bigint not null auto_increment,
+        name varchar(255) not null,
+        primary key (id)
+    ) engine=InnoDB;
+
+    create table studios (
+        created_at datetime(6) not null,
+        id bigint not null auto_increment,
+        updated_at datetime(6),
+        name varchar(50) not null,
+        primary key (id)
+    ) engine=InnoDB;
+
+    create table user_role (
+        role_id bigint not null,
+        user_id bigint not null,
+        primary key (role_id, user_id)
+    ) engine=InnoDB;
+
+    create table users (
+        id bigint not null auto_increment,
+        first_name varchar(30) not null,
+        last_name varchar(30) not null,
+        username varchar(50) not null,
+        password varchar(60) not null,
+        primary key (id)
+    ) engine=InnoDB;
+
+    alter table studios
+       add constraint UKjsy8u97x8j8sw58y75fatfi72 unique (name);
+
+    alter table users
+       add constraint UKr43af9ap4edm43mmtq01oddj6 unique (username);
+
+    alter table anime
+       add constraint FK1ogaoughadkxkvygfkj8i9cdx
+       foreign key (studio_id)
+       references studios (id);
+
+    alter table anime
+       add constraint FKfqj8p1v2kbpd9eo0s08m2p2ib
+       foreign key (user_id)
+       references users (id);
+
+    alter table manga
+       add constraint FKt67w0qyt1p7gjiwgtd5exrahl
+       foreign key (user_id)
+       references users (id);
+
+    alter table user_role
+       add constraint FKt7e7djp752sqn6w22i6ocqy6q
+       foreign key (role_id)
+       references roles (id);
+
+    alter table user_role
+       add constraint FKj345gk1bovqvfame88rcx7yyx
+       foreign key (user_id)
+       references users (id);